@@ -24,7 +24,7 @@ export const options = {
   },
 }; */
 
-const BASE_URL = "http://localhost:8080/api/v0";
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080/api/v0";
 const USERS = Array.from({ length: 1000 }, (_, i) => ({
   email: `user${i}@jobmatcher.com`,
   password: "Password!23",
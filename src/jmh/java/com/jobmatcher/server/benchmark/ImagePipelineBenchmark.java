@@ -0,0 +1,108 @@
+package com.jobmatcher.server.benchmark;
+
+import com.jobmatcher.server.config.ImagePipelineProperties;
+import com.jobmatcher.server.service.ImageOptimizer;
+import net.coobird.thumbnailator.Thumbnails;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upload image processing per input format and size.
+ * <p>
+ * {@code tempFilePipeline} reproduces the previous path up to the {@code cwebp} call (which
+ * needs the binary installed): full {@code ImageIO.read}, Thumbnailator writing a temp PNG,
+ * and reading the file back for upload. {@code inMemoryPipeline} is {@link ImageOptimizer}:
+ * subsampled decode, resize and encode into a reused buffer on its worker pool.
+ * <p>
+ * Inputs are generated (gradient, shapes and noise) so no fixtures are needed; the noise
+ * keeps JPEG/PNG sizes close to photos rather than flat test cards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImagePipelineBenchmark {
+
+    @Param({"jpeg", "png", "gif"})
+    public String format;
+
+    @Param({"1280x960", "4000x3000"})
+    public String size;
+
+    private ImageOptimizer optimizer;
+    private ByteArrayResource input;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        BufferedImage image = sample(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, out)) {
+            throw new IllegalStateException("No ImageIO writer for " + format);
+        }
+        input = new ByteArrayResource(out.toByteArray());
+        optimizer = new ImageOptimizer(new ImagePipelineProperties(
+                Runtime.getRuntime().availableProcessors(), 16, Duration.ofSeconds(30), 640, 0.85f));
+    }
+
+    @Benchmark
+    public byte[] inMemoryPipeline() throws Exception {
+        return optimizer.optimize(input);
+    }
+
+    @Benchmark
+    public byte[] tempFilePipeline() throws IOException {
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(input.getByteArray()));
+        File tempPng = File.createTempFile("bench-", ".png");
+        try {
+            Thumbnails.of(original)
+                    .size(640, 640)
+                    .outputFormat("png")
+                    .outputQuality(0.85)
+                    .toFile(tempPng);
+            return Files.readAllBytes(tempPng.toPath());
+        } finally {
+            Files.deleteIfExists(tempPng.toPath());
+        }
+    }
+
+    private static BufferedImage sample(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(20, 60, 120), width, height, new Color(230, 180, 90)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(new Color(250, 250, 250));
+        graphics.fillOval(width / 5, height / 5, width / 3, height / 3);
+        graphics.dispose();
+
+        Random random = new Random(42);
+        for (int y = 0; y < height; y += 2) {
+            for (int x = 0; x < width; x += 2) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(17) - 8;
+                int r = clamp(((rgb >> 16) & 0xFF) + noise);
+                int g = clamp(((rgb >> 8) & 0xFF) + noise);
+                int b = clamp((rgb & 0xFF) + noise);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
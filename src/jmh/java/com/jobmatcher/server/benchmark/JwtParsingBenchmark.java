@@ -0,0 +1,86 @@
+package com.jobmatcher.server.benchmark;
+
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.domain.User;
+import com.jobmatcher.server.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost of the authentication filter.
+ * <p>
+ * {@code perCallParser} reproduces the previous request path: {@code isTokenValid} and
+ * {@code extractUsername} each re-derived the HMAC key, built a new parser and verified the
+ * signature. {@code cachedParserOnce} is the current path: one verification with the parser
+ * {@link JwtService} builds at startup. {@code generateToken} is the signing cost paid on
+ * every login and token refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("01234567890123456789012345678901".getBytes());
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = new JwtService();
+        setField("secretKey", SECRET);
+        setField("jwtTokenExpiration", 60 * 60 * 1000L);
+        // Package-private @PostConstruct hook that builds the key and parser
+        var init = JwtService.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(jwtService);
+
+        user = new User();
+        user.setEmail("bench@example.com");
+        user.setRole(Role.CUSTOMER);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public void perCallParser(Blackhole blackhole) {
+        // isTokenValid -> isTokenExpired -> extractExpiration
+        Date expiration = parseWithFreshParser(token).getExpiration();
+        blackhole.consume(expiration.before(new Date()));
+        // extractUsername
+        blackhole.consume(parseWithFreshParser(token).getSubject());
+    }
+
+    @Benchmark
+    public void cachedParserOnce(Blackhole blackhole) {
+        Claims claims = jwtService.parseVerifiedClaims(token);
+        blackhole.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    private static Claims parseWithFreshParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        var field = JwtService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtService, value);
+    }
+}
@@ -0,0 +1,235 @@
+package com.jobmatcher.server.benchmark;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.mapper.*;
+import com.jobmatcher.server.model.ProjectSummaryDTO;
+import com.jobmatcher.server.model.ProposalSummaryDTO;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
+import com.jobmatcher.server.model.summary.LanguageRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
+import com.jobmatcher.server.repository.SummaryProjection;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row mapping done for the project feed and the proposal lists, in both shapes the
+ * services have used: {@code *ToSummaryDto} maps a loaded entity graph, {@code *RowToSummaryDto}
+ * reads the {@link SummaryProjection} tuple into a row record and maps that together with the
+ * page's collection rows.
+ * <p>
+ * Entities are fully initialized in memory, so the entity cases leave out hydration, lazy
+ * loading and the persistence-context snapshot; they are a lower bound for that path. Run
+ * with {@code ./gradlew jmh -Pjmh.includes=MapperBenchmark}; the gc profiler is on, so
+ * {@code build/reports/jmh/results.json} carries {@code gc.alloc.rate.norm} (bytes per
+ * mapped row) next to the average time of each case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({"3", "12"})
+    public int subcategories;
+
+    private ProjectMapper projectMapper;
+    private ProposalMapper proposalMapper;
+    private Project project;
+    private Proposal proposal;
+    private Tuple projectTuple;
+    private List<SubcategoryRow> projectSubcategoryRows;
+    private Tuple proposalTuple;
+    private List<SubcategoryRow> freelancerSubcategoryRows;
+    private List<ProfileSkillRow> freelancerSkillRows;
+    private List<LanguageRow> freelancerLanguageRows;
+
+    @Setup
+    public void setUp() {
+        JobSubcategoryMapper subcategoryMapper = new JobSubcategoryMapper();
+        LanguageMapper languageMapper = new LanguageMapper();
+        FreelancerProfileMapper freelancerMapper =
+                new FreelancerProfileMapper(subcategoryMapper, new SkillMapper(), languageMapper);
+        proposalMapper = new ProposalMapper(freelancerMapper);
+        projectMapper = new ProjectMapper(new CustomerProfileMapper(languageMapper), freelancerMapper,
+                new JobCategoryMapper(subcategoryMapper), subcategoryMapper, proposalMapper);
+
+        JobCategory category = new JobCategory("Digital", "Creative and technical work");
+        category.setId(1L);
+        Set<JobSubcategory> projectSubcategories = new HashSet<>();
+        for (int i = 0; i < subcategories; i++) {
+            projectSubcategories.add(new JobSubcategory(10L + i, "Subcategory " + i));
+        }
+
+        CustomerProfile customer = new CustomerProfile();
+        customer.setId(UUID.randomUUID());
+
+        User freelancerUser = new User();
+        freelancerUser.setId(UUID.randomUUID());
+        freelancerUser.setPictureUrl("https://res.cloudinary.com/demo/image/upload/avatar.webp");
+        FreelancerProfile freelancer = new FreelancerProfile();
+        freelancer.setId(UUID.randomUUID());
+        freelancer.setUser(freelancerUser);
+        freelancer.setUsername("jane.doe");
+        freelancer.setHeadline("Backend engineer");
+        freelancer.setExperienceLevel(ExperienceLevel.SENIOR);
+        freelancer.setHourlyRate(65.0);
+        freelancer.setAvailableForHire(true);
+        freelancer.setJobSubcategories(new HashSet<>(projectSubcategories));
+        Set<Skill> skills = new HashSet<>();
+        for (String name : new String[]{"Java", "Spring Boot", "PostgreSQL", "Docker", "Kafka"}) {
+            skills.add(new Skill(UUID.randomUUID(), name));
+        }
+        freelancer.setSkills(skills);
+        freelancer.setLanguages(Set.of(new Language(1, "English"), new Language(2, "German")));
+
+        project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setTitle("Payment service for a marketplace");
+        project.setDescription("Build and document a REST payment service. ".repeat(10));
+        project.setStatus(ProjectStatus.OPEN);
+        project.setBudget(BigDecimal.valueOf(4500));
+        project.setPaymentType(PaymentType.MILESTONE);
+        project.setDeadline(LocalDate.now().plusMonths(2));
+        project.setCustomer(customer);
+        project.setFreelancer(freelancer);
+        project.setCategory(category);
+        project.setSubcategories(projectSubcategories);
+
+        OffsetDateTime start = OffsetDateTime.now().plusDays(3);
+        proposal = new Proposal();
+        proposal.setId(UUID.randomUUID());
+        proposal.setProject(project);
+        proposal.setFreelancer(freelancer);
+        proposal.setCoverLetter("I have shipped three payment integrations. ".repeat(8));
+        proposal.setAmount(BigDecimal.valueOf(4200));
+        proposal.setEstimatedDuration(45);
+        proposal.setStatus(ProposalStatus.PENDING);
+        proposal.setPlannedStartDate(start);
+        proposal.setPlannedEndDate(start.plusDays(45));
+
+        // The same rows as the tuples SummaryProjection.PROJECT / PROPOSAL select for them
+        ProjectProposalStats stats = project.getProposalStats();
+        projectTuple = new MapTuple(Map.ofEntries(
+                Map.entry("id", project.getId()),
+                Map.entry("customerId", customer.getId()),
+                Map.entry("freelancerId", freelancer.getId()),
+                Map.entry("title", project.getTitle()),
+                Map.entry("description", project.getDescription()),
+                Map.entry("status", project.getStatus()),
+                Map.entry("budget", project.getBudget()),
+                Map.entry("paymentType", project.getPaymentType()),
+                Map.entry("deadline", project.getDeadline()),
+                Map.entry("categoryId", category.getId()),
+                Map.entry("categoryName", category.getName()),
+                Map.entry("categoryDescription", category.getDescription()),
+                Map.entry("proposalsTotal", stats.getTotal()),
+                Map.entry("proposalsPending", stats.getPending()),
+                Map.entry("proposalsAccepted", stats.getAccepted()),
+                Map.entry("proposalsRejected", stats.getRejected()),
+                Map.entry("proposalsWithdrawn", stats.getWithdrawn())
+        ));
+        projectSubcategoryRows = subcategoryRows(project.getId(), projectSubcategories);
+
+        Map<String, Object> proposalColumns = new HashMap<>();
+        proposalColumns.put("id", proposal.getId());
+        proposalColumns.put("projectId", project.getId());
+        proposalColumns.put("coverLetter", proposal.getCoverLetter());
+        proposalColumns.put("amount", proposal.getAmount());
+        proposalColumns.put("estimatedDuration", proposal.getEstimatedDuration());
+        proposalColumns.put("status", proposal.getStatus());
+        proposalColumns.put("plannedStartDate", proposal.getPlannedStartDate());
+        proposalColumns.put("plannedEndDate", proposal.getPlannedEndDate());
+        proposalColumns.put("freelancerId", freelancer.getId());
+        proposalColumns.put("freelancerUserId", freelancerUser.getId());
+        proposalColumns.put("freelancerUsername", freelancer.getUsername());
+        proposalColumns.put("freelancerExperienceLevel", freelancer.getExperienceLevel());
+        proposalColumns.put("freelancerHeadline", freelancer.getHeadline());
+        proposalColumns.put("freelancerHourlyRate", freelancer.getHourlyRate());
+        proposalColumns.put("freelancerAvailableForHire", freelancer.getAvailableForHire());
+        proposalColumns.put("freelancerPictureUrl", freelancerUser.getPictureUrl());
+        proposalColumns.put("freelancerRating", freelancer.getRating());
+        proposalTuple = new MapTuple(proposalColumns);
+        freelancerSubcategoryRows = subcategoryRows(freelancer.getId(), freelancer.getJobSubcategories());
+        freelancerSkillRows = freelancer.getSkills().stream()
+                .map(skill -> new ProfileSkillRow(freelancer.getId(), skill.getName()))
+                .toList();
+        freelancerLanguageRows = freelancer.getLanguages().stream()
+                .map(language -> new LanguageRow(freelancer.getId(), language.getId(), language.getName()))
+                .toList();
+    }
+
+    @Benchmark
+    public ProjectSummaryDTO projectToSummaryDto() {
+        return projectMapper.toSummaryDto(project);
+    }
+
+    @Benchmark
+    public ProposalSummaryDTO proposalToSummaryDto() {
+        return proposalMapper.toSummaryDto(proposal);
+    }
+
+    @Benchmark
+    public ProjectSummaryDTO projectRowToSummaryDto() {
+        return projectMapper.fromRow(SummaryProjection.PROJECT.read(projectTuple), projectSubcategoryRows);
+    }
+
+    @Benchmark
+    public ProposalSummaryDTO proposalRowToSummaryDto() {
+        return proposalMapper.fromRow(SummaryProjection.PROPOSAL.read(proposalTuple),
+                freelancerSubcategoryRows, freelancerSkillRows, freelancerLanguageRows);
+    }
+
+    private static List<SubcategoryRow> subcategoryRows(UUID ownerId, Collection<JobSubcategory> subcategories) {
+        return subcategories.stream()
+                .map(sub -> new SubcategoryRow(ownerId, sub.getId(), sub.getName(), sub.getDescription()))
+                .toList();
+    }
+
+    /**
+     * A result row as Hibernate hands it to {@link SummaryProjection}: values looked up by alias.
+     * Aliases that are absent read as SQL nulls.
+     */
+    private record MapTuple(Map<String, Object> values) implements Tuple {
+
+        @Override
+        public <X> X get(TupleElement<X> tupleElement) {
+            return get(tupleElement.getAlias(), tupleElement.getJavaType());
+        }
+
+        @Override
+        public <X> X get(String alias, Class<X> type) {
+            return type.cast(values.get(alias));
+        }
+
+        @Override
+        public Object get(String alias) {
+            return values.get(alias);
+        }
+
+        @Override
+        public <X> X get(int i, Class<X> type) {
+            throw new UnsupportedOperationException("Summary projections read by alias");
+        }
+
+        @Override
+        public Object get(int i) {
+            throw new UnsupportedOperationException("Summary projections read by alias");
+        }
+
+        @Override
+        public Object[] toArray() {
+            return values.values().toArray();
+        }
+
+        @Override
+        public List<TupleElement<?>> getElements() {
+            return List.of();
+        }
+    }
+}
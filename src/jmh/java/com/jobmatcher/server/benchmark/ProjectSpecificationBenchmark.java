@@ -0,0 +1,96 @@
+package com.jobmatcher.server.benchmark;
+
+import com.jobmatcher.server.domain.Project;
+import com.jobmatcher.server.domain.ProjectStatus;
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.model.ProjectFilterDTO;
+import com.jobmatcher.server.specification.ProjectSpecification;
+import jakarta.persistence.Entity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria predicate building for the project list and the search feed: the work done per
+ * request before Hibernate renders SQL. Hibernate is booted on the real entity model with
+ * the PostgreSQL dialect but without a database, which predicate building never touches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectSpecificationBenchmark {
+
+    private static final String DOMAIN_PACKAGE = "com.jobmatcher.server.domain";
+
+    @Param({"none", "category", "all"})
+    public String filters;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private ProjectFilterDTO filter;
+    private final UUID profileId = UUID.randomUUID();
+    private final List<UUID> searchHits = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws ClassNotFoundException {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "none")
+                .build();
+        MetadataSources sources = new MetadataSources(registry);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        for (BeanDefinition definition : scanner.findCandidateComponents(DOMAIN_PACKAGE)) {
+            sources.addAnnotatedClass(Class.forName(definition.getBeanClassName()));
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+
+        filter = switch (filters) {
+            case "none" -> ProjectFilterDTO.builder().build();
+            case "category" -> ProjectFilterDTO.builder().categoryId(1L).build();
+            case "all" -> ProjectFilterDTO.builder().categoryId(1L).subcategoryId(12L).searchTerm("React").build();
+            default -> throw new IllegalStateException("Unknown filter set " + filters);
+        };
+        for (int i = 0; i < 50; i++) {
+            searchHits.add(UUID.randomUUID());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate withFiltersAndRole() {
+        CriteriaQuery<Project> query = cb.createQuery(Project.class);
+        Root<Project> root = query.from(Project.class);
+        return ProjectSpecification.withFiltersAndRole(filter, Role.CUSTOMER, profileId, ProjectStatus.OPEN)
+                .toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public Predicate withIds() {
+        CriteriaQuery<Project> query = cb.createQuery(Project.class);
+        Root<Project> root = query.from(Project.class);
+        return ProjectSpecification.withIds(searchHits, ProjectStatus.OPEN).toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,75 @@
+package com.jobmatcher.server.benchmark;
+
+import com.jobmatcher.server.config.RateLimitProperties;
+import com.jobmatcher.server.security.RateLimitingFilter;
+import com.jobmatcher.server.security.ratelimit.InMemoryBucketStore;
+import com.jobmatcher.server.security.ratelimit.RateLimitBudget;
+import com.jobmatcher.server.security.ratelimit.RateLimitRoute;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link RateLimitingFilter} with the in-memory bucket store, eight threads at once.
+ * <p>
+ * {@code shared} sends every request from one client, so all threads CAS the same bucket;
+ * {@code perThread} gives each thread its own client, the usual case. Budgets are set to
+ * the maximum, so nearly all requests are allowed, as in normal traffic; those that still
+ * exceed the shared bucket take the rejection path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class RateLimitingFilterBenchmark {
+
+    @Param({"shared", "perThread"})
+    public String clients;
+
+    private RateLimitingFilter filter;
+    private final FilterChain chain = (request, response) -> {
+    };
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        Map<RateLimitRoute, RateLimitBudget> budgets = new EnumMap<>(RateLimitRoute.class);
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            budgets.put(route, new RateLimitBudget(RateLimitBudget.MAX_CAPACITY, Duration.ofMillis(1)));
+        }
+        filter = new RateLimitingFilter(new InMemoryBucketStore(),
+                new RateLimitProperties(true, Duration.ofMinutes(10), budgets), new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(RateLimitingFilterBenchmark benchmark) {
+            int id = benchmark.threadIds.incrementAndGet();
+            request = new MockHttpServletRequest("GET", "/api/v0/projects");
+            request.setRemoteAddr("shared".equals(benchmark.clients) ? "10.0.0.1" : "10.0.1." + id);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public int doFilter(Client client) throws Exception {
+        filter.doFilter(client.request, client.response, chain);
+        int status = client.response.getStatus();
+        // Rejections write a body; drop it so the buffer does not grow across invocations
+        client.response.reset();
+        return status;
+    }
+}
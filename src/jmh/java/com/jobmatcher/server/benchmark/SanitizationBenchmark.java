@@ -0,0 +1,44 @@
+package com.jobmatcher.server.benchmark;
+
+import com.jobmatcher.server.util.SanitizationUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SanitizationUtil} on the inputs profile, project and proposal writes send: short
+ * plain text (usernames, headlines), formatted rich text, and text at the 2000 character cap.
+ * URLs cover the social media and website fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SanitizationBenchmark {
+
+    @Param({"plain", "html", "long"})
+    public String text;
+
+    private String textInput;
+    private final String urlInput = "  https://www.linkedin.com/in/jane-doe-0123456789/  ";
+
+    @Setup
+    public void setUp() {
+        textInput = switch (text) {
+            case "plain" -> "Senior Java developer, 8 years of Spring Boot & PostgreSQL";
+            case "html" -> "<p>I build <strong>fast</strong> APIs.</p><ul><li>Spring Boot</li>"
+                    + "<li>Kafka</li></ul><script>alert('x')</script><a href=\"https://example.com\">site</a>";
+            case "long" -> "Experienced full-stack engineer delivering web platforms end to end. ".repeat(35);
+            default -> throw new IllegalStateException("Unknown text kind " + text);
+        };
+    }
+
+    @Benchmark
+    public String sanitizeText() {
+        return SanitizationUtil.sanitizeText(textInput);
+    }
+
+    @Benchmark
+    public String sanitizeUrl() {
+        return SanitizationUtil.sanitizeUrl(urlInput);
+    }
+}
@@ -1,6 +1,12 @@
 package com.jobmatcher.server;
 
 import com.jobmatcher.server.config.AppProperties;
+import com.jobmatcher.server.config.EmailOutboxProperties;
+import com.jobmatcher.server.config.ImagePipelineProperties;
+import com.jobmatcher.server.config.ImageStorageProperties;
+import com.jobmatcher.server.config.RateLimitProperties;
+import com.jobmatcher.server.config.StripeWebhookInboxProperties;
+import com.jobmatcher.server.config.WebSocketProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -8,7 +14,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
-@EnableConfigurationProperties(AppProperties.class)
+@EnableConfigurationProperties({AppProperties.class, RateLimitProperties.class, EmailOutboxProperties.class,
+        ImagePipelineProperties.class, ImageStorageProperties.class, StripeWebhookInboxProperties.class,
+        WebSocketProperties.class})
 public class ServerApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,42 @@
+package com.jobmatcher.server.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link GatedDataSource}. Enabled together with
+ * virtual threads ({@code db-gate.enabled}); platform-thread mode is already bounded by the
+ * Tomcat worker pool.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "db-gate.enabled", havingValue = "true")
+public class DbConcurrencyGateConfig {
+
+    @Bean
+    static BeanPostProcessor dbConcurrencyGatePostProcessor(
+            @Value("${db-gate.max-concurrent:8}") int maxConcurrent,
+            @Value("${db-gate.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize
+    ) {
+        if (maxConcurrent >= poolSize) {
+            log.warn("db-gate.max-concurrent ({}) should stay below the Hikari pool size ({})", maxConcurrent, poolSize);
+        }
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof GatedDataSource)) {
+                    log.info("Gating DataSource '{}' at {} concurrent connections", beanName, maxConcurrent);
+                    return new GatedDataSource(dataSource, maxConcurrent, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
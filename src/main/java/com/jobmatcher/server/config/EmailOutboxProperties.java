@@ -0,0 +1,29 @@
+package com.jobmatcher.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "email.outbox")
+public record EmailOutboxProperties(
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("PT5S") Duration initialBackoff,
+        @DefaultValue("PT30M") Duration maxBackoff,
+        @DefaultValue("PT5M") Duration sendLease,
+        @DefaultValue("P7D") Duration retention,
+        Map<String, Integer> providerConcurrency
+) {
+
+    private static final int DEFAULT_PROVIDER_CONCURRENCY = 4;
+
+    public EmailOutboxProperties {
+        providerConcurrency = providerConcurrency == null ? Map.of() : Map.copyOf(providerConcurrency);
+    }
+
+    public int concurrencyFor(String provider) {
+        return Math.max(1, providerConcurrency.getOrDefault(provider, DEFAULT_PROVIDER_CONCURRENCY));
+    }
+}
@@ -0,0 +1,24 @@
+package com.jobmatcher.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "image.pipeline")
+public record ImagePipelineProperties(
+        @DefaultValue("0") int workers,
+        @DefaultValue("16") int queueCapacity,
+        @DefaultValue("PT10S") Duration acquireTimeout,
+        @DefaultValue("640") int maxDimension,
+        @DefaultValue("0.85") float quality
+) {
+
+    /**
+     * Worker threads; {@code 0} sizes the pool to the available processors, since the
+     * work is CPU bound.
+     */
+    public int workerCount() {
+        return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+}
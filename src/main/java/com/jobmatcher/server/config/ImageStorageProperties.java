@@ -0,0 +1,26 @@
+package com.jobmatcher.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * @param provider               {@code cloudinary}, or {@code local} to keep files on disk
+ * @param perRequestConcurrency  files of one upload request processed at the same time
+ * @param maxConcurrentUploads   transfers to storage in flight across all requests
+ * @param localDirectory         root directory of the {@code local} provider
+ */
+@ConfigurationProperties(prefix = "image.storage")
+public record ImageStorageProperties(
+        @DefaultValue("cloudinary") String provider,
+        @DefaultValue("4") int perRequestConcurrency,
+        @DefaultValue("16") int maxConcurrentUploads,
+        @DefaultValue("uploads/images") Path localDirectory
+) {
+
+    public ImageStorageProperties {
+        perRequestConcurrency = Math.max(1, perRequestConcurrency);
+        maxConcurrentUploads = Math.max(1, maxConcurrentUploads);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobmatcher.server.config;
+
+import com.jobmatcher.server.security.ratelimit.RateLimitBudget;
+import com.jobmatcher.server.security.ratelimit.RateLimitRoute;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT10M") Duration idleTimeout,
+        Map<RateLimitRoute, RateLimitBudget> budgets
+) {
+
+    public RateLimitProperties {
+        budgets = budgets == null || budgets.isEmpty()
+                ? Map.of()
+                : new EnumMap<>(budgets);
+    }
+
+    public RateLimitBudget budgetFor(RateLimitRoute route) {
+        return budgets.getOrDefault(route, route.defaultBudget());
+    }
+
+    /**
+     * Idle time after which a bucket may be dropped: never shorter than the slowest refill,
+     * so eviction cannot hand out a fresh budget to a client that has not earned it back.
+     */
+    public Duration evictionIdleTime() {
+        Duration idle = idleTimeout;
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            Duration refill = budgetFor(route).refillPeriod();
+            if (refill.compareTo(idle) > 0) idle = refill;
+        }
+        return idle;
+    }
+}
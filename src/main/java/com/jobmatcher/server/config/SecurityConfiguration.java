@@ -146,7 +146,9 @@ public class SecurityConfiguration {
                         "/v3/api-docs/**",
                         "/swagger-ui/**",
                         "/swagger-ui.html",
-                        "/error"
+                        "/error",
+                        // WebSocket handshake; the STOMP CONNECT frame carries the JWT
+                        "/ws/**"
                 ).permitAll()
 
                 // actuator rules unchanged
@@ -178,7 +180,9 @@ public class SecurityConfiguration {
                         "/v3/api-docs/**",
                         "/swagger-ui/**",
                         "/swagger-ui.html",
-                        "/error"
+                        "/error",
+                        // WebSocket handshake; the STOMP CONNECT frame carries the JWT
+                        "/ws/**"
                 ).permitAll()
                 .requestMatchers("/actuator/prometheus").hasRole("PROMETHEUS")
                 .requestMatchers("/actuator/**").authenticated()
@@ -0,0 +1,21 @@
+package com.jobmatcher.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "stripe.webhook.inbox")
+public record StripeWebhookInboxProperties(
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("4") int workers,
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("PT5S") Duration initialBackoff,
+        @DefaultValue("PT30M") Duration maxBackoff,
+        @DefaultValue("PT5M") Duration processingLease
+) {
+
+    public StripeWebhookInboxProperties {
+        workers = Math.max(1, workers);
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobmatcher.server.config;
+
+import com.jobmatcher.server.security.StompAuthenticationInterceptor;
+import com.jobmatcher.server.service.notification.SessionOutboundGuard;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over WebSocket at {@code /ws} for server-pushed notifications. Sessions
+ * authenticate on CONNECT with the REST bearer token and receive on
+ * {@code /user/queue/notifications}; outbound delivery runs on a bounded pool with a
+ * per-session queue limit (see {@link SessionOutboundGuard}).
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${frontend.url.prod}")
+    private String FRONTEND_URL_PROD;
+
+    @Value("${frontend.url.dev}")
+    private String FRONTEND_URL_DEV;
+
+    @Value("${frontend.url.built}")
+    private String FRONTEND_URL_BUILT;
+
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+    private final SessionOutboundGuard sessionOutboundGuard;
+    private final WebSocketProperties properties;
+
+    public WebSocketConfig(
+            StompAuthenticationInterceptor stompAuthenticationInterceptor,
+            SessionOutboundGuard sessionOutboundGuard,
+            WebSocketProperties properties
+    ) {
+        this.stompAuthenticationInterceptor = stompAuthenticationInterceptor;
+        this.sessionOutboundGuard = sessionOutboundGuard;
+        this.properties = properties;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins(FRONTEND_URL_PROD, FRONTEND_URL_DEV, FRONTEND_URL_BUILT);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/queue");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(properties.outboundWorkers())
+                .maxPoolSize(properties.outboundWorkers())
+                .queueCapacity(properties.outboundQueueCapacity());
+        registration.interceptors(sessionOutboundGuard);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) properties.sendTimeLimit().toMillis())
+                .setSendBufferSizeLimit(properties.sendBufferSizeLimit());
+    }
+}
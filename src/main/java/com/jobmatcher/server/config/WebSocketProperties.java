@@ -0,0 +1,21 @@
+package com.jobmatcher.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "websocket")
+public record WebSocketProperties(
+        @DefaultValue("4") int outboundWorkers,
+        @DefaultValue("1024") int outboundQueueCapacity,
+        @DefaultValue("32") int sessionQueueCapacity,
+        @DefaultValue("PT10S") Duration sendTimeLimit,
+        @DefaultValue("524288") int sendBufferSizeLimit
+) {
+
+    public WebSocketProperties {
+        outboundWorkers = Math.max(1, outboundWorkers);
+        sessionQueueCapacity = Math.max(1, sessionQueueCapacity);
+    }
+}
@@ -4,14 +4,19 @@ import com.jobmatcher.server.model.ContractDetailDTO;
 import com.jobmatcher.server.model.ContractFilterDTO;
 import com.jobmatcher.server.model.ContractStatusRequestDTO;
 import com.jobmatcher.server.model.ContractSummaryDTO;
+import com.jobmatcher.server.model.PagedResponseDTO;
+import com.jobmatcher.server.security.AuthPrincipal;
 import com.jobmatcher.server.service.*;
+import com.jobmatcher.server.util.KeysetPagination;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 
+import java.util.List;
 import java.util.UUID;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
@@ -27,16 +32,28 @@ public class ContractController {
 
     @GetMapping
     public ResponseEntity<Page<ContractSummaryDTO>> getAllContractsByProfileId(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthenticationPrincipal AuthPrincipal principal,
             @ParameterObject Pageable pageable,
             @ParameterObject ContractFilterDTO filter
     ) {
-        String token = authHeader.replace("Bearer ", "").trim();
-
-        Page<ContractSummaryDTO> page = contractService.getAllContracts(token, pageable, filter);
+        Page<ContractSummaryDTO> page = contractService.getAllContracts(principal, pageable, filter);
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PagedResponseDTO<ContractSummaryDTO>> getAllContractsByCursor(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @ParameterObject ContractFilterDTO filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", required = false) List<String> sort
+    ) {
+        KeysetPagination.rejectSort(sort);
+        PagedResponseDTO<ContractSummaryDTO> slice =
+                contractService.getAllContractsByCursor(principal, cursor, size, filter);
+        return ResponseEntity.ok(slice);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ContractDetailDTO> getContractById(
             @PathVariable String id
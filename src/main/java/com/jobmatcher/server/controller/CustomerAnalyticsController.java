@@ -1,9 +1,11 @@
 package com.jobmatcher.server.controller;
 
+import com.jobmatcher.server.model.analytics.customer.CustomerAnalyticsSummaryDTO;
 import com.jobmatcher.server.model.analytics.customer.MonthlySpendingDTO;
 import com.jobmatcher.server.model.analytics.customer.ProjectStatsDTO;
 import com.jobmatcher.server.model.analytics.customer.TopFreelancerDTO;
 import com.jobmatcher.server.repository.CustomerAnalyticsRepository;
+import com.jobmatcher.server.service.IAnalyticsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,9 +23,20 @@ import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
 public class CustomerAnalyticsController {
 
     private final CustomerAnalyticsRepository customerAnalyticsRepository;
+    private final IAnalyticsService analyticsService;
 
-    public CustomerAnalyticsController(CustomerAnalyticsRepository customerAnalyticsRepository) {
+    public CustomerAnalyticsController(
+            CustomerAnalyticsRepository customerAnalyticsRepository,
+            IAnalyticsService analyticsService
+    ) {
         this.customerAnalyticsRepository = customerAnalyticsRepository;
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/summary")
+    public CustomerAnalyticsSummaryDTO getSummary(@PathVariable String customerId) {
+        log.info("Fetching analytics summary for customerId: {}", customerId);
+        return analyticsService.getCustomerSummary(UUID.fromString(customerId));
     }
 
     @GetMapping("/monthly-spending")
@@ -1,11 +1,13 @@
 package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.domain.Skill;
+import com.jobmatcher.server.model.analytics.freelancer.FreelancerAnalyticsSummaryDTO;
 import com.jobmatcher.server.model.analytics.freelancer.JobCompletionDTO;
 import com.jobmatcher.server.model.analytics.freelancer.MonthlyEarningsDTO;
 import com.jobmatcher.server.model.analytics.freelancer.SkillEarningsDTO;
 import com.jobmatcher.server.model.analytics.freelancer.TopClientDTO;
 import com.jobmatcher.server.repository.FreelancerAnalyticsRepository;
+import com.jobmatcher.server.service.IAnalyticsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,9 +25,20 @@ import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
 public class FreelancerAnalyticsController {
 
     private final FreelancerAnalyticsRepository freelancerAnalyticsRepository;
+    private final IAnalyticsService analyticsService;
 
-    public FreelancerAnalyticsController(FreelancerAnalyticsRepository freelancerAnalyticsRepository) {
+    public FreelancerAnalyticsController(
+            FreelancerAnalyticsRepository freelancerAnalyticsRepository,
+            IAnalyticsService analyticsService
+    ) {
         this.freelancerAnalyticsRepository = freelancerAnalyticsRepository;
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/summary")
+    public FreelancerAnalyticsSummaryDTO getSummary(@PathVariable String freelancerId) {
+        log.info("Fetching analytics summary for freelancerId: {}", freelancerId);
+        return analyticsService.getFreelancerSummary(UUID.fromString(freelancerId));
     }
 
     @GetMapping("/monthly-earnings")
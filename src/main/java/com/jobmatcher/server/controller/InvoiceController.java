@@ -5,14 +5,19 @@ import com.jobmatcher.server.model.InvoiceDetailDTO;
 import com.jobmatcher.server.model.InvoiceFilterDTO;
 import com.jobmatcher.server.model.InvoiceRequestDTO;
 import com.jobmatcher.server.model.InvoiceSummaryDTO;
+import com.jobmatcher.server.model.PagedResponseDTO;
+import com.jobmatcher.server.security.AuthPrincipal;
 import com.jobmatcher.server.service.IInvoiceService;
+import com.jobmatcher.server.util.KeysetPagination;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
@@ -30,15 +35,39 @@ public class InvoiceController {
 
     @GetMapping
     public ResponseEntity<Page<InvoiceSummaryDTO>> getAllInvoices(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthenticationPrincipal AuthPrincipal principal,
             @ParameterObject Pageable pageable,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String contractId,
             @RequestParam(required = false) String searchTerm
     ) {
-        String token = authHeader.replace("Bearer ", "").trim();
         log.info("Received request to get all invoices with filters - status: {}, contractId: {}, searchTerm: {}",
                 status, contractId, searchTerm);
+        Page<InvoiceSummaryDTO> response = invoiceService.getAllInvoices(
+                principal,
+                pageable,
+                toFilter(status, contractId, searchTerm)
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<PagedResponseDTO<InvoiceSummaryDTO>> getAllInvoicesByCursor(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String contractId,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> sort
+    ) {
+        KeysetPagination.rejectSort(sort);
+        return ResponseEntity.ok(invoiceService.getAllInvoicesByCursor(
+                principal, cursor, size, toFilter(status, contractId, searchTerm)));
+    }
+
+    private static InvoiceFilterDTO toFilter(String status, String contractId, String searchTerm) {
         InvoiceStatus invoiceStatus = null;
         if (status != null && !status.isBlank()) {
             try {
@@ -48,19 +77,11 @@ public class InvoiceController {
             }
         }
 
-        InvoiceFilterDTO filter = InvoiceFilterDTO.builder()
+        return InvoiceFilterDTO.builder()
                 .status(invoiceStatus)
                 .contractId((contractId != null && !contractId.isBlank()) ? UUID.fromString(contractId) : null)
                 .searchTerm(searchTerm)
                 .build();
-
-        Page<InvoiceSummaryDTO> response = invoiceService.getAllInvoices(
-                token,
-                pageable,
-                filter
-        );
-
-        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{invoiceId}")
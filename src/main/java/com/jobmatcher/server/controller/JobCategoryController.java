@@ -2,14 +2,17 @@ package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.model.JobCategoryDTO;
 import com.jobmatcher.server.service.IJobCategoryService;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
 
 @RestController
@@ -23,9 +26,12 @@ public class JobCategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<JobCategoryDTO>> getAllJobCategories(){
-        List<JobCategoryDTO> categories = categoryService.getAllJobCategories();
-        return ResponseEntity.ok(categories);
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = JobCategoryDTO.class))))
+    public ResponseEntity<byte[]> getAllJobCategories(){
+        ReferenceSnapshot<JobCategoryDTO> categories = categoryService.getJobCategoriesSnapshot();
+        return ReferenceResponses.ok(categories);
     }
 
     @GetMapping(path = "{id}")
@@ -2,12 +2,16 @@ package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.model.LanguageDTO;
 import com.jobmatcher.server.service.ILanguageService;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
 
@@ -34,9 +38,12 @@ public class LanguageController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LanguageDTO>> getAllLanguages(){
-        List<LanguageDTO> languages = languageService.getAllLanguages();
-        return ResponseEntity.ok(languages);
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = LanguageDTO.class))))
+    public ResponseEntity<byte[]> getAllLanguages(){
+        ReferenceSnapshot<LanguageDTO> languages = languageService.getLanguagesSnapshot();
+        return ReferenceResponses.ok(languages);
     }
 
     @PostMapping
@@ -0,0 +1,43 @@
+package com.jobmatcher.server.controller;
+
+import com.jobmatcher.server.model.matching.FreelancerMatchDTO;
+import com.jobmatcher.server.model.matching.ProjectMatchDTO;
+import com.jobmatcher.server.security.AuthPrincipal;
+import com.jobmatcher.server.service.IMatchingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
+
+@RestController
+@RequestMapping(path = API_VERSION + "/matching")
+public class MatchingController {
+
+    private final IMatchingService matchingService;
+
+    public MatchingController(IMatchingService matchingService) {
+        this.matchingService = matchingService;
+    }
+
+    @GetMapping("/freelancers/{freelancerId}/projects")
+    public ResponseEntity<List<ProjectMatchDTO>> getTopProjectsForFreelancer(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID freelancerId,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(matchingService.getTopProjectsForFreelancer(principal, freelancerId, limit));
+    }
+
+    @GetMapping("/projects/{projectId}/freelancers")
+    public ResponseEntity<List<FreelancerMatchDTO>> getTopFreelancersForProject(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID projectId,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(matchingService.getTopFreelancersForProject(principal, projectId, limit));
+    }
+}
@@ -1,18 +1,18 @@
 package com.jobmatcher.server.controller;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.jobmatcher.server.domain.Invoice;
 import com.jobmatcher.server.domain.InvoiceStatus;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import com.jobmatcher.server.repository.InvoiceRepository;
 import com.jobmatcher.server.service.IPaymentService;
+import com.jobmatcher.server.service.stripe.StripeWebhookInbox;
+import com.jobmatcher.server.util.KeysetPagination;
 import com.stripe.Stripe;
 import com.stripe.exception.SignatureVerificationException;
 import com.stripe.exception.StripeException;
 import com.stripe.model.Event;
-import com.stripe.model.EventDataObjectDeserializer;
 import com.stripe.model.checkout.Session;
 import com.stripe.net.Webhook;
 import com.stripe.param.checkout.SessionCreateParams;
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -43,31 +44,30 @@ public class PaymentController {
     @Value("${frontend.url.dev}")
     private String frontendUrl;
 
-    private final Gson gson = new Gson();
-
     private final IPaymentService paymentService;
     private final InvoiceRepository invoiceRepository;
+    private final StripeWebhookInbox webhookInbox;
 
     public PaymentController(
             IPaymentService paymentService,
-            InvoiceRepository invoiceRepository
+            InvoiceRepository invoiceRepository,
+            StripeWebhookInbox webhookInbox
     ) {
         this.paymentService = paymentService;
         this.invoiceRepository = invoiceRepository;
+        this.webhookInbox = webhookInbox;
     }
 
     @GetMapping
     public ResponseEntity<Page<PaymentSummaryDTO>> getAllPayments(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthenticationPrincipal AuthPrincipal principal,
             @ParameterObject Pageable pageable,
             @ModelAttribute PaymentFilterDTO filter
     ) {
-        String token = authHeader.replace("Bearer ", "").trim();
-
         log.info("Received request to get all payments with filters - status: {}, searchTerm: {}",
                 filter.getStatus(), filter.getSearchTerm());
         Page<PaymentSummaryDTO> page = paymentService.getAllPayments(
-                token,
+                principal,
                 pageable,
                 filter
         );
@@ -75,6 +75,18 @@ public class PaymentController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PagedResponseDTO<PaymentSummaryDTO>> getAllPaymentsByCursor(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @ModelAttribute PaymentFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> sort
+    ) {
+        KeysetPagination.rejectSort(sort);
+        return ResponseEntity.ok(paymentService.getAllPaymentsByCursor(principal, cursor, size, filter));
+    }
+
     @GetMapping("/{paymentId}")
     public ResponseEntity<PaymentDetailDTO> getPaymentById(@PathVariable String paymentId) {
         PaymentDetailDTO payment = paymentService.getPaymentById(UUID.fromString(paymentId));
@@ -106,67 +118,15 @@ public class PaymentController {
         }
 
         try {
-            log.info("Received Stripe event: {}", event.getType());
-            switch (event.getType()) {
-                case "checkout.session.completed" -> {
-                    log.info("Handling checkout.session.completed event");
-                    handleCheckoutSessionCompleted(event);
-                }
-                default -> log.warn("Unhandled Stripe event type: {}", event.getType());
-            }
-
+            log.info("Received Stripe event {}: {}", event.getId(), event.getType());
+            webhookInbox.receive(event, payload);
             return ResponseEntity.ok("Webhook handled");
-
         } catch (Exception e) {
+            log.error("Failed to store Stripe event {}: {}", event.getId(), e.getMessage());
             return ResponseEntity.internalServerError().body("Processing error");
         }
     }
 
-    private void handleCheckoutSessionCompleted(Event event) {
-        log.info("Processing checkout.session.completed event");
-        EventDataObjectDeserializer deserializer = event.getDataObjectDeserializer();
-
-        if (deserializer.getObject().isPresent() && deserializer.getObject().get() instanceof Session session) {
-            log.info("Deserialized session object directly");
-            processSession(session);
-        } else {
-            log.info("Deserializing session object from JSON");
-            String sessionId = ((JsonObject) gson.fromJson(event.getData().toJson(), JsonObject.class))
-                    .get("object").getAsJsonObject().get("id").getAsString();
-            try {
-                log.info("Retrieving session ID: {}", sessionId);
-                Session session = Session.retrieve(sessionId);
-                processSession(session);
-            } catch (StripeException e) {
-                log.error("Failed to retrieve session {}: {}", sessionId, e.getMessage());
-                throw new RuntimeException(e); // fail webhook so Stripe retries
-            }
-        }
-    }
-
-    private void processSession(Session session) {
-        log.info("Processing session ID: {}", session.getId());
-        String clientReferenceId = session.getClientReferenceId();
-
-        if (clientReferenceId == null || clientReferenceId.isBlank()) {
-            log.warn("Session {} missing client_reference_id, skipping", session.getId());
-            return;
-        }
-
-        try {
-            UUID invoiceId = UUID.fromString(clientReferenceId.trim());
-            log.info("Marking invoice {} as PAID", invoiceId);
-            paymentService.markInvoicePaid(invoiceId);
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid invoice ID in session {}: {}", session.getId(), e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Error marking invoice as PAID for session {}: {}", session.getId(), e.getMessage());
-            throw new RuntimeException(e);
-        }
-    }
-
-
     @PostMapping("/stripe/checkout")
     public ResponseEntity<?> createCheckoutSession(@RequestBody PaymentRequestDTO requestDTO) {
 
@@ -1,5 +1,6 @@
 package com.jobmatcher.server.controller;
 
+import com.jobmatcher.server.model.ImageUploadResponseDTO;
 import com.jobmatcher.server.model.PortfolioItemDetailDTO;
 import com.jobmatcher.server.model.PortfolioItemRequestDTO;
 import com.jobmatcher.server.model.PortfolioItemSummaryDTO;
@@ -63,14 +64,15 @@ public class PortfolioItemController {
     }
 
     @PatchMapping("/images/upload/{id}")
-    public ResponseEntity<SuccessResponse> uploadPortfolioItemPhotos(
+    public ResponseEntity<ImageUploadResponseDTO> uploadPortfolioItemPhotos(
             @PathVariable String id,
             @RequestParam("userId") String userIdString,
             @RequestParam("files") MultipartFile[] files
     ){
         UUID userId = UUID.fromString(userIdString);
-        cloudinaryService.uploadMultipleImages(UUID.fromString(id), userId, Arrays.asList(files));
-        return ResponseEntity.ok().body(new SuccessResponse(true));
+        ImageUploadResponseDTO response =
+                cloudinaryService.uploadMultipleImages(UUID.fromString(id), userId, Arrays.asList(files));
+        return ResponseEntity.ok().body(response);
     }
 
     @PatchMapping("/images/remove/{portfolioItemId}")
@@ -2,15 +2,19 @@ package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.domain.ProjectStatus;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import com.jobmatcher.server.service.IProjectService;
+import com.jobmatcher.server.util.KeysetPagination;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
@@ -27,11 +31,10 @@ public class ProjectController {
 
     @GetMapping
     public ResponseEntity<Page<ProjectSummaryDTO>> getAllProjects(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthenticationPrincipal AuthPrincipal principal,
             @ParameterObject Pageable pageable,
             @ParameterObject ProjectFilterDTO filter
     ) {
-        String token = authHeader.replace("Bearer ", "").trim();
         String status = filter.getStatus() != null ? filter.getStatus() : null;
 
 
@@ -48,7 +51,7 @@ public class ProjectController {
         filter.setStatus(projectStatus);
 
         Page<ProjectSummaryDTO> response = projectService.getAllProjects(
-                token,
+                principal,
                 pageable,
                 filter
         );
@@ -65,6 +68,18 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/job-feed/cursor")
+    public ResponseEntity<PagedResponseDTO<ProjectSummaryDTO>> getJobFeedProjectsByCursor(
+            @ParameterObject ProjectFilterDTO filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", required = false) List<String> sort
+    ) {
+        KeysetPagination.rejectSort(sort);
+        PagedResponseDTO<ProjectSummaryDTO> slice = projectService.getJobFeedProjectsByCursor(cursor, size, filter);
+        return ResponseEntity.ok(slice);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDetailDTO> getProjectById(
             @PathVariable String id
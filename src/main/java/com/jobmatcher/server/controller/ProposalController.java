@@ -1,11 +1,15 @@
 package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.domain.ProposalStatus;
+import com.jobmatcher.server.model.PagedResponseDTO;
+import com.jobmatcher.server.model.ProposalDecisionRequestDTO;
+import com.jobmatcher.server.model.ProposalDecisionResultDTO;
 import com.jobmatcher.server.model.ProposalDetailDTO;
 import com.jobmatcher.server.model.ProposalRequestDTO;
 import com.jobmatcher.server.model.ProposalStatusRequestDTO;
 import com.jobmatcher.server.model.ProposalSummaryDTO;
 import com.jobmatcher.server.service.IProposalService;
+import com.jobmatcher.server.util.KeysetPagination;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
@@ -38,6 +43,20 @@ public class ProposalController {
         return ResponseEntity.ok(proposals);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PagedResponseDTO<ProposalSummaryDTO>> getProposalsByProjectIdAndCursor(
+            @RequestParam("projectId") String projectId,
+            @RequestParam(value = "status", required = false) ProposalStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", required = false) List<String> sort
+    ) {
+        KeysetPagination.rejectSort(sort);
+        PagedResponseDTO<ProposalSummaryDTO> slice = proposalService.getProposalsByProjectIdAndCursor(
+                UUID.fromString(projectId), cursor, size, status);
+        return ResponseEntity.ok(slice);
+    }
+
     @GetMapping(path = "/freelancer/{freelancerId}")
     public ResponseEntity<Page<ProposalSummaryDTO>> getProposalsByFreelancerId(
             @PathVariable("freelancerId") String freelancerId,
@@ -82,6 +101,15 @@ public class ProposalController {
         return ResponseEntity.ok(updatedProposal);
     }
 
+    @PatchMapping("/project/{projectId}/decision")
+    public ResponseEntity<ProposalDecisionResultDTO> decideProposals(
+            @PathVariable("projectId") String projectId,
+            @RequestBody ProposalDecisionRequestDTO requestDTO
+    ) {
+        ProposalDecisionResultDTO result = proposalService.decideProposals(UUID.fromString(projectId), requestDTO);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProposalById(@PathVariable("id") String id) {
         proposalService.deleteProposalById(UUID.fromString(id));
@@ -0,0 +1,24 @@
+package com.jobmatcher.server.controller;
+
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Writes a cached reference list as-is. The body is the precomputed JSON and the ETag lets
+ * Spring answer a matching {@code If-None-Match} with 304 without sending the list again.
+ */
+final class ReferenceResponses {
+
+    private ReferenceResponses() {
+    }
+
+    static ResponseEntity<byte[]> ok(ReferenceSnapshot<?> snapshot) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.etag())
+                .body(snapshot.json());
+    }
+}
@@ -2,9 +2,15 @@ package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.model.SkillDTO;
 import com.jobmatcher.server.service.ISkillService;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -22,8 +28,20 @@ public class SkillController {
     }
 
     @GetMapping
-    public ResponseEntity<List<SkillDTO>> getAllSkills() {
-        List<SkillDTO> skills = skillService.getAllSkills();
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = SkillDTO.class))))
+    public ResponseEntity<byte[]> getAllSkills() {
+        ReferenceSnapshot<SkillDTO> skills = skillService.getSkillsSnapshot();
+        return ReferenceResponses.ok(skills);
+    }
+
+    @GetMapping(path = "/suggest")
+    public ResponseEntity<List<SkillDTO>> suggestSkills(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SkillDTO> skills = skillService.suggest(prefix, limit);
         return ResponseEntity.ok(skills);
     }
 
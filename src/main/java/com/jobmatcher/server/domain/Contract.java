@@ -19,7 +19,7 @@ import java.util.UUID;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "contracts")
+@Table(name = "contracts", indexes = @Index(name = "idx_contracts_created_at_id", columnList = "created_at, id"))
 public class Contract extends Auditable {
 
     @Id
@@ -0,0 +1,8 @@
+package com.jobmatcher.server.domain;
+
+public enum EmailOutboxStatus {
+    PENDING,  // Waiting for its next delivery attempt
+    SENDING,  // Claimed by a dispatcher; reclaimed if the lease expires
+    SENT,
+    FAILED;   // Permanent failure or attempts exhausted
+}
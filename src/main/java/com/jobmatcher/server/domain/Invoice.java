@@ -18,7 +18,7 @@ import java.util.UUID;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "invoices")
+@Table(name = "invoices", indexes = @Index(name = "idx_invoices_created_at_id", columnList = "created_at, id"))
 public class Invoice extends Auditable {
 
     @Id
@@ -19,7 +19,7 @@ import java.util.UUID;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "payments")
+@Table(name = "payments", indexes = @Index(name = "idx_payments_created_at_id", columnList = "created_at, id"))
 public class Payment extends Auditable {
 
     @Id
@@ -0,0 +1,36 @@
+package com.jobmatcher.server.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Running totals of one freelancer or customer profile, maintained by
+ * {@code AnalyticsRollupService}. {@code totalAmount} is earned (freelancer) or spent (customer).
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "analytics_profile_totals")
+public class ProfileAnalytics {
+
+    @Id
+    @Column(name = "profile_id")
+    private UUID profileId;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "proposals_total", nullable = false)
+    private long proposalsTotal;
+
+    @Column(name = "proposals_accepted", nullable = false)
+    private long proposalsAccepted;
+}
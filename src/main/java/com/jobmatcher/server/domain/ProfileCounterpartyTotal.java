@@ -0,0 +1,43 @@
+package com.jobmatcher.server.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Payments between a profile and one counterparty (a freelancer's client or a customer's
+ * freelancer). Indexed by total so the top counterparties are read straight off the index.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "analytics_counterparty_totals",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_analytics_counterparty_totals_profile_counterparty",
+                columnNames = {"profile_id", "counterparty_id"}),
+        indexes = @Index(name = "idx_analytics_counterparty_totals_profile_total", columnList = "profile_id, total DESC"))
+public class ProfileCounterpartyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Column(name = "counterparty_id", nullable = false)
+    private UUID counterpartyId;
+
+    @Column(name = "counterparty_name", nullable = false, length = 100)
+    private String counterpartyName;
+
+    @Column(nullable = false)
+    private BigDecimal total = BigDecimal.ZERO;
+}
@@ -0,0 +1,41 @@
+package com.jobmatcher.server.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Payments earned (freelancer) or spent (customer) by a profile in one calendar month (UTC).
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "analytics_monthly_totals",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_analytics_monthly_totals_profile_period",
+                columnNames = {"profile_id", "period_year", "period_month"}))
+public class ProfileMonthlyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Column(name = "period_year", nullable = false)
+    private int periodYear;
+
+    @Column(name = "period_month", nullable = false)
+    private int periodMonth;
+
+    @Column(nullable = false)
+    private BigDecimal total = BigDecimal.ZERO;
+}
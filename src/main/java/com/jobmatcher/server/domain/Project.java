@@ -16,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_created_at_id", columnList = "created_at, id"))
 public class Project extends Auditable{
 
     @Id
@@ -86,4 +86,7 @@ public class Project extends Auditable{
 
     @OneToOne(mappedBy = "project", fetch = FetchType.LAZY)
     private Contract contract;
+
+    @Embedded
+    private ProjectProposalStats proposalStats = new ProjectProposalStats();
 }
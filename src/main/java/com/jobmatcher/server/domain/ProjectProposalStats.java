@@ -0,0 +1,60 @@
+package com.jobmatcher.server.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Proposal counters and bid range of a project, kept on the project row so the feed can show
+ * and sort by them without aggregating proposals. The columns are read-only for the entity:
+ * only {@code ProjectProposalStatsService} writes them, with atomic SQL updates, so a
+ * project saved with stale values in memory never overwrites them.
+ */
+@Embeddable
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectProposalStats {
+
+    @Column(name = "proposals_total", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int total;
+
+    @Column(name = "proposals_pending", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int pending;
+
+    @Column(name = "proposals_accepted", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int accepted;
+
+    @Column(name = "proposals_rejected", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int rejected;
+
+    @Column(name = "proposals_withdrawn", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int withdrawn;
+
+    @Column(name = "proposal_amount_min", insertable = false, updatable = false)
+    private BigDecimal minAmount;
+
+    @Column(name = "proposal_amount_avg", insertable = false, updatable = false)
+    private BigDecimal avgAmount;
+
+    @Column(name = "proposal_amount_max", insertable = false, updatable = false)
+    private BigDecimal maxAmount;
+
+    @Column(name = "proposal_amount_sum", insertable = false, updatable = false)
+    private BigDecimal amountSum;
+
+    @Column(name = "last_proposal_at", insertable = false, updatable = false)
+    private OffsetDateTime lastProposalAt;
+}
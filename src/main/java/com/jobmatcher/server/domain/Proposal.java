@@ -17,7 +17,7 @@ import java.util.UUID;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "proposals")
+@Table(name = "proposals", indexes = @Index(name = "idx_proposals_project_created_at_id", columnList = "project_id, created_at, id"))
 public class Proposal extends Auditable{
 
     @Id
@@ -0,0 +1,29 @@
+package com.jobmatcher.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Token bucket of one rate limit key, shared by all replicas when {@code rate-limit.store=jdbc}.
+ * Rows are only written by the upsert in {@code RateLimitBucketRepository}; {@code updatedAt}
+ * is the database clock in epoch milliseconds.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "rate_limit_buckets")
+public class RateLimitBucket {
+
+    @Id
+    @Column(name = "bucket_key", length = 200)
+    private String bucketKey;
+
+    @Column(nullable = false)
+    private double tokens;
+
+    @Column(name = "updated_at", nullable = false)
+    private long updatedAt;
+}
@@ -9,9 +9,11 @@ import java.util.UUID;
 @Entity
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "skills", uniqueConstraints = @UniqueConstraint(columnNames = "name"))
+@Table(name = "skills", uniqueConstraints = {
+        @UniqueConstraint(columnNames = "name"),
+        @UniqueConstraint(name = "uk_skills_name_key", columnNames = "name_key")
+})
 public class Skill extends Auditable {
 
     @Id
@@ -22,6 +24,18 @@ public class Skill extends Auditable {
     @Column(nullable = false, unique = true)
     private String name;
 
+    // lower(name), computed by PostgreSQL. Its unique index serves case-insensitive lookups
+    // and rejects a second spelling of an existing skill ("Java" next to "java").
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_key", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) GENERATED ALWAYS AS (lower(name)) STORED")
+    private String nameKey;
+
+    public Skill(UUID id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
     public Skill(String name) {
         super();
         this.name = name;
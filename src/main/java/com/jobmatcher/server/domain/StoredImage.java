@@ -0,0 +1,44 @@
+package com.jobmatcher.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * An optimized image in storage, keyed by the hash of the upload it was produced from and
+ * the optimizer settings ({@code variant}). Every user picture or portfolio entry that
+ * points at {@code url} holds one reference; the image is removed from storage when the
+ * last one is released.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "stored_images",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_images_content", columnNames = {"content_hash", "variant"}),
+        indexes = @Index(name = "idx_stored_images_url", columnList = "url"))
+public class StoredImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, length = 32)
+    private String variant;
+
+    @Column(nullable = false, length = 1024)
+    private String url;
+
+    @Column(name = "reference_count", nullable = false)
+    private int referenceCount;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,64 @@
+package com.jobmatcher.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A verified Stripe webhook event, stored under Stripe's event id when it is received and
+ * applied later by the inbox dispatcher. Redelivered events hit the same row.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "stripe_webhook_inbox",
+        indexes = {
+                @Index(name = "idx_stripe_webhook_inbox_due", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_stripe_webhook_inbox_invoice", columnList = "invoice_id, received_at")
+        })
+public class StripeWebhookEvent {
+
+    @Id
+    @Column(length = 255)
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String type;
+
+    @Column(name = "session_id")
+    private String sessionId;
+
+    @Column(name = "client_reference_id")
+    private String clientReferenceId;
+
+    // Set when client_reference_id is a valid invoice id; events of one invoice apply in order
+    @Column(name = "invoice_id")
+    private UUID invoiceId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private StripeWebhookStatus status = StripeWebhookStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false)
+    private OffsetDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private OffsetDateTime processedAt;
+}
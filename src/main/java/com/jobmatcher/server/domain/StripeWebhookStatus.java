@@ -0,0 +1,9 @@
+package com.jobmatcher.server.domain;
+
+public enum StripeWebhookStatus {
+    PENDING,     // Waiting for its next processing attempt
+    PROCESSING,  // Claimed by a worker; reclaimed if the lease expires
+    PROCESSED,
+    IGNORED,     // Nothing to apply, e.g. no invoice reference
+    FAILED;      // Permanent failure or attempts exhausted
+}
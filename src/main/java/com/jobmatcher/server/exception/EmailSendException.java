@@ -1,7 +1,18 @@
 package com.jobmatcher.server.exception;
 
+import lombok.Getter;
+
+@Getter
 public class EmailSendException extends RuntimeException{
+    // Transient failures (throttling, provider errors, network) are retried by the outbox
+    private final boolean retryable;
+
     public EmailSendException(String message, Throwable cause) {
+        this(message, cause, false);
+    }
+
+    public EmailSendException(String message, Throwable cause, boolean retryable) {
         super(message, cause);
+        this.retryable = retryable;
     }
 }
@@ -296,6 +296,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, request.getRequestURI(), ErrorCode.FILE_UPLOAD_FAILED);
     }
 
+    @ExceptionHandler(ImageProcessingBusyException.class)
+    public ResponseEntity<ErrorResponse> handleImageProcessingBusyException(ImageProcessingBusyException ex, HttpServletRequest request) {
+        log.warn("Image processing busy: {}", ex.getMessage());
+        return buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request.getRequestURI(), ErrorCode.IMAGE_PROCESSING_BUSY);
+    }
+
     @ExceptionHandler(UnsupportedMediaTypeStatusException.class)
     public ResponseEntity<ErrorResponse> handleUnsupportedMediaTypeStatusException(UnsupportedMediaTypeStatusException ex, HttpServletRequest request) {
         log.warn("Unsupported media format. ", ex);
@@ -0,0 +1,7 @@
+package com.jobmatcher.server.exception;
+
+public class ImageProcessingBusyException extends RuntimeException {
+    public ImageProcessingBusyException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package com.jobmatcher.server.mapper;
 import com.jobmatcher.server.domain.Contract;
 import com.jobmatcher.server.domain.PaymentType;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.ContractSummaryRow;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
@@ -26,6 +27,22 @@ public class ContractMapper {
                 .build();
     }
 
+    public ContractSummaryDTO fromRow(ContractSummaryRow row) {
+        if(row == null) {
+            return null;
+        }
+        return ContractSummaryDTO.builder()
+                .id(row.id())
+                .customerName(row.customerFirstName() + " " + row.customerLastName())
+                .freelancerName(row.freelancerFirstName() + " " + row.freelancerLastName())
+                .status(row.status())
+                .title(row.title())
+                .amount(row.amount())
+                .startDate(row.startDate())
+                .endDate(row.endDate())
+                .build();
+    }
+
     public ContractDetailDTO toDetailDto(
             Contract entity,
             ContactDTO customerContact,
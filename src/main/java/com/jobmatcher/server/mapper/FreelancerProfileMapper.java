@@ -2,8 +2,13 @@ package com.jobmatcher.server.mapper;
 
 import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
+import com.jobmatcher.server.model.summary.FreelancerSummaryRow;
+import com.jobmatcher.server.model.summary.LanguageRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -31,6 +36,36 @@ public class FreelancerProfileMapper {
         return mapSummaryFields(entity).build();
     }
 
+    public FreelancerSummaryDTO fromRow(
+            FreelancerSummaryRow row,
+            Collection<SubcategoryRow> jobSubcategories,
+            Collection<ProfileSkillRow> skills,
+            Collection<LanguageRow> languages
+    ){
+        if(row == null) return null;
+
+        return FreelancerSummaryDTO.builder()
+                .userId(row.userId())
+                .profileId(row.profileId())
+                .username(row.username())
+                .experienceLevel(row.experienceLevel())
+                .headline(row.headline())
+                .jobSubcategories(jobSubcategories.stream()
+                        .map(jobSubcategoryMapper::fromRow)
+                        .collect(Collectors.toSet()))
+                .hourlyRate(row.hourlyRate())
+                .availableForHire(row.availableForHire())
+                .pictureUrl(row.pictureUrl())
+                .skills(skills.stream()
+                        .map(skillMapper::fromRow)
+                        .collect(Collectors.toSet()))
+                .languages(languages.stream()
+                        .map(languageMapper::fromRow)
+                        .collect(Collectors.toSet()))
+                .rating(row.rating())
+                .build();
+    }
+
     public FreelancerDetailDTO toFreelancerDetailDto(FreelancerProfile entity){
         if(entity == null) return null;
 
@@ -2,6 +2,7 @@ package com.jobmatcher.server.mapper;
 
 import com.jobmatcher.server.domain.Invoice;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.InvoiceSummaryRow;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -39,4 +40,20 @@ public class InvoiceMapper {
                 .status(entity.getStatus())
                 .build();
     }
+
+    public InvoiceSummaryDTO fromRow(InvoiceSummaryRow row, ContractSummaryDTO contractDto, MilestoneResponseDTO milestoneDto) {
+        if (row == null) {
+            return null;
+        }
+
+        return InvoiceSummaryDTO.builder()
+                .id(row.id())
+                .contract(contractDto)
+                .milestone(milestoneDto)
+                .amount(row.amount())
+                .issuedAt(row.issuedAt())
+                .dueDate(row.dueDate())
+                .status(row.status())
+                .build();
+    }
 }
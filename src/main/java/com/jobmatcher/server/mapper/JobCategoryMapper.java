@@ -5,6 +5,7 @@ import com.jobmatcher.server.model.JobCategoryDTO;
 import com.jobmatcher.server.model.JobSubcategoryDTO;
 import org.springframework.stereotype.Component;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +23,7 @@ public class JobCategoryMapper {
 
         List<JobSubcategoryDTO> subcategoryDTOS = category.getSubcategories().stream()
                 .map(jobSubcategoryMapper::toDto)
+                .sorted(Comparator.comparing(JobSubcategoryDTO::getId, Comparator.nullsLast(Comparator.naturalOrder())))
                 .toList();
 
         return JobCategoryDTO.builder()
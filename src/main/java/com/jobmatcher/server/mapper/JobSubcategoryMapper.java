@@ -2,6 +2,7 @@ package com.jobmatcher.server.mapper;
 
 import com.jobmatcher.server.domain.JobSubcategory;
 import com.jobmatcher.server.model.JobSubcategoryDTO;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,6 +17,16 @@ public class JobSubcategoryMapper {
                 .build();
     }
 
+    public JobSubcategoryDTO fromRow(SubcategoryRow row){
+        if(row == null) return null;
+
+        return JobSubcategoryDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .description(row.description())
+                .build();
+    }
+
     public JobSubcategory toEntity(JobSubcategoryDTO dto) {
         if (dto == null) return null;
 
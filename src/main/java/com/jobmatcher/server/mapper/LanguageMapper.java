@@ -2,6 +2,7 @@ package com.jobmatcher.server.mapper;
 
 import com.jobmatcher.server.domain.Language;
 import com.jobmatcher.server.model.LanguageDTO;
+import com.jobmatcher.server.model.summary.LanguageRow;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,6 +16,15 @@ public class LanguageMapper {
                 .build();
     }
 
+    public LanguageDTO fromRow(LanguageRow row){
+        if(row == null) return null;
+
+        return LanguageDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .build();
+    }
+
     public Language toEntity(LanguageDTO dto){
         if(dto == null) return null;
 
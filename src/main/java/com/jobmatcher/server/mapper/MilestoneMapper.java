@@ -4,6 +4,7 @@ import com.jobmatcher.server.domain.Contract;
 import com.jobmatcher.server.domain.Milestone;
 import com.jobmatcher.server.model.MilestoneRequestDTO;
 import com.jobmatcher.server.model.MilestoneResponseDTO;
+import com.jobmatcher.server.model.summary.MilestoneSummaryRow;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -36,6 +37,32 @@ public class MilestoneMapper {
                 .build();
     }
 
+    public MilestoneResponseDTO fromRow(MilestoneSummaryRow row) {
+        if (row == null) {
+            return null;
+        }
+
+        return MilestoneResponseDTO.builder()
+                .id(row.id())
+                .contractId(row.contractId())
+                .title(row.title())
+                .description(row.description())
+                .amount(row.amount())
+                .penaltyAmount(row.penaltyAmount())
+                .bonusAmount(row.bonusAmount())
+                .estimatedDuration(row.estimatedDuration())
+                .status(row.status())
+                .notes(row.notes())
+                .plannedStartDate(row.plannedStartDate())
+                .plannedEndDate(row.plannedEndDate())
+                .actualStartDate(row.actualStartDate())
+                .actualEndDate(row.actualEndDate())
+                .priority(row.priority())
+                .invoiceId(row.invoiceId())
+                .paymentId(row.paymentId())
+                .build();
+    }
+
     public Milestone toEntity(MilestoneRequestDTO dto, Contract contract) {
         if (dto == null) {
             return null;
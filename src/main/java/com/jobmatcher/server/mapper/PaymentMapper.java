@@ -2,6 +2,7 @@ package com.jobmatcher.server.mapper;
 
 import com.jobmatcher.server.domain.Payment;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.PaymentSummaryRow;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -45,4 +46,23 @@ public class PaymentMapper {
                 .paidAt(entity.getPaidAt())
                 .build();
     }
+
+    public PaymentSummaryDTO fromRow(
+            PaymentSummaryRow row,
+            ContractSummaryDTO contract,
+            MilestoneResponseDTO milestone,
+            InvoiceSummaryDTO invoice
+    ){
+        if(row == null) return null;
+
+        return PaymentSummaryDTO.builder()
+                .id(row.id())
+                .contract(contract)
+                .milestone(milestone)
+                .invoice(invoice)
+                .amount(row.amount())
+                .status(row.status())
+                .paidAt(row.paidAt())
+                .build();
+    }
 }
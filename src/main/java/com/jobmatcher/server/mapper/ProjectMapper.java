@@ -1,11 +1,17 @@
 package com.jobmatcher.server.mapper;
 
 import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.model.JobCategoryDTO;
 import com.jobmatcher.server.model.ProjectRequestDTO;
 import com.jobmatcher.server.model.ProjectDetailDTO;
+import com.jobmatcher.server.model.ProjectProposalStatsDTO;
 import com.jobmatcher.server.model.ProjectSummaryDTO;
+import com.jobmatcher.server.model.summary.ProjectSummaryRow;
+import com.jobmatcher.server.model.summary.ProposalStatsRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -80,6 +86,67 @@ public class ProjectMapper {
                 .category(entity.getCategory() != null ? jobCategoryMapper.toSummaryDto(entity.getCategory()) : null)
                 .subcategories(entity.getSubcategories() != null ? entity.getSubcategories().stream()
                         .map(jobSubcategoryMapper::toDto).collect(Collectors.toSet()) : Set.of())
+                .proposalStats(toStatsDto(entity.getProposalStats()))
+                .build();
+    }
+
+    public ProjectSummaryDTO fromRow(ProjectSummaryRow row, Collection<SubcategoryRow> subcategories) {
+        if (row == null) {
+            return null;
+        }
+
+        return ProjectSummaryDTO.builder()
+                .id(row.id())
+                .title(row.title())
+                .customerId(row.customerId())
+                .freelancerId(row.freelancerId())
+                .description(row.description())
+                .status(row.status())
+                .budget(row.budget())
+                .paymentType(row.paymentType())
+                .deadline(row.deadline())
+                .category(row.categoryId() != null ? JobCategoryDTO.builder()
+                        .id(row.categoryId())
+                        .name(row.categoryName())
+                        .description(row.categoryDescription())
+                        .build() : null)
+                .subcategories(subcategories.stream()
+                        .map(jobSubcategoryMapper::fromRow).collect(Collectors.toSet()))
+                .proposalStats(toStatsDto(row.proposalStats()))
+                .build();
+    }
+
+    private static ProjectProposalStatsDTO toStatsDto(ProjectProposalStats stats) {
+        if (stats == null) {
+            return null;
+        }
+        return ProjectProposalStatsDTO.builder()
+                .total(stats.getTotal())
+                .pending(stats.getPending())
+                .accepted(stats.getAccepted())
+                .rejected(stats.getRejected())
+                .withdrawn(stats.getWithdrawn())
+                .minAmount(stats.getMinAmount())
+                .avgAmount(stats.getAvgAmount())
+                .maxAmount(stats.getMaxAmount())
+                .lastProposalAt(stats.getLastProposalAt())
+                .build();
+    }
+
+    private static ProjectProposalStatsDTO toStatsDto(ProposalStatsRow row) {
+        if (row == null) {
+            return null;
+        }
+        return ProjectProposalStatsDTO.builder()
+                .total(row.total())
+                .pending(row.pending())
+                .accepted(row.accepted())
+                .rejected(row.rejected())
+                .withdrawn(row.withdrawn())
+                .minAmount(row.minAmount())
+                .avgAmount(row.avgAmount())
+                .maxAmount(row.maxAmount())
+                .lastProposalAt(row.lastProposalAt())
                 .build();
     }
 
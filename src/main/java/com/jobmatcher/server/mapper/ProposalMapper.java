@@ -6,8 +6,14 @@ import com.jobmatcher.server.domain.Proposal;
 import com.jobmatcher.server.model.ProposalDetailDTO;
 import com.jobmatcher.server.model.ProposalRequestDTO;
 import com.jobmatcher.server.model.ProposalSummaryDTO;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
+import com.jobmatcher.server.model.summary.LanguageRow;
+import com.jobmatcher.server.model.summary.ProposalSummaryRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 
 @Component
 public class ProposalMapper {
@@ -71,6 +77,37 @@ public class ProposalMapper {
                 .build();
     }
 
+    public ProposalSummaryDTO fromRow(
+            ProposalSummaryRow row,
+            Collection<SubcategoryRow> freelancerSubcategories,
+            Collection<ProfileSkillRow> freelancerSkills,
+            Collection<LanguageRow> freelancerLanguages
+    ) {
+        if (row == null) {
+            return null;
+        }
+
+        return ProposalSummaryDTO.builder()
+                .id(row.id())
+                .projectId(row.projectId())
+                .freelancer(freelancerMapper.fromRow(
+                        row.freelancer(), freelancerSubcategories, freelancerSkills, freelancerLanguages))
+                .coverLetter(row.coverLetter())
+                .amount(row.amount())
+                .penaltyAmount(row.penaltyAmount())
+                .bonusAmount(row.bonusAmount())
+                .estimatedDuration(row.estimatedDuration())
+                .status(row.status())
+                .notes(row.notes())
+                .plannedStartDate(row.plannedStartDate() != null ? row.plannedStartDate().toString() : null)
+                .plannedEndDate(row.plannedEndDate() != null ? row.plannedEndDate().toString() : null)
+                .actualStartDate(row.actualStartDate() != null ? row.actualStartDate().toString() : null)
+                .actualEndDate(row.actualEndDate() != null ? row.actualEndDate().toString() : null)
+                .createdAt(row.createdAt())
+                .lastUpdate(row.lastUpdate())
+                .build();
+    }
+
     public Proposal toEntity(ProposalRequestDTO dto, Project project, FreelancerProfile freelancer) {
         if (dto == null) {
             return null;
@@ -2,6 +2,7 @@ package com.jobmatcher.server.mapper;
 
 import com.jobmatcher.server.domain.Skill;
 import com.jobmatcher.server.model.SkillDTO;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,4 +14,12 @@ public class SkillMapper {
                 .name(skill.getName())
                 .build();
     }
+
+    public SkillDTO fromRow(ProfileSkillRow row){
+        if(row == null) return null;
+
+        return SkillDTO.builder()
+                .name(row.skillName())
+                .build();
+    }
 }
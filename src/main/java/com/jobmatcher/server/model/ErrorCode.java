@@ -13,6 +13,7 @@ public enum ErrorCode {
     GMAIL_API_ERROR,
     TOKEN_CREATION_FAILED,
     FILE_UPLOAD_FAILED,
+    IMAGE_PROCESSING_BUSY,
     UNSUPPORTED_MEDIA_TYPE,
     ACCESS_DENIED,
     INVALID_DATE_FORMAT,
@@ -0,0 +1,12 @@
+package com.jobmatcher.server.model;
+
+import java.util.List;
+
+/**
+ * {@code success} is {@code true} only when every file was stored; {@code files} lists the
+ * outcome per file in request order.
+ */
+public record ImageUploadResponseDTO(
+        boolean success,
+        List<ImageUploadResultDTO> files
+) {}
@@ -0,0 +1,11 @@
+package com.jobmatcher.server.model;
+
+/**
+ * Outcome for one file of a multi-image upload: {@code url} when it was stored,
+ * {@code error} when it was not.
+ */
+public record ImageUploadResultDTO(
+        String fileName,
+        String url,
+        String error
+) {}
@@ -0,0 +1,20 @@
+package com.jobmatcher.server.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class NotificationDTO {
+
+    private NotificationType type;
+    private UUID resourceId;
+    private UUID projectId;
+    private String status;
+    private String title;
+    private OffsetDateTime occurredAt;
+
+}
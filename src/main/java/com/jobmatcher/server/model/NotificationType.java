@@ -0,0 +1,8 @@
+package com.jobmatcher.server.model;
+
+public enum NotificationType {
+    PROJECT_POSTED,
+    PROPOSAL_STATUS,
+    CONTRACT_STATUS,
+    INVOICE_STATUS
+}
@@ -1,7 +1,14 @@
 package com.jobmatcher.server.model;
 
+import org.springframework.data.domain.Page;
+
 import java.util.List;
 
+/**
+ * Page of results in either offset mode (built from a Spring {@link Page}) or cursor mode.
+ * In cursor mode no count query runs: {@code totalElements} and {@code totalPages} are -1
+ * and {@code nextCursor} is passed back to fetch the following page ({@code null} on the last one).
+ */
 public record PagedResponseDTO<T>(
         List<T> content,
         int page,
@@ -9,5 +16,24 @@ public record PagedResponseDTO<T>(
         long totalElements,
         int totalPages,
         boolean first,
-        boolean last
-) {}
+        boolean last,
+        String nextCursor
+) {
+
+    public static <T> PagedResponseDTO<T> fromPage(Page<T> page) {
+        return new PagedResponseDTO<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isFirst(),
+                page.isLast(),
+                null
+        );
+    }
+
+    public static <T> PagedResponseDTO<T> ofCursor(List<T> content, int size, boolean first, String nextCursor) {
+        return new PagedResponseDTO<>(content, 0, size, -1, -1, first, nextCursor == null, nextCursor);
+    }
+}
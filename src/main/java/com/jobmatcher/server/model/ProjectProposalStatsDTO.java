@@ -0,0 +1,23 @@
+package com.jobmatcher.server.model;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectProposalStatsDTO {
+    private int total;
+    private int pending;
+    private int accepted;
+    private int rejected;
+    private int withdrawn;
+    private BigDecimal minAmount;
+    private BigDecimal avgAmount;
+    private BigDecimal maxAmount;
+    private OffsetDateTime lastProposalAt;
+}
@@ -29,4 +29,5 @@ public class ProjectSummaryDTO {
     private Set<JobSubcategoryDTO> subcategories;
     private OffsetDateTime createdAt;
     private OffsetDateTime lastUpdate;
+    private ProjectProposalStatsDTO proposalStats;
 }
@@ -0,0 +1,7 @@
+package com.jobmatcher.server.model;
+
+public enum ProposalDecision {
+    ACCEPT,         // Accept one proposal, reject the other pending ones
+    REJECT_PENDING, // Reject every pending proposal of the project
+    REOPEN          // Move accepted and rejected proposals back to pending
+}
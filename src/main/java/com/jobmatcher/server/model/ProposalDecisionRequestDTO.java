@@ -0,0 +1,21 @@
+package com.jobmatcher.server.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class ProposalDecisionRequestDTO {
+
+    @NotNull
+    private ProposalDecision decision;
+
+    // Required for ACCEPT
+    private UUID proposalId;
+
+}
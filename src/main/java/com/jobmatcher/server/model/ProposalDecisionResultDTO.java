@@ -0,0 +1,19 @@
+package com.jobmatcher.server.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class ProposalDecisionResultDTO {
+
+    private UUID projectId;
+    private ProposalDecision decision;
+    private UUID contractId;
+    // Only the proposals whose status changed
+    private List<ProposalStatusChangeDTO> changes;
+
+}
@@ -0,0 +1,17 @@
+package com.jobmatcher.server.model;
+
+import com.jobmatcher.server.domain.ProposalStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+public class ProposalStatusChangeDTO {
+
+    private UUID id;
+    private ProposalStatus previousStatus;
+    private ProposalStatus status;
+
+}
@@ -0,0 +1,16 @@
+package com.jobmatcher.server.model.analytics.customer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All customer dashboard sections in one response. {@code timingsMicros} holds the
+ * server-side query time of each section, keyed by section name.
+ */
+public record CustomerAnalyticsSummaryDTO(
+        List<MonthlySpendingDTO> monthlySpending,
+        ProjectStatsDTO projectStats,
+        List<TopFreelancerDTO> topFreelancers,
+        Map<String, Long> timingsMicros
+) {
+}
@@ -0,0 +1,17 @@
+package com.jobmatcher.server.model.analytics.freelancer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All freelancer dashboard sections in one response. {@code timingsMicros} holds the
+ * server-side query time of each section, keyed by section name.
+ */
+public record FreelancerAnalyticsSummaryDTO(
+        List<MonthlyEarningsDTO> monthlyEarnings,
+        JobCompletionDTO jobCompletion,
+        List<TopClientDTO> topClients,
+        List<SkillEarningsDTO> skillEarnings,
+        Map<String, Long> timingsMicros
+) {
+}
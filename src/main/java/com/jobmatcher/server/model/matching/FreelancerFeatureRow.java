@@ -0,0 +1,13 @@
+package com.jobmatcher.server.model.matching;
+
+import com.jobmatcher.server.domain.ExperienceLevel;
+
+import java.util.UUID;
+
+public record FreelancerFeatureRow(
+        UUID id,
+        Double hourlyRate,
+        ExperienceLevel experienceLevel,
+        Boolean availableForHire
+) {
+}
@@ -0,0 +1,9 @@
+package com.jobmatcher.server.model.matching;
+
+import com.jobmatcher.server.model.FreelancerSummaryDTO;
+
+public record FreelancerMatchDTO(
+        FreelancerSummaryDTO freelancer,
+        double score
+) {
+}
@@ -0,0 +1,9 @@
+package com.jobmatcher.server.model.matching;
+
+import java.util.UUID;
+
+public record ProfileSkillRow(
+        UUID profileId,
+        String skillName
+) {
+}
@@ -0,0 +1,10 @@
+package com.jobmatcher.server.model.matching;
+
+import java.util.UUID;
+
+public record ProfileSubcategoryRow(
+        UUID profileId,
+        Long subcategoryId,
+        Long categoryId
+) {
+}
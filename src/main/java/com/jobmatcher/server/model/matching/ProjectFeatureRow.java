@@ -0,0 +1,13 @@
+package com.jobmatcher.server.model.matching;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProjectFeatureRow(
+        UUID id,
+        Long categoryId,
+        BigDecimal budget,
+        String title,
+        String description
+) {
+}
@@ -0,0 +1,9 @@
+package com.jobmatcher.server.model.matching;
+
+import com.jobmatcher.server.model.ProjectSummaryDTO;
+
+public record ProjectMatchDTO(
+        ProjectSummaryDTO project,
+        double score
+) {
+}
@@ -0,0 +1,14 @@
+package com.jobmatcher.server.model.search;
+
+import com.jobmatcher.server.domain.ProjectStatus;
+
+import java.util.UUID;
+
+public record ProjectSearchRow(
+        UUID id,
+        String title,
+        String description,
+        ProjectStatus status,
+        Long categoryId
+) {
+}
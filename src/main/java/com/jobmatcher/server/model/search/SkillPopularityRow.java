@@ -0,0 +1,9 @@
+package com.jobmatcher.server.model.search;
+
+import java.util.UUID;
+
+public record SkillPopularityRow(
+        UUID skillId,
+        long profileCount
+) {
+}
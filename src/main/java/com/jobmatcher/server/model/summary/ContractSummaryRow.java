@@ -0,0 +1,21 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.ContractStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record ContractSummaryRow(
+        UUID id,
+        String customerFirstName,
+        String customerLastName,
+        String freelancerFirstName,
+        String freelancerLastName,
+        ContractStatus status,
+        String title,
+        BigDecimal amount,
+        OffsetDateTime startDate,
+        OffsetDateTime endDate
+) {
+}
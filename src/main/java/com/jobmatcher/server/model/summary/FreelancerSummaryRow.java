@@ -0,0 +1,18 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.ExperienceLevel;
+
+import java.util.UUID;
+
+public record FreelancerSummaryRow(
+        UUID profileId,
+        UUID userId,
+        String username,
+        ExperienceLevel experienceLevel,
+        String headline,
+        Double hourlyRate,
+        Boolean availableForHire,
+        String pictureUrl,
+        Double rating
+) {
+}
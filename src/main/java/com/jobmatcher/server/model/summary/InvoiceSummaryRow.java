@@ -0,0 +1,17 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record InvoiceSummaryRow(
+        UUID id,
+        BigDecimal amount,
+        OffsetDateTime issuedAt,
+        OffsetDateTime dueDate,
+        InvoiceStatus status,
+        ContractSummaryRow contract
+) {
+}
@@ -0,0 +1,10 @@
+package com.jobmatcher.server.model.summary;
+
+import java.util.UUID;
+
+public record LanguageRow(
+        UUID profileId,
+        Integer id,
+        String name
+) {
+}
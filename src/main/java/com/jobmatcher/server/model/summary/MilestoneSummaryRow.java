@@ -0,0 +1,29 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.MilestoneStatus;
+import com.jobmatcher.server.domain.Priority;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record MilestoneSummaryRow(
+        UUID id,
+        UUID contractId,
+        UUID invoiceId,
+        UUID paymentId,
+        String title,
+        String description,
+        BigDecimal amount,
+        BigDecimal penaltyAmount,
+        BigDecimal bonusAmount,
+        Integer estimatedDuration,
+        MilestoneStatus status,
+        String notes,
+        LocalDate plannedStartDate,
+        LocalDate plannedEndDate,
+        LocalDate actualStartDate,
+        LocalDate actualEndDate,
+        Priority priority
+) {
+}
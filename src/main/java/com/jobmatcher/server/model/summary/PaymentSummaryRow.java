@@ -0,0 +1,16 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record PaymentSummaryRow(
+        UUID id,
+        BigDecimal amount,
+        PaymentStatus status,
+        OffsetDateTime paidAt,
+        InvoiceSummaryRow invoice
+) {
+}
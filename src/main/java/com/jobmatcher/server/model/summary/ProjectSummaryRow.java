@@ -0,0 +1,25 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.PaymentType;
+import com.jobmatcher.server.domain.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ProjectSummaryRow(
+        UUID id,
+        UUID customerId,
+        UUID freelancerId,
+        String title,
+        String description,
+        ProjectStatus status,
+        BigDecimal budget,
+        PaymentType paymentType,
+        LocalDate deadline,
+        Long categoryId,
+        String categoryName,
+        String categoryDescription,
+        ProposalStatsRow proposalStats
+) {
+}
@@ -0,0 +1,17 @@
+package com.jobmatcher.server.model.summary;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+public record ProposalStatsRow(
+        int total,
+        int pending,
+        int accepted,
+        int rejected,
+        int withdrawn,
+        BigDecimal minAmount,
+        BigDecimal avgAmount,
+        BigDecimal maxAmount,
+        OffsetDateTime lastProposalAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.ProposalStatus;
+
+import java.util.UUID;
+
+public record ProposalStatusRow(
+        UUID id,
+        UUID freelancerId,
+        ProposalStatus status
+) {
+}
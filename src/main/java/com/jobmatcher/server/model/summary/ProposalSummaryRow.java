@@ -0,0 +1,27 @@
+package com.jobmatcher.server.model.summary;
+
+import com.jobmatcher.server.domain.ProposalStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record ProposalSummaryRow(
+        UUID id,
+        UUID projectId,
+        String coverLetter,
+        BigDecimal amount,
+        BigDecimal penaltyAmount,
+        BigDecimal bonusAmount,
+        Integer estimatedDuration,
+        ProposalStatus status,
+        String notes,
+        OffsetDateTime plannedStartDate,
+        OffsetDateTime plannedEndDate,
+        OffsetDateTime actualStartDate,
+        OffsetDateTime actualEndDate,
+        OffsetDateTime createdAt,
+        OffsetDateTime lastUpdate,
+        FreelancerSummaryRow freelancer
+) {
+}
@@ -0,0 +1,14 @@
+package com.jobmatcher.server.model.summary;
+
+import java.util.UUID;
+
+/**
+ * A subcategory linked to a project or freelancer profile, keyed by the owner's id.
+ */
+public record SubcategoryRow(
+        UUID ownerId,
+        Long id,
+        String name,
+        String description
+) {
+}
@@ -0,0 +1,148 @@
+package com.jobmatcher.server.repository;
+
+import com.jobmatcher.server.domain.ProfileAnalytics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Incremental updates and full rebuilds of the analytics rollup tables. Increments are
+ * atomic upserts, so concurrent payments for the same profile never lose an update.
+ * Payments count towards both parties of the contract their invoice belongs to.
+ */
+@Repository
+public interface AnalyticsRollupRepository extends JpaRepository<ProfileAnalytics, UUID> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO analytics_profile_totals (profile_id, total_amount, proposals_total, proposals_accepted)
+        VALUES (:profileId, :amount, :proposals, :accepted)
+        ON CONFLICT (profile_id) DO UPDATE
+        SET total_amount = analytics_profile_totals.total_amount + EXCLUDED.total_amount,
+            proposals_total = analytics_profile_totals.proposals_total + EXCLUDED.proposals_total,
+            proposals_accepted = analytics_profile_totals.proposals_accepted + EXCLUDED.proposals_accepted
+    """, nativeQuery = true)
+    void addProfileTotals(@Param("profileId") UUID profileId,
+                          @Param("amount") BigDecimal amount,
+                          @Param("proposals") long proposals,
+                          @Param("accepted") long accepted);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO analytics_monthly_totals (profile_id, period_year, period_month, total)
+        VALUES (:profileId, :year, :month, :amount)
+        ON CONFLICT (profile_id, period_year, period_month) DO UPDATE
+        SET total = analytics_monthly_totals.total + EXCLUDED.total
+    """, nativeQuery = true)
+    void addMonthlyTotal(@Param("profileId") UUID profileId,
+                         @Param("year") int year,
+                         @Param("month") int month,
+                         @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO analytics_counterparty_totals (profile_id, counterparty_id, counterparty_name, total)
+        VALUES (:profileId, :counterpartyId, :counterpartyName, :amount)
+        ON CONFLICT (profile_id, counterparty_id) DO UPDATE
+        SET total = analytics_counterparty_totals.total + EXCLUDED.total,
+            counterparty_name = EXCLUDED.counterparty_name
+    """, nativeQuery = true)
+    void addCounterpartyTotal(@Param("profileId") UUID profileId,
+                              @Param("counterpartyId") UUID counterpartyId,
+                              @Param("counterpartyName") String counterpartyName,
+                              @Param("amount") BigDecimal amount);
+
+    // --- Full rebuild from payments, contracts and proposals ---
+
+    @Modifying
+    @Query(value = "DELETE FROM analytics_profile_totals", nativeQuery = true)
+    int deleteAllProfileTotals();
+
+    @Modifying
+    @Query(value = "DELETE FROM analytics_monthly_totals", nativeQuery = true)
+    int deleteAllMonthlyTotals();
+
+    @Modifying
+    @Query(value = "DELETE FROM analytics_counterparty_totals", nativeQuery = true)
+    int deleteAllCounterpartyTotals();
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO analytics_profile_totals (profile_id, total_amount, proposals_total, proposals_accepted)
+        SELECT pp.id,
+               COALESCE(paid.total, 0),
+               COALESCE(props.total, 0),
+               COALESCE(props.accepted, 0)
+        FROM public_profile pp
+        LEFT JOIN (
+            SELECT side.profile_id, SUM(side.amount) AS total
+            FROM (
+                SELECT c.freelancer_id AS profile_id, p.amount
+                FROM payments p
+                JOIN invoices i ON i.id = p.invoice_id
+                JOIN contracts c ON c.id = i.contract_id
+                UNION ALL
+                SELECT c.customer_id, p.amount
+                FROM payments p
+                JOIN invoices i ON i.id = p.invoice_id
+                JOIN contracts c ON c.id = i.contract_id
+            ) side
+            GROUP BY side.profile_id
+        ) paid ON paid.profile_id = pp.id
+        LEFT JOIN (
+            SELECT pr.freelancer_id AS profile_id,
+                   COUNT(*) AS total,
+                   SUM(CASE WHEN pr.status = 'ACCEPTED' THEN 1 ELSE 0 END) AS accepted
+            FROM proposals pr
+            GROUP BY pr.freelancer_id
+        ) props ON props.profile_id = pp.id
+        WHERE paid.profile_id IS NOT NULL OR props.profile_id IS NOT NULL
+    """, nativeQuery = true)
+    int rebuildProfileTotals();
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO analytics_monthly_totals (profile_id, period_year, period_month, total)
+        SELECT side.profile_id,
+               CAST(EXTRACT(YEAR FROM side.paid_at) AS INTEGER),
+               CAST(EXTRACT(MONTH FROM side.paid_at) AS INTEGER),
+               SUM(side.amount)
+        FROM (
+            SELECT c.freelancer_id AS profile_id, p.paid_at AT TIME ZONE 'UTC' AS paid_at, p.amount
+            FROM payments p
+            JOIN invoices i ON i.id = p.invoice_id
+            JOIN contracts c ON c.id = i.contract_id
+            UNION ALL
+            SELECT c.customer_id, p.paid_at AT TIME ZONE 'UTC', p.amount
+            FROM payments p
+            JOIN invoices i ON i.id = p.invoice_id
+            JOIN contracts c ON c.id = i.contract_id
+        ) side
+        GROUP BY 1, 2, 3
+    """, nativeQuery = true)
+    int rebuildMonthlyTotals();
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO analytics_counterparty_totals (profile_id, counterparty_id, counterparty_name, total)
+        SELECT c.freelancer_id, c.customer_id, cust.username, SUM(p.amount)
+        FROM payments p
+        JOIN invoices i ON i.id = p.invoice_id
+        JOIN contracts c ON c.id = i.contract_id
+        JOIN public_profile cust ON cust.id = c.customer_id
+        GROUP BY c.freelancer_id, c.customer_id, cust.username
+        UNION ALL
+        SELECT c.customer_id, c.freelancer_id, fr.username, SUM(p.amount)
+        FROM payments p
+        JOIN invoices i ON i.id = p.invoice_id
+        JOIN contracts c ON c.id = i.contract_id
+        JOIN public_profile fr ON fr.id = c.freelancer_id
+        GROUP BY c.customer_id, c.freelancer_id, fr.username
+    """, nativeQuery = true)
+    int rebuildCounterpartyTotals();
+}
@@ -15,17 +15,14 @@ import java.util.UUID;
 @Repository
 public interface CustomerAnalyticsRepository extends JpaRepository<CustomerProfile, UUID> {
 
-    // Monthly spending
+    // Monthly spending (rollup maintained by AnalyticsRollupService)
     @Query(value = """
-                SELECT 
-                    CAST(EXTRACT(YEAR FROM p.paid_at) AS INTEGER) AS year,
-                    CAST(EXTRACT(MONTH FROM p.paid_at) AS INTEGER) AS month,
-                    SUM(p.amount) AS total
-                FROM payments p
-                JOIN contracts c ON c.payment_id = p.id
-                WHERE c.customer_id = :customerId
-                GROUP BY year, month
-                ORDER BY year, month
+                SELECT m.period_year AS year,
+                       m.period_month AS month,
+                       m.total AS total
+                FROM analytics_monthly_totals m
+                WHERE m.profile_id = :customerId
+                ORDER BY m.period_year, m.period_month
             """, nativeQuery = true)
     List<MonthlySpendingDTO> findMonthlySpending(@Param("customerId") UUID customerId);
 
@@ -39,17 +36,13 @@ public interface CustomerAnalyticsRepository extends JpaRepository<CustomerProfi
             """, nativeQuery = true)
     ProjectStatsDTO findProjectStats(@Param("customerId") UUID customerId);
 
-    // Top freelancers
+    // Top freelancers (rollup maintained by AnalyticsRollupService)
     @Query(value = """
-                SELECT p.username AS freelancerName,
-                       SUM(pay.amount) AS totalEarned
-                FROM contracts c
-                JOIN payments pay ON pay.id = c.payment_id
-                JOIN freelancer_profile f ON f.id = c.freelancer_id
-                JOIN public_profile p ON p.id = f.id
-                WHERE c.customer_id = :customerId
-                GROUP BY p.username
-                ORDER BY totalEarned DESC
+                SELECT ct.counterparty_name AS freelancerName,
+                       ct.total AS totalEarned
+                FROM analytics_counterparty_totals ct
+                WHERE ct.profile_id = :customerId
+                ORDER BY ct.total DESC
                 LIMIT 5
             """, nativeQuery = true)
     List<TopFreelancerDTO> findTopFreelancers(@Param("customerId") UUID customerId);
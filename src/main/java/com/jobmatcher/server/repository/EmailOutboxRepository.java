@@ -0,0 +1,36 @@
+package com.jobmatcher.server.repository;
+
+import com.jobmatcher.server.domain.EmailOutboxMessage;
+import com.jobmatcher.server.domain.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    /**
+     * Locks up to {@code limit} messages that are due, including ones whose sending lease
+     * expired. Rows locked by another dispatcher are skipped rather than waited on.
+     */
+    @Query(value = """
+        SELECT * FROM email_outbox
+        WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<EmailOutboxMessage> lockDueMessages(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = com.jobmatcher.server.domain.EmailOutboxStatus.SENT AND m.sentAt < :before")
+    int deleteSentBefore(@Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,45 @@
+package com.jobmatcher.server.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Associations an entity-backed read maps, applied as an entity graph so they are joined into
+ * the query instead of being loaded row by row. Summary lists that only need columns read
+ * through {@link SummaryProjection} instead; the plans cover the reads that still map entities.
+ * <p>
+ * Page plans only join to-one paths: fetching a collection with a page would make Hibernate
+ * paginate in memory, so collections are loaded for the whole page in one query through
+ * {@code hibernate.default_batch_fetch_size}. Detail plans read a single root and may join a
+ * collection. Inverse one-to-ones ({@code Project.contract}) are listed because Hibernate
+ * cannot load them lazily.
+ */
+public enum FetchPlan {
+
+    PROPOSAL_SUMMARY("freelancer.user", "contract"),
+    PROJECT_DETAIL("customer.user", "freelancer.user", "category", "contract"),
+    CONTRACT_DETAIL("project", "customer.user.address", "freelancer.user.address", "milestones");
+
+    private final List<String> attributePaths;
+
+    FetchPlan(String... attributePaths) {
+        this.attributePaths = List.of(attributePaths);
+    }
+
+    public List<String> attributePaths() {
+        return attributePaths;
+    }
+
+    public <T> Page<T> findPage(JpaSpecificationExecutor<T> repository, Specification<T> spec, Pageable pageable) {
+        return repository.findBy(spec, query -> query.project(attributePaths).page(pageable));
+    }
+
+    public <T> Optional<T> findOne(JpaSpecificationExecutor<T> repository, Specification<T> spec) {
+        return repository.findBy(spec, query -> query.project(attributePaths).one());
+    }
+}
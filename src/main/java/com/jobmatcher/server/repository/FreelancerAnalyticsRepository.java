@@ -16,56 +16,52 @@ import java.util.UUID;
 @Repository
 public interface FreelancerAnalyticsRepository extends JpaRepository<FreelancerProfile, UUID> {
 
+    // Reads come from the rollup tables maintained by AnalyticsRollupService
+
     // Monthly earnings
     @Query(value = """
-        SELECT 
-            CAST(EXTRACT(YEAR FROM p.paid_at) AS INTEGER) AS year,
-            CAST(EXTRACT(MONTH FROM p.paid_at) AS INTEGER) AS month,
-            SUM(p.amount) AS total
-        FROM payments p
-        JOIN contracts c ON c.payment_id = p.id
-        WHERE c.freelancer_id = :freelancerId
-        GROUP BY year, month
-        ORDER BY year, month
+        SELECT m.period_year AS year,
+               m.period_month AS month,
+               m.total AS total
+        FROM analytics_monthly_totals m
+        WHERE m.profile_id = :freelancerId
+        ORDER BY m.period_year, m.period_month
     """, nativeQuery = true)
     List<MonthlyEarningsDTO> findMonthlyEarnings(@Param("freelancerId") UUID freelancerId);
 
-    // Job completion rate
+    // Job completion rate (always one row, zeros when the freelancer has no proposals)
     @Query(value = """
-        SELECT SUM(CASE WHEN pr.status = 'ACCEPTED' THEN 1 ELSE 0 END) AS completed,
-               COUNT(*) AS total,
-               SUM(CASE WHEN pr.status = 'ACCEPTED' THEN 1 ELSE 0 END)::decimal / COUNT(*) * 100 AS rate
-        FROM proposals pr
-        WHERE pr.freelancer_id = :freelancerId
+        SELECT COALESCE(t.proposals_accepted, 0) AS completed,
+               COALESCE(t.proposals_total, 0) AS total,
+               CASE WHEN t.proposals_total > 0
+                    THEN t.proposals_accepted::decimal / t.proposals_total * 100
+               END AS rate
+        FROM (SELECT 1) one
+        LEFT JOIN analytics_profile_totals t ON t.profile_id = :freelancerId
     """, nativeQuery = true)
     JobCompletionDTO findJobCompletionRate(@Param("freelancerId") UUID freelancerId);
 
     // Top clients
     @Query(value = """
-        SELECT cust.username AS clientName,
-               SUM(pay.amount) AS totalSpent
-        FROM contracts c
-        JOIN payments pay ON pay.id = c.payment_id
-        JOIN customer_profile cp ON cp.id = c.customer_id
-        JOIN public_profile cust ON cust.id = cp.id
-        WHERE c.freelancer_id = :freelancerId
-        GROUP BY cust.username
-        ORDER BY totalSpent DESC
+        SELECT ct.counterparty_name AS clientName,
+               ct.total AS totalSpent
+        FROM analytics_counterparty_totals ct
+        WHERE ct.profile_id = :freelancerId
+        ORDER BY ct.total DESC
         LIMIT 5
     """, nativeQuery = true)
     List<TopClientDTO> findTopClients(@Param("freelancerId") UUID freelancerId);
 
-    // Earnings per skill (fixed join table name)
+    // Earnings per skill: every current skill of the freelancer is credited with all earnings
     @Query(value = """
         SELECT s.name AS skillName,
-               SUM(p.amount) AS earnings
-        FROM payments p
-        JOIN contracts c ON c.payment_id = p.id
-        JOIN public_profile_skills fps ON fps.profile_id = c.freelancer_id
+               t.total_amount AS earnings
+        FROM analytics_profile_totals t
+        JOIN public_profile_skills fps ON fps.profile_id = t.profile_id
         JOIN skills s ON s.id = fps.skill_id
-        WHERE c.freelancer_id = :freelancerId
-        GROUP BY s.name
-        ORDER BY earnings DESC
+        WHERE t.profile_id = :freelancerId
+          AND t.total_amount > 0
+        ORDER BY s.name
     """, nativeQuery = true)
     List<SkillEarningsDTO> findSkillEarnings(@Param("freelancerId") UUID freelancerId);
 }
@@ -1,10 +1,21 @@
 package com.jobmatcher.server.repository;
 
 import com.jobmatcher.server.domain.FreelancerProfile;
+import com.jobmatcher.server.model.matching.FreelancerFeatureRow;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
+import com.jobmatcher.server.model.matching.ProfileSubcategoryRow;
+import com.jobmatcher.server.model.summary.LanguageRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,4 +40,51 @@ public interface FreelancerProfileRepository extends JpaRepository<FreelancerPro
     })
     Optional<FreelancerProfile> findById(UUID userId);
 
+    // Matching engine bootstrap: scalar features, then subcategories and skills per batch
+    @Query("""
+        SELECT new com.jobmatcher.server.model.matching.FreelancerFeatureRow(f.id, f.hourlyRate, f.experienceLevel, f.availableForHire)
+        FROM FreelancerProfile f
+        ORDER BY f.id
+    """)
+    Slice<FreelancerFeatureRow> findFeatureRows(Pageable pageable);
+
+    @Query("""
+        SELECT new com.jobmatcher.server.model.matching.ProfileSubcategoryRow(f.id, s.id, s.category.id)
+        FROM FreelancerProfile f JOIN f.jobSubcategories s
+        WHERE f.id IN :profileIds
+    """)
+    List<ProfileSubcategoryRow> findSubcategoryRows(@Param("profileIds") Collection<UUID> profileIds);
+
+    @Query("""
+        SELECT new com.jobmatcher.server.model.matching.ProfileSkillRow(f.id, s.name)
+        FROM FreelancerProfile f JOIN f.skills s
+        WHERE f.id IN :profileIds
+    """)
+    List<ProfileSkillRow> findSkillRows(@Param("profileIds") Collection<UUID> profileIds);
+
+    // Notification fan-out: which of the given (connected) profiles work in one of the project's subcategories
+    @Query("""
+        SELECT DISTINCT f.id
+        FROM FreelancerProfile f JOIN f.jobSubcategories s
+        WHERE f.id IN :profileIds
+          AND s.id IN (SELECT ps.id FROM Project p JOIN p.subcategories ps WHERE p.id = :projectId)
+    """)
+    List<UUID> findIdsMatchingProjectSubcategories(@Param("projectId") UUID projectId,
+                                                   @Param("profileIds") Collection<UUID> profileIds);
+
+    // Freelancer summaries of one list page: subcategories and languages (skills reuse findSkillRows)
+    @Query("""
+        SELECT new com.jobmatcher.server.model.summary.SubcategoryRow(f.id, s.id, s.name, s.description)
+        FROM FreelancerProfile f JOIN f.jobSubcategories s
+        WHERE f.id IN :profileIds
+    """)
+    List<SubcategoryRow> findSubcategorySummaryRows(@Param("profileIds") Collection<UUID> profileIds);
+
+    @Query("""
+        SELECT new com.jobmatcher.server.model.summary.LanguageRow(f.id, l.id, l.name)
+        FROM FreelancerProfile f JOIN f.languages l
+        WHERE f.id IN :profileIds
+    """)
+    List<LanguageRow> findLanguageRows(@Param("profileIds") Collection<UUID> profileIds);
+
 }
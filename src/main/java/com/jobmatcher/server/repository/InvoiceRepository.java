@@ -1,11 +1,15 @@
 package com.jobmatcher.server.repository;
 
 import com.jobmatcher.server.domain.Invoice;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +17,17 @@ public interface InvoiceRepository extends JpaRepository<Invoice, UUID>, JpaSpec
 
     @Query("SELECT i FROM Invoice i LEFT JOIN FETCH i.contract WHERE i.id = :invoiceId")
     Optional<Invoice> findByIdWithContract(@Param("invoiceId") UUID invoiceId);
+
+    // Everything an invoice status change can touch: its milestone, the contract's milestones and the project
+    @EntityGraph(attributePaths = {"milestone", "contract.milestones", "contract.project"})
+    @Query("SELECT i FROM Invoice i WHERE i.id = :invoiceId")
+    Optional<Invoice> findAggregateById(@Param("invoiceId") UUID invoiceId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Invoice i WHERE i.id = :invoiceId")
+    Optional<Invoice> lockById(@Param("invoiceId") UUID invoiceId);
+
+    // Invoice.milestone is the inverse side, so it is joined here rather than loaded per invoice
+    @Query("SELECT i FROM Invoice i LEFT JOIN FETCH i.milestone WHERE i.contract.id = :contractId")
+    List<Invoice> findAllByContractIdWithMilestone(@Param("contractId") UUID contractId);
 }
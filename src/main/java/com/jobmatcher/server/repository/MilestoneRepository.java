@@ -1,14 +1,30 @@
 package com.jobmatcher.server.repository;
 
 import com.jobmatcher.server.domain.Milestone;
+import com.jobmatcher.server.model.summary.MilestoneSummaryRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface MilestoneRepository extends JpaRepository<Milestone, UUID> {
 
     Page<Milestone> findByContractId(UUID contractId, Pageable pageable);
 
+    // Milestones behind one page of invoice or payment summaries
+    @Query("""
+        SELECT new com.jobmatcher.server.model.summary.MilestoneSummaryRow(
+            m.id, m.contract.id, m.invoice.id, m.payment.id, m.title, m.description, m.amount,
+            m.penaltyAmount, m.bonusAmount, m.estimatedDuration, m.status, m.notes,
+            m.plannedStartDate, m.plannedEndDate, m.actualStartDate, m.actualEndDate, m.priority)
+        FROM Milestone m
+        WHERE m.invoice.id IN :invoiceIds
+    """)
+    List<MilestoneSummaryRow> findSummaryRowsByInvoiceIds(@Param("invoiceIds") Collection<UUID> invoiceIds);
+
 }
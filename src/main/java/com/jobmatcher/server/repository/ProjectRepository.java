@@ -1,11 +1,161 @@
 package com.jobmatcher.server.repository;
 
 import com.jobmatcher.server.domain.Project;
+import com.jobmatcher.server.model.matching.ProjectFeatureRow;
+import com.jobmatcher.server.model.search.ProjectSearchRow;
+import com.jobmatcher.server.model.search.ProjectSubcategoryRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProjectRepository extends JpaRepository<Project, UUID>, JpaSpecificationExecutor<Project> {
 
+    // Search index bootstrap: only the columns the index needs, no entity hydration
+    @Query("""
+        SELECT new com.jobmatcher.server.model.search.ProjectSearchRow(p.id, p.title, p.description, p.status, p.category.id)
+        FROM Project p
+        ORDER BY p.id
+    """)
+    Slice<ProjectSearchRow> findSearchRows(Pageable pageable);
+
+    @Query("""
+        SELECT new com.jobmatcher.server.model.search.ProjectSubcategoryRow(p.id, s.id)
+        FROM Project p JOIN p.subcategories s
+        WHERE p.id IN :projectIds
+    """)
+    List<ProjectSubcategoryRow> findSubcategoryRows(@Param("projectIds") Collection<UUID> projectIds);
+
+    // Subcategories of one list page, loaded alongside SummaryProjection.PROJECT
+    @Query("""
+        SELECT new com.jobmatcher.server.model.summary.SubcategoryRow(p.id, s.id, s.name, s.description)
+        FROM Project p JOIN p.subcategories s
+        WHERE p.id IN :projectIds
+    """)
+    List<SubcategoryRow> findSubcategorySummaryRows(@Param("projectIds") Collection<UUID> projectIds);
+
+    // Matching engine bootstrap: feature columns of OPEN projects
+    @Query("""
+        SELECT new com.jobmatcher.server.model.matching.ProjectFeatureRow(p.id, p.category.id, p.budget, p.title, p.description)
+        FROM Project p
+        WHERE p.status = com.jobmatcher.server.domain.ProjectStatus.OPEN
+        ORDER BY p.id
+    """)
+    Slice<ProjectFeatureRow> findOpenFeatureRows(Pageable pageable);
+
+    // Ownership check without loading the project
+    @Query("SELECT p.customer.id FROM Project p WHERE p.id = :projectId")
+    Optional<UUID> findCustomerIdById(@Param("projectId") UUID projectId);
+
+    // Serializes proposal decisions on the same project
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> lockById(@Param("projectId") UUID projectId);
+
+    // --- Proposal stats on the project row (see ProjectProposalStats) ---
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE projects
+        SET proposals_total = proposals_total + 1,
+            proposals_pending = proposals_pending + :pending,
+            proposals_accepted = proposals_accepted + :accepted,
+            proposals_rejected = proposals_rejected + :rejected,
+            proposals_withdrawn = proposals_withdrawn + :withdrawn,
+            proposal_amount_sum = COALESCE(proposal_amount_sum, 0) + :amount,
+            proposal_amount_avg = (COALESCE(proposal_amount_sum, 0) + :amount) / (proposals_total + 1),
+            proposal_amount_min = LEAST(proposal_amount_min, :amount),
+            proposal_amount_max = GREATEST(proposal_amount_max, :amount),
+            last_proposal_at = GREATEST(last_proposal_at, :createdAt)
+        WHERE id = :projectId
+    """, nativeQuery = true)
+    int addProposalStats(@Param("projectId") UUID projectId,
+                         @Param("pending") int pending,
+                         @Param("accepted") int accepted,
+                         @Param("rejected") int rejected,
+                         @Param("withdrawn") int withdrawn,
+                         @Param("amount") BigDecimal amount,
+                         @Param("createdAt") OffsetDateTime createdAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE projects
+        SET proposals_total = proposals_total + :total,
+            proposals_pending = proposals_pending + :pending,
+            proposals_accepted = proposals_accepted + :accepted,
+            proposals_rejected = proposals_rejected + :rejected,
+            proposals_withdrawn = proposals_withdrawn + :withdrawn
+        WHERE id = :projectId
+    """, nativeQuery = true)
+    int adjustProposalCounts(@Param("projectId") UUID projectId,
+                             @Param("total") int total,
+                             @Param("pending") int pending,
+                             @Param("accepted") int accepted,
+                             @Param("rejected") int rejected,
+                             @Param("withdrawn") int withdrawn);
+
+    // Min and max cannot be decremented, so removals and edits recompute the bid range of the one project
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE projects p
+        SET proposal_amount_sum = a.amount_sum,
+            proposal_amount_avg = a.amount_avg,
+            proposal_amount_min = a.amount_min,
+            proposal_amount_max = a.amount_max
+        FROM (
+            SELECT SUM(pr.amount) AS amount_sum, AVG(pr.amount) AS amount_avg,
+                   MIN(pr.amount) AS amount_min, MAX(pr.amount) AS amount_max
+            FROM proposals pr
+            WHERE pr.project_id = :projectId
+        ) a
+        WHERE p.id = :projectId
+    """, nativeQuery = true)
+    int recomputeProposalAmounts(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE projects p
+        SET proposals_total = COALESCE(s.total, 0),
+            proposals_pending = COALESCE(s.pending, 0),
+            proposals_accepted = COALESCE(s.accepted, 0),
+            proposals_rejected = COALESCE(s.rejected, 0),
+            proposals_withdrawn = COALESCE(s.withdrawn, 0),
+            proposal_amount_sum = s.amount_sum,
+            proposal_amount_avg = s.amount_avg,
+            proposal_amount_min = s.amount_min,
+            proposal_amount_max = s.amount_max,
+            last_proposal_at = s.last_proposal_at
+        FROM projects target
+        LEFT JOIN (
+            SELECT pr.project_id,
+                   COUNT(*) AS total,
+                   SUM(CASE WHEN pr.status = 'PENDING' THEN 1 ELSE 0 END) AS pending,
+                   SUM(CASE WHEN pr.status = 'ACCEPTED' THEN 1 ELSE 0 END) AS accepted,
+                   SUM(CASE WHEN pr.status = 'REJECTED' THEN 1 ELSE 0 END) AS rejected,
+                   SUM(CASE WHEN pr.status = 'WITHDRAWN' THEN 1 ELSE 0 END) AS withdrawn,
+                   SUM(pr.amount) AS amount_sum,
+                   AVG(pr.amount) AS amount_avg,
+                   MIN(pr.amount) AS amount_min,
+                   MAX(pr.amount) AS amount_max,
+                   MAX(pr.created_at) AS last_proposal_at
+            FROM proposals pr
+            GROUP BY pr.project_id
+        ) s ON s.project_id = target.id
+        WHERE p.id = target.id
+    """, nativeQuery = true)
+    int rebuildProposalStats();
+
 }
@@ -2,30 +2,69 @@ package com.jobmatcher.server.repository;
 
 import com.jobmatcher.server.domain.Proposal;
 import com.jobmatcher.server.domain.ProposalStatus;
+import com.jobmatcher.server.model.summary.ProposalStatusRow;
 import jakarta.validation.constraints.NotNull;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ProposalRepository extends JpaRepository<Proposal, UUID> {
-
-    Page<Proposal> findByProjectId(UUID projectId, Pageable pageable);
-    Page<Proposal> findByFreelancerId(UUID freelancerId, Pageable pageable);
-    Page<Proposal> findByProjectIdAndStatus(UUID projectId, Pageable pageable, ProposalStatus status);
-    Page<Proposal> findByFreelancerIdAndStatus(UUID freelancerId, Pageable pageable, ProposalStatus status);
-
+public interface ProposalRepository extends JpaRepository<Proposal, UUID>, JpaSpecificationExecutor<Proposal> {
 
     Optional<Proposal> findByFreelancerIdAndProjectId(UUID freelancerId, UUID projectId);
 
     boolean existsByFreelancerIdAndProjectId(@NotNull UUID freelancerId, @NotNull UUID projectId);
 
-    @Modifying
-    @Query("UPDATE Proposal p SET p.status = :status WHERE p.project.id = :projectId AND p.id <> :acceptedId AND p.status = 'PENDING'")
-    void rejectOtherPendingProposals(UUID projectId, UUID acceptedId, ProposalStatus status);
+    @Query("""
+        SELECT new com.jobmatcher.server.model.summary.ProposalStatusRow(p.id, p.freelancer.id, p.status)
+        FROM Proposal p
+        WHERE p.project.id = :projectId
+    """)
+    List<ProposalStatusRow> findStatusRowsByProjectId(@Param("projectId") UUID projectId);
+
+    // Bulk updates bypass the persistence context: pending entity changes are flushed first,
+    // and Proposal instances already loaded keep their old status
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Proposal p SET p.status = :status, p.lastUpdate = :now
+        WHERE p.project.id = :projectId AND p.id <> :acceptedId
+          AND p.status = com.jobmatcher.server.domain.ProposalStatus.PENDING
+    """)
+    int rejectOtherPendingProposals(@Param("projectId") UUID projectId,
+                                    @Param("acceptedId") UUID acceptedId,
+                                    @Param("status") ProposalStatus status,
+                                    @Param("now") OffsetDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Proposal p SET p.status = :status, p.lastUpdate = :now
+        WHERE p.project.id = :projectId AND p.status IN :from
+    """)
+    int updateStatusByProjectId(@Param("projectId") UUID projectId,
+                                @Param("from") Collection<ProposalStatus> from,
+                                @Param("status") ProposalStatus status,
+                                @Param("now") OffsetDateTime now);
+
+    // Reopen after a contract is deleted: proposals in :from go back to pending, except the
+    // contract's own proposal, which ends up rejected
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Proposal p
+        SET p.status = CASE WHEN p.id = :rejectedId THEN com.jobmatcher.server.domain.ProposalStatus.REJECTED
+                            ELSE com.jobmatcher.server.domain.ProposalStatus.PENDING END,
+            p.lastUpdate = :now
+        WHERE p.project.id = :projectId AND (p.status IN :from OR p.id = :rejectedId)
+    """)
+    int reopenByProjectIdRejecting(@Param("projectId") UUID projectId,
+                                   @Param("from") Collection<ProposalStatus> from,
+                                   @Param("rejectedId") UUID rejectedId,
+                                   @Param("now") OffsetDateTime now);
 
 }
@@ -0,0 +1,41 @@
+package com.jobmatcher.server.repository;
+
+import com.jobmatcher.server.domain.RateLimitBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+    /**
+     * Refills bucket {@code key} for the time since its last use and takes one token, in one
+     * atomic upsert timed by the database clock so replicas with skewed clocks agree. A new
+     * bucket starts full.
+     *
+     * @return the tokens left, or empty when the refilled bucket held less than one token
+     */
+    @Transactional
+    @Query(value = """
+        INSERT INTO rate_limit_buckets AS b (bucket_key, tokens, updated_at)
+        VALUES (:key, :capacity - 1, CAST(extract(epoch FROM clock_timestamp()) * 1000 AS bigint))
+        ON CONFLICT (bucket_key) DO UPDATE
+        SET tokens = LEAST(:capacity, b.tokens + GREATEST(EXCLUDED.updated_at - b.updated_at, 0) * :tokensPerMs) - 1,
+            updated_at = GREATEST(EXCLUDED.updated_at, b.updated_at)
+        WHERE LEAST(:capacity, b.tokens + GREATEST(EXCLUDED.updated_at - b.updated_at, 0) * :tokensPerMs) >= 1
+        RETURNING b.tokens
+    """, nativeQuery = true)
+    Optional<Double> consume(@Param("key") String key,
+                             @Param("capacity") double capacity,
+                             @Param("tokensPerMs") double tokensPerMs);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RateLimitBucket b WHERE b.updatedAt < :before")
+    int deleteUpdatedBefore(@Param("before") long before);
+}
@@ -1,11 +1,28 @@
 package com.jobmatcher.server.repository;
 
 import com.jobmatcher.server.domain.Skill;
+import com.jobmatcher.server.model.search.SkillPopularityRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface SkillRepository extends JpaRepository<Skill, UUID> {
-    Optional<Skill> findByNameIgnoreCase(String name);
+    // Fallback for names the skill dictionary does not know; names must already be lower-case.
+    // Matches the generated name_key column, so the lookup uses its unique index.
+    @Query("SELECT s FROM Skill s WHERE s.nameKey IN :names")
+    List<Skill> findAllByLowerNameIn(@Param("names") Collection<String> names);
+
+    List<Skill> findTop10ByNameStartingWithIgnoreCaseOrderByNameAsc(String prefix);
+
+    // Skill dictionary bootstrap: how many freelancer profiles list each skill
+    @Query("""
+        SELECT new com.jobmatcher.server.model.search.SkillPopularityRow(s.id, COUNT(f.id))
+        FROM FreelancerProfile f JOIN f.skills s
+        GROUP BY s.id
+    """)
+    List<SkillPopularityRow> countProfilesPerSkill();
 }
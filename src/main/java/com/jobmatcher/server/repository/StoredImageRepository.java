@@ -0,0 +1,39 @@
+package com.jobmatcher.server.repository;
+
+import com.jobmatcher.server.domain.StoredImage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredImage s WHERE s.contentHash = :contentHash AND s.variant = :variant")
+    Optional<StoredImage> lockByContent(@Param("contentHash") String contentHash, @Param("variant") String variant);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredImage s WHERE s.url = :url")
+    Optional<StoredImage> lockByUrl(@Param("url") String url);
+
+    /**
+     * Records {@code url} for the content, or adds a reference to the image already recorded
+     * for it by a concurrent upload. Returns the URL that now holds the reference.
+     */
+    @Query(value = """
+        INSERT INTO stored_images (id, content_hash, variant, url, reference_count, created_at)
+        VALUES (gen_random_uuid(), :contentHash, :variant, :url, 1, now())
+        ON CONFLICT (content_hash, variant)
+        DO UPDATE SET reference_count = stored_images.reference_count + 1
+        RETURNING url
+    """, nativeQuery = true)
+    String insertOrReference(@Param("contentHash") String contentHash,
+                             @Param("variant") String variant,
+                             @Param("url") String url);
+}
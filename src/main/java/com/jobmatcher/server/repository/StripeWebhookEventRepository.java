@@ -0,0 +1,68 @@
+package com.jobmatcher.server.repository;
+
+import com.jobmatcher.server.domain.StripeWebhookEvent;
+import com.jobmatcher.server.domain.StripeWebhookStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StripeWebhookEventRepository extends JpaRepository<StripeWebhookEvent, String> {
+
+    /**
+     * Stores the event unless one with the same id was received before.
+     *
+     * {@code invoiceId} is the invoice UUID as text, or null when the event does not carry one.
+     *
+     * @return 1 when stored, 0 for a redelivery
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO stripe_webhook_inbox (id, type, session_id, client_reference_id, invoice_id, payload,
+                                          status, attempts, next_attempt_at, received_at)
+        VALUES (:id, :type, :sessionId, :clientReferenceId, CAST(:invoiceId AS uuid), :payload,
+                'PENDING', 0, :receivedAt, :receivedAt)
+        ON CONFLICT (id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("type") String type,
+                       @Param("sessionId") String sessionId,
+                       @Param("clientReferenceId") String clientReferenceId,
+                       @Param("invoiceId") String invoiceId,
+                       @Param("payload") String payload,
+                       @Param("receivedAt") OffsetDateTime receivedAt);
+
+    /**
+     * Locks up to {@code limit} due events, including ones whose processing lease expired.
+     * An event waits while an earlier event of the same invoice is still open, so at most one
+     * event per invoice is claimed at a time and they apply in the order received. Rows locked
+     * by another dispatcher are skipped rather than waited on.
+     */
+    @Query(value = """
+        SELECT * FROM stripe_webhook_inbox e
+        WHERE e.status IN ('PENDING', 'PROCESSING') AND e.next_attempt_at <= :now
+          AND NOT EXISTS (
+              SELECT 1 FROM stripe_webhook_inbox earlier
+              WHERE earlier.invoice_id = e.invoice_id
+                AND earlier.status IN ('PENDING', 'PROCESSING')
+                AND earlier.received_at < e.received_at)
+        ORDER BY e.received_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<StripeWebhookEvent> lockDueEvents(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM StripeWebhookEvent e WHERE e.id = :id")
+    Optional<StripeWebhookEvent> lockById(@Param("id") String id);
+
+    long countByStatus(StripeWebhookStatus status);
+}
@@ -0,0 +1,265 @@
+package com.jobmatcher.server.repository;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.model.summary.*;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Columns a list use case reads, selected as a tuple and copied into an immutable row
+ * record. No entity is hydrated, so the page never enters the persistence context.
+ * Collections (subcategories, skills, languages, the invoice's milestone) are not part of
+ * the row; callers load them for the whole page with one {@code IN (...)} query each.
+ * <p>
+ * Every selection carries an alias that is unique within its projection; the readers look
+ * columns up by alias rather than by position.
+ */
+public final class SummaryProjection<T, R> {
+
+    public static final SummaryProjection<Project, ProjectSummaryRow> PROJECT = new SummaryProjection<>(
+            Project.class,
+            root -> {
+                var category = root.join("category", JoinType.LEFT);
+                var stats = root.get("proposalStats");
+                return List.of(
+                        root.get("id").alias("id"),
+                        root.get("customer").get("id").alias("customerId"),
+                        root.get("freelancer").get("id").alias("freelancerId"),
+                        root.get("title").alias("title"),
+                        root.get("description").alias("description"),
+                        root.get("status").alias("status"),
+                        root.get("budget").alias("budget"),
+                        root.get("paymentType").alias("paymentType"),
+                        root.get("deadline").alias("deadline"),
+                        category.get("id").alias("categoryId"),
+                        category.get("name").alias("categoryName"),
+                        category.get("description").alias("categoryDescription"),
+                        stats.get("total").alias("proposalsTotal"),
+                        stats.get("pending").alias("proposalsPending"),
+                        stats.get("accepted").alias("proposalsAccepted"),
+                        stats.get("rejected").alias("proposalsRejected"),
+                        stats.get("withdrawn").alias("proposalsWithdrawn"),
+                        stats.get("minAmount").alias("proposalMinAmount"),
+                        stats.get("avgAmount").alias("proposalAvgAmount"),
+                        stats.get("maxAmount").alias("proposalMaxAmount"),
+                        stats.get("lastProposalAt").alias("lastProposalAt")
+                );
+            },
+            tuple -> new ProjectSummaryRow(
+                    tuple.get("id", UUID.class),
+                    tuple.get("customerId", UUID.class),
+                    tuple.get("freelancerId", UUID.class),
+                    tuple.get("title", String.class),
+                    tuple.get("description", String.class),
+                    tuple.get("status", ProjectStatus.class),
+                    tuple.get("budget", BigDecimal.class),
+                    tuple.get("paymentType", PaymentType.class),
+                    tuple.get("deadline", LocalDate.class),
+                    tuple.get("categoryId", Long.class),
+                    tuple.get("categoryName", String.class),
+                    tuple.get("categoryDescription", String.class),
+                    new ProposalStatsRow(
+                            tuple.get("proposalsTotal", Integer.class),
+                            tuple.get("proposalsPending", Integer.class),
+                            tuple.get("proposalsAccepted", Integer.class),
+                            tuple.get("proposalsRejected", Integer.class),
+                            tuple.get("proposalsWithdrawn", Integer.class),
+                            tuple.get("proposalMinAmount", BigDecimal.class),
+                            tuple.get("proposalAvgAmount", BigDecimal.class),
+                            tuple.get("proposalMaxAmount", BigDecimal.class),
+                            tuple.get("lastProposalAt", OffsetDateTime.class)
+                    )
+            )
+    );
+
+    public static final SummaryProjection<Contract, ContractSummaryRow> CONTRACT = new SummaryProjection<>(
+            Contract.class,
+            SummaryProjection::contractColumns,
+            SummaryProjection::readContract
+    );
+
+    public static final SummaryProjection<Invoice, InvoiceSummaryRow> INVOICE = new SummaryProjection<>(
+            Invoice.class,
+            SummaryProjection::invoiceColumns,
+            SummaryProjection::readInvoice
+    );
+
+    public static final SummaryProjection<Payment, PaymentSummaryRow> PAYMENT = new SummaryProjection<>(
+            Payment.class,
+            root -> {
+                List<Selection<?>> columns = new ArrayList<>(List.of(
+                        root.get("id").alias("id"),
+                        root.get("amount").alias("amount"),
+                        root.get("status").alias("status"),
+                        root.get("paidAt").alias("paidAt")
+                ));
+                columns.addAll(invoiceColumns(root.join("invoice", JoinType.LEFT)));
+                return columns;
+            },
+            tuple -> new PaymentSummaryRow(
+                    tuple.get("id", UUID.class),
+                    tuple.get("amount", BigDecimal.class),
+                    tuple.get("status", PaymentStatus.class),
+                    tuple.get("paidAt", OffsetDateTime.class),
+                    readInvoice(tuple)
+            )
+    );
+
+    public static final SummaryProjection<Proposal, ProposalSummaryRow> PROPOSAL = new SummaryProjection<>(
+            Proposal.class,
+            root -> {
+                var freelancer = root.join("freelancer", JoinType.LEFT);
+                var user = freelancer.join("user", JoinType.LEFT);
+                return List.of(
+                        root.get("id").alias("id"),
+                        root.get("project").get("id").alias("projectId"),
+                        root.get("coverLetter").alias("coverLetter"),
+                        root.get("amount").alias("amount"),
+                        root.get("penaltyAmount").alias("penaltyAmount"),
+                        root.get("bonusAmount").alias("bonusAmount"),
+                        root.get("estimatedDuration").alias("estimatedDuration"),
+                        root.get("status").alias("status"),
+                        root.get("notes").alias("notes"),
+                        root.get("plannedStartDate").alias("plannedStartDate"),
+                        root.get("plannedEndDate").alias("plannedEndDate"),
+                        root.get("actualStartDate").alias("actualStartDate"),
+                        root.get("actualEndDate").alias("actualEndDate"),
+                        root.get("createdAt").alias("createdAt"),
+                        root.get("lastUpdate").alias("lastUpdate"),
+                        freelancer.get("id").alias("freelancerId"),
+                        user.get("id").alias("freelancerUserId"),
+                        freelancer.get("username").alias("freelancerUsername"),
+                        freelancer.get("experienceLevel").alias("freelancerExperienceLevel"),
+                        freelancer.get("headline").alias("freelancerHeadline"),
+                        freelancer.get("hourlyRate").alias("freelancerHourlyRate"),
+                        freelancer.get("availableForHire").alias("freelancerAvailableForHire"),
+                        user.get("pictureUrl").alias("freelancerPictureUrl"),
+                        freelancer.get("rating").alias("freelancerRating")
+                );
+            },
+            tuple -> new ProposalSummaryRow(
+                    tuple.get("id", UUID.class),
+                    tuple.get("projectId", UUID.class),
+                    tuple.get("coverLetter", String.class),
+                    tuple.get("amount", BigDecimal.class),
+                    tuple.get("penaltyAmount", BigDecimal.class),
+                    tuple.get("bonusAmount", BigDecimal.class),
+                    tuple.get("estimatedDuration", Integer.class),
+                    tuple.get("status", ProposalStatus.class),
+                    tuple.get("notes", String.class),
+                    tuple.get("plannedStartDate", OffsetDateTime.class),
+                    tuple.get("plannedEndDate", OffsetDateTime.class),
+                    tuple.get("actualStartDate", OffsetDateTime.class),
+                    tuple.get("actualEndDate", OffsetDateTime.class),
+                    tuple.get("createdAt", OffsetDateTime.class),
+                    tuple.get("lastUpdate", OffsetDateTime.class),
+                    tuple.get("freelancerId") == null ? null : new FreelancerSummaryRow(
+                            tuple.get("freelancerId", UUID.class),
+                            tuple.get("freelancerUserId", UUID.class),
+                            tuple.get("freelancerUsername", String.class),
+                            tuple.get("freelancerExperienceLevel", ExperienceLevel.class),
+                            tuple.get("freelancerHeadline", String.class),
+                            tuple.get("freelancerHourlyRate", Double.class),
+                            tuple.get("freelancerAvailableForHire", Boolean.class),
+                            tuple.get("freelancerPictureUrl", String.class),
+                            tuple.get("freelancerRating", Double.class)
+                    )
+            )
+    );
+
+    private final Class<T> domainType;
+    private final Function<Root<T>, List<Selection<?>>> columns;
+    private final Function<Tuple, R> reader;
+
+    private SummaryProjection(Class<T> domainType,
+                              Function<Root<T>, List<Selection<?>>> columns,
+                              Function<Tuple, R> reader) {
+        this.domainType = domainType;
+        this.columns = columns;
+        this.reader = reader;
+    }
+
+    public Class<T> domainType() {
+        return domainType;
+    }
+
+    List<Selection<?>> columns(Root<T> root) {
+        return columns.apply(root);
+    }
+
+    public R read(Tuple tuple) {
+        return reader.apply(tuple);
+    }
+
+    private static List<Selection<?>> invoiceColumns(From<?, Invoice> invoice) {
+        List<Selection<?>> columns = new ArrayList<>(List.of(
+                invoice.get("id").alias("invoiceId"),
+                invoice.get("amount").alias("invoiceAmount"),
+                invoice.get("issuedAt").alias("invoiceIssuedAt"),
+                invoice.get("dueDate").alias("invoiceDueDate"),
+                invoice.get("status").alias("invoiceStatus")
+        ));
+        columns.addAll(contractColumns(invoice.join("contract", JoinType.LEFT)));
+        return columns;
+    }
+
+    private static InvoiceSummaryRow readInvoice(Tuple tuple) {
+        if (tuple.get("invoiceId") == null) {
+            return null;
+        }
+        return new InvoiceSummaryRow(
+                tuple.get("invoiceId", UUID.class),
+                tuple.get("invoiceAmount", BigDecimal.class),
+                tuple.get("invoiceIssuedAt", OffsetDateTime.class),
+                tuple.get("invoiceDueDate", OffsetDateTime.class),
+                tuple.get("invoiceStatus", InvoiceStatus.class),
+                readContract(tuple)
+        );
+    }
+
+    private static List<Selection<?>> contractColumns(From<?, Contract> contract) {
+        var customerUser = contract.join("customer", JoinType.LEFT).join("user", JoinType.LEFT);
+        var freelancerUser = contract.join("freelancer", JoinType.LEFT).join("user", JoinType.LEFT);
+        return List.of(
+                contract.get("id").alias("contractId"),
+                customerUser.get("firstName").alias("customerFirstName"),
+                customerUser.get("lastName").alias("customerLastName"),
+                freelancerUser.get("firstName").alias("freelancerFirstName"),
+                freelancerUser.get("lastName").alias("freelancerLastName"),
+                contract.get("status").alias("contractStatus"),
+                contract.get("title").alias("contractTitle"),
+                contract.get("amount").alias("contractAmount"),
+                contract.get("startDate").alias("contractStartDate"),
+                contract.get("endDate").alias("contractEndDate")
+        );
+    }
+
+    private static ContractSummaryRow readContract(Tuple tuple) {
+        if (tuple.get("contractId") == null) {
+            return null;
+        }
+        return new ContractSummaryRow(
+                tuple.get("contractId", UUID.class),
+                tuple.get("customerFirstName", String.class),
+                tuple.get("customerLastName", String.class),
+                tuple.get("freelancerFirstName", String.class),
+                tuple.get("freelancerLastName", String.class),
+                tuple.get("contractStatus", ContractStatus.class),
+                tuple.get("contractTitle", String.class),
+                tuple.get("contractAmount", BigDecimal.class),
+                tuple.get("contractStartDate", OffsetDateTime.class),
+                tuple.get("contractEndDate", OffsetDateTime.class)
+        );
+    }
+}
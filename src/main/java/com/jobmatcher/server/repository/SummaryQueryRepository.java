@@ -0,0 +1,110 @@
+package com.jobmatcher.server.repository;
+
+import com.jobmatcher.server.specification.KeysetSpecification;
+import com.jobmatcher.server.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs the list endpoints' {@link Specification}s against a {@link SummaryProjection}
+ * instead of the entity, so a page is read as plain rows.
+ */
+@Repository
+public class SummaryQueryRepository {
+
+    private static final String POSITION_CREATED_AT = "keysetCreatedAt";
+    private static final String POSITION_ID = "keysetId";
+
+    private final EntityManager entityManager;
+
+    public SummaryQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public <T, R> Page<R> findPage(SummaryProjection<T, R> projection, Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(projection.domainType());
+        applySpecification(spec, root, query, cb);
+        query.multiselect(projection.columns(root));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<R> rows = typedQuery.getResultList().stream()
+                .map(projection::read)
+                .toList();
+
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(projection.domainType(), spec));
+    }
+
+    /**
+     * Reads up to {@code limit} rows after {@code after} in {@link KeysetSpecification#SORT}
+     * order, each paired with its own position so the caller can hand out the next cursor.
+     */
+    public <T, R> List<Positioned<R>> findAfter(SummaryProjection<T, R> projection, Specification<T> spec,
+                                                KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(projection.domainType());
+        Specification<T> keysetSpec = KeysetSpecification.after(after);
+        applySpecification(spec != null ? spec.and(keysetSpec) : keysetSpec, root, query, cb);
+
+        List<Selection<?>> columns = new ArrayList<>(projection.columns(root));
+        columns.add(root.get("createdAt").alias(POSITION_CREATED_AT));
+        columns.add(root.get("id").alias(POSITION_ID));
+        query.multiselect(columns);
+        query.orderBy(QueryUtils.toOrders(KeysetSpecification.SORT, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(tuple -> new Positioned<>(
+                        projection.read(tuple),
+                        new KeysetCursor(tuple.get(POSITION_CREATED_AT, OffsetDateTime.class),
+                                tuple.get(POSITION_ID, UUID.class))))
+                .toList();
+    }
+
+    private <T> long count(Class<T> domainType, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainType);
+        applySpecification(spec, root, query, cb);
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> void applySpecification(Specification<T> spec, Root<T> root,
+                                               CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    public record Positioned<R>(R row, KeysetCursor position) {
+    }
+}
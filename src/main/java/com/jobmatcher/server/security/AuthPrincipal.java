@@ -0,0 +1,47 @@
+package com.jobmatcher.server.security;
+
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+
+import java.util.UUID;
+
+/**
+ * Authenticated caller as resolved by {@link JwtAuthenticationFilter}: the user and, for
+ * customers and staff, the id of their customer or freelancer profile ({@code null} until
+ * the profile is created).
+ */
+public record AuthPrincipal(
+        UUID userId,
+        String email,
+        Role role,
+        UUID profileId
+) {
+
+    /**
+     * Profile id that scopes the caller's data: the customer profile for CUSTOMER,
+     * the freelancer profile for STAFF and {@code null} (no scoping) for other roles.
+     *
+     * @throws ResourceNotFoundException if a CUSTOMER or STAFF user has no profile yet
+     */
+    public UUID requireProfileId() {
+        return switch (role) {
+            case CUSTOMER -> {
+                if (profileId == null) {
+                    throw new ResourceNotFoundException("Customer profile not found for user: " + userId);
+                }
+                yield profileId;
+            }
+            case STAFF -> {
+                if (profileId == null) {
+                    throw new ResourceNotFoundException("Freelancer profile not found for user: " + userId);
+                }
+                yield profileId;
+            }
+            default -> null;
+        };
+    }
+
+    boolean isMissingProfile() {
+        return profileId == null && (role == Role.CUSTOMER || role == Role.STAFF);
+    }
+}
@@ -1,9 +1,8 @@
 package com.jobmatcher.server.security;
 
-import com.jobmatcher.server.domain.User;
 import com.jobmatcher.server.exception.InvalidAuthException;
-import com.jobmatcher.server.repository.UserRepository;
 import com.jobmatcher.server.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,11 +21,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtService jwtService, PrincipalCache principalCache) {
         this.jwtService = jwtService;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -56,21 +55,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String jwt = authHeader.substring(7);
 
         try {
-            if (jwtService.isTokenValid(jwt)) {
-                String email = jwtService.extractUsername(jwt);
-                User user = userRepository.findByEmail(email)
-                        .orElseThrow(() -> new InvalidAuthException("User not found"));
-
-                var authorities = AuthorityUtils.createAuthorityList("ROLE_" + user.getRole().name());
-
-                var authToken = new UsernamePasswordAuthenticationToken(user, null, authorities);
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            } else {
-                // Token invalid: respond with 401
-                handleUnauthorized(response, "Invalid JWT token");
-                return;
-            }
+            // Signature and expiry are verified exactly once per request
+            Claims claims = jwtService.parseVerifiedClaims(jwt);
+            AuthPrincipal principal = principalCache.get(claims.getSubject());
+
+            var authorities = AuthorityUtils.createAuthorityList("ROLE_" + principal.role().name());
+
+            var authToken = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         } catch (InvalidAuthException e) {
             SecurityContextHolder.clearContext();
             handleUnauthorized(response, e.getMessage());
@@ -0,0 +1,143 @@
+package com.jobmatcher.server.security;
+
+import com.jobmatcher.server.domain.CustomerProfile;
+import com.jobmatcher.server.domain.FreelancerProfile;
+import com.jobmatcher.server.domain.User;
+import com.jobmatcher.server.exception.InvalidAuthException;
+import com.jobmatcher.server.repository.CustomerProfileRepository;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import com.jobmatcher.server.repository.UserRepository;
+import com.jobmatcher.server.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@link AuthPrincipal}s keyed by JWT subject (the user's email), so an
+ * authenticated request resolves its user and profile once instead of on every call.
+ * Entries expire after a TTL; when the cache is full, expired entries are dropped first
+ * and then the oldest-inserted ones.
+ * <p>
+ * Callers that change a user's role, account flags or sessions must {@link #invalidate} it.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final CustomerProfileRepository customerProfileRepository;
+    private final FreelancerProfileRepository freelancerProfileRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a load racing with it does not re-cache stale data
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            CustomerProfileRepository customerProfileRepository,
+            FreelancerProfileRepository freelancerProfileRepository,
+            @Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.customerProfileRepository = customerProfileRepository;
+        this.freelancerProfileRepository = freelancerProfileRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    private record Entry(AuthPrincipal principal, long expiresAt, long insertedAt) {
+    }
+
+    /**
+     * Cached principal for {@code email}, loading it from the database on a miss.
+     * Principals of CUSTOMER/STAFF users without a profile are re-resolved on each call
+     * so the profile is picked up as soon as it is created.
+     *
+     * @throws InvalidAuthException if no user has this email
+     */
+    public AuthPrincipal get(String email) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+        if (entry != null && entry.expiresAt() - now > 0 && !entry.principal().isMissingProfile()) {
+            return entry.principal();
+        }
+
+        long generation = invalidations.get();
+        AuthPrincipal principal = load(email);
+        if (ttlNanos <= 0 || maxSize <= 0) {
+            return principal;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        if (invalidations.get() == generation) {
+            entries.put(email, new Entry(principal, now + ttlNanos, now));
+        }
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        if (email == null) return;
+        invalidations.incrementAndGet();
+        entries.remove(email);
+    }
+
+    /**
+     * Invalidates now and again once the current transaction commits, so a request that
+     * reads the user before the commit cannot leave the old state cached.
+     */
+    public void invalidateAfterCommit(String email) {
+        invalidate(email);
+        TransactionCallbacks.afterCommit(() -> invalidate(email));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private AuthPrincipal load(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new InvalidAuthException("User not found"));
+        UUID profileId = switch (user.getRole()) {
+            case CUSTOMER -> customerProfileRepository.findByUserId(user.getId())
+                    .map(CustomerProfile::getId)
+                    .orElse(null);
+            case STAFF -> freelancerProfileRepository.findByUserId(user.getId())
+                    .map(FreelancerProfile::getId)
+                    .orElse(null);
+            default -> null;
+        };
+        return new AuthPrincipal(user.getId(), user.getEmail(), user.getRole(), profileId);
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+        int target = maxSize - Math.max(1, maxSize / 10);
+        if (entries.size() <= target) return;
+
+        // Still full of live entries: drop the oldest ones
+        long cutoff = entries.values().stream()
+                .mapToLong(Entry::insertedAt)
+                .sorted()
+                .skip(Math.max(0, entries.size() - target - 1))
+                .findFirst()
+                .orElse(now);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && entries.size() > target) {
+            if (iterator.next().insertedAt() - cutoff <= 0) {
+                iterator.remove();
+            }
+        }
+        log.debug("Principal cache evicted down to {} entries", entries.size());
+    }
+}
@@ -1,77 +1,99 @@
 package com.jobmatcher.server.security;
 
+import com.jobmatcher.server.config.RateLimitProperties;
+import com.jobmatcher.server.security.ratelimit.BucketStore;
+import com.jobmatcher.server.security.ratelimit.RateLimitBudget;
+import com.jobmatcher.server.security.ratelimit.RateLimitRoute;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Token bucket rate limiting per route group and client. Runs after
+ * {@link JwtAuthenticationFilter}, so authenticated clients are keyed by user id (stable
+ * across token refreshes) and anonymous ones by IP address.
+ */
 @Slf4j
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private static final int MAX_REQUESTS = 60;        // max requests per window
-    private static final long WINDOW_MS = 60_000;       // 1 minute window
+    private final BucketStore bucketStore;
+    private final RateLimitProperties properties;
+    private final Map<RateLimitRoute, Counter> allowedCounters = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, Counter> rejectedCounters = new EnumMap<>(RateLimitRoute.class);
 
-    private final Map<String, SlidingWindow> userRequests = new ConcurrentHashMap<>();
+    public RateLimitingFilter(BucketStore bucketStore, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.bucketStore = bucketStore;
+        this.properties = properties;
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            allowedCounters.put(route, counter(meterRegistry, route, "allowed"));
+            rejectedCounters.put(route, counter(meterRegistry, route, "rejected"));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Bypass rate limiting for localhost (development)
+        return !properties.enabled() || "127.0.0.1".equals(request.getRemoteAddr());
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        // Bypass rate limiting for localhost (development)
-        if ("127.0.0.1".equals(request.getRemoteAddr())) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        // Log each request for monitoring
-        log.info("🔥 RateLimitingFilter executing for: {}", request.getRequestURI());
+        RateLimitRoute route = RateLimitRoute.resolve(request.getRequestURI());
+        RateLimitBudget budget = properties.budgetFor(route);
+        String clientKey = clientKey(request);
 
-        String userKey = request.getRemoteAddr(); // fallback to IP if anonymous
-
-        // optionally extract username from JWT if available
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            userKey = authHeader.substring(7); // simple token key; can be username
-        }
-
-        long now = System.currentTimeMillis();
-        SlidingWindow window = userRequests.computeIfAbsent(userKey, k -> new SlidingWindow(0, now));
-
-        synchronized (window) {
-            if (now - window.startTime >= WINDOW_MS) {
-                window.startTime = now;
-                window.count = 0;
-            }
-
-            window.count++;
-            if (window.count > MAX_REQUESTS) {
-                System.out.println("RATE LIMIT TRIGGERED for key: " + userKey);
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                response.setContentType("application/json");
-                response.getWriter().write("{\"error\":\"Too many requests\"}");
-                return;
-            }
+        if (!bucketStore.tryConsume(route.name() + ":" + clientKey, budget)) {
+            rejectedCounters.get(route).increment();
+            log.debug("Rate limit exceeded on {} for {}", route, clientKey);
+            long retryAfterSeconds = Math.max(1, budget.refillPeriod().toSeconds() / budget.capacity());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Too many requests\"}");
+            return;
         }
 
+        allowedCounters.get(route).increment();
         filterChain.doFilter(request, response);
     }
 
-    private static class SlidingWindow {
-        int count;
-        long startTime;
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        bucketStore.evictIdle(properties.evictionIdleTime());
+    }
 
-        SlidingWindow(int count, long startTime) {
-            this.count = count;
-            this.startTime = startTime;
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthPrincipal principal) {
+            return "user:" + principal.userId();
         }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, RateLimitRoute route, String outcome) {
+        return Counter.builder("ratelimit.requests")
+                .description("Requests checked by the rate limiter")
+                .tag("route", route.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,75 @@
+package com.jobmatcher.server.security;
+
+import com.jobmatcher.server.exception.InvalidAuthException;
+import com.jobmatcher.server.service.JwtService;
+import io.jsonwebtoken.Claims;
+import lombok.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions with the same bearer token as the REST API. The token is
+ * verified once, on CONNECT, and the resolved {@link StompPrincipal} stays with the session.
+ * Clients only receive: they may subscribe to their own queues under {@code /user/queue/}
+ * and cannot send.
+ */
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    public static final String USER_QUEUE_PREFIX = "/user/queue/";
+
+    private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+
+    public StompAuthenticationInterceptor(JwtService jwtService, PrincipalCache principalCache) {
+        this.jwtService = jwtService;
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        switch (command) {
+            case CONNECT, STOMP -> accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            case SUBSCRIBE -> {
+                requireUser(accessor);
+                String destination = accessor.getDestination();
+                if (destination == null || !destination.startsWith(USER_QUEUE_PREFIX)) {
+                    throw new AccessDeniedException("Subscriptions are limited to " + USER_QUEUE_PREFIX + "*");
+                }
+            }
+            case SEND -> throw new AccessDeniedException("Sending messages is not supported");
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private StompPrincipal authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new AccessDeniedException("Missing bearer token");
+        }
+        try {
+            Claims claims = jwtService.parseVerifiedClaims(authHeader.substring(7));
+            return new StompPrincipal(principalCache.get(claims.getSubject()));
+        } catch (InvalidAuthException e) {
+            throw new AccessDeniedException(e.getMessage());
+        }
+    }
+
+    private static void requireUser(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof StompPrincipal)) {
+            throw new AccessDeniedException("Not authenticated");
+        }
+    }
+}
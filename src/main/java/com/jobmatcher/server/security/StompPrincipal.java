@@ -0,0 +1,18 @@
+package com.jobmatcher.server.security;
+
+import java.security.Principal;
+
+/**
+ * User of a STOMP session. Notifications are addressed to profiles, so the name is the
+ * caller's profile id, or the user id for callers without a profile (a profile created
+ * later is picked up on the next connect).
+ */
+public record StompPrincipal(AuthPrincipal principal) implements Principal {
+
+    @Override
+    public String getName() {
+        return principal.profileId() != null
+                ? principal.profileId().toString()
+                : principal.userId().toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Storage for rate limit token buckets. The in-memory store limits each node on its own;
+ * the database store shares buckets between replicas. Pick one with {@code rate-limit.store}
+ * ({@code memory} by default, or {@code jdbc}).
+ */
+public interface BucketStore {
+
+    /**
+     * Refills bucket {@code key} for the time elapsed since its last use and takes one token.
+     * A bucket that does not exist yet starts full.
+     *
+     * @return {@code false} when the bucket is empty and the request must be rejected
+     */
+    boolean tryConsume(String key, RateLimitBudget budget);
+
+    /**
+     * Drops buckets untouched for at least {@code idle}. Callers pass at least the longest
+     * refill period, so an evicted bucket would have been full anyway.
+     */
+    void evictIdle(Duration idle);
+}
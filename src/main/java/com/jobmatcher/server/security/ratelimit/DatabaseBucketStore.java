@@ -0,0 +1,50 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import com.jobmatcher.server.repository.RateLimitBucketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+
+/**
+ * Buckets shared by all replicas in the {@code rate_limit_buckets} table. Refill and consume
+ * happen in one atomic upsert per request. When the database is unavailable requests are let
+ * through rather than rejected.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc")
+public class DatabaseBucketStore implements BucketStore {
+
+    private final RateLimitBucketRepository repository;
+
+    public DatabaseBucketStore(RateLimitBucketRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitBudget budget) {
+        double capacity = budget.capacity();
+        double tokensPerMs = capacity / budget.refillPeriod().toMillis();
+        try {
+            return repository.consume(key, capacity, tokensPerMs).isPresent();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Rate limit store unavailable, allowing request: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void evictIdle(Duration idle) {
+        // Bucket times come from the database clock; the idle period dwarfs any clock skew
+        try {
+            int removed = repository.deleteUpdatedBefore(System.currentTimeMillis() - idle.toMillis());
+            log.debug("Evicted {} idle rate limit buckets", removed);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Failed to evict idle rate limit buckets: {}", e.getMessage());
+        }
+    }
+}
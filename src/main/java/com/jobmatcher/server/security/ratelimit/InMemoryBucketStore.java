@@ -0,0 +1,95 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Node-local buckets. Each bucket is a single {@link AtomicLong} packing the time of the last
+ * refill (upper 40 bits, milliseconds since this store was created) and the remaining tokens
+ * (lower 24 bits, in thousandths of a token), updated with a CAS loop and no locks.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryBucketStore implements BucketStore {
+
+    // Tokens are kept in thousandths so slow refill rates still accumulate between requests
+    static final long TOKEN_SCALE = 1000;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final long epoch;
+
+    public InMemoryBucketStore() {
+        this(System::currentTimeMillis);
+    }
+
+    InMemoryBucketStore(LongSupplier clock) {
+        this.clock = clock;
+        this.epoch = clock.getAsLong();
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitBudget budget) {
+        long now = now();
+        long max = budget.capacity() * TOKEN_SCALE;
+        long periodMs = budget.refillPeriod().toMillis();
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(pack(now, max)));
+
+        while (true) {
+            long current = bucket.get();
+            long last = timestamp(current);
+            // The budget may have been lowered since the bucket was filled
+            long tokens = Math.min(tokens(current), max);
+            long elapsed = Math.max(0, now - last);
+
+            long available;
+            long stamp;
+            long refill = elapsed >= periodMs ? max : elapsed * max / periodMs;
+            if (tokens + refill >= max) {
+                available = max;
+                stamp = now;
+            } else {
+                available = tokens + refill;
+                // Only advance by the time actually converted into tokens, so frequent calls do not lose refill
+                stamp = last + refill * periodMs / max;
+            }
+
+            if (available < TOKEN_SCALE) return false;
+            if (bucket.compareAndSet(current, pack(stamp, available - TOKEN_SCALE))) return true;
+        }
+    }
+
+    @Override
+    public void evictIdle(Duration idle) {
+        long cutoff = now() - idle.toMillis();
+        buckets.values().removeIf(bucket -> timestamp(bucket.get()) < cutoff);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private long now() {
+        return clock.getAsLong() - epoch;
+    }
+
+    private static long pack(long timestamp, long tokens) {
+        return (timestamp << TOKEN_BITS) | tokens;
+    }
+
+    private static long timestamp(long packed) {
+        return packed >>> TOKEN_BITS;
+    }
+
+    private static long tokens(long packed) {
+        return packed & TOKEN_MASK;
+    }
+}
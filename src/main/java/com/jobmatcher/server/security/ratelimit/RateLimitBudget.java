@@ -0,0 +1,26 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token bucket size: up to {@code capacity} requests in a burst, refilled evenly so that
+ * an empty bucket is full again after {@code refillPeriod}.
+ */
+public record RateLimitBudget(int capacity, Duration refillPeriod) {
+
+    // Keeps the token count of an in-memory bucket within its packed bits
+    public static final int MAX_CAPACITY = 16_000;
+
+    public RateLimitBudget {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Rate limit capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        if (refillPeriod == null || refillPeriod.toMillis() < 1) {
+            throw new IllegalArgumentException("Rate limit refill period must be positive: " + refillPeriod);
+        }
+    }
+
+    public static RateLimitBudget perMinute(int capacity) {
+        return new RateLimitBudget(capacity, Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
+
+/**
+ * Route groups with their own rate limit budget. Each group has separate buckets, so
+ * polling the job feed never eats into the login or upload allowance. Defaults can be
+ * overridden with {@code rate-limit.budgets.<route>.*}.
+ */
+public enum RateLimitRoute {
+
+    LOGIN(RateLimitBudget.perMinute(10),
+            API_VERSION + "/auth/login",
+            API_VERSION + "/auth/recover-password",
+            API_VERSION + "/auth/reset-password"),
+    JOB_FEED(RateLimitBudget.perMinute(120),
+            API_VERSION + "/projects/job-feed",
+            API_VERSION + "/projects/job-feed/cursor"),
+    UPLOAD(RateLimitBudget.perMinute(20),
+            API_VERSION + "/users/*/profile_picture",
+            API_VERSION + "/portfolio-items/images/upload/*"),
+    WEBHOOK(RateLimitBudget.perMinute(300),
+            API_VERSION + "/payments/stripe/webhook"),
+    DEFAULT(RateLimitBudget.perMinute(60));
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitBudget defaultBudget;
+    private final List<String> patterns;
+
+    RateLimitRoute(RateLimitBudget defaultBudget, String... patterns) {
+        this.defaultBudget = defaultBudget;
+        this.patterns = List.of(patterns);
+    }
+
+    public RateLimitBudget defaultBudget() {
+        return defaultBudget;
+    }
+
+    public static RateLimitRoute resolve(String path) {
+        for (RateLimitRoute route : values()) {
+            for (String pattern : route.patterns) {
+                if (PATH_MATCHER.match(pattern, path)) return route;
+            }
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,115 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.repository.AnalyticsRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Maintains the dashboard rollups (per-profile totals, monthly totals and counterparty
+ * leaderboards) as a side effect of payments and proposal changes, inside the caller's
+ * transaction. {@link #reconcile()} rebuilds everything from the source tables on startup
+ * and nightly, correcting drift from writes that bypass the services (seeders, manual SQL).
+ */
+@Slf4j
+@Transactional(rollbackFor = Exception.class)
+@Service
+public class AnalyticsRollupService {
+
+    private final AnalyticsRollupRepository rollupRepository;
+
+    public AnalyticsRollupService(AnalyticsRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Credits a new payment to the freelancer's earnings and the customer's spending.
+     */
+    public void recordPayment(Payment payment) {
+        Invoice invoice = payment.getInvoice();
+        Contract contract = invoice != null ? invoice.getContract() : null;
+        if (contract == null || contract.getFreelancer() == null || contract.getCustomer() == null
+                || payment.getAmount() == null) {
+            log.warn("Payment {} has no contract parties, skipping analytics rollup", payment.getId());
+            return;
+        }
+        OffsetDateTime paidAt = payment.getPaidAt() != null ? payment.getPaidAt() : OffsetDateTime.now();
+        paidAt = paidAt.withOffsetSameInstant(ZoneOffset.UTC);
+
+        FreelancerProfile freelancer = contract.getFreelancer();
+        CustomerProfile customer = contract.getCustomer();
+        addPayment(freelancer.getId(), customer.getId(), customer.getUsername(), paidAt, payment.getAmount());
+        addPayment(customer.getId(), freelancer.getId(), freelancer.getUsername(), paidAt, payment.getAmount());
+    }
+
+    public void recordProposalCreated(Proposal proposal) {
+        UUID freelancerId = freelancerIdOf(proposal);
+        if (freelancerId == null) return;
+        rollupRepository.addProfileTotals(freelancerId, BigDecimal.ZERO, 1, isAccepted(proposal.getStatus()) ? 1 : 0);
+    }
+
+    public void recordProposalStatusChange(Proposal proposal, ProposalStatus previousStatus) {
+        recordProposalStatusChange(freelancerIdOf(proposal), proposal.getStatus(), previousStatus);
+    }
+
+    /**
+     * Same as {@link #recordProposalStatusChange(Proposal, ProposalStatus)} for changes made by
+     * bulk updates, where only the row values are known.
+     */
+    public void recordProposalStatusChange(UUID freelancerId, ProposalStatus status, ProposalStatus previousStatus) {
+        if (freelancerId == null) return;
+        int delta = (isAccepted(status) ? 1 : 0) - (isAccepted(previousStatus) ? 1 : 0);
+        if (delta != 0) {
+            rollupRepository.addProfileTotals(freelancerId, BigDecimal.ZERO, 0, delta);
+        }
+    }
+
+    public void recordProposalDeleted(Proposal proposal) {
+        UUID freelancerId = freelancerIdOf(proposal);
+        if (freelancerId == null) return;
+        rollupRepository.addProfileTotals(freelancerId, BigDecimal.ZERO, -1, isAccepted(proposal.getStatus()) ? -1 : 0);
+    }
+
+    /**
+     * Replaces all rollups with totals recomputed from payments and proposals. Increments
+     * committed while this runs may be counted twice or missed; the next run corrects them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${analytics.rollup.reconcile-cron:0 30 3 * * ?}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        rollupRepository.deleteAllProfileTotals();
+        rollupRepository.deleteAllMonthlyTotals();
+        rollupRepository.deleteAllCounterpartyTotals();
+
+        int profiles = rollupRepository.rebuildProfileTotals();
+        int months = rollupRepository.rebuildMonthlyTotals();
+        int counterparties = rollupRepository.rebuildCounterpartyTotals();
+        log.info("Rebuilt analytics rollups ({} profiles, {} monthly rows, {} counterparty rows) in {} ms",
+                profiles, months, counterparties, System.currentTimeMillis() - start);
+    }
+
+    private void addPayment(UUID profileId, UUID counterpartyId, String counterpartyName,
+                            OffsetDateTime paidAt, BigDecimal amount) {
+        rollupRepository.addProfileTotals(profileId, amount, 0, 0);
+        rollupRepository.addMonthlyTotal(profileId, paidAt.getYear(), paidAt.getMonthValue(), amount);
+        rollupRepository.addCounterpartyTotal(profileId, counterpartyId, counterpartyName, amount);
+    }
+
+    private static UUID freelancerIdOf(Proposal proposal) {
+        return proposal.getFreelancer() != null ? proposal.getFreelancer().getId() : null;
+    }
+
+    private static boolean isAccepted(ProposalStatus status) {
+        return status == ProposalStatus.ACCEPTED;
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.model.analytics.customer.CustomerAnalyticsSummaryDTO;
+import com.jobmatcher.server.model.analytics.customer.MonthlySpendingDTO;
+import com.jobmatcher.server.model.analytics.customer.ProjectStatsDTO;
+import com.jobmatcher.server.model.analytics.customer.TopFreelancerDTO;
+import com.jobmatcher.server.model.analytics.freelancer.*;
+import com.jobmatcher.server.repository.CustomerAnalyticsRepository;
+import com.jobmatcher.server.repository.FreelancerAnalyticsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard summaries. The sections are single-row or index-range reads of the analytics
+ * rollups, so they run back to back in one read-only transaction: one pooled connection per
+ * dashboard instead of one per section.
+ */
+@Slf4j
+@Transactional(readOnly = true)
+@Service
+public class AnalyticsServiceImpl implements IAnalyticsService {
+
+    private final FreelancerAnalyticsRepository freelancerAnalyticsRepository;
+    private final CustomerAnalyticsRepository customerAnalyticsRepository;
+
+    public AnalyticsServiceImpl(
+            FreelancerAnalyticsRepository freelancerAnalyticsRepository,
+            CustomerAnalyticsRepository customerAnalyticsRepository
+    ) {
+        this.freelancerAnalyticsRepository = freelancerAnalyticsRepository;
+        this.customerAnalyticsRepository = customerAnalyticsRepository;
+    }
+
+    @Override
+    public FreelancerAnalyticsSummaryDTO getFreelancerSummary(UUID freelancerId) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        List<MonthlyEarningsDTO> monthlyEarnings = timed("monthlyEarnings", timings,
+                () -> freelancerAnalyticsRepository.findMonthlyEarnings(freelancerId));
+        JobCompletionDTO jobCompletion = timed("jobCompletion", timings,
+                () -> freelancerAnalyticsRepository.findJobCompletionRate(freelancerId));
+        List<TopClientDTO> topClients = timed("topClients", timings,
+                () -> freelancerAnalyticsRepository.findTopClients(freelancerId));
+        List<SkillEarningsDTO> skillEarnings = timed("skillEarnings", timings,
+                () -> freelancerAnalyticsRepository.findSkillEarnings(freelancerId));
+        log.debug("Freelancer {} analytics summary timings (µs): {}", freelancerId, timings);
+        return new FreelancerAnalyticsSummaryDTO(monthlyEarnings, jobCompletion, topClients, skillEarnings, timings);
+    }
+
+    @Override
+    public CustomerAnalyticsSummaryDTO getCustomerSummary(UUID customerId) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        List<MonthlySpendingDTO> monthlySpending = timed("monthlySpending", timings,
+                () -> customerAnalyticsRepository.findMonthlySpending(customerId));
+        ProjectStatsDTO projectStats = timed("projectStats", timings,
+                () -> customerAnalyticsRepository.findProjectStats(customerId));
+        List<TopFreelancerDTO> topFreelancers = timed("topFreelancers", timings,
+                () -> customerAnalyticsRepository.findTopFreelancers(customerId));
+        log.debug("Customer {} analytics summary timings (µs): {}", customerId, timings);
+        return new CustomerAnalyticsSummaryDTO(monthlySpending, projectStats, topFreelancers, timings);
+    }
+
+    private static <T> T timed(String section, Map<String, Long> timings, Supplier<T> query) {
+        long start = System.nanoTime();
+        try {
+            return query.get();
+        } finally {
+            timings.put(section, (System.nanoTime() - start) / 1_000);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.jobmatcher.server.exception.*;
 import com.jobmatcher.server.mapper.UserMapper;
 import com.jobmatcher.server.model.*;
 import com.jobmatcher.server.repository.UserRepository;
+import com.jobmatcher.server.security.AuthPrincipal;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -116,6 +117,8 @@ public class AuthenticationService {
             String email = oAuth2User.getAttribute("email");
             if (email == null) throw new InvalidAuthException("Email missing in OAuth2 principal");
             return email;
+        } else if (principal instanceof AuthPrincipal authPrincipal) {
+            return authPrincipal.email();
         } else if (principal instanceof User user) {
             return user.getEmail();
         } else {
@@ -1,84 +1,100 @@
 package com.jobmatcher.server.service;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.jobmatcher.server.config.ImageStorageProperties;
 import com.jobmatcher.server.domain.PortfolioItem;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.exception.UploadFileException;
+import com.jobmatcher.server.model.ImageUploadResponseDTO;
+import com.jobmatcher.server.model.ImageUploadResultDTO;
 import com.jobmatcher.server.model.UserRequestDTO;
 import com.jobmatcher.server.repository.PortfolioItemRepository;
+import com.jobmatcher.server.service.storage.ImageStorage;
+import com.jobmatcher.server.service.storage.StoredImageService;
+import jakarta.annotation.PreDestroy;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
+/**
+ * Validates, optimizes and stores user images.
+ * <p>
+ * Files of a multi-image upload each run on their own virtual thread, so one file's upload
+ * overlaps the next one's optimization. {@link ImageOptimizer} bounds the CPU work; this
+ * class bounds the files in flight per request ({@code image.storage.per-request-concurrency})
+ * and the transfers to storage across requests ({@code image.storage.max-concurrent-uploads}).
+ * <p>
+ * Uploads are deduplicated by content: when the same bytes were optimized and stored before,
+ * the stored image is referenced again and neither optimization nor the transfer runs. Stored
+ * images are reference counted ({@link StoredImageService}) and leave storage with their last
+ * reference, once the transaction that released it commits.
+ */
 @Slf4j
 @Service
 public class CloudinaryService {
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
-    private final Cloudinary cloudinary;
+    private final ImageStorage imageStorage;
+    private final StoredImageService storedImageService;
     private final IUserService userService;
     private final ImageOptimizer imageOptimizer;
     private final IPortfolioItemService portfolioItemService;
     private final PortfolioItemRepository portfolioItemRepository;
+    private final ImageStorageProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore uploadPermits;
 
     public CloudinaryService(
-            Cloudinary cloudinary,
+            ImageStorage imageStorage,
+            StoredImageService storedImageService,
             IUserService userService,
             ImageOptimizer imageOptimizer,
-            IPortfolioItemService portfolioItemService, PortfolioItemRepository portfolioItemRepository
+            IPortfolioItemService portfolioItemService, PortfolioItemRepository portfolioItemRepository,
+            ImageStorageProperties properties
     ) {
-        this.cloudinary = cloudinary;
+        this.imageStorage = imageStorage;
+        this.storedImageService = storedImageService;
         this.userService = userService;
         this.imageOptimizer = imageOptimizer;
         this.portfolioItemService = portfolioItemService;
         this.portfolioItemRepository = portfolioItemRepository;
+        this.properties = properties;
+        this.uploadPermits = new Semaphore(properties.maxConcurrentUploads(), true);
     }
 
-    @SuppressWarnings("unchecked")
     public void uploadImage(UUID id, MultipartFile file) {
         log.info("Uploading profile picture for user {}", id);
 
-        File optimizedFile = null;
         try {
             // ✅ Validate and transform
             validateFile(file);
-            optimizedFile = imageOptimizer.compressAndConvertToWebP(file);
-
-            // Delete old picture if exists
+            String pictureUrl = storeDeduplicated(file, "jobmatcher/users/" + id, "profile_");
             String oldPictureUrl = userService.getUserById(id).getPictureUrl();
-            if (oldPictureUrl != null && !oldPictureUrl.isBlank()) {
-                String oldPublicId = extractPublicId(oldPictureUrl);
-                if (oldPublicId != null) {
-                    cloudinary.uploader().destroy(oldPublicId, ObjectUtils.emptyMap());
-                }
-            }
-
-            // Use a stable public_id so it overwrites
-            String shortId = id.toString().substring(0, 8);
-            String publicId = "jobmatcher/users/" + id + "/profile_" + shortId;
-
-            Map<String, Object> options = ObjectUtils.asMap(
-                    "public_id", publicId,
-                    "overwrite", true,
-                    "resource_type", "image",
-                    "folder", "jobmatcher/users/" + id
-            );
-
-            Map<?, ?> uploadResult = cloudinary.uploader().upload(optimizedFile, options);
-            String pictureUrl = (String) uploadResult.get("secure_url");
 
             // Save to DB
-            userService.updateUserById(id, UserRequestDTO.builder()
-                    .pictureUrl(pictureUrl.trim())
-                    .build());
+            try {
+                userService.updateUserById(id, UserRequestDTO.builder()
+                        .pictureUrl(pictureUrl.trim())
+                        .build());
+            } catch (RuntimeException e) {
+                storedImageService.releaseImage(pictureUrl);
+                throw e;
+            }
+
+            // Release old picture if exists
+            if (oldPictureUrl != null && !oldPictureUrl.isBlank()) {
+                storedImageService.releaseImage(oldPictureUrl);
+            }
 
             log.info("Profile picture uploaded successfully: {}", pictureUrl);
 
@@ -86,62 +102,132 @@ public class CloudinaryService {
             throw new UploadFileException("Upload to storage failed: " + e.getMessage(), e);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
-        } finally {
-            cleanupTempFile(optimizedFile);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    public void uploadMultipleImages(UUID portfolioItemId, UUID userId, List<MultipartFile> files) {
+    /**
+     * Uploads the files concurrently and adds the stored URLs to the portfolio item in one
+     * update. Files that fail are reported in the response; the call only fails as a whole
+     * when no file could be stored.
+     */
+    public ImageUploadResponseDTO uploadMultipleImages(UUID portfolioItemId, UUID userId, List<MultipartFile> files) {
         if (files == null || files.isEmpty()) {
             throw new UploadFileException("No files provided.");
         }
 
-        List<String> uploadedUrls = new ArrayList<>();
-
+        String folder = "jobmatcher/users/" + userId + "/portfolio";
+        Semaphore requestPermits = new Semaphore(properties.perRequestConcurrency());
+        List<Future<String>> uploads = new ArrayList<>(files.size());
         for (MultipartFile file : files) {
-            File optimizedFile = null;
-            try {
-                // ✅ Validate and transform
-                validateFile(file);
-                optimizedFile = imageOptimizer.compressAndConvertToWebP(file);
-
-                // Unique public_id for each file
-                String uniqueId = UUID.randomUUID().toString().substring(0, 8);
-                String publicId = "jobmatcher/users/" + userId + "/portfolio/image_" + uniqueId;
-
-                Map<String, Object> options = ObjectUtils.asMap(
-                        "public_id", publicId,
-                        "overwrite", false,
-                        "resource_type", "image",
-                        "folder", "jobmatcher/users/" + userId + "/portfolio"
-                );
-
-                Map<?, ?> uploadResult = cloudinary.uploader().upload(optimizedFile, options);
-                String url = (String) uploadResult.get("secure_url");
+            uploads.add(executor.submit(() -> uploadPortfolioImage(file, folder, requestPermits)));
+        }
 
+        List<ImageUploadResultDTO> results = new ArrayList<>(files.size());
+        List<String> uploadedUrls = new ArrayList<>();
+        Throwable firstFailure = null;
+        for (int i = 0; i < files.size(); i++) {
+            String fileName = files.get(i).getOriginalFilename();
+            try {
+                String url = uploads.get(i).get();
                 uploadedUrls.add(url);
-            } catch (IOException e) {
-                throw new UploadFileException("Upload to storage failed: " + e.getMessage(), e);
+                results.add(new ImageUploadResultDTO(fileName, url, null));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                log.warn("Portfolio image {} for item {} failed: {}", fileName, portfolioItemId, cause.getMessage());
+                firstFailure = firstFailure == null ? cause : firstFailure;
+                results.add(new ImageUploadResultDTO(fileName, null, cause.getMessage()));
             } catch (InterruptedException e) {
+                uploads.forEach(upload -> upload.cancel(true));
+                Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
-            } finally {
-                cleanupTempFile(optimizedFile);
             }
         }
 
+        if (uploadedUrls.isEmpty()) {
+            throw asUploadFailure(firstFailure);
+        }
+
         // Save URLs to portfolio item
-        if (!uploadedUrls.isEmpty()) {
-            Set<String> sanitizedUrls = uploadedUrls.stream()
-                    .map(url -> url != null ? url.trim() : null)
-                    .filter(url -> url != null && !url.isEmpty())
-                    .collect(Collectors.toSet());
-            if (sanitizedUrls.isEmpty()) {
-                throw new UploadFileException("All provided image URLs are invalid.");
-            }
-            portfolioItemService.uploadPortfolioItemImages(portfolioItemId, new ArrayList<>(sanitizedUrls));
+        Set<String> sanitizedUrls = uploadedUrls.stream()
+                .map(url -> url != null ? url.trim() : null)
+                .filter(url -> url != null && !url.isEmpty())
+                .collect(Collectors.toSet());
+        if (sanitizedUrls.isEmpty()) {
+            throw new UploadFileException("All provided image URLs are invalid.");
+        }
+        Set<String> addedUrls;
+        try {
+            addedUrls = portfolioItemService.uploadPortfolioItemImages(portfolioItemId, new ArrayList<>(sanitizedUrls));
+        } catch (RuntimeException e) {
+            uploadedUrls.forEach(storedImageService::releaseImage);
+            throw e;
+        }
+        // Every uploaded file took a reference; the item keeps one per URL it gained. The rest
+        // are repeats within the request or images the item already had.
+        List<String> surplus = new ArrayList<>(uploadedUrls);
+        addedUrls.forEach(surplus::remove);
+        surplus.forEach(storedImageService::releaseImage);
+        log.info("Uploaded {} of {} images for portfolio item {}", uploadedUrls.size(), files.size(), portfolioItemId);
+
+        return new ImageUploadResponseDTO(firstFailure == null, results);
+    }
+
+    private String uploadPortfolioImage(MultipartFile file, String folder, Semaphore requestPermits)
+            throws IOException, InterruptedException {
+        requestPermits.acquire();
+        try {
+            // ✅ Validate and transform
+            validateFile(file);
+            return storeDeduplicated(file, folder, "image_");
+        } finally {
+            requestPermits.release();
         }
-        log.info("Uploaded {} images for portfolio item {}", uploadedUrls.size(), portfolioItemId);
+    }
+
+    /**
+     * Returns the URL of the optimized image for {@code file}, reusing the stored one when the
+     * same content was processed before. The caller owns one reference to the returned URL.
+     */
+    private String storeDeduplicated(MultipartFile file, String folder, String namePrefix)
+            throws IOException, InterruptedException {
+        String contentHash = StoredImageService.contentHash(file);
+        String variant = imageOptimizer.variant();
+        Optional<String> stored = storedImageService.reference(contentHash, variant);
+        if (stored.isPresent()) {
+            log.debug("Reusing stored image {} for {}", stored.get(), file.getOriginalFilename());
+            return stored.get();
+        }
+
+        byte[] optimizedImage = imageOptimizer.optimize(file);
+        // Unique name for each stored image; a shared image is never overwritten in place
+        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        String url = store(optimizedImage, folder, namePrefix + uniqueId);
+        String referenced = storedImageService.register(contentHash, variant, url);
+        if (!referenced.equals(url)) {
+            // A concurrent upload of the same content registered first; drop our copy
+            storedImageService.deleteFromStorage(url);
+        }
+        return referenced;
+    }
+
+    private String store(byte[] image, String folder, String name) throws IOException, InterruptedException {
+        uploadPermits.acquire();
+        try {
+            String url = imageStorage.store(image, folder, name, false);
+            return url != null ? url.trim() : null;
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
+    private static RuntimeException asUploadFailure(Throwable failure) {
+        if (failure instanceof IOException e) {
+            return new UploadFileException("Upload to storage failed: " + e.getMessage(), e);
+        }
+        if (failure instanceof RuntimeException e) {
+            return e;
+        }
+        return new RuntimeException(failure);
     }
 
     @Transactional
@@ -153,51 +239,12 @@ public class CloudinaryService {
 
         if (removed) {
             portfolioItemRepository.save(item);
-            String publicId = extractPublicId(imageUrl);
-            if (publicId != null) {
-                try {
-                    cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
-                } catch (Exception e) {
-                    log.error("Cloudinary deletion failed for {}", publicId, e);
-                }
-            } else {
-                log.warn("Could not extract Cloudinary public_id from URL: {}", imageUrl);
-            }
+            storedImageService.releaseImage(imageUrl);
         } else {
             log.warn("Image URL not found in portfolio item {}: {}", portfolioItemId, imageUrl);
         }
     }
 
-    private String extractPublicId(String imageUrl) {
-        if (imageUrl == null || imageUrl.isBlank()) return null;
-
-        try {
-            // Remove Cloudinary prefix
-            int uploadIndex = imageUrl.indexOf("/upload/");
-            if (uploadIndex == -1) return null;
-
-            String pathAfterUpload = imageUrl.substring(uploadIndex + "/upload/".length());
-            // Remove version if exists (e.g., v1234567890/)
-            if (pathAfterUpload.startsWith("v")) {
-                int slashIndex = pathAfterUpload.indexOf('/');
-                if (slashIndex != -1) {
-                    pathAfterUpload = pathAfterUpload.substring(slashIndex + 1);
-                }
-            }
-
-            // Remove file extension
-            int dotIndex = pathAfterUpload.lastIndexOf('.');
-            if (dotIndex != -1) {
-                pathAfterUpload = pathAfterUpload.substring(0, dotIndex);
-            }
-
-            return pathAfterUpload;
-        } catch (Exception e) {
-            log.error("Failed to extract Cloudinary public_id from URL: {}", imageUrl, e);
-            return null;
-        }
-    }
-
     private void validateFile(MultipartFile file) {
         String contentType = file.getContentType();
         if (contentType == null || !isAllowedType(contentType)) {
@@ -221,9 +268,8 @@ public class CloudinaryService {
                 type.equals("image/webp");
     }
 
-    private void cleanupTempFile(File file) {
-        if (file != null && file.exists() && !file.delete()) {
-            log.warn("Failed to delete temporary file: {}", file.getAbsolutePath());
-        }
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
     }
 }
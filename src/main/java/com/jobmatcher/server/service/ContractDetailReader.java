@@ -0,0 +1,100 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.Contract;
+import com.jobmatcher.server.domain.Invoice;
+import com.jobmatcher.server.domain.User;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.mapper.AddressMapper;
+import com.jobmatcher.server.mapper.ContractMapper;
+import com.jobmatcher.server.mapper.InvoiceMapper;
+import com.jobmatcher.server.mapper.MilestoneMapper;
+import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.repository.ContractRepository;
+import com.jobmatcher.server.repository.FetchPlan;
+import com.jobmatcher.server.repository.InvoiceRepository;
+import com.jobmatcher.server.specification.ContractSpecifications;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the {@link ContractDetailDTO} shared by the contract and invoice endpoints in two
+ * queries: the contract with its project, milestones and both parties' users and addresses
+ * ({@link FetchPlan#CONTRACT_DETAIL}), then its invoices with their milestones. Contacts are read from the joined users instead
+ * of loading the full customer and freelancer profiles.
+ */
+@Transactional(readOnly = true)
+@Service
+public class ContractDetailReader {
+
+    private final ContractRepository contractRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final ContractMapper contractMapper;
+    private final InvoiceMapper invoiceMapper;
+    private final MilestoneMapper milestoneMapper;
+    private final AddressMapper addressMapper;
+
+    public ContractDetailReader(
+            ContractRepository contractRepository,
+            InvoiceRepository invoiceRepository,
+            ContractMapper contractMapper,
+            InvoiceMapper invoiceMapper,
+            MilestoneMapper milestoneMapper,
+            AddressMapper addressMapper
+    ) {
+        this.contractRepository = contractRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.contractMapper = contractMapper;
+        this.invoiceMapper = invoiceMapper;
+        this.milestoneMapper = milestoneMapper;
+        this.addressMapper = addressMapper;
+    }
+
+    public ContractDetailDTO getById(UUID contractId) {
+        Contract contract = FetchPlan.CONTRACT_DETAIL.findOne(contractRepository, ContractSpecifications.byId(contractId))
+                .orElseThrow(() -> new ResourceNotFoundException("Contract with ID " + contractId + " not found."));
+        return toDetailDto(contract);
+    }
+
+    public ContractDetailDTO getByProjectId(UUID projectId) {
+        Contract contract = FetchPlan.CONTRACT_DETAIL.findOne(contractRepository, ContractSpecifications.byProject(projectId))
+                .orElseThrow(() -> new ResourceNotFoundException("Contract for project ID " + projectId + " not found."));
+        return toDetailDto(contract);
+    }
+
+    private ContractDetailDTO toDetailDto(Contract contract) {
+        ContractSummaryDTO contractSummary = contractMapper.toSummaryDto(contract);
+
+        Set<InvoiceSummaryDTO> invoices = invoiceRepository.findAllByContractIdWithMilestone(contract.getId()).stream()
+                .map(invoice -> toInvoiceSummary(invoice, contractSummary))
+                .collect(Collectors.toSet());
+        Set<MilestoneResponseDTO> milestones = contract.getMilestones() != null
+                ? contract.getMilestones().stream().map(milestoneMapper::toDto).collect(Collectors.toSet())
+                : Set.of();
+
+        return contractMapper.toDetailDto(
+                contract,
+                getContact(contract.getCustomer().getUser()),
+                getContact(contract.getFreelancer().getUser()),
+                invoices,
+                milestones,
+                contract.getProject().getPaymentType()
+        );
+    }
+
+    private InvoiceSummaryDTO toInvoiceSummary(Invoice invoice, ContractSummaryDTO contractSummary) {
+        MilestoneResponseDTO milestoneDto = invoice.getMilestone() != null ? milestoneMapper.toDto(invoice.getMilestone()) : null;
+        return invoiceMapper.toSummaryDto(invoice, contractSummary, milestoneDto);
+    }
+
+    private ContactDTO getContact(User user) {
+        return ContactDTO.builder()
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .address(addressMapper.toDto(user.getAddress()))
+                .build();
+    }
+}
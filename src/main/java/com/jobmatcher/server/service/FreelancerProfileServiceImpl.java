@@ -8,6 +8,8 @@ import com.jobmatcher.server.model.FreelancerDetailDTO;
 import com.jobmatcher.server.model.FreelancerProfileRequestDTO;
 import com.jobmatcher.server.model.FreelancerSummaryDTO;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import com.jobmatcher.server.service.search.SkillDictionary;
 import com.jobmatcher.server.util.SanitizationUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +29,8 @@ public class FreelancerProfileServiceImpl implements IFreelancerProfileService {
     private final JobSubcategoryRepository subcategoryRepository;
     private final LanguageRepository languageRepository;
     private final ISkillService skillService;
+    private final MatchingEngine matchingEngine;
+    private final SkillDictionary skillDictionary;
 
     public FreelancerProfileServiceImpl(
             FreelancerProfileRepository profileRepository,
@@ -34,7 +38,9 @@ public class FreelancerProfileServiceImpl implements IFreelancerProfileService {
             UserRepository userRepository,
             JobSubcategoryRepository subcategoryRepository,
             LanguageRepository languageRepository,
-            ISkillService skillService
+            ISkillService skillService,
+            MatchingEngine matchingEngine,
+            SkillDictionary skillDictionary
     ) {
         this.profileRepository = profileRepository;
         this.profileMapper = profileMapper;
@@ -42,6 +48,8 @@ public class FreelancerProfileServiceImpl implements IFreelancerProfileService {
         this.subcategoryRepository = subcategoryRepository;
         this.languageRepository = languageRepository;
         this.skillService = skillService;
+        this.matchingEngine = matchingEngine;
+        this.skillDictionary = skillDictionary;
     }
 
     @Transactional(readOnly = true)
@@ -132,6 +140,8 @@ public class FreelancerProfileServiceImpl implements IFreelancerProfileService {
                 dto, user, username, headline, about, websiteUrl,
                 skills, subcategories, languages, socialMedia);
         FreelancerProfile savedProfile = profileRepository.save(profile);
+        matchingEngine.refreshFreelancerAfterCommit(savedProfile);
+        skillDictionary.profileSkillsChangedAfterCommit(Set.of(), skills);
         return profileMapper.toFreelancerDetailDto(savedProfile);
     }
 
@@ -180,10 +190,12 @@ public class FreelancerProfileServiceImpl implements IFreelancerProfileService {
         }
 
         // Skills: always update, empty means clear
+        Set<Skill> previousSkills = new HashSet<>(existentProfile.getSkills());
         Set<Skill> skills = (dto.getSkills() == null || dto.getSkills().isEmpty())
                 ? Collections.emptySet()
                 : resolveSkillsFromNames(dto.getSkills());
         existentProfile.setSkills(skills);
+        skillDictionary.profileSkillsChangedAfterCommit(previousSkills, skills);
 
         // Languages: always update, empty means clear
         Set<Language> languages = (dto.getLanguageIds() == null || dto.getLanguageIds().isEmpty())
@@ -223,16 +235,14 @@ public class FreelancerProfileServiceImpl implements IFreelancerProfileService {
         }
 
         FreelancerProfile savedProfile = profileRepository.save(existentProfile);
+        matchingEngine.refreshFreelancerAfterCommit(savedProfile);
         return profileMapper.toFreelancerDetailDto(savedProfile);
     }
 
     private Set<Skill> resolveSkillsFromNames(Set<String> skillNames) {
         if (skillNames == null || skillNames.isEmpty()) return Set.of();
 
-        return skillNames.stream()
-                .filter(s -> s != null && !s.isBlank())
-                .map(skillService::findOrCreateByName)
-                .collect(Collectors.toSet());
+        return skillService.resolveOrCreateByNames(skillNames);
     }
 
 
@@ -4,34 +4,32 @@ import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.services.gmail.Gmail;
 import com.google.api.services.gmail.model.Message;
 
-import com.jobmatcher.server.domain.User;
 import com.jobmatcher.server.exception.EmailSendException;
 import com.jobmatcher.server.exception.GmailApiException;
+import com.jobmatcher.server.service.email.EmailTransport;
+import com.jobmatcher.server.service.email.OutboundEmail;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Properties;
 
+/**
+ * Gmail API transport. Sends a single attempt; retries with backoff are scheduled by the
+ * email outbox, so nothing here sleeps or loops.
+ */
 @Slf4j
 @Service
-public class GmailSender {
-
-    @Value("${frontend.base.url}")
-    private String FRONTEND_BASE_URL;
-
-    @Value("${gmail.send.max-retries:3}")
-    private int MAX_RETRIES;
+@ConditionalOnProperty(name = "email.transport", havingValue = "gmail", matchIfMissing = true)
+public class GmailSender implements EmailTransport {
 
     private static final String GMAIL_USER = "me";
 
@@ -41,73 +39,42 @@ public class GmailSender {
         this.gmail = gmail;
     }
 
-    public void sendResetEmail(User user, String token) {
+    @Override
+    public String provider() {
+        return "gmail";
+    }
+
+    @Override
+    public void send(OutboundEmail email) {
+        Message message;
         try {
-            String encodedToken = URLEncoder.encode(token, StandardCharsets.UTF_8);
-            String resetUrl = "%s/reset-password?token=%s".formatted(FRONTEND_BASE_URL, encodedToken);
-            sendEmail(user.getEmail(), resetUrl);
+            message = createMessageWithEmail(createEmail(email.to(), GMAIL_USER, email.subject(), email.htmlBody()));
         } catch (MessagingException | IOException e) {
             log.error("Failed to create or encode email", e);
             throw new EmailSendException("Email preparation failed", e);
-        } catch (GmailApiException e) {
-            throw e;
         }
-    }
-
-    private void sendEmail(String to, String resetUrl) throws MessagingException, IOException {
-        MimeMessage email = createEmail(to, GMAIL_USER, resetUrl);
-        Message message = createMessageWithEmail(email);
-
-        int attempts = 0;
-        int maxRetries = MAX_RETRIES;
 
-        while (true) {
-            try {
-                gmail.users().messages().send(GMAIL_USER, message).execute();
-                log.info("Email sent successfully to {}", to);
-                break;
-            } catch (GoogleJsonResponseException e) {
-                int code = e.getDetails().getCode();
-                String reason = e.getDetails().getMessage();
-
-                log.error("Gmail API error ({}): {}", code, reason);
-
-                if ((code == 429 || (code >= 500 && code < 600)) && attempts < maxRetries) {
-                    attempts++;
-                    log.info("Retrying sending email, attempt {}", attempts + 1);
-                    try {
-                        Thread.sleep(1000); // wait 1 second before retry
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new EmailSendException("Interrupted during retry wait", ie);
-                    }
-                    continue;
-                }
-                throw new GmailApiException(reason, code);
-            } catch (Exception ex) {
-                log.error("Unexpected error when sending email", ex);
-                throw new EmailSendException("Unexpected failure when sending email.", ex);
-            }
+        try {
+            gmail.users().messages().send(GMAIL_USER, message).execute();
+            log.info("Email sent successfully to {}", email.to());
+        } catch (GoogleJsonResponseException e) {
+            int code = e.getDetails().getCode();
+            String reason = e.getDetails().getMessage();
+            log.error("Gmail API error ({}): {}", code, reason);
+            boolean retryable = code == 429 || (code >= 500 && code < 600);
+            throw new EmailSendException("Gmail API error (%d): %s".formatted(code, reason),
+                    new GmailApiException(reason, code), retryable);
+        } catch (Exception ex) {
+            log.error("Unexpected error when sending email", ex);
+            throw new EmailSendException("Unexpected failure when sending email.", ex, true);
         }
     }
 
-
-    private MimeMessage createEmail(String to, String from, String resetUrl)
+    private MimeMessage createEmail(String to, String from, String subject, String bodyText)
             throws MessagingException {
         Properties props = new Properties();
         Session session = Session.getDefaultInstance(props, null);
 
-        String subject = "JobMatcher reset password";
-
-        String bodyText = """
-                    <p>Hello,</p>
-                    <p>Click the following link to reset your JobMatcher password:</p>
-                    <p><a href="%s">
-                    Reset Password</a></p>
-                    <p>If you didn't request this, please ignore.</p>
-                    <p>Thanks,<br/>JobMatcher Team</p>
-                """.formatted(resetUrl);
-
         MimeMessage email = new MimeMessage(session);
         email.setFrom(new InternetAddress(from));
         email.addRecipient(jakarta.mail.Message.RecipientType.TO,
@@ -126,4 +93,4 @@ public class GmailSender {
         message.setRaw(encodedEmail);
         return message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.model.analytics.customer.CustomerAnalyticsSummaryDTO;
+import com.jobmatcher.server.model.analytics.freelancer.FreelancerAnalyticsSummaryDTO;
+
+import java.util.UUID;
+
+public interface IAnalyticsService {
+    FreelancerAnalyticsSummaryDTO getFreelancerSummary(UUID freelancerId);
+    CustomerAnalyticsSummaryDTO getCustomerSummary(UUID customerId);
+}
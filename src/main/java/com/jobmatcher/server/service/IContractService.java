@@ -1,6 +1,7 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -8,10 +9,16 @@ import java.util.UUID;
 
 public interface IContractService {
     Page<ContractSummaryDTO> getAllContracts(
-            String token,
+            AuthPrincipal principal,
             Pageable pageable,
             ContractFilterDTO filter
     );
+    PagedResponseDTO<ContractSummaryDTO> getAllContractsByCursor(
+            AuthPrincipal principal,
+            String cursor,
+            int size,
+            ContractFilterDTO filter
+    );
     ContractDetailDTO getContractById(UUID contractId);
     ContractDetailDTO getContractByProjectId(UUID projectId);
     ContractDetailDTO updateContractById(UUID contractId, ContractRequestDTO requestDTO);
@@ -1,6 +1,7 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -16,8 +17,15 @@ public interface IInvoiceService {
     void deleteInvoice(UUID invoiceId);
 
     Page<InvoiceSummaryDTO> getAllInvoices(
-            String token,
+            AuthPrincipal principal,
             Pageable pageable,
             InvoiceFilterDTO filter
     );
+
+    PagedResponseDTO<InvoiceSummaryDTO> getAllInvoicesByCursor(
+            AuthPrincipal principal,
+            String cursor,
+            int size,
+            InvoiceFilterDTO filter
+    );
 }
@@ -1,10 +1,12 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.model.JobCategoryDTO;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
 
 import java.util.List;
 
 public interface IJobCategoryService {
+    ReferenceSnapshot<JobCategoryDTO> getJobCategoriesSnapshot();
     List<JobCategoryDTO> getAllJobCategories();
     JobCategoryDTO getJobCategoryById(Long id);
 }
@@ -1,12 +1,14 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.model.LanguageDTO;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
 
 import java.util.List;
 
 public interface ILanguageService {
     LanguageDTO findLanguageById(Integer id);
     LanguageDTO findLanguageByName(String name);
+    ReferenceSnapshot<LanguageDTO> getLanguagesSnapshot();
     List<LanguageDTO> getAllLanguages();
     LanguageDTO saveLanguage(LanguageDTO dto);
 }
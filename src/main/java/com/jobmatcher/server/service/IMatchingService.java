@@ -0,0 +1,13 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.model.matching.FreelancerMatchDTO;
+import com.jobmatcher.server.model.matching.ProjectMatchDTO;
+import com.jobmatcher.server.security.AuthPrincipal;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IMatchingService {
+    List<ProjectMatchDTO> getTopProjectsForFreelancer(AuthPrincipal principal, UUID freelancerId, int limit);
+    List<FreelancerMatchDTO> getTopFreelancersForProject(AuthPrincipal principal, UUID projectId, int limit);
+}
@@ -1,10 +1,12 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.domain.Payment;
+import com.jobmatcher.server.model.PagedResponseDTO;
 import com.jobmatcher.server.model.PaymentDetailDTO;
 import com.jobmatcher.server.model.PaymentFilterDTO;
 import com.jobmatcher.server.model.PaymentRequestDTO;
 import com.jobmatcher.server.model.PaymentSummaryDTO;
+import com.jobmatcher.server.security.AuthPrincipal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,7 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
 
 public interface IPaymentService {
-    Page<PaymentSummaryDTO> getAllPayments(String token, Pageable pageable, PaymentFilterDTO filter);
+    Page<PaymentSummaryDTO> getAllPayments(AuthPrincipal principal, Pageable pageable, PaymentFilterDTO filter);
+    PagedResponseDTO<PaymentSummaryDTO> getAllPaymentsByCursor(AuthPrincipal principal, String cursor, int size, PaymentFilterDTO filter);
     PaymentDetailDTO getPaymentById(UUID paymentId);
     PaymentDetailDTO getPaymentByInvoiceId(UUID invoiceId);
     Payment createPayment(PaymentRequestDTO request);
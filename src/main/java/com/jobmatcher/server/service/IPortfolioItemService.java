@@ -16,7 +16,10 @@ public interface IPortfolioItemService {
     PortfolioItemDetailDTO updatePortfolioItem(UUID id, PortfolioItemRequestDTO portfolioItem);
     void deletePortfolioItem(UUID id);
 
-    void uploadPortfolioItemImages(UUID portfolioItemId, List<String> imageUrls);
+    /**
+     * @return the URLs that were added, i.e. not on the item already
+     */
+    Set<String> uploadPortfolioItemImages(UUID portfolioItemId, List<String> imageUrls);
 
     void deletePortfolioItemImage(UUID portfolioItemId, String imageUrl);
 }
@@ -1,6 +1,7 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,7 +10,7 @@ import java.util.UUID;
 public interface IProjectService {
 
     Page<ProjectSummaryDTO> getAllProjects(
-            String token,
+            AuthPrincipal principal,
             Pageable pageable,
             ProjectFilterDTO filter
     );
@@ -19,6 +20,12 @@ public interface IProjectService {
             ProjectFilterDTO filter
     );
 
+    PagedResponseDTO<ProjectSummaryDTO> getJobFeedProjectsByCursor(
+            String cursor,
+            int size,
+            ProjectFilterDTO filter
+    );
+
     ProjectDetailDTO getProjectById(UUID id);
 
     ProjectDetailDTO createProject(ProjectRequestDTO project);
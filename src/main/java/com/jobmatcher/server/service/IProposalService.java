@@ -1,17 +1,23 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.domain.ProposalStatus;
+import com.jobmatcher.server.model.PagedResponseDTO;
+import com.jobmatcher.server.model.ProposalDecisionRequestDTO;
+import com.jobmatcher.server.model.ProposalDecisionResultDTO;
 import com.jobmatcher.server.model.ProposalDetailDTO;
 import com.jobmatcher.server.model.ProposalRequestDTO;
+import com.jobmatcher.server.model.ProposalStatusChangeDTO;
 import com.jobmatcher.server.model.ProposalStatusRequestDTO;
 import com.jobmatcher.server.model.ProposalSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface IProposalService {
     Page<ProposalSummaryDTO> getProposalsByProjectId(UUID projectId, Pageable pageable, ProposalStatus status);
+    PagedResponseDTO<ProposalSummaryDTO> getProposalsByProjectIdAndCursor(UUID projectId, String cursor, int size, ProposalStatus status);
     Page<ProposalSummaryDTO> getProposalsByFreelancerId(UUID freelancerId, Pageable pageable, ProposalStatus status);
     ProposalDetailDTO getProposalById(UUID id);
     ProposalDetailDTO getProposalByFreelancerIdAndProjectId(UUID freelancerId, UUID projectId);
@@ -20,6 +26,15 @@ public interface IProposalService {
 
     ProposalDetailDTO updateProposalStatusById(UUID id, ProposalStatusRequestDTO requestDTO);
 
+    ProposalDecisionResultDTO decideProposals(UUID projectId, ProposalDecisionRequestDTO requestDTO);
+
+    /**
+     * Moves the accepted and rejected proposals of a project back to pending. When
+     * {@code rejectedProposalId} is given (the proposal of a deleted contract), that proposal
+     * is rejected instead, in the same update.
+     */
+    List<ProposalStatusChangeDTO> reopenProposals(UUID projectId, UUID rejectedProposalId);
+
     void deleteProposalById(UUID id);
 
 
@@ -2,10 +2,16 @@ package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.domain.Skill;
 import com.jobmatcher.server.model.SkillDTO;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface ISkillService {
     Skill findOrCreateByName(String name);
+    Set<Skill> resolveOrCreateByNames(Collection<String> names);
+    List<SkillDTO> suggest(String prefix, int limit);
+    ReferenceSnapshot<SkillDTO> getSkillsSnapshot();
     List<SkillDTO> getAllSkills();
 }
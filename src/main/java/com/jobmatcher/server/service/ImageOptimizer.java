@@ -1,57 +1,213 @@
 package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.config.ImagePipelineProperties;
+import com.jobmatcher.server.exception.ImageProcessingBusyException;
+import jakarta.annotation.PreDestroy;
 import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.image.BufferedImage;
-import java.io.File;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.imageio.ImageIO;
-
+/**
+ * Shrinks uploaded images in memory: decode (subsampled when the source is much larger than
+ * the target), fit into {@code maxDimension} x {@code maxDimension}, and encode as JPEG, or PNG
+ * when the image has transparency. The bytes go straight to the uploader; storage converts
+ * them to WebP on ingest.
+ * <p>
+ * The work is CPU and heap heavy, so it runs on a fixed pool of {@code workers} threads with
+ * at most {@code queueCapacity} images waiting. Callers beyond that wait up to
+ * {@code acquireTimeout} for a slot and are then turned away with
+ * {@link ImageProcessingBusyException}. Each worker keeps its encode buffer between images.
+ */
 @Service
 public class ImageOptimizer {
 
+    // Encode buffers above this size are dropped after use instead of being kept per worker
+    private static final int MAX_RETAINED_BUFFER = 4 * 1024 * 1024;
+    private static final int INITIAL_BUFFER = 256 * 1024;
+
+    private final ImagePipelineProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final ThreadLocal<EncodeBuffer> buffers = ThreadLocal.withInitial(EncodeBuffer::new);
+
+    public ImageOptimizer(ImagePipelineProperties properties) {
+        this.properties = properties;
+        int workers = properties.workerCount();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), workerThreads());
+        this.slots = new Semaphore(workers + Math.max(0, properties.queueCapacity()), true);
+    }
+
     /**
-     * Resizes and compresses image to 300x300, saves temp PNG,
-     * then converts that PNG to WebP using the cwebp CLI tool.
-     * Returns the WebP temp file.
+     * Returns the optimized image bytes. Blocks the caller until a worker has finished with it.
      */
-    public File compressAndConvertToWebP(MultipartFile file) throws IOException, InterruptedException {
-        // Step 1: Resize input image to 300x300 PNG
-        BufferedImage originalImage = ImageIO.read(file.getInputStream());
-        File tempPngFile = File.createTempFile("temp-", ".png");
+    public byte[] optimize(InputStreamSource source) throws IOException, InterruptedException {
+        long timeoutMs = properties.acquireTimeout().toMillis();
+        if (!slots.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new ImageProcessingBusyException("Image processing is busy. Please try again shortly.");
+        }
+        // The slot is held for as long as a worker is busy with the image, even when the caller
+        // gives up. Whoever claims the task first (the worker or an interrupted caller) frees it.
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<byte[]> task = new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return process(source);
+            } finally {
+                slots.release();
+            }
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw new ImageProcessingBusyException("Image processing is shutting down.");
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            if (claimed.compareAndSet(false, true)) {
+                executor.remove(task);
+                slots.release();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Image processing failed", cause);
+        }
+    }
 
-        Thumbnails.of(originalImage)
-                .size(640, 640)
-                .outputFormat("png")
-                .outputQuality(0.85)
-                .toFile(tempPngFile);
+    /**
+     * Identifies the output settings. Images optimized with other settings are different
+     * variants and are not reused for this one.
+     */
+    public String variant() {
+        return "w" + properties.maxDimension() + "-q" + Math.round(properties.quality() * 100);
+    }
 
-        // Step 2: Convert PNG to WebP using cwebp command-line
-        File tempWebPFile = File.createTempFile("optimized-", ".webp");
+    private byte[] process(InputStreamSource source) throws IOException {
+        BufferedImage decoded;
+        try (InputStream in = source.getInputStream()) {
+            decoded = decode(in, properties.maxDimension());
+        }
+        BufferedImage resized = Thumbnails.of(decoded)
+                .size(properties.maxDimension(), properties.maxDimension())
+                .asBufferedImage();
 
-        // Adjust path to cwebp if it's not on your system PATH
-        String cwebpCmd = "cwebp";
+        EncodeBuffer buffer = buffers.get();
+        try {
+            encode(resized, buffer, properties.quality());
+            return buffer.toByteArray();
+        } finally {
+            buffer.recycle();
+        }
+    }
 
-        ProcessBuilder pb = new ProcessBuilder(
-                cwebpCmd,
-                "-q", "85",  // quality 85%
-                tempPngFile.getAbsolutePath(),
-                "-o",
-                tempWebPFile.getAbsolutePath()
-        );
+    static BufferedImage decode(InputStream in, int maxDimension) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported or corrupt image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsamplingStep(reader.getWidth(0), reader.getHeight(0), maxDimension);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
 
-        Process process = pb.start();
-        int exitCode = process.waitFor();
+    /**
+     * Keeps at least twice the target resolution on the longer side, so the final resize
+     * still has pixels to average and the result does not alias.
+     */
+    static int subsamplingStep(int width, int height, int maxDimension) {
+        return Math.max(1, Math.max(width, height) / (2 * maxDimension));
+    }
 
-        // Delete the temp PNG since we don't need it anymore
-        tempPngFile.delete();
+    static void encode(BufferedImage image, ByteArrayOutputStream out, float quality) throws IOException {
+        boolean alpha = image.getColorModel().hasAlpha();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(alpha ? "png" : "jpeg").next();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!alpha) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
 
-        if (exitCode != 0) {
-            throw new IOException("cwebp conversion failed with exit code " + exitCode);
+    private static ThreadFactory workerThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "image-pipeline-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class EncodeBuffer extends ByteArrayOutputStream {
+
+        EncodeBuffer() {
+            super(INITIAL_BUFFER);
         }
 
-        return tempWebPFile;
+        void recycle() {
+            if (buf.length > MAX_RETAINED_BUFFER) {
+                buf = new byte[INITIAL_BUFFER];
+            }
+            reset();
+        }
     }
 }
@@ -2,24 +2,29 @@ package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
-import com.jobmatcher.server.mapper.AddressMapper;
 import com.jobmatcher.server.mapper.ContractMapper;
 import com.jobmatcher.server.mapper.InvoiceMapper;
 import com.jobmatcher.server.mapper.MilestoneMapper;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.InvoiceSummaryRow;
+import com.jobmatcher.server.model.summary.MilestoneSummaryRow;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import com.jobmatcher.server.specification.InvoiceSpecifications;
+import com.jobmatcher.server.util.KeysetPagination;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Transactional(rollbackFor = Exception.class)
@@ -30,100 +35,95 @@ public class InvoiceServiceImpl implements IInvoiceService {
     private final InvoiceMapper invoiceMapper;
     private final ContractMapper contractMapper;
     private final MilestoneMapper milestoneMapper;
-    private final JwtService jwtService;
     private final ContractRepository contractRepository;
     private final MilestoneRepository milestoneRepository;
-    private final IContractService contractService;
-    private final IMilestoneService milestoneService;
-    private final AddressMapper addressMapper;
-    private final IUserService userService;
-    private final FreelancerProfileRepository freelancerProfileRepository;
-    private final CustomerProfileRepository customerProfileRepository;
+    private final InvoiceWorkflow invoiceWorkflow;
+    private final ContractDetailReader contractDetailReader;
+    private final SummaryQueryRepository summaryQueryRepository;
 
     public InvoiceServiceImpl(
             InvoiceRepository invoiceRepository,
             InvoiceMapper invoiceMapper,
             ContractMapper contractMapper,
             MilestoneMapper milestoneMapper,
-            JwtService jwtService,
             ContractRepository contractRepository,
             MilestoneRepository milestoneRepository,
-            IContractService contractService,
-            IMilestoneService milestoneService,
-            AddressMapper addressMapper,
-            IUserService userService,
-            FreelancerProfileRepository freelancerProfileRepository,
-            CustomerProfileRepository customerProfileRepository
+            InvoiceWorkflow invoiceWorkflow,
+            ContractDetailReader contractDetailReader,
+            SummaryQueryRepository summaryQueryRepository
     ) {
         this.invoiceRepository = invoiceRepository;
         this.invoiceMapper = invoiceMapper;
         this.contractMapper = contractMapper;
         this.milestoneMapper = milestoneMapper;
-        this.jwtService = jwtService;
         this.contractRepository = contractRepository;
         this.milestoneRepository = milestoneRepository;
-        this.contractService = contractService;
-        this.milestoneService = milestoneService;
-        this.addressMapper = addressMapper;
-        this.userService = userService;
-        this.freelancerProfileRepository = freelancerProfileRepository;
-        this.customerProfileRepository = customerProfileRepository;
+        this.invoiceWorkflow = invoiceWorkflow;
+        this.contractDetailReader = contractDetailReader;
+        this.summaryQueryRepository = summaryQueryRepository;
     }
 
     @Transactional(readOnly = true)
     @Override
     public Page<InvoiceSummaryDTO> getAllInvoices(
-            String token,
+            AuthPrincipal principal,
             Pageable pageable,
             InvoiceFilterDTO filter
     ) {
-        User user = getUser(token);
-        Role role = user.getRole();
-
-        UUID profileId = switch (role) {
-            case CUSTOMER -> getCustomerId(user.getId());
-            case STAFF -> getFreelancerId(user.getId());
-            default -> null;
-        };
+        Role role = principal.role();
+        UUID profileId = principal.requireProfileId();
 
         var spec = InvoiceSpecifications.withFiltersAndRole(filter, role, profileId);
 
-        return invoiceRepository.findAll(spec, pageable)
-                .map(i -> {
-                    ContractSummaryDTO contractDto = contractMapper.toSummaryDto(i.getContract());
-                    MilestoneResponseDTO milestoneDto = i.getMilestone() != null ? milestoneMapper.toDto(i.getMilestone()) : null;
-                    return invoiceMapper.toSummaryDto(i, contractDto, milestoneDto);
-                });
+        Page<InvoiceSummaryRow> rows = summaryQueryRepository.findPage(SummaryProjection.INVOICE, spec, pageable);
+        return new PageImpl<>(toSummaryDtos(rows.getContent()), rows.getPageable(), rows.getTotalElements());
     }
 
-    private User getUser(String token) {
-        String email = jwtService.extractUsername(token);
-        return userService.getUserByEmail(email);
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDTO<InvoiceSummaryDTO> getAllInvoicesByCursor(
+            AuthPrincipal principal,
+            String cursor,
+            int size,
+            InvoiceFilterDTO filter
+    ) {
+        Role role = principal.role();
+        UUID profileId = principal.requireProfileId();
+
+        return KeysetPagination.fetch(
+                summaryQueryRepository,
+                SummaryProjection.INVOICE,
+                InvoiceSpecifications.withFiltersAndRole(filter, role, profileId),
+                cursor,
+                size,
+                this::toSummaryDtos
+        );
     }
 
-    private UUID getFreelancerId(UUID userId) {
-        if (userId == null) {
-            throw new IllegalArgumentException("User ID cannot be null");
-        }
-        return freelancerProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Freelancer profile not found for user: " + userId))
-                .getId();
+    private List<InvoiceSummaryDTO> toSummaryDtos(List<InvoiceSummaryRow> rows) {
+        Map<UUID, MilestoneResponseDTO> milestones = milestonesByInvoiceId(rows.stream().map(InvoiceSummaryRow::id).toList());
+        return rows.stream()
+                .map(row -> invoiceMapper.fromRow(row, contractMapper.fromRow(row.contract()), milestones.get(row.id())))
+                .toList();
     }
 
-    private UUID getCustomerId(UUID userId) {
-        if (userId == null) {
-            throw new IllegalArgumentException("User ID cannot be null");
+    // Invoice milestones of one list page in a single IN query
+    private Map<UUID, MilestoneResponseDTO> milestonesByInvoiceId(List<UUID> invoiceIds) {
+        Map<UUID, MilestoneResponseDTO> milestones = new HashMap<>();
+        if (invoiceIds.isEmpty()) {
+            return milestones;
+        }
+        for (MilestoneSummaryRow row : milestoneRepository.findSummaryRowsByInvoiceIds(invoiceIds)) {
+            milestones.put(row.invoiceId(), milestoneMapper.fromRow(row));
         }
-        CustomerProfile customer = customerProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer profile not found for user: " + userId));
-        return customer.getId();
+        return milestones;
     }
 
     @Override
     public InvoiceDetailDTO getInvoiceById(UUID invoiceId) {
         Invoice invoice = invoiceRepository.findById(invoiceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Invoice not found."));
-        ContractDetailDTO contractDto = getContractDetailDTO(invoice.getContract());
+        ContractDetailDTO contractDto = contractDetailReader.getById(invoice.getContract().getId());
         MilestoneResponseDTO milestoneDto = invoice.getMilestone() != null ? milestoneMapper.toDto(invoice.getMilestone()) : null;
         return invoiceMapper.toDetailDto(invoice, contractDto, milestoneDto);
     }
@@ -160,7 +160,7 @@ public class InvoiceServiceImpl implements IInvoiceService {
             milestoneRepository.save(milestone);
         }
 
-        ContractDetailDTO contractDto = getContractDetailDTO(contract);
+        ContractDetailDTO contractDto = contractDetailReader.getById(contract.getId());
 
         return invoiceMapper.toDetailDto(savedInvoice, contractDto, milestoneDto);
     }
@@ -179,130 +179,26 @@ public class InvoiceServiceImpl implements IInvoiceService {
             existentInvoice.setPayment(request.getPayment());
         }
         Invoice updatedInvoice = invoiceRepository.save(existentInvoice);
-        ContractDetailDTO contractDto = getContractDetailDTO(updatedInvoice.getContract());
+        ContractDetailDTO contractDto = contractDetailReader.getById(updatedInvoice.getContract().getId());
         MilestoneResponseDTO milestoneDto = updatedInvoice.getMilestone() != null ? milestoneMapper.toDto(updatedInvoice.getMilestone()) : null;
         return invoiceMapper.toDetailDto(updatedInvoice, contractDto, milestoneDto);
     }
 
     @Override
     public InvoiceDetailDTO updateInvoiceStatusById(UUID invoiceId, InvoiceStatusRequestDTO request) {
-        log.info("Updating status of invoice {} to {}", invoiceId, request.getStatus());
-        Invoice existentInvoice = invoiceRepository.findById(invoiceId)
-                .orElseThrow(() -> new ResourceNotFoundException("Invoice not found."));
-        Contract contract = contractRepository.findById(existentInvoice.getContract().getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Contract not found."));
-
-        switch (request.getStatus()) {
-            case PAID: {
-                existentInvoice.setStatus(InvoiceStatus.PAID);
-                if (existentInvoice.getMilestone() != null) {
-                    MilestoneStatusRequestDTO milestoneStatusRequestDTO = MilestoneStatusRequestDTO.builder()
-                            .status(MilestoneStatus.PAID)
-                            .build();
-                    milestoneService.updateMilestoneStatusById(existentInvoice.getMilestone().getId(), milestoneStatusRequestDTO);
-                } else {
-                    ContractStatusRequestDTO contractStatusRequestDTO = ContractStatusRequestDTO.builder()
-                            .status(ContractStatus.COMPLETED)
-                            .build();
-                    contractService.updateContractStatusById(contract.getId(), contractStatusRequestDTO);
-                }
-                break;
-            }
-            case CANCELLED: {
-                existentInvoice.setStatus(InvoiceStatus.CANCELLED);
-                if (existentInvoice.getMilestone() != null) {
-                    MilestoneStatusRequestDTO milestoneStatusRequestDTO = MilestoneStatusRequestDTO.builder()
-                            .status(MilestoneStatus.PENDING)
-                            .build();
-                    milestoneService.updateMilestoneStatusById(existentInvoice.getMilestone().getId(), milestoneStatusRequestDTO);
-                } else {
-                    ContractStatusRequestDTO contractStatusRequestDTO = ContractStatusRequestDTO.builder()
-                            .status(ContractStatus.ACTIVE)
-                            .build();
-                    contractService.updateContractStatusById(contract.getId(), contractStatusRequestDTO);
-                }
-                break;
-            }
-            case PENDING: {
-                existentInvoice.setStatus(InvoiceStatus.PENDING);
-                if (existentInvoice.getMilestone() != null) {
-                    MilestoneStatusRequestDTO milestoneStatusRequestDTO = MilestoneStatusRequestDTO.builder()
-                            .status(MilestoneStatus.PENDING)
-                            .build();
-                    milestoneService.updateMilestoneStatusById(existentInvoice.getMilestone().getId(), milestoneStatusRequestDTO);
-                } else {
-                    ContractStatusRequestDTO contractStatusRequestDTO = ContractStatusRequestDTO.builder()
-                            .status(ContractStatus.ACTIVE)
-                            .build();
-                    contractService.updateContractStatusById(contract.getId(), contractStatusRequestDTO);
-                }
-                break;
-            }
-            default:
-                log.info("No status change for invoice {}", invoiceId);
-                break;
-        }
-        log.info("Invoice {} status updated to {}", invoiceId, request.getStatus());
-        Invoice updatedInvoice = invoiceRepository.save(existentInvoice);
-        log.info("Invoice {} saved with status {}", invoiceId, updatedInvoice.getStatus());
-        ContractDetailDTO contractDto = getContractDetailDTO(updatedInvoice.getContract());
-        log.info("Fetched contract details for invoice {}", invoiceId);
-        MilestoneResponseDTO milestoneDto = updatedInvoice.getMilestone() != null ? milestoneMapper.toDto(updatedInvoice.getMilestone()) : null;
-        log.info("Fetched milestone details for invoice {}", invoiceId);
-        return invoiceMapper.toDetailDto(updatedInvoice, contractDto, milestoneDto);
+        Invoice invoice = invoiceWorkflow.transition(invoiceId, request.getStatus());
+        ContractDetailDTO contractDto = contractDetailReader.getById(invoice.getContract().getId());
+        MilestoneResponseDTO milestoneDto = invoice.getMilestone() != null ? milestoneMapper.toDto(invoice.getMilestone()) : null;
+        return invoiceMapper.toDetailDto(invoice, contractDto, milestoneDto);
     }
 
     @Override
     public void deleteInvoice(UUID invoiceId) {
-        Invoice invoice = invoiceRepository.findById(invoiceId)
-                .orElseThrow(() -> new ResourceNotFoundException("Invoice not found."));
+        Invoice invoice = invoiceWorkflow.load(invoiceId);
         if (invoice.getPayment() != null) {
             throw new IllegalStateException("Cannot delete an invoice that has been paid.");
         }
         invoiceRepository.delete(invoice);
-
-        if (invoice.getMilestone() != null) {
-            MilestoneStatusRequestDTO milestoneStatusRequestDTO = MilestoneStatusRequestDTO.builder()
-                    .status(MilestoneStatus.PENDING)
-                    .build();
-            milestoneService.updateMilestoneStatusById(invoice.getMilestone().getId(), milestoneStatusRequestDTO);
-        } else {
-            ContractStatusRequestDTO contractStatusRequest = ContractStatusRequestDTO.builder()
-                    .status(ContractStatus.ACTIVE)
-                    .build();
-            contractService.updateContractStatusById(invoice.getContract().getId(), contractStatusRequest);
-        }
-    }
-
-    private ContractDetailDTO getContractDetailDTO(Contract contract) {
-        CustomerProfile customer = contract.getCustomer();
-        FreelancerProfile freelancer = contract.getFreelancer();
-        ContactDTO customerContact = ContactDTO.builder()
-                .email(customer.getUser().getEmail())
-                .phone(customer.getUser().getPhone())
-                .address(addressMapper.toDto(customer.getUser().getAddress()))
-                .build();
-        ContactDTO freelancerContact = ContactDTO.builder()
-                .email(freelancer.getUser().getEmail())
-                .phone(freelancer.getUser().getPhone())
-                .address(addressMapper.toDto(freelancer.getUser().getAddress()))
-                .build();
-        Set<InvoiceSummaryDTO> invoiceDtos = contract.getInvoices() != null ?
-                contract.getInvoices().stream()
-                        .map(i -> {
-                            MilestoneResponseDTO milestoneDto = i.getMilestone() != null ? milestoneMapper.toDto(i.getMilestone()) : null;
-                            return invoiceMapper.toSummaryDto(i, contractMapper.toSummaryDto(contract), milestoneDto);
-                        })
-                        .collect(Collectors.toSet())
-                : Set.of();
-        Set<MilestoneResponseDTO> milestoneDtos = contract.getMilestones() != null ?
-                contract.getMilestones().stream()
-                        .map(milestoneMapper::toDto)
-                        .collect(Collectors.toSet())
-                : Set.of();
-
-        PaymentType paymentType = contract.getProject().getPaymentType();
-
-        return contractMapper.toDetailDto(contract, customerContact, freelancerContact, invoiceDtos, milestoneDtos, paymentType);
+        invoiceWorkflow.reopen(invoice);
     }
 }
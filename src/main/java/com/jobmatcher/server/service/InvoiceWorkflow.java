@@ -0,0 +1,117 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.repository.InvoiceRepository;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import com.jobmatcher.server.service.notification.NotificationPublisher;
+import com.jobmatcher.server.service.search.ProjectSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Invoice status transitions and everything they imply for the milestone, contract and
+ * project. The invoice is loaded once with its milestone, the contract's milestones and the
+ * project; every resulting status is computed on those managed entities and written in the
+ * transaction's single flush, instead of each layer reloading, saving and mapping its own
+ * entity.
+ */
+@Slf4j
+@Transactional(rollbackFor = Exception.class)
+@Service
+public class InvoiceWorkflow {
+
+    private static final Set<MilestoneStatus> SETTLED_MILESTONE_STATUSES = Set.of(
+            MilestoneStatus.COMPLETED,
+            MilestoneStatus.CANCELLED,
+            MilestoneStatus.PAID
+    );
+
+    private final InvoiceRepository invoiceRepository;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final MatchingEngine matchingEngine;
+    private final NotificationPublisher notificationPublisher;
+
+    public InvoiceWorkflow(
+            InvoiceRepository invoiceRepository,
+            ProjectSearchIndex projectSearchIndex,
+            MatchingEngine matchingEngine,
+            NotificationPublisher notificationPublisher
+    ) {
+        this.invoiceRepository = invoiceRepository;
+        this.projectSearchIndex = projectSearchIndex;
+        this.matchingEngine = matchingEngine;
+        this.notificationPublisher = notificationPublisher;
+    }
+
+    public Invoice load(UUID invoiceId) {
+        return invoiceRepository.findAggregateById(invoiceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice not found."));
+    }
+
+    public Invoice transition(UUID invoiceId, InvoiceStatus status) {
+        Invoice invoice = load(invoiceId);
+        apply(invoice, status);
+        return invoice;
+    }
+
+    /**
+     * Moves a loaded invoice to {@code status}. A paid invoice pays its milestone, and the
+     * contract completes once every milestone is settled (at once for an invoice without a
+     * milestone). A pending or cancelled invoice reopens its milestone and the contract.
+     */
+    public void apply(Invoice invoice, InvoiceStatus status) {
+        log.info("Updating status of invoice {} to {}", invoice.getId(), status);
+        invoice.setStatus(status);
+        notificationPublisher.invoiceStatusChanged(invoice);
+        Contract contract = invoice.getContract();
+        Milestone milestone = invoice.getMilestone();
+
+        if (status == InvoiceStatus.PAID) {
+            if (milestone == null) {
+                updateContractStatus(contract, ContractStatus.COMPLETED);
+                return;
+            }
+            milestone.setStatus(MilestoneStatus.PAID);
+            boolean allSettled = contract.getMilestones().stream()
+                    .allMatch(m -> SETTLED_MILESTONE_STATUSES.contains(m.getStatus()));
+            if (allSettled) {
+                log.info("All milestones settled, completing contract {}", contract.getId());
+                updateContractStatus(contract, ContractStatus.COMPLETED);
+            }
+            return;
+        }
+        reopen(invoice);
+    }
+
+    /**
+     * Puts the work an invoice billed back in progress: its milestone returns to pending and
+     * the contract to active. Used when the invoice is reset, cancelled or deleted.
+     */
+    public void reopen(Invoice invoice) {
+        if (invoice.getMilestone() != null) {
+            invoice.getMilestone().setStatus(MilestoneStatus.PENDING);
+        }
+        updateContractStatus(invoice.getContract(), ContractStatus.ACTIVE);
+    }
+
+    private void updateContractStatus(Contract contract, ContractStatus status) {
+        if (contract.getStatus() != status) {
+            contract.setStatus(status);
+            notificationPublisher.contractStatusChanged(contract);
+        }
+        ProjectStatus projectStatus = status == ContractStatus.COMPLETED
+                ? ProjectStatus.COMPLETED
+                : ProjectStatus.IN_PROGRESS;
+        Project project = contract.getProject();
+        if (project != null && project.getStatus() != projectStatus) {
+            project.setStatus(projectStatus);
+            projectSearchIndex.indexAfterCommit(project);
+            matchingEngine.refreshProjectAfterCommit(project);
+        }
+    }
+}
@@ -1,37 +1,40 @@
 package com.jobmatcher.server.service;
 
-import com.jobmatcher.server.domain.JobCategory;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
-import com.jobmatcher.server.mapper.JobCategoryMapper;
 import com.jobmatcher.server.model.JobCategoryDTO;
-import com.jobmatcher.server.repository.JobCategoryRepository;
+import com.jobmatcher.server.service.reference.ReferenceDataCache;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
 public class JobCategoryServiceImpl implements IJobCategoryService{
-    private final JobCategoryRepository categoryRepository;
-    private final JobCategoryMapper jobCategoryMapper;
+    private final ReferenceDataCache referenceDataCache;
 
-    public JobCategoryServiceImpl(JobCategoryRepository categoryRepository, JobCategoryMapper jobCategoryMapper) {
-        this.categoryRepository = categoryRepository;
-        this.jobCategoryMapper = jobCategoryMapper;
+    public JobCategoryServiceImpl(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
-    public List<JobCategoryDTO> getAllJobCategories() {
-        List<JobCategoryDTO> categories = categoryRepository.findAll().stream().map(jobCategoryMapper::toDto).toList();
+    public ReferenceSnapshot<JobCategoryDTO> getJobCategoriesSnapshot() {
+        ReferenceSnapshot<JobCategoryDTO> categories = referenceDataCache.categories();
         if(categories.isEmpty()){
             throw new ResourceNotFoundException("Job categories not found.");
         }
         return categories;
     }
 
+    @Override
+    public List<JobCategoryDTO> getAllJobCategories() {
+        return getJobCategoriesSnapshot().items();
+    }
+
     @Override
     public JobCategoryDTO getJobCategoryById(Long id) {
-        JobCategory category = categoryRepository.findById(id).orElseThrow(() ->
-                new ResourceNotFoundException("Category not found."));
-        return jobCategoryMapper.toDto(category);
+        return referenceDataCache.categories().items().stream()
+                .filter(category -> category.getId().equals(id))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found."));
     }
 }
@@ -5,8 +5,10 @@ import com.jobmatcher.server.domain.User;
 import com.jobmatcher.server.exception.InvalidAuthException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -28,15 +30,36 @@ public class JwtService {
     @Value("${jwt.expiration.time}")
     private long jwtTokenExpiration;
 
+    // Derived from secretKey at startup; both are immutable and safe to share between threads
+    private SecretKey signInKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        parser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsTFunction) {
+        return claimsTFunction.apply(parseVerifiedClaims(token));
+    }
+
+    /**
+     * Verifies the signature and expiry of {@code token} and returns its claims.
+     * Callers that need several claims should parse once and read them from the result.
+     *
+     * @throws InvalidAuthException if the token is malformed, tampered with or expired
+     */
+    public Claims parseVerifiedClaims(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            return claimsTFunction.apply(claims);
-        } catch (JwtException e) {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidAuthException("JWT token is invalid: {" + e.getMessage() + "}");
         }
     }
@@ -54,7 +77,7 @@ public class JwtService {
                 .subject(user.getEmail())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtTokenExpiration))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
@@ -82,17 +105,4 @@ public class JwtService {
     private Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
-    }
 }
@@ -5,6 +5,8 @@ import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.mapper.LanguageMapper;
 import com.jobmatcher.server.model.LanguageDTO;
 import com.jobmatcher.server.repository.LanguageRepository;
+import com.jobmatcher.server.service.reference.ReferenceDataCache;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,10 +16,16 @@ public class LanguageServiceImpl implements ILanguageService{
 
     private final LanguageRepository languageRepository;
     private final LanguageMapper languageMapper;
+    private final ReferenceDataCache referenceDataCache;
 
-    public LanguageServiceImpl(LanguageRepository languageRepository, LanguageMapper languageMapper) {
+    public LanguageServiceImpl(
+            LanguageRepository languageRepository,
+            LanguageMapper languageMapper,
+            ReferenceDataCache referenceDataCache
+    ) {
         this.languageRepository = languageRepository;
         this.languageMapper = languageMapper;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -33,17 +41,23 @@ public class LanguageServiceImpl implements ILanguageService{
     }
 
     @Override
-    public List<LanguageDTO> getAllLanguages() {
-        List<LanguageDTO> languages = languageRepository.findAll().stream().map(languageMapper::toDto).toList();
+    public ReferenceSnapshot<LanguageDTO> getLanguagesSnapshot() {
+        ReferenceSnapshot<LanguageDTO> languages = referenceDataCache.languages();
         if(languages.isEmpty()){
             throw new ResourceNotFoundException("No languages found.");
         }
         return languages;
     }
 
+    @Override
+    public List<LanguageDTO> getAllLanguages() {
+        return getLanguagesSnapshot().items();
+    }
+
     @Override
     public LanguageDTO saveLanguage(LanguageDTO dto) {
         Language savedLanguage = languageRepository.save(languageMapper.toEntity(dto));
+        referenceDataCache.invalidateLanguages();
         return languageMapper.toDto(savedLanguage);
     }
 }
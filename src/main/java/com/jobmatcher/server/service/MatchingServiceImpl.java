@@ -0,0 +1,116 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.FreelancerProfile;
+import com.jobmatcher.server.domain.Project;
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.exception.RoleAccessDeniedException;
+import com.jobmatcher.server.mapper.FreelancerProfileMapper;
+import com.jobmatcher.server.mapper.ProjectMapper;
+import com.jobmatcher.server.model.matching.FreelancerMatchDTO;
+import com.jobmatcher.server.model.matching.ProjectMatchDTO;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import com.jobmatcher.server.repository.ProjectRepository;
+import com.jobmatcher.server.security.AuthPrincipal;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Slf4j
+@Transactional(readOnly = true)
+@Service
+public class MatchingServiceImpl implements IMatchingService {
+
+    static final int MAX_LIMIT = 50;
+
+    private final MatchingEngine matchingEngine;
+    private final ProjectRepository projectRepository;
+    private final FreelancerProfileRepository freelancerProfileRepository;
+    private final ProjectMapper projectMapper;
+    private final FreelancerProfileMapper freelancerProfileMapper;
+
+    public MatchingServiceImpl(
+            MatchingEngine matchingEngine,
+            ProjectRepository projectRepository,
+            FreelancerProfileRepository freelancerProfileRepository,
+            ProjectMapper projectMapper,
+            FreelancerProfileMapper freelancerProfileMapper
+    ) {
+        this.matchingEngine = matchingEngine;
+        this.projectRepository = projectRepository;
+        this.freelancerProfileRepository = freelancerProfileRepository;
+        this.projectMapper = projectMapper;
+        this.freelancerProfileMapper = freelancerProfileMapper;
+    }
+
+    @Override
+    public List<ProjectMatchDTO> getTopProjectsForFreelancer(AuthPrincipal principal, UUID freelancerId, int limit) {
+        // Freelancers see the matches of their own profile; customers have no freelancer view
+        if (principal.role() == Role.CUSTOMER) {
+            throw new RoleAccessDeniedException("Customers cannot list project matches");
+        }
+        if (principal.role() == Role.STAFF && !freelancerId.equals(principal.requireProfileId())) {
+            throw new RoleAccessDeniedException("Freelancers can only list their own project matches");
+        }
+        if (!freelancerProfileRepository.existsById(freelancerId)) {
+            throw new ResourceNotFoundException("Freelancer profile not found with id: " + freelancerId);
+        }
+        List<MatchingEngine.Match> matches = matchingEngine.topProjectsForFreelancer(freelancerId, clamp(limit));
+        if (matches.isEmpty()) return List.of();
+
+        Map<UUID, Project> projectsById = new HashMap<>();
+        for (Project project : projectRepository.findAllById(ids(matches))) {
+            projectsById.put(project.getId(), project);
+        }
+
+        List<ProjectMatchDTO> result = new ArrayList<>(matches.size());
+        for (MatchingEngine.Match match : matches) {
+            Project project = projectsById.get(match.id());
+            if (project != null) {
+                result.add(new ProjectMatchDTO(projectMapper.toSummaryDto(project), match.score()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<FreelancerMatchDTO> getTopFreelancersForProject(AuthPrincipal principal, UUID projectId, int limit) {
+        // Customers see the matches of their own projects; freelancers would see their competitors
+        if (principal.role() == Role.STAFF) {
+            throw new RoleAccessDeniedException("Freelancers cannot list freelancer matches");
+        }
+        UUID customerId = projectRepository.findCustomerIdById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        if (principal.role() == Role.CUSTOMER && !customerId.equals(principal.requireProfileId())) {
+            throw new RoleAccessDeniedException("Customers can only list freelancer matches for their own projects");
+        }
+        List<MatchingEngine.Match> matches = matchingEngine.topFreelancersForProject(projectId, clamp(limit));
+        if (matches.isEmpty()) return List.of();
+
+        Map<UUID, FreelancerProfile> profilesById = new HashMap<>();
+        for (FreelancerProfile profile : freelancerProfileRepository.findAllById(ids(matches))) {
+            profilesById.put(profile.getId(), profile);
+        }
+
+        List<FreelancerMatchDTO> result = new ArrayList<>(matches.size());
+        for (MatchingEngine.Match match : matches) {
+            FreelancerProfile profile = profilesById.get(match.id());
+            if (profile != null) {
+                result.add(new FreelancerMatchDTO(freelancerProfileMapper.toFreelancerSummaryDto(profile), match.score()));
+            }
+        }
+        return result;
+    }
+
+    private static int clamp(int limit) {
+        if (limit < 1) return 1;
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    private static List<UUID> ids(List<MatchingEngine.Match> matches) {
+        return matches.stream().map(MatchingEngine.Match::id).toList();
+    }
+}
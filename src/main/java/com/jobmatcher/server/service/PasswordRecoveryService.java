@@ -2,20 +2,23 @@ package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.domain.PasswordResetToken;
 import com.jobmatcher.server.domain.User;
-import com.jobmatcher.server.exception.EmailSendException;
-import com.jobmatcher.server.exception.GmailApiException;
 import com.jobmatcher.server.exception.PasswordResetException;
 import com.jobmatcher.server.exception.TokenCreationException;
 import com.jobmatcher.server.model.RecoverPasswordRequest;
 import com.jobmatcher.server.model.ResetPasswordRequest;
 import com.jobmatcher.server.repository.PasswordResetTokenRepository;
 import com.jobmatcher.server.repository.UserRepository;
+import com.jobmatcher.server.service.email.EmailOutboxService;
+import com.jobmatcher.server.service.email.OutboundEmail;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,21 +27,24 @@ import java.util.UUID;
 @Service
 public class PasswordRecoveryService {
 
+    @Value("${frontend.base.url}")
+    private String FRONTEND_BASE_URL;
+
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository tokenRepo;
     private final PasswordEncoder passwordEncoder;
-    private final GmailSender gmailSender;
+    private final EmailOutboxService emailOutbox;
 
     public PasswordRecoveryService(
             UserRepository userRepository,
             PasswordResetTokenRepository tokenRepo,
             PasswordEncoder passwordEncoder,
-            GmailSender gmailSender
+            EmailOutboxService emailOutbox
     ) {
         this.userRepository = userRepository;
         this.tokenRepo = tokenRepo;
         this.passwordEncoder = passwordEncoder;
-        this.gmailSender = gmailSender;
+        this.emailOutbox = emailOutbox;
     }
 
     @Transactional
@@ -52,18 +58,8 @@ public class PasswordRecoveryService {
         tokenRepo.deleteAllByUser(user);
         String token = createAndSaveResetToken(user);
 
-        try {
-            gmailSender.sendResetEmail(user, token);
-        } catch (GmailApiException e) {
-            log.error("Failed to send reset email via Gmail API: {}", e.getMessage());
-            throw new EmailSendException("Failed to send reset email due to Gmail API error.", e);
-        } catch (EmailSendException e) {
-            log.error("Email sending failure: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Unexpected error during password recovery email sending", e);
-            throw new EmailSendException("Unexpected error during password recovery.", e);
-        }
+        // Delivered by the outbox after commit; the row lock is not held across the Gmail call
+        emailOutbox.enqueue(resetEmail(user.getEmail(), token));
 
         return true;
     }
@@ -105,6 +101,20 @@ public class PasswordRecoveryService {
     }
 
 
+    private OutboundEmail resetEmail(String to, String token) {
+        String encodedToken = URLEncoder.encode(token, StandardCharsets.UTF_8);
+        String resetUrl = "%s/reset-password?token=%s".formatted(FRONTEND_BASE_URL, encodedToken);
+        String bodyText = """
+                    <p>Hello,</p>
+                    <p>Click the following link to reset your JobMatcher password:</p>
+                    <p><a href="%s">
+                    Reset Password</a></p>
+                    <p>If you didn't request this, please ignore.</p>
+                    <p>Thanks,<br/>JobMatcher Team</p>
+                """.formatted(resetUrl);
+        return new OutboundEmail(to, "JobMatcher reset password", bodyText);
+    }
+
     public boolean validateResetToken(String token) {
         Optional<PasswordResetToken> tokenOpt = tokenRepo.findByToken(token);
         return tokenOpt.isPresent() && !tokenOpt.get().isExpired();
@@ -7,10 +7,16 @@ import com.jobmatcher.server.mapper.InvoiceMapper;
 import com.jobmatcher.server.mapper.MilestoneMapper;
 import com.jobmatcher.server.mapper.PaymentMapper;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.InvoiceSummaryRow;
+import com.jobmatcher.server.model.summary.MilestoneSummaryRow;
+import com.jobmatcher.server.model.summary.PaymentSummaryRow;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import com.jobmatcher.server.specification.PaymentSpecification;
+import com.jobmatcher.server.util.KeysetPagination;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +27,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Slf4j
@@ -34,13 +44,10 @@ public class PaymentServiceImpl implements IPaymentService {
     private final ContractMapper contractMapper;
     private final MilestoneMapper mileStoneMapper;
     private final InvoiceMapper invoiceMapper;
-    private final IInvoiceService invoiceService;
-    private final JwtService jwtService;
-    private final IUserService userService;
-    private final FreelancerProfileRepository freelancerProfileRepository;
-    private final CustomerProfileRepository customerProfileRepository;
-    private final ContractRepository contractRepository;
+    private final InvoiceWorkflow invoiceWorkflow;
     private final MilestoneRepository milestoneRepository;
+    private final AnalyticsRollupService analyticsRollupService;
+    private final SummaryQueryRepository summaryQueryRepository;
 
     public PaymentServiceImpl(
             PaymentRepository paymentRepository,
@@ -49,12 +56,10 @@ public class PaymentServiceImpl implements IPaymentService {
             ContractMapper contractMapper,
             MilestoneMapper mileStoneMapper,
             InvoiceMapper invoiceMapper,
-            IInvoiceService invoiceService,
-            JwtService jwtService,
-            IUserService userService,
-            FreelancerProfileRepository freelancerProfileRepository,
-            CustomerProfileRepository customerProfileRepository,
-            ContractRepository contractRepository, MilestoneRepository milestoneRepository
+            InvoiceWorkflow invoiceWorkflow,
+            MilestoneRepository milestoneRepository,
+            AnalyticsRollupService analyticsRollupService,
+            SummaryQueryRepository summaryQueryRepository
     ) {
         this.paymentRepository = paymentRepository;
         this.invoiceRepository = invoiceRepository;
@@ -62,70 +67,78 @@ public class PaymentServiceImpl implements IPaymentService {
         this.contractMapper = contractMapper;
         this.mileStoneMapper = mileStoneMapper;
         this.invoiceMapper = invoiceMapper;
-        this.invoiceService = invoiceService;
-        this.jwtService = jwtService;
-        this.userService = userService;
-        this.freelancerProfileRepository = freelancerProfileRepository;
-        this.customerProfileRepository = customerProfileRepository;
-        this.contractRepository = contractRepository;
+        this.invoiceWorkflow = invoiceWorkflow;
         this.milestoneRepository = milestoneRepository;
+        this.analyticsRollupService = analyticsRollupService;
+        this.summaryQueryRepository = summaryQueryRepository;
     }
 
     @Transactional(readOnly = true)
     @Override
     public Page<PaymentSummaryDTO> getAllPayments(
-            String token,
+            AuthPrincipal principal,
             Pageable pageable,
             PaymentFilterDTO filter
     ) {
         log.info("Fetching payments with filters: {}", filter);
-        User user = getUser(token);
-        Role role = user.getRole();
+        Role role = principal.role();
 
-        log.info("User {} has role {}", user.getId(), role);
-        UUID profileId = switch (role) {
-            case CUSTOMER -> getCustomerId(user.getId());
-            case STAFF -> getFreelancerId(user.getId());
-            default -> null;
-        };
+        log.info("User {} has role {}", principal.userId(), role);
+        UUID profileId = principal.requireProfileId();
 
         log.info("Using profile ID: {}", profileId);
-        return paymentRepository.findAll(PaymentSpecification.withFiltersAndRole(filter, role, profileId), pageable)
-                .map(payment -> {
-                    PaymentDetail paymentDetail = getPaymentDetail(payment.getInvoice());
-                    return paymentMapper.toSummaryDto(
-                            payment,
-                            paymentDetail.contractSummaryDTO(),
-                            paymentDetail.milestoneResponseDTO(),
-                            paymentDetail.invoiceSummaryDTO()
-                    );
-                });
+        Page<PaymentSummaryRow> rows = summaryQueryRepository.findPage(
+                SummaryProjection.PAYMENT, PaymentSpecification.withFiltersAndRole(filter, role, profileId), pageable);
+        return new PageImpl<>(toSummaryDtos(rows.getContent()), rows.getPageable(), rows.getTotalElements());
     }
 
-    private User getUser(String token) {
-        String email = jwtService.extractUsername(token);
-        return userService.getUserByEmail(email);
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDTO<PaymentSummaryDTO> getAllPaymentsByCursor(
+            AuthPrincipal principal,
+            String cursor,
+            int size,
+            PaymentFilterDTO filter
+    ) {
+        Role role = principal.role();
+        UUID profileId = principal.requireProfileId();
+
+        return KeysetPagination.fetch(
+                summaryQueryRepository,
+                SummaryProjection.PAYMENT,
+                PaymentSpecification.withFiltersAndRole(filter, role, profileId),
+                cursor,
+                size,
+                this::toSummaryDtos
+        );
     }
 
-    private UUID getFreelancerId(UUID userId) {
-        if (userId == null) {
-            throw new IllegalArgumentException("User ID cannot be null");
-        }
-        return freelancerProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Freelancer profile not found for user: " + userId))
-                .getId();
+    private List<PaymentSummaryDTO> toSummaryDtos(List<PaymentSummaryRow> rows) {
+        Map<UUID, MilestoneResponseDTO> milestones = milestonesByInvoiceId(rows.stream()
+                .map(PaymentSummaryRow::invoice)
+                .filter(Objects::nonNull)
+                .map(InvoiceSummaryRow::id)
+                .toList());
+        return rows.stream().map(row -> {
+            InvoiceSummaryRow invoice = row.invoice();
+            ContractSummaryDTO contract = invoice != null ? contractMapper.fromRow(invoice.contract()) : null;
+            MilestoneResponseDTO milestone = invoice != null ? milestones.get(invoice.id()) : null;
+            return paymentMapper.fromRow(row, contract, milestone, invoiceMapper.fromRow(invoice, contract, milestone));
+        }).toList();
     }
 
-    private UUID getCustomerId(UUID userId) {
-        if (userId == null) {
-            throw new IllegalArgumentException("User ID cannot be null");
+    // Invoice milestones of one list page in a single IN query
+    private Map<UUID, MilestoneResponseDTO> milestonesByInvoiceId(List<UUID> invoiceIds) {
+        Map<UUID, MilestoneResponseDTO> milestones = new HashMap<>();
+        if (invoiceIds.isEmpty()) {
+            return milestones;
+        }
+        for (MilestoneSummaryRow row : milestoneRepository.findSummaryRowsByInvoiceIds(invoiceIds)) {
+            milestones.put(row.invoiceId(), mileStoneMapper.fromRow(row));
         }
-        CustomerProfile customer = customerProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer profile not found for user: " + userId));
-        return customer.getId();
+        return milestones;
     }
 
-
     @Override
     public PaymentDetailDTO getPaymentById(UUID paymentId) {
         Payment payment = paymentRepository.findById(paymentId)
@@ -148,7 +161,10 @@ public class PaymentServiceImpl implements IPaymentService {
     public Payment createPayment(PaymentRequestDTO request) {
         Invoice invoice = invoiceRepository.findById(UUID.fromString(request.getInvoiceId())).orElseThrow(() ->
                 new ResourceNotFoundException("Invoice not found"));
+        return createPayment(invoice);
+    }
 
+    private Payment createPayment(Invoice invoice) {
         if (invoice.getStatus() == InvoiceStatus.PAID) {
             throw new IllegalStateException("Invoice is already marked as PAID");
         }
@@ -162,43 +178,37 @@ public class PaymentServiceImpl implements IPaymentService {
         payment.setAmount(invoice.getAmount());
         payment.setPaidAt(OffsetDateTime.now(ZoneOffset.UTC));
 
-        return paymentRepository.save(payment);
+        Payment savedPayment = paymentRepository.save(payment);
+        analyticsRollupService.recordPayment(savedPayment);
+        return savedPayment;
     }
 
+    /**
+     * Records the payment and applies every status change it causes on the invoice aggregate,
+     * loaded in one query. Nothing is saved explicitly; the changes are flushed together when
+     * the transaction commits.
+     */
     @Override
     public void markInvoicePaid(UUID invoiceId) {
         log.info("Marking invoice {} as PAID", invoiceId);
-        Invoice invoice = invoiceRepository.findById(invoiceId).orElseThrow(() ->
+        Invoice invoice = invoiceRepository.findAggregateById(invoiceId).orElseThrow(() ->
                 new ResourceNotFoundException("Invoice not found"));
 
-        PaymentRequestDTO paymentRequestDto = PaymentRequestDTO.builder()
-                .invoiceId(invoiceId.toString())
-                .build();
-        Payment payment = createPayment(paymentRequestDto);
+        Payment payment = createPayment(invoice);
         log.info("Created payment {} for invoice {}", payment.getId(), invoiceId);
-
-        InvoiceRequestDTO invoiceRequestDTO = InvoiceRequestDTO.builder()
-                .payment(payment)
-                .build();
-        InvoiceStatusRequestDTO invoiceStatusRequestDTO = InvoiceStatusRequestDTO.builder()
-                .status(InvoiceStatus.PAID)
-                .build();
-        log.info("Updating invoice {} status to PAID", invoiceId);
-        invoiceService.updateInvoice(invoiceId, invoiceRequestDTO);
-        invoiceService.updateInvoiceStatusById(invoiceId, invoiceStatusRequestDTO);
-        log.info("Invoice {} marked as PAID", invoiceId);
+        invoice.setPayment(payment);
 
         Contract contract = invoice.getContract();
         if(contract == null) {
             log.warn("Invoice {} has no associated contract, skipping contract update", invoiceId);
             throw new ResourceNotFoundException("Contract not found for invoice: " + invoiceId);
         }
-        if(contract.getMilestones().isEmpty()) {
-            updateContract(contract, payment, invoice);
-        } else {
+        if(!contract.getMilestones().isEmpty()) {
             updateMilestone(invoiceId, invoice, payment);
-            updateContract(contract, payment, invoice);
         }
+        updateContract(contract, payment, invoice);
+        invoiceWorkflow.apply(invoice, InvoiceStatus.PAID);
+        log.info("Invoice {} marked as PAID", invoiceId);
     }
 
     private void updateMilestone(UUID invoiceId, Invoice invoice, Payment payment) {
@@ -209,8 +219,6 @@ public class PaymentServiceImpl implements IPaymentService {
         }
         milestone.setPayment(payment);
         milestone.setActualEndDate(LocalDate.now(ZoneOffset.UTC));
-
-        milestoneRepository.save(milestone);
         log.info("Milestone {} marked as paid", milestone.getId());
     }
 
@@ -223,9 +231,7 @@ public class PaymentServiceImpl implements IPaymentService {
         BigDecimal newTotalPaid = contract.getTotalPaid().add(invoice.getAmount());
         contract.setTotalPaid(newTotalPaid);
         contract.setRemainingBalance(contract.getAmount().subtract(newTotalPaid));
-
-        contractRepository.save(contract);
-        log.info("Contract {} marked as completed", contract.getId());
+        log.info("Contract {} payment totals updated", contract.getId());
     }
 
     private record PaymentDetail(ContractSummaryDTO contractSummaryDTO, MilestoneResponseDTO milestoneResponseDTO,
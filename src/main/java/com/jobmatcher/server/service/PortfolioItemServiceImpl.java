@@ -14,6 +14,7 @@ import com.jobmatcher.server.repository.FreelancerProfileRepository;
 import com.jobmatcher.server.repository.JobCategoryRepository;
 import com.jobmatcher.server.repository.JobSubcategoryRepository;
 import com.jobmatcher.server.repository.PortfolioItemRepository;
+import com.jobmatcher.server.service.storage.StoredImageService;
 import com.jobmatcher.server.util.SanitizationUtil;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,18 +31,21 @@ public class PortfolioItemServiceImpl implements IPortfolioItemService {
     private final JobCategoryRepository jobCategoryRepository;
     private final JobSubcategoryRepository jobSubcategoryRepository;
     private final FreelancerProfileRepository freelancerProfileRepository;
+    private final StoredImageService storedImageService;
 
     public PortfolioItemServiceImpl(
             PortfolioItemRepository repository,
             PortfolioItemMapper portfolioItemMapper,
             JobCategoryRepository jobCategoryRepository,
-            JobSubcategoryRepository jobSubcategoryRepository, FreelancerProfileRepository freelancerProfileRepository
+            JobSubcategoryRepository jobSubcategoryRepository, FreelancerProfileRepository freelancerProfileRepository,
+            StoredImageService storedImageService
     ) {
         this.repository = repository;
         this.portfolioItemMapper = portfolioItemMapper;
         this.jobCategoryRepository = jobCategoryRepository;
         this.jobSubcategoryRepository = jobSubcategoryRepository;
         this.freelancerProfileRepository = freelancerProfileRepository;
+        this.storedImageService = storedImageService;
     }
 
     @Override
@@ -127,11 +131,15 @@ public class PortfolioItemServiceImpl implements IPortfolioItemService {
     public void deletePortfolioItem(UUID id) {
         PortfolioItem existingItem = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Portfolio item not found."));
+        List<String> imageUrls = List.copyOf(existingItem.getImageUrls());
         repository.delete(existingItem);
+
+        // The item's image references go with it
+        imageUrls.forEach(storedImageService::releaseImage);
     }
 
     @Override
-    public void uploadPortfolioItemImages(UUID portfolioItemId, List<String> imageUrls) {
+    public Set<String> uploadPortfolioItemImages(UUID portfolioItemId, List<String> imageUrls) {
         PortfolioItem item = repository.findById(portfolioItemId)
                 .orElseThrow(() -> new ResourceNotFoundException("Portfolio item not found."));
 
@@ -148,8 +156,14 @@ public class PortfolioItemServiceImpl implements IPortfolioItemService {
             throw new UploadFileException("All provided image URLs are invalid.");
         }
 
-        item.getImageUrls().addAll(sanitizedUrls);
+        Set<String> addedUrls = new HashSet<>();
+        for (String url : sanitizedUrls) {
+            if (item.getImageUrls().add(url)) {
+                addedUrls.add(url);
+            }
+        }
         repository.save(item);
+        return addedUrls;
     }
 
     @Override
@@ -0,0 +1,126 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.Proposal;
+import com.jobmatcher.server.domain.ProposalStatus;
+import com.jobmatcher.server.model.ProposalStatusChangeDTO;
+import com.jobmatcher.server.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Maintains the per-project proposal stats ({@code ProjectProposalStats}) as a side effect of
+ * proposal changes, inside the caller's transaction. Counters are adjusted with relative
+ * updates, so concurrent proposals on the same project do not lose increments; the bid range
+ * is recomputed for the project when a proposal is removed or its amount changes.
+ * {@link #reconcile()} rebuilds all projects on startup and nightly, like the analytics rollups.
+ */
+@Slf4j
+@Transactional(rollbackFor = Exception.class)
+@Service
+public class ProjectProposalStatsService {
+
+    private final ProjectRepository projectRepository;
+
+    public ProjectProposalStatsService(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    public void recordProposalCreated(Proposal proposal) {
+        UUID projectId = projectIdOf(proposal);
+        if (projectId == null) return;
+        int[] delta = new int[ProposalStatus.values().length];
+        count(delta, proposal.getStatus(), 1);
+        OffsetDateTime createdAt = proposal.getCreatedAt() != null ? proposal.getCreatedAt() : OffsetDateTime.now();
+        BigDecimal amount = proposal.getAmount() != null ? proposal.getAmount() : BigDecimal.ZERO;
+        projectRepository.addProposalStats(projectId,
+                delta[ProposalStatus.PENDING.ordinal()],
+                delta[ProposalStatus.ACCEPTED.ordinal()],
+                delta[ProposalStatus.REJECTED.ordinal()],
+                delta[ProposalStatus.WITHDRAWN.ordinal()],
+                amount, createdAt);
+    }
+
+    public void recordProposalStatusChange(Proposal proposal, ProposalStatus previousStatus) {
+        recordStatusChange(projectIdOf(proposal), previousStatus, proposal.getStatus(), 1);
+    }
+
+    /**
+     * Records {@code count} proposals of the project moved from one status to another by a
+     * bulk update.
+     */
+    public void recordStatusChange(UUID projectId, ProposalStatus previousStatus, ProposalStatus status, int count) {
+        if (projectId == null || count == 0 || previousStatus == status) return;
+        int[] delta = new int[ProposalStatus.values().length];
+        count(delta, previousStatus, -count);
+        count(delta, status, count);
+        adjust(projectId, 0, delta);
+    }
+
+    public void recordStatusChanges(UUID projectId, Collection<ProposalStatusChangeDTO> changes) {
+        if (projectId == null || changes.isEmpty()) return;
+        int[] delta = new int[ProposalStatus.values().length];
+        for (ProposalStatusChangeDTO change : changes) {
+            count(delta, change.getPreviousStatus(), -1);
+            count(delta, change.getStatus(), 1);
+        }
+        adjust(projectId, 0, delta);
+    }
+
+    public void recordAmountChanged(Proposal proposal) {
+        UUID projectId = projectIdOf(proposal);
+        if (projectId == null) return;
+        projectRepository.recomputeProposalAmounts(projectId);
+    }
+
+    /**
+     * Must run after the proposal's delete has been issued; the bid range is read back from
+     * the remaining proposals.
+     */
+    public void recordProposalDeleted(Proposal proposal) {
+        UUID projectId = projectIdOf(proposal);
+        if (projectId == null) return;
+        int[] delta = new int[ProposalStatus.values().length];
+        count(delta, proposal.getStatus(), -1);
+        adjust(projectId, -1, delta);
+        projectRepository.recomputeProposalAmounts(projectId);
+    }
+
+    /**
+     * Replaces the stats of every project with values recomputed from the proposals, correcting
+     * drift from writes that bypass the services.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${projects.proposal-stats.reconcile-cron:0 45 3 * * ?}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int projects = projectRepository.rebuildProposalStats();
+        log.info("Rebuilt proposal stats of {} projects in {} ms", projects, System.currentTimeMillis() - start);
+    }
+
+    private void adjust(UUID projectId, int total, int[] delta) {
+        projectRepository.adjustProposalCounts(projectId, total,
+                delta[ProposalStatus.PENDING.ordinal()],
+                delta[ProposalStatus.ACCEPTED.ordinal()],
+                delta[ProposalStatus.REJECTED.ordinal()],
+                delta[ProposalStatus.WITHDRAWN.ordinal()]);
+    }
+
+    private static void count(int[] delta, ProposalStatus status, int amount) {
+        if (status != null) {
+            delta[status.ordinal()] += amount;
+        }
+    }
+
+    private static UUID projectIdOf(Proposal proposal) {
+        return proposal.getProject() != null ? proposal.getProject().getId() : null;
+    }
+}
@@ -5,35 +5,51 @@ import com.jobmatcher.server.exception.InvalidProjectOperationException;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.mapper.ProjectMapper;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.ProjectSummaryRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.security.AuthPrincipal;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import com.jobmatcher.server.service.notification.NotificationPublisher;
+import com.jobmatcher.server.service.search.ProjectSearchIndex;
 import com.jobmatcher.server.specification.ProjectSpecification;
+import com.jobmatcher.server.util.KeysetCursor;
+import com.jobmatcher.server.util.KeysetPagination;
 import com.jobmatcher.server.util.SanitizationUtil;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Transactional(rollbackFor = Exception.class)
 @Service
 public class ProjectServiceImpl implements IProjectService {
 
+    // Most search matches handed to the database as an ID list; larger match sets use the SQL search
+    private static final int MAX_SEARCH_CANDIDATES = 1000;
+
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final CustomerProfileRepository customerProfileRepository;
     private final FreelancerProfileRepository freelancerProfileRepository;
     private final JobCategoryRepository jobCategoryRepository;
     private final JobSubcategoryRepository jobSubcategoryRepository;
-    private final JwtService jwtService;
-    private final IUserService userService;
     private final ContractRepository contractRepository;
     private final ProposalRepository proposalRepository;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final MatchingEngine matchingEngine;
+    private final SummaryQueryRepository summaryQueryRepository;
+    private final NotificationPublisher notificationPublisher;
 
     public ProjectServiceImpl(
             ProjectRepository projectRepository,
@@ -42,8 +58,12 @@ public class ProjectServiceImpl implements IProjectService {
             FreelancerProfileRepository freelancerProfileRepository,
             JobCategoryRepository jobCategoryRepository,
             JobSubcategoryRepository jobSubcategoryRepository,
-            JwtService jwtService,
-            IUserService userService, ContractRepository contractRepository, ProposalRepository proposalRepository
+            ContractRepository contractRepository,
+            ProposalRepository proposalRepository,
+            ProjectSearchIndex projectSearchIndex,
+            MatchingEngine matchingEngine,
+            SummaryQueryRepository summaryQueryRepository,
+            NotificationPublisher notificationPublisher
     ) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
@@ -51,23 +71,19 @@ public class ProjectServiceImpl implements IProjectService {
         this.freelancerProfileRepository = freelancerProfileRepository;
         this.jobCategoryRepository = jobCategoryRepository;
         this.jobSubcategoryRepository = jobSubcategoryRepository;
-        this.jwtService = jwtService;
-        this.userService = userService;
         this.contractRepository = contractRepository;
         this.proposalRepository = proposalRepository;
+        this.projectSearchIndex = projectSearchIndex;
+        this.matchingEngine = matchingEngine;
+        this.summaryQueryRepository = summaryQueryRepository;
+        this.notificationPublisher = notificationPublisher;
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<ProjectSummaryDTO> getAllProjects(String token, Pageable pageable, ProjectFilterDTO filter) {
-        User user = getUser(token);
-        Role role = user.getRole();
-
-        UUID profileId = switch (role) {
-            case Role.CUSTOMER -> getCustomerId(user.getId());
-            case Role.STAFF -> getFreelancerId(user.getId());
-            default -> null;
-        };
+    public Page<ProjectSummaryDTO> getAllProjects(AuthPrincipal principal, Pageable pageable, ProjectFilterDTO filter) {
+        Role role = principal.role();
+        UUID profileId = principal.requireProfileId();
 
         String statusStr = filter.getStatus();
 
@@ -82,22 +98,109 @@ public class ProjectServiceImpl implements IProjectService {
 
         var spec = ProjectSpecification.withFiltersAndRole(filter, role, profileId, status);
 
-        return projectRepository.findAll(spec, pageable)
-                .map(projectMapper::toSummaryDto);
+        return findSummaryPage(spec, pageable);
     }
 
     @Transactional(readOnly = true)
     @Override
     public Page<ProjectSummaryDTO> getAllJobFeedProjects(Pageable pageable, ProjectFilterDTO filter) {
         filter.setStatus("OPEN");
-        var spec = ProjectSpecification.withFiltersAndRole(filter, null, null, null);
-        return projectRepository.findAll(spec, pageable)
-                .map(projectMapper::toSummaryDto);
+        if (filter.getSearchTerm() != null && !filter.getSearchTerm().isBlank()
+                && projectSearchIndex.isReady() && pageable.isPaged()) {
+            Optional<Page<ProjectSummaryDTO>> page = searchJobFeedProjects(pageable, filter);
+            if (page.isPresent()) {
+                return page.get();
+            }
+        }
+        var spec = ProjectSpecification.withFiltersAndRole(filter, null, null, ProjectStatus.OPEN);
+        return findSummaryPage(spec, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDTO<ProjectSummaryDTO> getJobFeedProjectsByCursor(String cursor, int size, ProjectFilterDTO filter) {
+        filter.setStatus("OPEN");
+        var spec = ProjectSpecification.withFiltersAndRole(filter, null, null, ProjectStatus.OPEN);
+        if (filter.getSearchTerm() != null && !filter.getSearchTerm().isBlank() && projectSearchIndex.isReady()) {
+            // Cursor pages are ordered by recency, so the index only narrows the candidate set
+            ProjectSearchIndex.SearchResult matches = searchIndex(filter, MAX_SEARCH_CANDIDATES);
+            if (matches.total() == 0) {
+                return PagedResponseDTO.ofCursor(List.of(), size, KeysetCursor.decode(cursor) == null, null);
+            }
+            // Otherwise there are more matches than fit in an ID list and the SQL search filters
+            if (matches.isComplete()) {
+                spec = ProjectSpecification.withIds(matches.ids(), ProjectStatus.OPEN);
+            }
+        }
+        return KeysetPagination.fetch(summaryQueryRepository, SummaryProjection.PROJECT, spec, cursor, size, this::toSummaryDtos);
+    }
+
+    /**
+     * Job feed page served from the search index, or empty when the matches are too many to
+     * hand to the database and the caller should run the SQL search instead.
+     */
+    private Optional<Page<ProjectSummaryDTO>> searchJobFeedProjects(Pageable pageable, ProjectFilterDTO filter) {
+        // Explicit sort requested: let the database order the whole match set
+        if (pageable.getSort().isSorted()) {
+            ProjectSearchIndex.SearchResult matches = searchIndex(filter, MAX_SEARCH_CANDIDATES);
+            if (matches.total() == 0) {
+                return Optional.of(Page.empty(pageable));
+            }
+            if (!matches.isComplete()) {
+                return Optional.empty();
+            }
+            return Optional.of(findSummaryPage(ProjectSpecification.withIds(matches.ids(), ProjectStatus.OPEN), pageable));
+        }
+
+        // Relevance order: rank just deep enough for the requested page, count every match
+        long rankedDepth = Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        ProjectSearchIndex.SearchResult matches = searchIndex(filter, (int) rankedDepth);
+        int from = (int) Math.min(pageable.getOffset(), matches.ids().size());
+        List<UUID> pageIds = matches.ids().subList(from, matches.ids().size());
+        if (pageIds.isEmpty()) {
+            return Optional.of(new PageImpl<>(List.of(), pageable, matches.total()));
+        }
+
+        Map<UUID, ProjectSummaryDTO> projectsById = new HashMap<>();
+        for (ProjectSummaryDTO project : findSummaryPage(ProjectSpecification.withIds(pageIds, ProjectStatus.OPEN), Pageable.unpaged())) {
+            projectsById.put(project.getId(), project);
+        }
+        List<ProjectSummaryDTO> content = pageIds.stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return Optional.of(new PageImpl<>(content, pageable, matches.total()));
+    }
+
+    private ProjectSearchIndex.SearchResult searchIndex(ProjectFilterDTO filter, int limit) {
+        return projectSearchIndex.search(
+                filter.getSearchTerm(),
+                ProjectStatus.OPEN,
+                filter.getCategoryId(),
+                filter.getSubcategoryId(),
+                limit
+        );
+    }
+
+    private Page<ProjectSummaryDTO> findSummaryPage(Specification<Project> spec, Pageable pageable) {
+        Page<ProjectSummaryRow> rows = summaryQueryRepository.findPage(SummaryProjection.PROJECT, spec, pageable);
+        return new PageImpl<>(toSummaryDtos(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    // Summary columns as rows, then the page's subcategories in one IN query
+    private List<ProjectSummaryDTO> toSummaryDtos(List<ProjectSummaryRow> rows) {
+        Map<UUID, List<SubcategoryRow>> subcategories = rows.isEmpty()
+                ? Map.of()
+                : projectRepository.findSubcategorySummaryRows(rows.stream().map(ProjectSummaryRow::id).toList()).stream()
+                        .collect(Collectors.groupingBy(SubcategoryRow::ownerId));
+        return rows.stream()
+                .map(row -> projectMapper.fromRow(row, subcategories.getOrDefault(row.id(), List.of())))
+                .toList();
     }
 
     @Override
     public ProjectDetailDTO getProjectById(UUID id) {
-        Project project = projectRepository.findById(id)
+        Project project = FetchPlan.PROJECT_DETAIL.findOne(projectRepository, ProjectSpecification.byId(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         return projectMapper.toDto(project);
     }
@@ -113,7 +216,6 @@ public class ProjectServiceImpl implements IProjectService {
             throw new InvalidProjectOperationException("Only users with CUSTOMER role can create projects.");
         }
 
-
         if (requestDto.getCategoryId() == null) {
             throw new IllegalArgumentException("Category must be provided.");
         }
@@ -132,7 +234,13 @@ public class ProjectServiceImpl implements IProjectService {
 
         Project newProject = projectMapper.toEntity(sanitizedRequest, customer, null, category, subcategories);
 
-        return projectMapper.toDto(projectRepository.save(newProject));
+        Project savedProject = projectRepository.save(newProject);
+        projectSearchIndex.indexAfterCommit(savedProject);
+        matchingEngine.refreshProjectAfterCommit(savedProject);
+        if (savedProject.getStatus() == ProjectStatus.OPEN) {
+            notificationPublisher.projectOpened(savedProject);
+        }
+        return projectMapper.toDto(savedProject);
     }
 
     @Override
@@ -204,15 +312,26 @@ public class ProjectServiceImpl implements IProjectService {
         if (category != null) existingProject.setCategory(category);
         if (!subcategories.isEmpty()) existingProject.setSubcategories(subcategories);
 
-        return projectMapper.toDto(projectRepository.save(existingProject));
+        Project savedProject = projectRepository.save(existingProject);
+        projectSearchIndex.indexAfterCommit(savedProject);
+        matchingEngine.refreshProjectAfterCommit(savedProject);
+        return projectMapper.toDto(savedProject);
     }
 
     @Override
     public ProjectDetailDTO updateProjectStatus(UUID projectId, ProjectStatusUpdateDTO status) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project with ID " + projectId + " not found."));
+        ProjectStatus previousStatus = project.getStatus();
         project.setStatus(status.getStatus());
-        return projectMapper.toDto(projectRepository.save(project));
+        Project savedProject = projectRepository.save(project);
+        projectSearchIndex.indexAfterCommit(savedProject);
+        matchingEngine.refreshProjectAfterCommit(savedProject);
+        // Entering the feed: published from draft, or reopened after its contract was deleted
+        if (previousStatus != ProjectStatus.OPEN && savedProject.getStatus() == ProjectStatus.OPEN) {
+            notificationPublisher.projectOpened(savedProject);
+        }
+        return projectMapper.toDto(savedProject);
     }
 
     @Override
@@ -220,6 +339,8 @@ public class ProjectServiceImpl implements IProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         projectRepository.delete(project);
+        projectSearchIndex.removeAfterCommit(project.getId());
+        matchingEngine.removeProjectAfterCommit(project.getId());
     }
 
     private static ProjectRequestDTO sanitizeProjectRequest(ProjectRequestDTO request) {
@@ -252,27 +373,4 @@ public class ProjectServiceImpl implements IProjectService {
         return sanitized;
     }
 
-    private UUID getFreelancerId(UUID userId) {
-        if (userId == null) {
-            throw new IllegalArgumentException("User ID cannot be null");
-        }
-        return freelancerProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Freelancer profile not found for user: " + userId))
-                .getId();
-    }
-
-    private UUID getCustomerId(UUID userId) {
-        if (userId == null) {
-            throw new IllegalArgumentException("User ID cannot be null");
-        }
-        CustomerProfile customer = customerProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer profile not found for user: " + userId));
-        return customer.getId();
-    }
-
-    private User getUser(String token) {
-        String email = jwtService.extractUsername(token);
-        return userService.getUserByEmail(email);
-    }
-
 }
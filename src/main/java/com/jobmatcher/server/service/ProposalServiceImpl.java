@@ -4,29 +4,60 @@ import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.mapper.ProposalMapper;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
+import com.jobmatcher.server.model.summary.FreelancerSummaryRow;
+import com.jobmatcher.server.model.summary.LanguageRow;
+import com.jobmatcher.server.model.summary.ProposalStatusRow;
+import com.jobmatcher.server.model.summary.ProposalSummaryRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
 import com.jobmatcher.server.repository.ContractRepository;
+import com.jobmatcher.server.repository.FetchPlan;
 import com.jobmatcher.server.repository.FreelancerProfileRepository;
 import com.jobmatcher.server.repository.ProjectRepository;
 import com.jobmatcher.server.repository.ProposalRepository;
+import com.jobmatcher.server.repository.SummaryProjection;
+import com.jobmatcher.server.repository.SummaryQueryRepository;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import com.jobmatcher.server.service.notification.NotificationPublisher;
+import com.jobmatcher.server.service.search.ProjectSearchIndex;
+import com.jobmatcher.server.specification.ProposalSpecification;
+import com.jobmatcher.server.util.KeysetPagination;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Transactional(rollbackFor = Exception.class)
 @Service
 public class ProposalServiceImpl implements IProposalService {
 
+    private static final Set<ProposalStatus> REOPENABLE = Set.of(ProposalStatus.ACCEPTED, ProposalStatus.REJECTED);
+
     private final ProposalRepository proposalRepository;
     private final ProjectRepository projectRepository;
     private final FreelancerProfileRepository freelancerRepository;
     private final ProposalMapper proposalMapper;
     private final ContractRepository contractRepository;
     private final IProjectService projectService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final MatchingEngine matchingEngine;
+    private final AnalyticsRollupService analyticsRollupService;
+    private final SummaryQueryRepository summaryQueryRepository;
+    private final ProjectProposalStatsService projectProposalStatsService;
+    private final NotificationPublisher notificationPublisher;
 
     public ProposalServiceImpl(
             ProposalRepository proposalRepository,
@@ -34,7 +65,13 @@ public class ProposalServiceImpl implements IProposalService {
             FreelancerProfileRepository freelancerRepository,
             ProposalMapper proposalMapper,
             ContractRepository contractRepository,
-            IProjectService projectService
+            IProjectService projectService,
+            ProjectSearchIndex projectSearchIndex,
+            MatchingEngine matchingEngine,
+            AnalyticsRollupService analyticsRollupService,
+            SummaryQueryRepository summaryQueryRepository,
+            ProjectProposalStatsService projectProposalStatsService,
+            NotificationPublisher notificationPublisher
             ) {
         this.proposalRepository = proposalRepository;
         this.projectRepository = projectRepository;
@@ -42,29 +79,74 @@ public class ProposalServiceImpl implements IProposalService {
         this.proposalMapper = proposalMapper;
         this.contractRepository = contractRepository;
         this.projectService = projectService;
+        this.projectSearchIndex = projectSearchIndex;
+        this.matchingEngine = matchingEngine;
+        this.analyticsRollupService = analyticsRollupService;
+        this.summaryQueryRepository = summaryQueryRepository;
+        this.projectProposalStatsService = projectProposalStatsService;
+        this.notificationPublisher = notificationPublisher;
     }
 
     @Transactional(readOnly = true)
     @Override
     public Page<ProposalSummaryDTO> getProposalsByProjectId(UUID projectId, Pageable pageable, ProposalStatus status) {
-        Page<Proposal> proposals;
-        if (status != null) {
-            proposals = proposalRepository.findByProjectIdAndStatus(projectId, pageable, status);
-        } else {
-            proposals = proposalRepository.findByProjectId(projectId, pageable);
+        Page<ProposalSummaryRow> rows = summaryQueryRepository.findPage(
+                SummaryProjection.PROPOSAL, ProposalSpecification.byProject(projectId, status), pageable);
+        return new PageImpl<>(toSummaryDtos(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDTO<ProposalSummaryDTO> getProposalsByProjectIdAndCursor(
+            UUID projectId,
+            String cursor,
+            int size,
+            ProposalStatus status
+    ) {
+        return KeysetPagination.fetch(
+                summaryQueryRepository,
+                SummaryProjection.PROPOSAL,
+                ProposalSpecification.byProject(projectId, status),
+                cursor,
+                size,
+                this::toSummaryDtos
+        );
+    }
+
+    private List<ProposalSummaryDTO> toSummaryDtos(List<ProposalSummaryRow> rows) {
+        List<UUID> freelancerIds = rows.stream()
+                .map(ProposalSummaryRow::freelancer)
+                .filter(Objects::nonNull)
+                .map(FreelancerSummaryRow::profileId)
+                .distinct()
+                .toList();
+        if (freelancerIds.isEmpty()) {
+            return rows.stream().map(row -> proposalMapper.fromRow(row, List.of(), List.of(), List.of())).toList();
         }
-        return proposals.map(proposalMapper::toSummaryDto);
+
+        // Freelancer collections of the whole page: one IN query each
+        Map<UUID, List<SubcategoryRow>> subcategories = freelancerRepository.findSubcategorySummaryRows(freelancerIds).stream()
+                .collect(Collectors.groupingBy(SubcategoryRow::ownerId));
+        Map<UUID, List<ProfileSkillRow>> skills = freelancerRepository.findSkillRows(freelancerIds).stream()
+                .collect(Collectors.groupingBy(ProfileSkillRow::profileId));
+        Map<UUID, List<LanguageRow>> languages = freelancerRepository.findLanguageRows(freelancerIds).stream()
+                .collect(Collectors.groupingBy(LanguageRow::profileId));
+        return rows.stream().map(row -> {
+            UUID freelancerId = row.freelancer() != null ? row.freelancer().profileId() : null;
+            return proposalMapper.fromRow(
+                    row,
+                    subcategories.getOrDefault(freelancerId, List.of()),
+                    skills.getOrDefault(freelancerId, List.of()),
+                    languages.getOrDefault(freelancerId, List.of())
+            );
+        }).toList();
     }
 
     @Transactional(readOnly = true)
     @Override
     public Page<ProposalSummaryDTO> getProposalsByFreelancerId(UUID freelancerId, Pageable pageable, ProposalStatus status) {
-        Page<Proposal> proposals;
-        if (status != null) {
-            proposals = proposalRepository.findByFreelancerIdAndStatus(freelancerId, pageable, status);
-        } else {
-            proposals = proposalRepository.findByFreelancerId(freelancerId, pageable);
-        }
+        Page<Proposal> proposals = FetchPlan.PROPOSAL_SUMMARY.findPage(
+                proposalRepository, ProposalSpecification.byFreelancer(freelancerId, status), pageable);
         return proposals.map(proposalMapper::toSummaryDto);
     }
 
@@ -108,6 +190,8 @@ public class ProposalServiceImpl implements IProposalService {
         Proposal proposalRequest = proposalMapper.toEntity(requestDTO, project, freelancer);
         Proposal savedProposal = proposalRepository.save(proposalRequest);
         log.info("Created proposal with ID: {}", savedProposal.getId());
+        analyticsRollupService.recordProposalCreated(savedProposal);
+        projectProposalStatsService.recordProposalCreated(savedProposal);
 
         return proposalMapper.toSummaryDto(savedProposal);
     }
@@ -120,7 +204,10 @@ public class ProposalServiceImpl implements IProposalService {
         if (requestDTO.getCoverLetter() != null) {
             existentProposal.setCoverLetter(requestDTO.getCoverLetter());
         }
+        boolean amountChanged = false;
         if (requestDTO.getAmount() != null) {
+            amountChanged = existentProposal.getAmount() == null
+                    || existentProposal.getAmount().compareTo(requestDTO.getAmount()) != 0;
             existentProposal.setAmount(requestDTO.getAmount());
         }
         if (requestDTO.getPenaltyAmount() != null) {
@@ -150,6 +237,9 @@ public class ProposalServiceImpl implements IProposalService {
         }
 
         Proposal updatedProposal = proposalRepository.save(existentProposal);
+        if (amountChanged) {
+            projectProposalStatsService.recordAmountChanged(updatedProposal);
+        }
 
         return proposalMapper.toDetailDto(updatedProposal);
     }
@@ -158,34 +248,20 @@ public class ProposalServiceImpl implements IProposalService {
     public ProposalDetailDTO updateProposalStatusById(UUID id, ProposalStatusRequestDTO requestDTO) {
         Proposal existentProposal = proposalRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Proposal not found"));
+        ProposalStatus previousStatus = existentProposal.getStatus();
 
         switch (requestDTO.getStatus()) {
             case ACCEPTED -> {
                 log.info("Accepting proposal with ID: {}", id);
-
-                existentProposal.setStatus(ProposalStatus.ACCEPTED);
-
-                Project project = existentProposal.getProject();
-                FreelancerProfile freelancer = existentProposal.getFreelancer();
-                Contract contract = getContract(existentProposal,
-                        existentProposal.getProject(),
-                        existentProposal.getFreelancer());
-                Contract savedContract = contractRepository.save(contract);
-
-                existentProposal.setContract(savedContract);
-
-                project.setAcceptedProposal(existentProposal);
-                project.setContract(savedContract);
-                project.setFreelancer(freelancer);
-                project.setStatus(ProjectStatus.IN_PROGRESS);
-
-                freelancer.getContracts().add(savedContract);
-
-                proposalRepository.save(existentProposal);
-                projectRepository.save(project);
-                freelancerRepository.save(freelancer);
-
-                log.info("Created contract with ID: {} for proposal ID: {}", contract.getId(), id);
+                // The other proposals' statuses are read once, before the bulk reject, and drive
+                // their analytics, stats and notifications like a decideProposals ACCEPT
+                UUID projectId = existentProposal.getProject().getId();
+                List<ProposalStatusRow> others = proposalRepository.findStatusRowsByProjectId(projectId).stream()
+                        .filter(row -> !row.id().equals(id))
+                        .toList();
+                acceptProposal(existentProposal);
+                recordChanges(projectId, others, row -> row.status() == ProposalStatus.PENDING
+                        ? ProposalStatus.REJECTED : row.status());
             }
             case REJECTED -> {
                 log.info("Rejecting proposal with ID: {}", id);
@@ -209,10 +285,155 @@ public class ProposalServiceImpl implements IProposalService {
         };
 
         Proposal updatedProposal = proposalRepository.save(existentProposal);
+        analyticsRollupService.recordProposalStatusChange(existentProposal, previousStatus);
+        projectProposalStatsService.recordProposalStatusChange(existentProposal, previousStatus);
+        notificationPublisher.proposalStatusChanged(existentProposal);
 
         return proposalMapper.toDetailDto(updatedProposal);
     }
 
+    /**
+     * Applies one decision to all proposals of a project with set-based updates, so the cost
+     * does not grow with the number of proposals beyond one status query. The project row is
+     * locked for the duration; the returned changes are computed from the statuses read under
+     * that lock.
+     */
+    @Override
+    public ProposalDecisionResultDTO decideProposals(UUID projectId, ProposalDecisionRequestDTO requestDTO) {
+        Project project = projectRepository.lockById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        List<ProposalStatusRow> rows = proposalRepository.findStatusRowsByProjectId(projectId);
+        OffsetDateTime now = OffsetDateTime.now();
+        UUID contractId = null;
+        List<ProposalStatusChangeDTO> changes;
+
+        switch (requestDTO.getDecision()) {
+            case ACCEPT -> {
+                UUID acceptedId = requestDTO.getProposalId();
+                if (acceptedId == null) {
+                    throw new IllegalArgumentException("Proposal ID is required to accept a proposal.");
+                }
+                if (project.getAcceptedProposal() != null) {
+                    throw new IllegalStateException("Project already has an accepted proposal.");
+                }
+                Proposal proposal = proposalRepository.findById(acceptedId)
+                        .filter(p -> projectId.equals(p.getProject().getId()))
+                        .orElseThrow(() -> new ResourceNotFoundException("Proposal not found"));
+                if (proposal.getStatus() != ProposalStatus.PENDING) {
+                    throw new IllegalStateException("Only pending proposals can be accepted.");
+                }
+                log.info("Accepting proposal with ID: {} for project ID: {}", acceptedId, projectId);
+                acceptProposal(proposal);
+                contractId = proposal.getContract().getId();
+                changes = recordChanges(projectId, rows, row -> row.id().equals(acceptedId)
+                        ? ProposalStatus.ACCEPTED
+                        : row.status() == ProposalStatus.PENDING ? ProposalStatus.REJECTED : row.status());
+            }
+            case REJECT_PENDING -> {
+                log.info("Rejecting pending proposals of project ID: {}", projectId);
+                proposalRepository.updateStatusByProjectId(
+                        projectId, Set.of(ProposalStatus.PENDING), ProposalStatus.REJECTED, now);
+                changes = recordChanges(projectId, rows, row -> row.status() == ProposalStatus.PENDING
+                        ? ProposalStatus.REJECTED : row.status());
+            }
+            case REOPEN -> {
+                if (project.getContract() != null) {
+                    throw new IllegalStateException("Cannot reopen proposals of a project that has a contract.");
+                }
+                changes = reopen(projectId, rows, null, now);
+            }
+            default -> throw new IllegalArgumentException("Unsupported decision: " + requestDTO.getDecision());
+        }
+
+        return ProposalDecisionResultDTO.builder()
+                .projectId(projectId)
+                .decision(requestDTO.getDecision())
+                .contractId(contractId)
+                .changes(changes)
+                .build();
+    }
+
+    @Override
+    public List<ProposalStatusChangeDTO> reopenProposals(UUID projectId, UUID rejectedProposalId) {
+        return reopen(projectId, proposalRepository.findStatusRowsByProjectId(projectId), rejectedProposalId,
+                OffsetDateTime.now());
+    }
+
+    private List<ProposalStatusChangeDTO> reopen(
+            UUID projectId,
+            List<ProposalStatusRow> rows,
+            UUID rejectedProposalId,
+            OffsetDateTime now
+    ) {
+        log.info("Reopening proposals of project ID: {}", projectId);
+        if (rejectedProposalId == null) {
+            proposalRepository.updateStatusByProjectId(projectId, REOPENABLE, ProposalStatus.PENDING, now);
+        } else {
+            proposalRepository.reopenByProjectIdRejecting(projectId, REOPENABLE, rejectedProposalId, now);
+        }
+        return recordChanges(projectId, rows, row -> row.id().equals(rejectedProposalId)
+                ? ProposalStatus.REJECTED
+                : REOPENABLE.contains(row.status()) ? ProposalStatus.PENDING : row.status());
+    }
+
+    private List<ProposalStatusChangeDTO> recordChanges(
+            UUID projectId,
+            List<ProposalStatusRow> rows,
+            Function<ProposalStatusRow, ProposalStatus> nextStatus
+    ) {
+        List<ProposalStatusChangeDTO> changes = new ArrayList<>();
+        List<ProposalStatusRow> changed = new ArrayList<>();
+        for (ProposalStatusRow row : rows) {
+            ProposalStatus status = nextStatus.apply(row);
+            if (status == row.status()) {
+                continue;
+            }
+            analyticsRollupService.recordProposalStatusChange(row.freelancerId(), status, row.status());
+            changes.add(ProposalStatusChangeDTO.builder()
+                    .id(row.id())
+                    .previousStatus(row.status())
+                    .status(status)
+                    .build());
+            changed.add(new ProposalStatusRow(row.id(), row.freelancerId(), status));
+        }
+        projectProposalStatsService.recordStatusChanges(projectId, changes);
+        notificationPublisher.proposalStatusesChanged(projectId, changed);
+        return changes;
+    }
+
+    /**
+     * Accepts the proposal, creates its contract and assigns the freelancer. The other pending
+     * proposals of the project are rejected in one update; callers record those changes from
+     * the status rows they read beforehand.
+     */
+    private void acceptProposal(Proposal proposal) {
+        proposal.setStatus(ProposalStatus.ACCEPTED);
+
+        Project project = proposal.getProject();
+        FreelancerProfile freelancer = proposal.getFreelancer();
+        Contract contract = getContract(proposal, project, freelancer);
+        Contract savedContract = contractRepository.save(contract);
+
+        proposal.setContract(savedContract);
+
+        project.setAcceptedProposal(proposal);
+        project.setContract(savedContract);
+        project.setFreelancer(freelancer);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+
+        freelancer.getContracts().add(savedContract);
+
+        proposalRepository.save(proposal);
+        projectRepository.save(project);
+        freelancerRepository.save(freelancer);
+        proposalRepository.rejectOtherPendingProposals(
+                project.getId(), proposal.getId(), ProposalStatus.REJECTED, OffsetDateTime.now());
+        projectSearchIndex.indexAfterCommit(project);
+        matchingEngine.refreshProjectAfterCommit(project);
+
+        log.info("Created contract with ID: {} for proposal ID: {}", savedContract.getId(), proposal.getId());
+    }
+
     private static Contract getContract(
             Proposal existentProposal,
             Project project,
@@ -245,5 +466,7 @@ public class ProposalServiceImpl implements IProposalService {
             throw new IllegalStateException("Cannot delete a proposal that has an associated contract.");
         }
         proposalRepository.delete(existentProposal);
+        analyticsRollupService.recordProposalDeleted(existentProposal);
+        projectProposalStatsService.recordProposalDeleted(existentProposal);
     }
 }
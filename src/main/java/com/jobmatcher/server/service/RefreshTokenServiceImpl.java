@@ -7,6 +7,7 @@ import com.jobmatcher.server.mapper.UserMapper;
 import com.jobmatcher.server.model.AuthResponse;
 import com.jobmatcher.server.model.AuthUserDTO;
 import com.jobmatcher.server.repository.RefreshTokenRepository;
+import com.jobmatcher.server.security.PrincipalCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -27,15 +28,18 @@ public class RefreshTokenServiceImpl implements IRefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtService jwtService;
     private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
 
     public RefreshTokenServiceImpl(
             RefreshTokenRepository refreshTokenRepository,
             JwtService jwtService,
-            UserMapper userMapper
+            UserMapper userMapper,
+            PrincipalCache principalCache
     ) {
         this.refreshTokenRepository = refreshTokenRepository;
         this.jwtService = jwtService;
         this.userMapper = userMapper;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -93,5 +97,7 @@ public class RefreshTokenServiceImpl implements IRefreshTokenService {
     @Transactional
     public void deleteByUser(User user) {
         refreshTokenRepository.deleteByUserId(user.getId());
+        // Ending the user's sessions also drops the cached principal
+        principalCache.invalidateAfterCommit(user.getEmail());
     }
 }
@@ -1,25 +1,37 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.domain.Skill;
-import com.jobmatcher.server.mapper.SkillMapper;
 import com.jobmatcher.server.model.SkillDTO;
 import com.jobmatcher.server.repository.SkillRepository;
+import com.jobmatcher.server.service.search.SkillDictionary;
+import com.jobmatcher.server.service.search.SkillTrie;
+import com.jobmatcher.server.service.reference.ReferenceDataCache;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
 import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 public class SkillServiceImpl implements ISkillService {
 
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_SKILL_NAME_LENGTH = 50;
+
     private final SkillRepository skillRepository;
-    private final SkillMapper skillMapper;
+    private final SkillDictionary skillDictionary;
+    private final ReferenceDataCache referenceDataCache;
 
-    public SkillServiceImpl(SkillRepository skillRepository, SkillMapper skillMapper) {
+    public SkillServiceImpl(
+            SkillRepository skillRepository,
+            SkillDictionary skillDictionary,
+            ReferenceDataCache referenceDataCache
+    ) {
         this.skillRepository = skillRepository;
-        this.skillMapper = skillMapper;
+        this.skillDictionary = skillDictionary;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -27,23 +39,93 @@ public class SkillServiceImpl implements ISkillService {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Skill name is empty or invalid.");
         }
+        return resolveOrCreateByNames(List.of(name)).iterator().next();
+    }
+
+    /**
+     * Resolves names case-insensitively through the skill dictionary, asks the database
+     * only for names the dictionary does not know, and creates the rest in one batch.
+     * Costs two queries at most, plus one insert per new skill.
+     */
+    @Override
+    public Set<Skill> resolveOrCreateByNames(Collection<String> names) {
+        // Case-folded name -> name as first given
+        Map<String, String> wanted = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) continue;
+            String trimmed = name.trim();
+            wanted.putIfAbsent(SkillTrie.fold(trimmed), trimmed);
+        }
+        if (wanted.isEmpty()) return Set.of();
+
+        Map<UUID, String> knownIds = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        wanted.forEach((key, name) -> skillDictionary.find(key).ifPresentOrElse(
+                entry -> knownIds.put(entry.id(), key),
+                () -> missing.put(key, name)));
+
+        Set<Skill> skills = new HashSet<>();
+        if (!knownIds.isEmpty()) {
+            for (Skill skill : skillRepository.findAllById(knownIds.keySet())) {
+                skills.add(skill);
+                knownIds.remove(skill.getId());
+            }
+            // Anything left was in the dictionary but is gone from the database
+            knownIds.values().forEach(key -> missing.put(key, wanted.get(key)));
+        }
+
+        if (!missing.isEmpty()) {
+            List<Skill> existing = skillRepository.findAllByLowerNameIn(missing.keySet());
+            for (Skill skill : existing) {
+                missing.remove(SkillTrie.fold(skill.getName()));
+            }
+            skills.addAll(existing);
+            skillDictionary.addAfterCommit(existing);
+        }
 
-        String sanitized = name.trim();
-        return skillRepository.findByNameIgnoreCase(sanitized)
-                .orElseGet(() -> skillRepository.save(new Skill(sanitized)));
+        if (!missing.isEmpty()) {
+            List<Skill> created = skillRepository.saveAll(missing.values().stream().map(Skill::new).toList());
+            skills.addAll(created);
+            skillDictionary.addAfterCommit(created);
+            referenceDataCache.invalidateSkills();
+        }
+        return skills;
+    }
+
+    @Override
+    public List<SkillDTO> suggest(String prefix, int limit) {
+        String folded = prefix == null ? "" : SkillTrie.fold(prefix);
+        if (folded.length() > MAX_SKILL_NAME_LENGTH) {
+            return List.of();
+        }
+        int size = Math.clamp(limit, 1, MAX_SUGGESTIONS);
+        if (!skillDictionary.isReady()) {
+            return skillRepository.findTop10ByNameStartingWithIgnoreCaseOrderByNameAsc(folded).stream()
+                    .limit(size)
+                    .map(skill -> SkillDTO.builder().name(skill.getName()).build())
+                    .toList();
+        }
+        return skillDictionary.suggest(folded, size).stream()
+                .map(entry -> SkillDTO.builder().name(entry.name()).build())
+                .toList();
+    }
+
+    @Override
+    public ReferenceSnapshot<SkillDTO> getSkillsSnapshot() {
+        return referenceDataCache.skills();
     }
 
     @Override
     public List<SkillDTO> getAllSkills() {
-        return skillRepository.findAll().stream().map(skillMapper::toDto).toList();
+        return getSkillsSnapshot().items();
     }
 
     public String sanitizeSkillName(String input) {
         if (input == null) return "";
         String trimmed = input.trim();
         String cleaned = trimmed.replaceAll("[^a-zA-Z0-9+#\\s]", "");
-        if (cleaned.length() > 50) {
-            cleaned = cleaned.substring(0, 50);
+        if (cleaned.length() > MAX_SKILL_NAME_LENGTH) {
+            cleaned = cleaned.substring(0, MAX_SKILL_NAME_LENGTH);
         }
         return cleaned;
     }
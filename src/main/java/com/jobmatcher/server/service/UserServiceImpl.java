@@ -9,6 +9,7 @@ import com.jobmatcher.server.model.UserRequestDTO;
 import com.jobmatcher.server.model.UserResponseDTO;
 import com.jobmatcher.server.repository.AddressRepository;
 import com.jobmatcher.server.repository.UserRepository;
+import com.jobmatcher.server.security.PrincipalCache;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,15 +23,18 @@ public class UserServiceImpl implements IUserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final AddressRepository addressRepository;
+    private final PrincipalCache principalCache;
 
     public UserServiceImpl(
             UserRepository userRepository,
             UserMapper userMapper,
-            AddressRepository addressRepository
+            AddressRepository addressRepository,
+            PrincipalCache principalCache
     ) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.addressRepository = addressRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -81,6 +85,7 @@ public class UserServiceImpl implements IUserService {
         }
 
         User updatedUser = userRepository.save(existentUser);
+        principalCache.invalidateAfterCommit(existentUser.getEmail());
 
         return userMapper.toUserResponseDto(updatedUser);
     }
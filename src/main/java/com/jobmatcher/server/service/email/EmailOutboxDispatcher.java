@@ -0,0 +1,122 @@
+package com.jobmatcher.server.service.email;
+
+import com.jobmatcher.server.config.EmailOutboxProperties;
+import com.jobmatcher.server.domain.EmailOutboxMessage;
+import com.jobmatcher.server.exception.EmailSendException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email outbox in batches. A batch is claimed in one short transaction, sent
+ * in parallel (bounded per provider) with no transaction or row lock held, and each
+ * outcome is recorded in its own transaction.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService outboxService;
+    private final EmailTransport transport;
+    private final EmailOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Semaphore> providerPermits = new ConcurrentHashMap<>();
+    private final AtomicLong pending = new AtomicLong();
+
+    public EmailOutboxDispatcher(EmailOutboxService outboxService,
+                                 EmailTransport transport,
+                                 EmailOutboxProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.transport = transport;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting for a delivery attempt")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        List<EmailOutboxMessage> batch = outboxService.claimDue(properties.batchSize());
+        List<Future<?>> deliveries = new ArrayList<>(batch.size());
+        for (EmailOutboxMessage message : batch) {
+            deliveries.add(executor.submit(() -> deliver(message)));
+        }
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (ExecutionException e) {
+                log.error("Email delivery task failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        pending.set(outboxService.countPending());
+    }
+
+    @Scheduled(cron = "${email.outbox.purge-cron:0 15 4 * * ?}")
+    public void purgeSent() {
+        int purged = outboxService.purgeSent(properties.retention());
+        if (purged > 0) {
+            log.info("Purged {} sent emails from the outbox", purged);
+        }
+    }
+
+    void deliver(EmailOutboxMessage message) {
+        String provider = transport.provider();
+        Semaphore permits = providerPermits.computeIfAbsent(provider,
+                p -> new Semaphore(properties.concurrencyFor(p)));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String error = null;
+        boolean retryable = false;
+        permits.acquireUninterruptibly();
+        try {
+            transport.send(new OutboundEmail(message.getRecipient(), message.getSubject(), message.getHtmlBody()));
+        } catch (EmailSendException e) {
+            error = e.getMessage();
+            retryable = e.isRetryable();
+        } catch (RuntimeException e) {
+            error = e.toString();
+            retryable = true;
+        } finally {
+            permits.release();
+        }
+
+        String outcome;
+        if (error == null) {
+            outboxService.markSent(message.getId());
+            outcome = "sent";
+        } else {
+            log.warn("Email {} attempt {} failed: {}", message.getId(), message.getAttempts(), error);
+            outcome = outboxService.markFailed(message.getId(), error, retryable) ? "retry" : "failed";
+        }
+        sample.stop(Timer.builder("email.outbox.send")
+                .description("Email delivery attempts")
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobmatcher.server.service.email;
+
+import com.jobmatcher.server.config.EmailOutboxProperties;
+import com.jobmatcher.server.domain.EmailOutboxMessage;
+import com.jobmatcher.server.domain.EmailOutboxStatus;
+import com.jobmatcher.server.repository.EmailOutboxRepository;
+import com.jobmatcher.server.util.RetryBackoff;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Persistent email outbox. {@link #enqueue} joins the caller's transaction, so an email
+ * exists exactly when the change that triggered it commits. Delivery state transitions
+ * run in short transactions of their own; the provider call itself happens outside any
+ * transaction (see {@link EmailOutboxDispatcher}).
+ */
+@Slf4j
+@Transactional(rollbackFor = Exception.class)
+@Service
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxProperties properties;
+
+    public EmailOutboxService(EmailOutboxRepository outboxRepository, EmailOutboxProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.properties = properties;
+    }
+
+    public void enqueue(OutboundEmail email) {
+        OffsetDateTime now = now();
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setRecipient(email.to());
+        message.setSubject(email.subject());
+        message.setHtmlBody(email.htmlBody());
+        message.setStatus(EmailOutboxStatus.PENDING);
+        message.setCreatedAt(now);
+        message.setNextAttemptAt(now);
+        outboxRepository.save(message);
+    }
+
+    /**
+     * Claims up to {@code limit} due messages for delivery. Each claim counts as an attempt
+     * and holds a lease; if the dispatcher dies before recording the outcome the message
+     * becomes due again when the lease expires, so delivery is at-least-once.
+     */
+    public List<EmailOutboxMessage> claimDue(int limit) {
+        OffsetDateTime now = now();
+        List<EmailOutboxMessage> due = outboxRepository.lockDueMessages(now, limit);
+        for (EmailOutboxMessage message : due) {
+            message.setStatus(EmailOutboxStatus.SENDING);
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plus(properties.sendLease()));
+        }
+        return due;
+    }
+
+    public void markSent(UUID id) {
+        outboxRepository.findById(id).ifPresent(message -> {
+            message.setStatus(EmailOutboxStatus.SENT);
+            message.setSentAt(now());
+            message.setLastError(null);
+        });
+    }
+
+    /**
+     * Records a failed attempt.
+     *
+     * @return {@code true} when another attempt was scheduled
+     */
+    public boolean markFailed(UUID id, String error, boolean retryable) {
+        EmailOutboxMessage message = outboxRepository.findById(id).orElse(null);
+        if (message == null) {
+            return false;
+        }
+        message.setLastError(truncate(error));
+        if (retryable && message.getAttempts() < properties.maxAttempts()) {
+            message.setStatus(EmailOutboxStatus.PENDING);
+            message.setNextAttemptAt(now().plus(RetryBackoff.delay(message.getAttempts(),
+                    properties.initialBackoff(), properties.maxBackoff(), ThreadLocalRandom.current().nextDouble())));
+            return true;
+        }
+        message.setStatus(EmailOutboxStatus.FAILED);
+        log.error("Giving up on email {} to {} after {} attempts: {}",
+                id, message.getRecipient(), message.getAttempts(), error);
+        return false;
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxRepository.countByStatus(EmailOutboxStatus.PENDING);
+    }
+
+    public int purgeSent(Duration retention) {
+        return outboxRepository.deleteSentBefore(now().minus(retention));
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) return error;
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jobmatcher.server.service.email;
+
+import com.jobmatcher.server.exception.EmailSendException;
+
+/**
+ * Delivers one email through a provider. Only the outbox dispatcher calls this; request
+ * code enqueues through {@link EmailOutboxService} instead.
+ */
+public interface EmailTransport {
+
+    /**
+     * Name used for per-provider concurrency limits and metrics.
+     */
+    String provider();
+
+    /**
+     * @throws EmailSendException when delivery fails; {@link EmailSendException#isRetryable()}
+     *                            decides whether the outbox schedules another attempt
+     */
+    void send(OutboundEmail email);
+}
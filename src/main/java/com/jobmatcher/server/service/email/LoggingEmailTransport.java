@@ -0,0 +1,25 @@
+package com.jobmatcher.server.service.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs emails instead of sending them, for local development and tests
+ * ({@code email.transport=log}).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "email.transport", havingValue = "log")
+public class LoggingEmailTransport implements EmailTransport {
+
+    @Override
+    public String provider() {
+        return "log";
+    }
+
+    @Override
+    public void send(OutboundEmail email) {
+        log.info("Email to {}: {}", email.to(), email.subject());
+    }
+}
@@ -0,0 +1,4 @@
+package com.jobmatcher.server.service.email;
+
+public record OutboundEmail(String to, String subject, String htmlBody) {
+}
@@ -0,0 +1,133 @@
+package com.jobmatcher.server.service.matching;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.jobmatcher.server.service.matching.FeatureVector.SUBCATEGORY_WORDS;
+import static com.jobmatcher.server.service.matching.FeatureVector.TERM_WORDS;
+
+/**
+ * Struct-of-arrays storage for feature vectors. Each entity owns a slot; all features of
+ * all slots live in a handful of flat primitive arrays so the scoring loop walks
+ * contiguous memory. Removed slots are recycled. Not thread-safe: callers guard access.
+ */
+final class FeatureStore {
+
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private UUID[] ids;
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+
+    long[] categoryBits;
+    long[] subcategoryBits;
+    long[] termBits;
+    int[] subcategoryCount;
+    int[] termCount;
+    float[] amount;
+    byte[] level;
+
+    FeatureStore(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        ids = new UUID[capacity];
+        freeSlots = new int[capacity];
+        categoryBits = new long[capacity];
+        subcategoryBits = new long[capacity * SUBCATEGORY_WORDS];
+        termBits = new long[capacity * TERM_WORDS];
+        subcategoryCount = new int[capacity];
+        termCount = new int[capacity];
+        amount = new float[capacity];
+        level = new byte[capacity];
+    }
+
+    void upsert(UUID id, FeatureVector vector) {
+        Integer existing = slotsById.get(id);
+        int slot = existing != null ? existing : allocate();
+        ids[slot] = id;
+        slotsById.put(id, slot);
+
+        categoryBits[slot] = vector.categoryBits();
+        int subCount = 0;
+        for (int w = 0; w < SUBCATEGORY_WORDS; w++) {
+            long word = vector.subcategoryBits()[w];
+            subcategoryBits[slot * SUBCATEGORY_WORDS + w] = word;
+            subCount += Long.bitCount(word);
+        }
+        int terms = 0;
+        for (int w = 0; w < TERM_WORDS; w++) {
+            long word = vector.termBits()[w];
+            termBits[slot * TERM_WORDS + w] = word;
+            terms += Long.bitCount(word);
+        }
+        subcategoryCount[slot] = subCount;
+        termCount[slot] = terms;
+        amount[slot] = vector.amount();
+        level[slot] = vector.level();
+    }
+
+    void remove(UUID id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) return;
+        ids[slot] = null;
+        freeSlots[freeCount++] = slot;
+    }
+
+    void clear() {
+        slotsById.clear();
+        Arrays.fill(ids, null);
+        freeCount = 0;
+        highWater = 0;
+    }
+
+    /**
+     * Slot of {@code id}, or -1 when it is not stored.
+     */
+    int slotOf(UUID id) {
+        Integer slot = slotsById.get(id);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Upper bound (exclusive) of slots that may be in use.
+     */
+    int highWater() {
+        return highWater;
+    }
+
+    boolean isLive(int slot) {
+        return ids[slot] != null;
+    }
+
+    UUID idAt(int slot) {
+        return ids[slot];
+    }
+
+    int size() {
+        return slotsById.size();
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == ids.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        categoryBits = Arrays.copyOf(categoryBits, capacity);
+        subcategoryBits = Arrays.copyOf(subcategoryBits, capacity * SUBCATEGORY_WORDS);
+        termBits = Arrays.copyOf(termBits, capacity * TERM_WORDS);
+        subcategoryCount = Arrays.copyOf(subcategoryCount, capacity);
+        termCount = Arrays.copyOf(termCount, capacity);
+        amount = Arrays.copyOf(amount, capacity);
+        level = Arrays.copyOf(level, capacity);
+    }
+}
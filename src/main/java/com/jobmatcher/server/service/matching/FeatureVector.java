@@ -0,0 +1,112 @@
+package com.jobmatcher.server.service.matching;
+
+import com.jobmatcher.server.domain.ExperienceLevel;
+import com.jobmatcher.server.service.search.TextAnalyzer;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encoded features of one freelancer or project, ready to be copied into a {@link FeatureStore}.
+ * <p>
+ * Categories and subcategories are hashed into fixed bit sets; skills (freelancers) and
+ * title/description terms (projects) share one hashed term space so they can be compared
+ * with a bitwise AND. {@code amount} is the hourly rate or the project budget and
+ * {@code level} an experience tier (1 = junior .. 3 = senior, 0 = unknown).
+ */
+public record FeatureVector(
+        long categoryBits,
+        long[] subcategoryBits,
+        long[] termBits,
+        float amount,
+        byte level
+) {
+
+    static final int SUBCATEGORY_WORDS = 4;
+    static final int TERM_WORDS = 16;
+
+    // Budgets at or above these amounts call for a mid / senior freelancer
+    static final BigDecimal MID_BUDGET = BigDecimal.valueOf(1_000);
+    static final BigDecimal SENIOR_BUDGET = BigDecimal.valueOf(5_000);
+
+    public static FeatureVector forFreelancer(
+            Collection<Long> categoryIds,
+            Collection<Long> subcategoryIds,
+            Collection<String> skillNames,
+            Double hourlyRate,
+            ExperienceLevel experienceLevel
+    ) {
+        long[] terms = new long[TERM_WORDS];
+        for (String skill : skillNames) {
+            setTermBits(terms, skill);
+        }
+        return new FeatureVector(
+                categoryBits(categoryIds),
+                subcategoryBits(subcategoryIds),
+                terms,
+                hourlyRate != null ? hourlyRate.floatValue() : 0f,
+                experienceLevel != null ? (byte) (experienceLevel.ordinal() + 1) : 0
+        );
+    }
+
+    public static FeatureVector forProject(
+            Long categoryId,
+            Collection<Long> subcategoryIds,
+            BigDecimal budget,
+            String title,
+            String description
+    ) {
+        long[] terms = new long[TERM_WORDS];
+        setTermBits(terms, title);
+        setTermBits(terms, description);
+
+        byte level = 0;
+        if (budget != null) {
+            level = budget.compareTo(SENIOR_BUDGET) >= 0 ? (byte) 3
+                    : budget.compareTo(MID_BUDGET) >= 0 ? (byte) 2
+                    : (byte) 1;
+        }
+        return new FeatureVector(
+                categoryId != null ? categoryBits(List.of(categoryId)) : 0L,
+                subcategoryBits(subcategoryIds),
+                terms,
+                budget != null ? budget.floatValue() : 0f,
+                level
+        );
+    }
+
+    private static long categoryBits(Collection<Long> categoryIds) {
+        long bits = 0L;
+        for (Long id : categoryIds) {
+            if (id != null) bits |= 1L << (int) Math.floorMod(id, 64L);
+        }
+        return bits;
+    }
+
+    private static long[] subcategoryBits(Collection<Long> subcategoryIds) {
+        long[] bits = new long[SUBCATEGORY_WORDS];
+        for (Long id : subcategoryIds) {
+            if (id == null) continue;
+            int bit = (int) Math.floorMod(id, SUBCATEGORY_WORDS * 64L);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+        return bits;
+    }
+
+    private static void setTermBits(long[] bits, String text) {
+        for (String term : TextAnalyzer.analyze(text)) {
+            int bit = Math.floorMod(mix(term.hashCode()), TERM_WORDS * 64);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    // Spreads String.hashCode so similar terms do not land on neighbouring bits
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,167 @@
+package com.jobmatcher.server.service.matching;
+
+import static com.jobmatcher.server.service.matching.FeatureVector.SUBCATEGORY_WORDS;
+import static com.jobmatcher.server.service.matching.FeatureVector.TERM_WORDS;
+
+/**
+ * Scoring kernel and top-K selection over two {@link FeatureStore}s.
+ * Works only on primitive arrays: scoring a pair allocates nothing, and a ranking
+ * query allocates just its two result arrays.
+ */
+final class MatchKernel {
+
+    static final float SUBCATEGORY_WEIGHT = 0.40f;
+    static final float CATEGORY_WEIGHT = 0.15f;
+    static final float TERM_WEIGHT = 0.25f;
+    static final float BUDGET_WEIGHT = 0.12f;
+    static final float LEVEL_WEIGHT = 0.08f;
+
+    // Skill overlap saturates after this many matching skill terms
+    static final int TERM_SATURATION = 6;
+    // A project budget covering this many hours at the freelancer's rate is a full fit
+    static final float REFERENCE_HOURS = 40f;
+    private static final float NEUTRAL = 0.5f;
+
+    private MatchKernel() {
+    }
+
+    /**
+     * Score in [0, 1] for freelancer slot {@code f} against project slot {@code p};
+     * 0 when they share no category, subcategory or skill term.
+     */
+    static float score(FeatureStore freelancers, int f, FeatureStore projects, int p) {
+        int subOverlap = 0;
+        int fSub = f * SUBCATEGORY_WORDS;
+        int pSub = p * SUBCATEGORY_WORDS;
+        for (int w = 0; w < SUBCATEGORY_WORDS; w++) {
+            subOverlap += Long.bitCount(freelancers.subcategoryBits[fSub + w] & projects.subcategoryBits[pSub + w]);
+        }
+
+        int termOverlap = 0;
+        int fTerm = f * TERM_WORDS;
+        int pTerm = p * TERM_WORDS;
+        for (int w = 0; w < TERM_WORDS; w++) {
+            termOverlap += Long.bitCount(freelancers.termBits[fTerm + w] & projects.termBits[pTerm + w]);
+        }
+
+        boolean sameCategory = (freelancers.categoryBits[f] & projects.categoryBits[p]) != 0;
+        if (subOverlap == 0 && termOverlap == 0 && !sameCategory) return 0f;
+
+        int projectSubCount = projects.subcategoryCount[p];
+        float subScore = projectSubCount > 0 ? (float) subOverlap / projectSubCount : 0f;
+
+        int termBase = Math.min(freelancers.termCount[f], TERM_SATURATION);
+        float termScore = termBase > 0 ? Math.min(1f, (float) termOverlap / termBase) : 0f;
+
+        float rate = freelancers.amount[f];
+        float budget = projects.amount[p];
+        float budgetScore = rate > 0f && budget > 0f
+                ? Math.min(1f, budget / (rate * REFERENCE_HOURS))
+                : NEUTRAL;
+
+        byte fLevel = freelancers.level[f];
+        byte pLevel = projects.level[p];
+        float levelScore = fLevel > 0 && pLevel > 0
+                ? 1f - Math.abs(fLevel - pLevel) / 2f
+                : NEUTRAL;
+
+        return SUBCATEGORY_WEIGHT * subScore
+                + CATEGORY_WEIGHT * (sameCategory ? 1f : 0f)
+                + TERM_WEIGHT * termScore
+                + BUDGET_WEIGHT * budgetScore
+                + LEVEL_WEIGHT * levelScore;
+    }
+
+    /**
+     * Ranks every live project slot against freelancer slot {@code f}.
+     */
+    static Ranking topProjects(FeatureStore freelancers, int f, FeatureStore projects, int k) {
+        Ranking ranking = new Ranking(k);
+        for (int p = 0, end = projects.highWater(); p < end; p++) {
+            if (!projects.isLive(p)) continue;
+            ranking.offer(p, score(freelancers, f, projects, p));
+        }
+        return ranking;
+    }
+
+    /**
+     * Ranks every live freelancer slot against project slot {@code p}.
+     */
+    static Ranking topFreelancers(FeatureStore freelancers, FeatureStore projects, int p, int k) {
+        Ranking ranking = new Ranking(k);
+        for (int f = 0, end = freelancers.highWater(); f < end; f++) {
+            if (!freelancers.isLive(f)) continue;
+            ranking.offer(f, score(freelancers, f, projects, p));
+        }
+        return ranking;
+    }
+
+    /**
+     * Bounded min-heap of (slot, score) pairs kept in two parallel arrays.
+     */
+    static final class Ranking {
+        final int[] slots;
+        final float[] scores;
+        int size;
+
+        Ranking(int k) {
+            slots = new int[k];
+            scores = new float[k];
+        }
+
+        void offer(int slot, float score) {
+            if (score <= 0f || slots.length == 0) return;
+            if (size < slots.length) {
+                slots[size] = slot;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                slots[0] = slot;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Sorts the retained entries best-first in place; the heap is unusable afterwards.
+         */
+        void sortDescending() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                int saved = size;
+                size = end;
+                siftDown(0);
+                size = saved;
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) return;
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[i] <= scores[smallest]) return;
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int slot = slots[a];
+            slots[a] = slots[b];
+            slots[b] = slot;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
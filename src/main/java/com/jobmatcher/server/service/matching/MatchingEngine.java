@@ -0,0 +1,278 @@
+package com.jobmatcher.server.service.matching;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.model.matching.*;
+import com.jobmatcher.server.model.search.ProjectSubcategoryRow;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import com.jobmatcher.server.repository.ProjectRepository;
+import com.jobmatcher.server.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps feature vectors of freelancers (available for hire) and OPEN projects in memory
+ * and ranks one side against the other. Loaded on startup and refreshed incrementally
+ * after the transactions that change profiles or projects commit.
+ */
+@Slf4j
+@Component
+public class MatchingEngine {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final FreelancerProfileRepository freelancerProfileRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final FeatureStore freelancers = new FeatureStore(1024);
+    private final FeatureStore projects = new FeatureStore(1024);
+
+    // Guards loading and pendingDuringLoad; changes committed during a load are replayed after it
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final List<Runnable> pendingDuringLoad = new ArrayList<>();
+    private boolean loading;
+
+    public MatchingEngine(ProjectRepository projectRepository, FreelancerProfileRepository freelancerProfileRepository) {
+        this.projectRepository = projectRepository;
+        this.freelancerProfileRepository = freelancerProfileRepository;
+    }
+
+    public record Match(UUID id, float score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Rebuilds both vector stores from the database. Refreshes that arrive meanwhile
+     * are replayed once the load finishes.
+     */
+    public void reload() {
+        loadLock.lock();
+        try {
+            if (loading) return;
+            loading = true;
+        } finally {
+            loadLock.unlock();
+        }
+        long start = System.currentTimeMillis();
+        try {
+            Map<UUID, FeatureVector> projectVectors = loadProjectVectors();
+            Map<UUID, FeatureVector> freelancerVectors = loadFreelancerVectors();
+
+            lock.writeLock().lock();
+            try {
+                projects.clear();
+                freelancers.clear();
+                projectVectors.forEach(projects::upsert);
+                freelancerVectors.forEach(freelancers::upsert);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Matching engine loaded {} projects and {} freelancers in {} ms",
+                    projectVectors.size(), freelancerVectors.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to load matching vectors", e);
+        } finally {
+            List<Runnable> pending;
+            loadLock.lock();
+            try {
+                loading = false;
+                pending = new ArrayList<>(pendingDuringLoad);
+                pendingDuringLoad.clear();
+            } finally {
+                loadLock.unlock();
+            }
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Re-encodes {@code project} inside the caller's transaction and stores the vector after
+     * commit. Projects that are no longer OPEN are dropped from matching.
+     */
+    public void refreshProjectAfterCommit(Project project) {
+        if (project == null || project.getId() == null) return;
+        UUID id = project.getId();
+        if (project.getStatus() != ProjectStatus.OPEN) {
+            removeProjectAfterCommit(id);
+            return;
+        }
+        Set<Long> subcategoryIds = new HashSet<>();
+        if (project.getSubcategories() != null) {
+            for (JobSubcategory subcategory : project.getSubcategories()) {
+                subcategoryIds.add(subcategory.getId());
+            }
+        }
+        FeatureVector vector = FeatureVector.forProject(
+                project.getCategory() != null ? project.getCategory().getId() : null,
+                subcategoryIds,
+                project.getBudget(),
+                project.getTitle(),
+                project.getDescription());
+        TransactionCallbacks.afterCommit(() -> apply(() -> projects.upsert(id, vector)));
+    }
+
+    public void removeProjectAfterCommit(UUID projectId) {
+        if (projectId == null) return;
+        TransactionCallbacks.afterCommit(() -> apply(() -> projects.remove(projectId)));
+    }
+
+    /**
+     * Re-encodes {@code profile} inside the caller's transaction and stores the vector after
+     * commit. Profiles not available for hire are dropped from matching.
+     */
+    public void refreshFreelancerAfterCommit(FreelancerProfile profile) {
+        if (profile == null || profile.getId() == null) return;
+        UUID id = profile.getId();
+        if (Boolean.FALSE.equals(profile.getAvailableForHire())) {
+            TransactionCallbacks.afterCommit(() -> apply(() -> freelancers.remove(id)));
+            return;
+        }
+        Set<Long> categoryIds = new HashSet<>();
+        Set<Long> subcategoryIds = new HashSet<>();
+        if (profile.getJobSubcategories() != null) {
+            for (JobSubcategory subcategory : profile.getJobSubcategories()) {
+                subcategoryIds.add(subcategory.getId());
+                if (subcategory.getCategory() != null) categoryIds.add(subcategory.getCategory().getId());
+            }
+        }
+        List<String> skillNames = new ArrayList<>();
+        if (profile.getSkills() != null) {
+            for (Skill skill : profile.getSkills()) {
+                skillNames.add(skill.getName());
+            }
+        }
+        FeatureVector vector = FeatureVector.forFreelancer(
+                categoryIds, subcategoryIds, skillNames, profile.getHourlyRate(), profile.getExperienceLevel());
+        TransactionCallbacks.afterCommit(() -> apply(() -> freelancers.upsert(id, vector)));
+    }
+
+    /**
+     * Best OPEN projects for a freelancer, best first. Empty when the freelancer is unknown.
+     */
+    public List<Match> topProjectsForFreelancer(UUID freelancerId, int k) {
+        lock.readLock().lock();
+        try {
+            int slot = freelancers.slotOf(freelancerId);
+            if (slot < 0 || k <= 0) return List.of();
+            return toMatches(MatchKernel.topProjects(freelancers, slot, projects, k), projects);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best available freelancers for a project, best first. Empty when the project is not OPEN.
+     */
+    public List<Match> topFreelancersForProject(UUID projectId, int k) {
+        lock.readLock().lock();
+        try {
+            int slot = projects.slotOf(projectId);
+            if (slot < 0 || k <= 0) return List.of();
+            return toMatches(MatchKernel.topFreelancers(freelancers, projects, slot, k), freelancers);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Match> toMatches(MatchKernel.Ranking ranking, FeatureStore store) {
+        ranking.sortDescending();
+        List<Match> matches = new ArrayList<>(ranking.size);
+        for (int i = 0; i < ranking.size; i++) {
+            matches.add(new Match(store.idAt(ranking.slots[i]), ranking.scores[i]));
+        }
+        return matches;
+    }
+
+    private void apply(Runnable change) {
+        loadLock.lock();
+        try {
+            if (loading) {
+                pendingDuringLoad.add(change);
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                change.run();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Map<UUID, FeatureVector> loadProjectVectors() {
+        Map<UUID, FeatureVector> vectors = new HashMap<>();
+        Pageable pageable = PageRequest.of(0, LOAD_BATCH_SIZE);
+        Slice<ProjectFeatureRow> slice;
+        do {
+            slice = projectRepository.findOpenFeatureRows(pageable);
+            List<UUID> ids = slice.getContent().stream().map(ProjectFeatureRow::id).toList();
+            Map<UUID, Set<Long>> subcategories = new HashMap<>();
+            if (!ids.isEmpty()) {
+                for (ProjectSubcategoryRow row : projectRepository.findSubcategoryRows(ids)) {
+                    subcategories.computeIfAbsent(row.projectId(), key -> new HashSet<>()).add(row.subcategoryId());
+                }
+            }
+            for (ProjectFeatureRow row : slice.getContent()) {
+                vectors.put(row.id(), FeatureVector.forProject(
+                        row.categoryId(),
+                        subcategories.getOrDefault(row.id(), Set.of()),
+                        row.budget(),
+                        row.title(),
+                        row.description()));
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+        return vectors;
+    }
+
+    private Map<UUID, FeatureVector> loadFreelancerVectors() {
+        Map<UUID, FeatureVector> vectors = new HashMap<>();
+        Pageable pageable = PageRequest.of(0, LOAD_BATCH_SIZE);
+        Slice<FreelancerFeatureRow> slice;
+        do {
+            slice = freelancerProfileRepository.findFeatureRows(pageable);
+            List<UUID> ids = slice.getContent().stream()
+                    .filter(row -> !Boolean.FALSE.equals(row.availableForHire()))
+                    .map(FreelancerFeatureRow::id)
+                    .toList();
+            Map<UUID, Set<Long>> categories = new HashMap<>();
+            Map<UUID, Set<Long>> subcategories = new HashMap<>();
+            Map<UUID, List<String>> skills = new HashMap<>();
+            if (!ids.isEmpty()) {
+                for (ProfileSubcategoryRow row : freelancerProfileRepository.findSubcategoryRows(ids)) {
+                    subcategories.computeIfAbsent(row.profileId(), key -> new HashSet<>()).add(row.subcategoryId());
+                    categories.computeIfAbsent(row.profileId(), key -> new HashSet<>()).add(row.categoryId());
+                }
+                for (ProfileSkillRow row : freelancerProfileRepository.findSkillRows(ids)) {
+                    skills.computeIfAbsent(row.profileId(), key -> new ArrayList<>()).add(row.skillName());
+                }
+            }
+            for (FreelancerFeatureRow row : slice.getContent()) {
+                if (Boolean.FALSE.equals(row.availableForHire())) continue;
+                vectors.put(row.id(), FeatureVector.forFreelancer(
+                        categories.getOrDefault(row.id(), Set.of()),
+                        subcategories.getOrDefault(row.id(), Set.of()),
+                        skills.getOrDefault(row.id(), List.of()),
+                        row.hourlyRate(),
+                        row.experienceLevel()));
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+        return vectors;
+    }
+}
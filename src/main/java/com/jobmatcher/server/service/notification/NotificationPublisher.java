@@ -0,0 +1,187 @@
+package com.jobmatcher.server.service.notification;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.model.NotificationDTO;
+import com.jobmatcher.server.model.NotificationType;
+import com.jobmatcher.server.model.summary.ProposalStatusRow;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import com.jobmatcher.server.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes notifications to connected profiles over STOMP ({@code /user/queue/notifications}).
+ * Services call it inside their transaction; nothing is sent unless and until that
+ * transaction commits, and only to recipients with an open session. New OPEN projects are
+ * fanned out off the request thread to connected freelancers working in one of the
+ * project's subcategories.
+ */
+@Slf4j
+@Component
+public class NotificationPublisher {
+
+    public static final String DESTINATION = "/queue/notifications";
+
+    // Connected profiles matched against a project's subcategories per query
+    private static final int FAN_OUT_BATCH_SIZE = 1000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final FreelancerProfileRepository freelancerProfileRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter sent;
+
+    public NotificationPublisher(SimpMessagingTemplate messagingTemplate,
+                                 SimpUserRegistry userRegistry,
+                                 FreelancerProfileRepository freelancerProfileRepository,
+                                 MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.freelancerProfileRepository = freelancerProfileRepository;
+        this.sent = Counter.builder("websocket.notifications.sent")
+                .description("Notifications handed to the broker for a connected recipient")
+                .register(meterRegistry);
+    }
+
+    private record Delivery(UUID recipientId, NotificationDTO notification) {
+    }
+
+    public void projectOpened(Project project) {
+        UUID projectId = project.getId();
+        NotificationDTO notification = notification(NotificationType.PROJECT_POSTED, projectId, projectId,
+                ProjectStatus.OPEN.name())
+                .title(project.getTitle())
+                .build();
+        TransactionCallbacks.afterCommit(() -> executor.execute(() -> fanOut(projectId, notification)));
+    }
+
+    /**
+     * Notifies the proposal's freelancer and the project's customer.
+     */
+    public void proposalStatusChanged(Proposal proposal) {
+        Project project = proposal.getProject();
+        NotificationDTO notification = notification(NotificationType.PROPOSAL_STATUS, proposal.getId(),
+                project.getId(), proposal.getStatus().name()).build();
+        publishAfterCommit(List.of(
+                new Delivery(proposal.getFreelancer().getId(), notification),
+                new Delivery(project.getCustomer().getId(), notification)));
+    }
+
+    /**
+     * Notifies the freelancer of each proposal changed by a bulk update of one project; the
+     * rows carry the new status. The customer made the change and gets the result directly.
+     */
+    public void proposalStatusesChanged(UUID projectId, List<ProposalStatusRow> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<Delivery> deliveries = new ArrayList<>(changed.size());
+        for (ProposalStatusRow row : changed) {
+            deliveries.add(new Delivery(row.freelancerId(),
+                    notification(NotificationType.PROPOSAL_STATUS, row.id(), projectId, row.status().name()).build()));
+        }
+        publishAfterCommit(deliveries);
+    }
+
+    public void contractStatusChanged(Contract contract) {
+        NotificationDTO notification = notification(NotificationType.CONTRACT_STATUS, contract.getId(),
+                projectIdOf(contract), contract.getStatus().name()).build();
+        publishAfterCommit(partiesOf(contract, notification));
+    }
+
+    public void invoiceStatusChanged(Invoice invoice) {
+        Contract contract = invoice.getContract();
+        NotificationDTO notification = notification(NotificationType.INVOICE_STATUS, invoice.getId(),
+                projectIdOf(contract), invoice.getStatus().name()).build();
+        publishAfterCommit(partiesOf(contract, notification));
+    }
+
+    void fanOut(UUID projectId, NotificationDTO notification) {
+        try {
+            List<UUID> connected = connectedProfileIds();
+            for (int from = 0; from < connected.size(); from += FAN_OUT_BATCH_SIZE) {
+                List<UUID> batch = connected.subList(from, Math.min(connected.size(), from + FAN_OUT_BATCH_SIZE));
+                for (UUID freelancerId : freelancerProfileRepository.findIdsMatchingProjectSubcategories(projectId, batch)) {
+                    deliver(freelancerId, notification);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to fan out project {}", projectId, e);
+        }
+    }
+
+    private List<UUID> connectedProfileIds() {
+        List<UUID> ids = new ArrayList<>(userRegistry.getUserCount());
+        for (SimpUser user : userRegistry.getUsers()) {
+            try {
+                ids.add(UUID.fromString(user.getName()));
+            } catch (IllegalArgumentException e) {
+                log.debug("Skipping STOMP user with a non-UUID name: {}", user.getName());
+            }
+        }
+        return ids;
+    }
+
+    private void publishAfterCommit(List<Delivery> deliveries) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (Delivery delivery : deliveries) {
+                deliver(delivery.recipientId(), delivery.notification());
+            }
+        });
+    }
+
+    private void deliver(UUID recipientId, NotificationDTO notification) {
+        if (recipientId == null) {
+            return;
+        }
+        String user = recipientId.toString();
+        if (userRegistry.getUser(user) == null) {
+            return;
+        }
+        messagingTemplate.convertAndSendToUser(user, DESTINATION, notification);
+        sent.increment();
+    }
+
+    private static List<Delivery> partiesOf(Contract contract, NotificationDTO notification) {
+        List<Delivery> deliveries = new ArrayList<>(2);
+        if (contract.getCustomer() != null) {
+            deliveries.add(new Delivery(contract.getCustomer().getId(), notification));
+        }
+        if (contract.getFreelancer() != null) {
+            deliveries.add(new Delivery(contract.getFreelancer().getId(), notification));
+        }
+        return deliveries;
+    }
+
+    private static UUID projectIdOf(Contract contract) {
+        return contract.getProject() != null ? contract.getProject().getId() : null;
+    }
+
+    private static NotificationDTO.NotificationDTOBuilder notification(
+            NotificationType type, UUID resourceId, UUID projectId, String status) {
+        return NotificationDTO.builder()
+                .type(type)
+                .resourceId(resourceId)
+                .projectId(projectId)
+                .status(status)
+                .occurredAt(OffsetDateTime.now());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package com.jobmatcher.server.service.notification;
+
+import com.jobmatcher.server.config.WebSocketProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the messages each STOMP session has waiting on the outbound channel. Once a
+ * session has {@code sessionQueueCapacity} messages queued, further messages to it are
+ * dropped rather than queued, so one slow client cannot fill the shared outbound queue and
+ * delay everyone else. Notifications only tell clients what to refetch, so a dropped one
+ * is recovered on the client's next load. Frames other than MESSAGE (CONNECTED, ERROR,
+ * RECEIPT) are never dropped. A client that stops reading altogether is closed by the
+ * transport's send time and buffer limits.
+ */
+@Slf4j
+@Component
+public class SessionOutboundGuard implements ExecutorChannelInterceptor {
+
+    private final int capacity;
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final Counter opened;
+    private final Counter dropped;
+
+    public SessionOutboundGuard(WebSocketProperties properties, MeterRegistry meterRegistry) {
+        this.capacity = properties.sessionQueueCapacity();
+        Gauge.builder("websocket.sessions.active", pending, Map::size)
+                .description("Connected STOMP sessions")
+                .register(meterRegistry);
+        this.opened = Counter.builder("websocket.sessions.opened")
+                .description("STOMP sessions connected since startup")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("websocket.messages.dropped")
+                .description("Messages dropped because the session's outbound queue was full")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null && pending.putIfAbsent(sessionId, new AtomicInteger()) == null) {
+            opened.increment();
+        }
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        pending.remove(event.getSessionId());
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        AtomicInteger queued = queuedFor(message);
+        if (queued == null) {
+            return message;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            dropped.increment();
+            log.debug("Dropping message for slow session {}", SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+            return null;
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                    boolean sent, Exception ex) {
+        // Not handed to the executor (e.g. its queue is full): afterMessageHandled will not run
+        if (!sent || ex != null) {
+            release(message);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                    @NonNull MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    int queued(String sessionId) {
+        AtomicInteger queued = pending.get(sessionId);
+        return queued == null ? 0 : queued.get();
+    }
+
+    private void release(Message<?> message) {
+        AtomicInteger queued = queuedFor(message);
+        if (queued != null) {
+            queued.updateAndGet(n -> Math.max(0, n - 1));
+        }
+    }
+
+    private AtomicInteger queuedFor(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId == null ? null : pending.get(sessionId);
+    }
+}
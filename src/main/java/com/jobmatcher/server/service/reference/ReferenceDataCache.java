@@ -0,0 +1,174 @@
+package com.jobmatcher.server.service.reference;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmatcher.server.mapper.JobCategoryMapper;
+import com.jobmatcher.server.mapper.LanguageMapper;
+import com.jobmatcher.server.mapper.SkillMapper;
+import com.jobmatcher.server.model.JobCategoryDTO;
+import com.jobmatcher.server.model.LanguageDTO;
+import com.jobmatcher.server.model.SkillDTO;
+import com.jobmatcher.server.repository.JobCategoryRepository;
+import com.jobmatcher.server.repository.LanguageRepository;
+import com.jobmatcher.server.repository.SkillRepository;
+import com.jobmatcher.server.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copies of the reference lists (job categories with their subcategories,
+ * languages and skills). Each list is loaded once, serialized once and then served from
+ * memory until a write invalidates it; the next read reloads it.
+ * <p>
+ * Lists are sorted (categories and languages by id, skills by name, subcategories by id)
+ * so the same data always produces the same bytes and therefore the same ETag.
+ * Services that write reference data must call the matching {@code invalidate*} method.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    // The ETag is a truncated SHA-256 of the JSON; 128 bits is plenty to tell versions apart
+    private static final int ETAG_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+    private final Slot<JobCategoryDTO> categories;
+    private final Slot<LanguageDTO> languages;
+    private final Slot<SkillDTO> skills;
+
+    public ReferenceDataCache(
+            ObjectMapper objectMapper,
+            JobCategoryRepository categoryRepository,
+            JobCategoryMapper categoryMapper,
+            LanguageRepository languageRepository,
+            LanguageMapper languageMapper,
+            SkillRepository skillRepository,
+            SkillMapper skillMapper
+    ) {
+        this.objectMapper = objectMapper;
+        this.categories = new Slot<>("job categories", () -> categoryRepository.findAll().stream()
+                .map(categoryMapper::toDto)
+                .sorted(Comparator.comparing(JobCategoryDTO::getId))
+                .toList());
+        this.languages = new Slot<>("languages", () -> languageRepository.findAll().stream()
+                .map(languageMapper::toDto)
+                .sorted(Comparator.comparing(LanguageDTO::getId))
+                .toList());
+        this.skills = new Slot<>("skills", () -> skillRepository.findAll().stream()
+                .map(skillMapper::toDto)
+                .sorted(Comparator.comparing(SkillDTO::getName))
+                .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        categories.get();
+        languages.get();
+        skills.get();
+    }
+
+    public ReferenceSnapshot<JobCategoryDTO> categories() {
+        return categories.get();
+    }
+
+    public ReferenceSnapshot<LanguageDTO> languages() {
+        return languages.get();
+    }
+
+    public ReferenceSnapshot<SkillDTO> skills() {
+        return skills.get();
+    }
+
+    /**
+     * Drops the cached languages now and again once the current transaction ends. A read
+     * that reloads them before the commit cannot leave the old list cached, and one that
+     * sees the uncommitted row cannot keep it after a rollback.
+     */
+    public void invalidateLanguages() {
+        languages.invalidate();
+        TransactionCallbacks.afterCompletion(languages::invalidate);
+    }
+
+    /**
+     * Same as {@link #invalidateLanguages()} for skills.
+     */
+    public void invalidateSkills() {
+        skills.invalidate();
+        TransactionCallbacks.afterCompletion(skills::invalidate);
+    }
+
+    private <T> ReferenceSnapshot<T> build(List<T> items) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize reference data", e);
+        }
+        return new ReferenceSnapshot<>(items, json, etag(json));
+    }
+
+    static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private final class Slot<T> {
+
+        private final String name;
+        private final Supplier<List<T>> loader;
+        // One load per slot at a time; it is held across the query, so not a synchronized block
+        private final ReentrantLock loadLock = new ReentrantLock();
+        // get() compares it before and after loading and skips caching if the slot was invalidated meanwhile
+        private final AtomicLong invalidations = new AtomicLong();
+        private volatile ReferenceSnapshot<T> snapshot;
+
+        Slot(String name, Supplier<List<T>> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        ReferenceSnapshot<T> get() {
+            ReferenceSnapshot<T> current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            loadLock.lock();
+            try {
+                current = snapshot;
+                if (current != null) {
+                    return current;
+                }
+                long generation = invalidations.get();
+                ReferenceSnapshot<T> loaded = build(loader.get());
+                if (invalidations.get() == generation) {
+                    snapshot = loaded;
+                }
+                log.debug("Loaded {} {} into the reference cache (ETag {})", loaded.items().size(), name, loaded.etag());
+                return loaded;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+
+        void invalidate() {
+            invalidations.incrementAndGet();
+            snapshot = null;
+        }
+    }
+}
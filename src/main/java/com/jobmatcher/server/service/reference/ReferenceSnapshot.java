@@ -0,0 +1,14 @@
+package com.jobmatcher.server.service.reference;
+
+import java.util.List;
+
+/**
+ * One immutable version of a reference list: the DTOs, their JSON as served, and a strong
+ * ETag derived from that JSON. A new snapshot is built whenever the list changes.
+ */
+public record ReferenceSnapshot<T>(List<T> items, byte[] json, String etag) {
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,361 @@
+package com.jobmatcher.server.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index with BM25 ranking and prefix expansion.
+ * <p>
+ * Documents are addressed by an external key and stored under a dense internal id.
+ * Postings are append-only; replacing or removing a document tombstones its old id
+ * and the postings are compacted once tombstones outnumber live documents.
+ * Reads share a read lock, so concurrent searches never block each other.
+ */
+public class InvertedIndex<K> {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    static final int MIN_PREFIX_LENGTH = 2;
+    private static final float PREFIX_WEIGHT = 0.5f;
+    private static final int MIN_TOMBSTONES_BEFORE_COMPACTION = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<K, Integer> docIdsByKey = new HashMap<>();
+
+    private Object[] keys = new Object[64];
+    private String[][] docTerms = new String[64][];
+    private int[][] docFreqs = new int[64][];
+    private int[] docLengths = new int[64];
+    private final BitSet live = new BitSet();
+
+    private int nextDocId;
+    private int liveDocs;
+    private long totalLength;
+
+    private final ThreadLocal<Accumulator> accumulators = ThreadLocal.withInitial(Accumulator::new);
+
+    public record Hit<K>(K key, float score) {
+    }
+
+    /**
+     * The best {@code top} hits and the number of documents that matched in total.
+     */
+    public record Hits<K>(List<Hit<K>> top, int total) {
+
+        static <K> Hits<K> none() {
+            return new Hits<>(List.of(), 0);
+        }
+    }
+
+    /**
+     * Indexes (or re-indexes) the document identified by {@code key}.
+     */
+    public void put(K key, List<String> terms) {
+        Objects.requireNonNull(key, "key");
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (frequencies.isEmpty()) return;
+
+            int docId = nextDocId++;
+            ensureCapacity(docId + 1);
+
+            String[] uniqueTerms = new String[frequencies.size()];
+            int[] freqs = new int[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                uniqueTerms[i] = entry.getKey();
+                freqs[i] = entry.getValue();
+                dictionary.computeIfAbsent(entry.getKey(), t -> new Postings()).add(docId, entry.getValue());
+                i++;
+            }
+
+            keys[docId] = key;
+            docTerms[docId] = uniqueTerms;
+            docFreqs[docId] = freqs;
+            docLengths[docId] = terms.size();
+            live.set(docId);
+            docIdsByKey.put(key, docId);
+            liveDocs++;
+            totalLength += terms.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index content in one step; readers see either the old or the new state.
+     */
+    public void replaceAll(Map<K, List<String>> documents) {
+        lock.writeLock().lock();
+        try {
+            clearInternal();
+            documents.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks documents matching every query term. When {@code prefix} is set it forms one more
+     * required term that matches its own stem ({@code prefixTerm}) or any indexed term starting
+     * with it, which is what type-ahead search needs for the word still being typed.
+     *
+     * @param queryTerms analyzed query terms; every term must match
+     * @param prefix     raw, lower-cased token to expand, or {@code null}
+     * @param prefixTerm analyzed form of {@code prefix}, or {@code null}
+     * @param filter     optional predicate on document keys
+     * @param limit      maximum number of hits to return; the total counts every match
+     */
+    public Hits<K> search(List<String> queryTerms, String prefix, String prefixTerm, Predicate<K> filter, int limit) {
+        Set<String> exact = new LinkedHashSet<>(queryTerms);
+        boolean usePrefix = prefix != null && prefix.length() >= MIN_PREFIX_LENGTH;
+        if (!usePrefix && prefixTerm != null) exact.add(prefixTerm);
+        if (exact.isEmpty() && !usePrefix) return Hits.none();
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) return Hits.none();
+
+            List<Map<String, Float>> groups = new ArrayList<>();
+            for (String term : exact) {
+                groups.add(Map.of(term, 1f));
+            }
+            if (usePrefix) {
+                Map<String, Float> group = new HashMap<>();
+                expandPrefix(prefix, group);
+                if (prefixTerm != null) group.put(prefixTerm, 1f);
+                groups.add(group);
+            }
+
+            Accumulator acc = accumulators.get();
+            acc.reset(nextDocId);
+            float avgLength = (float) totalLength / liveDocs;
+
+            for (int g = 0; g < groups.size(); g++) {
+                boolean matchedAny = false;
+                for (Map.Entry<String, Float> term : groups.get(g).entrySet()) {
+                    Postings postings = dictionary.get(term.getKey());
+                    if (postings == null || postings.liveDf == 0) continue;
+                    matchedAny = true;
+                    float idf = idf(postings.liveDf);
+                    for (int p = 0; p < postings.size; p++) {
+                        int doc = postings.docs[p];
+                        if (!live.get(doc)) continue;
+                        float tf = postings.freqs[p];
+                        float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                        acc.add(doc, g, term.getValue() * idf * (tf * (K1 + 1)) / (tf + norm));
+                    }
+                }
+                // Every group must match, so an unmatched group means no results.
+                if (!matchedAny) return Hits.none();
+            }
+
+            return acc.top(groups.size(), limit, doc -> {
+                @SuppressWarnings("unchecked")
+                K key = (K) keys[doc];
+                return key;
+            }, filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void expandPrefix(String prefix, Map<String, Float> group) {
+        SortedMap<String, Postings> matches = dictionary.subMap(prefix, prefix + Character.MAX_VALUE);
+        if (matches.isEmpty()) return;
+
+        List<Map.Entry<String, Postings>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Postings> entry : matches.entrySet()) {
+            if (entry.getValue().liveDf > 0) candidates.add(entry);
+        }
+        if (candidates.size() > MAX_PREFIX_EXPANSIONS) {
+            candidates.sort((a, b) -> Integer.compare(b.getValue().liveDf, a.getValue().liveDf));
+            candidates = candidates.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        for (Map.Entry<String, Postings> entry : candidates) {
+            group.merge(entry.getKey(), PREFIX_WEIGHT, Math::max);
+        }
+    }
+
+    private float idf(int df) {
+        return (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+    }
+
+    private void removeInternal(K key) {
+        Integer docId = docIdsByKey.remove(key);
+        if (docId == null) return;
+
+        for (String term : docTerms[docId]) {
+            Postings postings = dictionary.get(term);
+            if (postings != null && --postings.liveDf == 0) {
+                dictionary.remove(term);
+            }
+        }
+        live.clear(docId);
+        liveDocs--;
+        totalLength -= docLengths[docId];
+        keys[docId] = null;
+        docTerms[docId] = null;
+        docFreqs[docId] = null;
+
+        int tombstones = nextDocId - liveDocs;
+        if (tombstones > MIN_TOMBSTONES_BEFORE_COMPACTION && tombstones > liveDocs) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        Object[] oldKeys = keys;
+        String[][] oldTerms = docTerms;
+        int[][] oldFreqs = docFreqs;
+        int[] oldLengths = docLengths;
+        int oldNext = nextDocId;
+
+        clearInternal();
+        ensureCapacity(oldNext);
+        for (int doc = 0; doc < oldNext; doc++) {
+            if (oldTerms[doc] == null) continue;
+            int docId = nextDocId++;
+            for (int t = 0; t < oldTerms[doc].length; t++) {
+                dictionary.computeIfAbsent(oldTerms[doc][t], x -> new Postings()).add(docId, oldFreqs[doc][t]);
+            }
+            keys[docId] = oldKeys[doc];
+            docTerms[docId] = oldTerms[doc];
+            docFreqs[docId] = oldFreqs[doc];
+            docLengths[docId] = oldLengths[doc];
+            live.set(docId);
+            @SuppressWarnings("unchecked")
+            K key = (K) oldKeys[doc];
+            docIdsByKey.put(key, docId);
+            liveDocs++;
+            totalLength += oldLengths[doc];
+        }
+    }
+
+    private void clearInternal() {
+        dictionary.clear();
+        docIdsByKey.clear();
+        live.clear();
+        keys = new Object[64];
+        docTerms = new String[64][];
+        docFreqs = new int[64][];
+        docLengths = new int[64];
+        nextDocId = 0;
+        liveDocs = 0;
+        totalLength = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= keys.length) return;
+        int newCapacity = Math.max(capacity, keys.length * 2);
+        keys = Arrays.copyOf(keys, newCapacity);
+        docTerms = Arrays.copyOf(docTerms, newCapacity);
+        docFreqs = Arrays.copyOf(docFreqs, newCapacity);
+        docLengths = Arrays.copyOf(docLengths, newCapacity);
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int liveDf;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            liveDf++;
+        }
+    }
+
+    /**
+     * Per-thread score buffers, reused across searches and reset only where touched.
+     */
+    private static final class Accumulator {
+        private float[] scores = new float[0];
+        private int[] matchedGroups = new int[0];
+        private int[] lastGroup = new int[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+
+        void reset(int docCount) {
+            if (scores.length < docCount) {
+                int capacity = Math.max(docCount, scores.length * 2);
+                scores = new float[capacity];
+                matchedGroups = new int[capacity];
+                lastGroup = new int[capacity];
+                touched = new int[capacity];
+                Arrays.fill(lastGroup, -1);
+            } else {
+                for (int i = 0; i < touchedCount; i++) {
+                    int doc = touched[i];
+                    scores[doc] = 0f;
+                    matchedGroups[doc] = 0;
+                    lastGroup[doc] = -1;
+                }
+            }
+            touchedCount = 0;
+        }
+
+        void add(int doc, int group, float score) {
+            if (lastGroup[doc] == -1) {
+                touched[touchedCount++] = doc;
+            }
+            if (lastGroup[doc] != group) {
+                lastGroup[doc] = group;
+                matchedGroups[doc]++;
+            }
+            scores[doc] += score;
+        }
+
+        <K> Hits<K> top(int requiredGroups, int limit, java.util.function.IntFunction<K> keyOf, Predicate<K> filter) {
+            PriorityQueue<Hit<K>> heap = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            int total = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (matchedGroups[doc] != requiredGroups) continue;
+                K key = keyOf.apply(doc);
+                if (filter != null && !filter.test(key)) continue;
+                total++;
+                float score = scores[doc];
+                if (limit <= 0 || (heap.size() == limit && heap.peek().score() >= score)) continue;
+                heap.offer(new Hit<>(key, score));
+                if (heap.size() > limit) heap.poll();
+            }
+            List<Hit<K>> hits = new ArrayList<>(heap);
+            hits.sort(Comparator.comparingDouble((Hit<K> h) -> h.score()).reversed());
+            return new Hits<>(hits, total);
+        }
+    }
+}
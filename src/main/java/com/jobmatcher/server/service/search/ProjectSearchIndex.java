@@ -0,0 +1,218 @@
+package com.jobmatcher.server.service.search;
+
+import com.jobmatcher.server.domain.JobSubcategory;
+import com.jobmatcher.server.domain.Project;
+import com.jobmatcher.server.domain.ProjectStatus;
+import com.jobmatcher.server.model.search.ProjectSearchRow;
+import com.jobmatcher.server.model.search.ProjectSubcategoryRow;
+import com.jobmatcher.server.repository.ProjectRepository;
+import com.jobmatcher.server.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Full-text index over project titles and descriptions used by the job feed.
+ * Built from the database on startup and kept current by {@code ProjectServiceImpl}.
+ * Until the first build completes {@link #isReady()} is false and callers fall back
+ * to the SQL search.
+ */
+@Slf4j
+@Component
+public class ProjectSearchIndex {
+
+    static final int TITLE_BOOST = 3;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final InvertedIndex<UUID> index = new InvertedIndex<>();
+    private final Map<UUID, Facets> facets = new ConcurrentHashMap<>();
+
+    // Orders index writes against a rebuild: while one runs, writes are queued and replayed after the swap
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final List<Runnable> pendingDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public ProjectSearchIndex(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    private record Facets(ProjectStatus status, Long categoryId, Set<Long> subcategoryIds) {
+    }
+
+    /**
+     * Up to {@code limit} matching project IDs, best match first, and how many projects
+     * matched in total.
+     */
+    public record SearchResult(List<UUID> ids, int total) {
+
+        public boolean isComplete() {
+            return ids.size() == total;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reloads the whole index from the database. Changes applied while the reload
+     * is running are replayed afterwards so they are not lost.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            if (rebuilding) return;
+            rebuilding = true;
+        } finally {
+            rebuildLock.unlock();
+        }
+        long start = System.currentTimeMillis();
+        Map<UUID, List<String>> documents = new HashMap<>();
+        Map<UUID, Facets> loadedFacets = new HashMap<>();
+        try {
+            Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE);
+            Slice<ProjectSearchRow> slice;
+            do {
+                slice = projectRepository.findSearchRows(pageable);
+                Map<UUID, Set<Long>> subcategories = new HashMap<>();
+                List<UUID> ids = slice.getContent().stream().map(ProjectSearchRow::id).toList();
+                if (!ids.isEmpty()) {
+                    for (ProjectSubcategoryRow row : projectRepository.findSubcategoryRows(ids)) {
+                        subcategories.computeIfAbsent(row.projectId(), k -> new HashSet<>()).add(row.subcategoryId());
+                    }
+                }
+                for (ProjectSearchRow row : slice.getContent()) {
+                    documents.put(row.id(), terms(row.title(), row.description()));
+                    loadedFacets.put(row.id(), new Facets(row.status(), row.categoryId(),
+                            Set.copyOf(subcategories.getOrDefault(row.id(), Set.of()))));
+                }
+                pageable = slice.nextPageable();
+            } while (slice.hasNext());
+
+            index.replaceAll(documents);
+            facets.clear();
+            facets.putAll(loadedFacets);
+            ready = true;
+            log.info("Project search index built with {} documents in {} ms",
+                    documents.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build project search index", e);
+        } finally {
+            List<Runnable> pending;
+            rebuildLock.lock();
+            try {
+                rebuilding = false;
+                pending = new ArrayList<>(pendingDuringRebuild);
+                pendingDuringRebuild.clear();
+            } finally {
+                rebuildLock.unlock();
+            }
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Captures the searchable state of {@code project} now (inside the caller's transaction)
+     * and applies it to the index once that transaction commits.
+     */
+    public void indexAfterCommit(Project project) {
+        if (project == null || project.getId() == null) return;
+        UUID id = project.getId();
+        List<String> terms = terms(project.getTitle(), project.getDescription());
+        Set<Long> subcategoryIds = new HashSet<>();
+        if (project.getSubcategories() != null) {
+            for (JobSubcategory subcategory : project.getSubcategories()) {
+                subcategoryIds.add(subcategory.getId());
+            }
+        }
+        Facets projectFacets = new Facets(
+                project.getStatus(),
+                project.getCategory() != null ? project.getCategory().getId() : null,
+                Set.copyOf(subcategoryIds));
+        TransactionCallbacks.afterCommit(() -> apply(() -> {
+            index.put(id, terms);
+            facets.put(id, projectFacets);
+        }));
+    }
+
+    public void removeAfterCommit(UUID projectId) {
+        if (projectId == null) return;
+        TransactionCallbacks.afterCommit(() -> apply(() -> {
+            index.remove(projectId);
+            facets.remove(projectId);
+        }));
+    }
+
+    /**
+     * Returns the IDs of the best {@code limit} projects matching {@code query} and the
+     * number of matches. Facet arguments are optional; {@code null} means "any".
+     */
+    public SearchResult search(String query, ProjectStatus status, Long categoryId, Long subcategoryId, int limit) {
+        List<String> tokens = TextAnalyzer.tokenize(query);
+        if (tokens.isEmpty()) return new SearchResult(List.of(), 0);
+
+        // The last token is still being typed unless the query ends with whitespace. A stop
+        // word there is dropped like anywhere else; expanding "the" would match most terms.
+        boolean typing = !Character.isWhitespace(query.charAt(query.length() - 1))
+                && !TextAnalyzer.isStopWord(tokens.get(tokens.size() - 1));
+        int exactCount = typing ? tokens.size() - 1 : tokens.size();
+
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < exactCount; i++) {
+            String term = TextAnalyzer.normalize(tokens.get(i));
+            if (term != null) terms.add(term);
+        }
+        String prefix = typing ? tokens.get(tokens.size() - 1) : null;
+        String prefixTerm = typing ? TextAnalyzer.normalize(prefix) : null;
+
+        Predicate<UUID> filter = id -> {
+            Facets f = facets.get(id);
+            if (f == null) return false;
+            if (status != null && f.status() != status) return false;
+            if (categoryId != null && !categoryId.equals(f.categoryId())) return false;
+            return subcategoryId == null || f.subcategoryIds().contains(subcategoryId);
+        };
+
+        InvertedIndex.Hits<UUID> hits = index.search(terms, prefix, prefixTerm, filter, limit);
+        return new SearchResult(hits.top().stream().map(InvertedIndex.Hit::key).toList(), hits.total());
+    }
+
+    private void apply(Runnable change) {
+        rebuildLock.lock();
+        try {
+            if (rebuilding) {
+                pendingDuringRebuild.add(change);
+            } else {
+                change.run();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    static List<String> terms(String title, String description) {
+        List<String> titleTerms = TextAnalyzer.analyze(title);
+        List<String> terms = new ArrayList<>(titleTerms.size() * TITLE_BOOST + 64);
+        for (int i = 0; i < TITLE_BOOST; i++) {
+            terms.addAll(titleTerms);
+        }
+        terms.addAll(TextAnalyzer.analyze(description));
+        return terms;
+    }
+}
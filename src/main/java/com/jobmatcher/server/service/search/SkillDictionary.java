@@ -0,0 +1,160 @@
+package com.jobmatcher.server.service.search;
+
+import com.jobmatcher.server.domain.Skill;
+import com.jobmatcher.server.model.search.SkillPopularityRow;
+import com.jobmatcher.server.repository.SkillRepository;
+import com.jobmatcher.server.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * All skills by case-folded name, ranked by how many freelancer profiles list them.
+ * Built from the database on startup and kept current by {@code SkillServiceImpl} (new
+ * skills) and {@code FreelancerProfileServiceImpl} (profile skill changes). Until the
+ * first build completes {@link #isReady()} is false and callers fall back to SQL.
+ * <p>
+ * Popularity is for ranking only: a profile edit that commits while the dictionary is
+ * being rebuilt may be counted twice.
+ */
+@Slf4j
+@Component
+public class SkillDictionary {
+
+    private final SkillRepository skillRepository;
+    private final SkillTrie trie = new SkillTrie();
+
+    // apply() checks the rebuilding flag and runs or queues the change under it, so no change is lost
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final List<Runnable> pendingDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public SkillDictionary(SkillRepository skillRepository) {
+        this.skillRepository = skillRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reloads all skills and their profile counts. Changes applied while the reload
+     * is running are replayed afterwards so they are not lost.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            if (rebuilding) return;
+            rebuilding = true;
+        } finally {
+            rebuildLock.unlock();
+        }
+        long start = System.currentTimeMillis();
+        try {
+            Map<UUID, Long> counts = new HashMap<>();
+            for (SkillPopularityRow row : skillRepository.countProfilesPerSkill()) {
+                counts.put(row.skillId(), row.profileCount());
+            }
+            List<SkillTrie.Entry> entries = skillRepository.findAll().stream()
+                    .map(skill -> new SkillTrie.Entry(skill.getId(), skill.getName(),
+                            Math.toIntExact(counts.getOrDefault(skill.getId(), 0L))))
+                    .toList();
+            trie.replaceAll(entries);
+            ready = true;
+            log.info("Skill dictionary built with {} skills in {} ms",
+                    entries.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build skill dictionary", e);
+        } finally {
+            List<Runnable> pending;
+            rebuildLock.lock();
+            try {
+                rebuilding = false;
+                pending = new ArrayList<>(pendingDuringRebuild);
+                pendingDuringRebuild.clear();
+            } finally {
+                rebuildLock.unlock();
+            }
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    public Optional<SkillTrie.Entry> find(String name) {
+        if (!ready || name == null) return Optional.empty();
+        return trie.get(name);
+    }
+
+    /**
+     * Up to {@code limit} skills starting with {@code prefix} (case-insensitive), most
+     * popular first. Empty until the dictionary is ready.
+     */
+    public List<SkillTrie.Entry> suggest(String prefix, int limit) {
+        if (!ready) return List.of();
+        return trie.suggest(prefix == null ? "" : prefix, limit);
+    }
+
+    /**
+     * Adds {@code skills} once the current transaction commits. Skills already known are
+     * left untouched, so this is safe to call for skills that were only looked up.
+     */
+    public void addAfterCommit(Collection<Skill> skills) {
+        List<SkillTrie.Entry> entries = skills.stream()
+                .filter(skill -> skill.getId() != null && skill.getName() != null)
+                .map(skill -> new SkillTrie.Entry(skill.getId(), skill.getName(), 0))
+                .toList();
+        if (entries.isEmpty()) return;
+        TransactionCallbacks.afterCommit(() -> apply(() -> entries.forEach(trie::putIfAbsent)));
+    }
+
+    /**
+     * Moves popularity from the skills a profile dropped to the ones it added, once the
+     * current transaction commits.
+     */
+    public void profileSkillsChangedAfterCommit(Collection<Skill> before, Collection<Skill> after) {
+        Set<String> removed = names(before);
+        Set<String> added = names(after);
+        Set<String> unchanged = new HashSet<>(removed);
+        unchanged.retainAll(added);
+        removed.removeAll(unchanged);
+        added.removeAll(unchanged);
+        if (removed.isEmpty() && added.isEmpty()) return;
+        TransactionCallbacks.afterCommit(() -> apply(() -> {
+            removed.forEach(name -> trie.adjustPopularity(name, -1));
+            added.forEach(name -> trie.adjustPopularity(name, 1));
+        }));
+    }
+
+    private void apply(Runnable change) {
+        rebuildLock.lock();
+        try {
+            if (rebuilding) {
+                pendingDuringRebuild.add(change);
+            } else {
+                change.run();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static Set<String> names(Collection<Skill> skills) {
+        Set<String> names = new HashSet<>();
+        if (skills == null) return names;
+        for (Skill skill : skills) {
+            if (skill.getName() != null) {
+                names.add(SkillTrie.fold(skill.getName()));
+            }
+        }
+        return names;
+    }
+}
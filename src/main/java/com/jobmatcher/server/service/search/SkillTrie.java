@@ -0,0 +1,199 @@
+package com.jobmatcher.server.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive dictionary of skill names with popularity-ranked prefix lookup.
+ * <p>
+ * Keys are case-folded names. Every node keeps the {@link #TOP_K} most popular entries of
+ * its subtree, recomputed along the changed path on each write, so a lookup is a walk down
+ * the prefix plus a copy of that list. Reads share a read lock; writes (new skills and
+ * profile edits) are rare.
+ */
+public class SkillTrie {
+
+    static final int TOP_K = 10;
+    private static final Entry[] NONE = new Entry[0];
+    private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::popularity).reversed()
+            .thenComparing(Entry::key);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private int size;
+
+    /**
+     * One skill: its id, the name as stored and the number of profiles listing it.
+     */
+    public record Entry(UUID id, String name, int popularity) {
+
+        String key() {
+            return fold(name);
+        }
+
+        Entry withPopularity(int popularity) {
+            return new Entry(id, name, Math.max(0, popularity));
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Entry entry;
+        private Entry[] top = NONE;
+    }
+
+    public static String fold(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds the skill unless one with the same case-folded name is already present.
+     */
+    public void putIfAbsent(Entry entry) {
+        String key = entry.key();
+        if (key.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            List<Node> path = path(key, true);
+            Node node = path.getLast();
+            if (node.entry != null) return;
+            node.entry = entry;
+            size++;
+            recompute(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void adjustPopularity(String name, int delta) {
+        String key = fold(name);
+        if (key.isEmpty() || delta == 0) return;
+        lock.writeLock().lock();
+        try {
+            List<Node> path = path(key, false);
+            if (path == null) return;
+            Node node = path.getLast();
+            if (node.entry == null) return;
+            node.entry = node.entry.withPopularity(node.entry.popularity() + delta);
+            recompute(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Entry> get(String name) {
+        String key = fold(name);
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            return node == null ? Optional.empty() : Optional.ofNullable(node.entry);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Most popular skills whose folded name starts with the folded {@code prefix}, at most
+     * {@code min(limit, TOP_K)}. An empty prefix returns the most popular skills overall.
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = fold(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null || limit <= 0) return List.of();
+            Entry[] top = node.top;
+            return List.of(Arrays.copyOf(top, Math.min(limit, top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole dictionary. The new trie is built before the write lock is taken,
+     * so readers are only blocked for the swap.
+     */
+    public void replaceAll(Collection<Entry> entries) {
+        Node fresh = new Node();
+        int count = 0;
+        for (Entry entry : entries) {
+            String key = entry.key();
+            if (key.isEmpty()) continue;
+            Node node = fresh;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            if (node.entry == null) count++;
+            node.entry = entry;
+        }
+        computeSubtree(fresh);
+
+        lock.writeLock().lock();
+        try {
+            root = fresh;
+            size = count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (!create) return null;
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    // Only the nodes on the changed path can have a different top list; refresh them bottom-up
+    private static void recompute(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            rank(path.get(i));
+        }
+    }
+
+    private static void computeSubtree(Node node) {
+        for (Node child : node.children.values()) {
+            computeSubtree(child);
+        }
+        rank(node);
+    }
+
+    private static void rank(Node node) {
+        List<Entry> candidates = new ArrayList<>(node.children.size() * TOP_K + 1);
+        if (node.entry != null) {
+            candidates.add(node.entry);
+        }
+        for (Node child : node.children.values()) {
+            Collections.addAll(candidates, child.top);
+        }
+        candidates.sort(RANKING);
+        node.top = candidates.subList(0, Math.min(TOP_K, candidates.size())).toArray(NONE);
+    }
+}
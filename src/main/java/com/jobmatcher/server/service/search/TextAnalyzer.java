@@ -0,0 +1,150 @@
+package com.jobmatcher.server.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns sanitized project text into index terms: strips markup left by the
+ * HTML policy, lower-cases, drops stop words and applies a light English stemmer.
+ * The same pipeline is used for documents and queries so both sides agree on terms.
+ */
+public final class TextAnalyzer {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have",
+            "in", "into", "is", "it", "its", "of", "on", "or", "our", "that", "the", "their",
+            "this", "to", "was", "we", "will", "with", "you", "your"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Returns the stemmed terms of {@code text} in order of appearance (duplicates kept).
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokenize(text)) {
+            String term = normalize(token);
+            if (term != null) terms.add(term);
+        }
+        return terms;
+    }
+
+    /**
+     * Splits text into lower-cased word tokens, skipping tags ({@code <p>}) and
+     * character references ({@code &amp;}) produced by the sanitizer.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        StringBuilder current = new StringBuilder();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '<') {
+                int end = text.indexOf('>', i);
+                if (end > 0) {
+                    flush(current, tokens);
+                    i = end + 1;
+                    continue;
+                }
+            } else if (c == '&') {
+                int end = text.indexOf(';', i);
+                if (end > 0 && end - i <= 8) {
+                    flush(current, tokens);
+                    i = end + 1;
+                    continue;
+                }
+            }
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else {
+                flush(current, tokens);
+            }
+            i++;
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    /**
+     * Maps a single lower-cased token to its index term, or {@code null} when the
+     * token is a stop word or outside the accepted length range.
+     */
+    public static String normalize(String token) {
+        if (token == null) return null;
+        String lower = token.toLowerCase(Locale.ROOT);
+        if (lower.length() < MIN_TERM_LENGTH || lower.length() > MAX_TERM_LENGTH) return null;
+        if (isStopWord(lower)) return null;
+        return stem(lower);
+    }
+
+    public static boolean isStopWord(String token) {
+        return STOP_WORDS.contains(token.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Light suffix-stripping stemmer (plurals, -ing, -ed, -ly). Deliberately
+     * conservative: it only needs to conflate common inflections of the same word.
+     */
+    static String stem(String word) {
+        int len = word.length();
+        if (len <= 3 || !isAlphabetic(word)) return word;
+
+        if (word.endsWith("ies") && len > 4) return word.substring(0, len - 3) + "y";
+        if (word.endsWith("sses")) return word.substring(0, len - 2);
+        if (word.endsWith("ing") && len > 5 && hasVowel(word, len - 3)) return undouble(word.substring(0, len - 3));
+        if (word.endsWith("ed") && len > 4 && !word.endsWith("eed") && hasVowel(word, len - 2)) {
+            return undouble(word.substring(0, len - 2));
+        }
+        if (word.endsWith("ly") && len > 5) return word.substring(0, len - 2);
+        if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            return word.substring(0, len - 1);
+        }
+        return word;
+    }
+
+    private static String undouble(String stem) {
+        int len = stem.length();
+        if (len >= 3 && stem.charAt(len - 1) == stem.charAt(len - 2)) {
+            char c = stem.charAt(len - 1);
+            if (c != 'l' && c != 's' && c != 'z' && !isVowel(c)) {
+                return stem.substring(0, len - 1);
+            }
+        }
+        return stem;
+    }
+
+    private static boolean isAlphabetic(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isLetter(word.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean hasVowel(String word, int end) {
+        for (int i = 0; i < end; i++) {
+            if (isVowel(word.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.jobmatcher.server.service.storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.provider", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryImageStorage implements ImageStorage {
+
+    // ImageOptimizer sends JPEG/PNG; Cloudinary converts to this format on upload
+    private static final String STORED_FORMAT = "webp";
+
+    private final Cloudinary cloudinary;
+
+    public CloudinaryImageStorage(Cloudinary cloudinary) {
+        this.cloudinary = cloudinary;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String store(byte[] image, String folder, String name, boolean overwrite) throws IOException {
+        Map<String, Object> options = ObjectUtils.asMap(
+                "public_id", folder + "/" + name,
+                "overwrite", overwrite,
+                "resource_type", "image",
+                "format", STORED_FORMAT,
+                "folder", folder
+        );
+
+        Map<?, ?> uploadResult = cloudinary.uploader().upload(image, options);
+        return (String) uploadResult.get("secure_url");
+    }
+
+    @Override
+    public boolean delete(String url) throws IOException {
+        String publicId = extractPublicId(url);
+        if (publicId == null) {
+            return false;
+        }
+        cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
+        return true;
+    }
+
+    static String extractPublicId(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) return null;
+
+        try {
+            // Remove Cloudinary prefix
+            int uploadIndex = imageUrl.indexOf("/upload/");
+            if (uploadIndex == -1) return null;
+
+            String pathAfterUpload = imageUrl.substring(uploadIndex + "/upload/".length());
+            // Remove version if exists (e.g., v1234567890/)
+            if (pathAfterUpload.startsWith("v")) {
+                int slashIndex = pathAfterUpload.indexOf('/');
+                if (slashIndex != -1) {
+                    pathAfterUpload = pathAfterUpload.substring(slashIndex + 1);
+                }
+            }
+
+            // Remove file extension
+            int dotIndex = pathAfterUpload.lastIndexOf('.');
+            if (dotIndex != -1) {
+                pathAfterUpload = pathAfterUpload.substring(0, dotIndex);
+            }
+
+            return pathAfterUpload;
+        } catch (Exception e) {
+            log.error("Failed to extract Cloudinary public_id from URL: {}", imageUrl, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jobmatcher.server.service.storage;
+
+import java.io.IOException;
+
+/**
+ * Where uploaded images end up. {@code CloudinaryService} prepares the bytes and decides the
+ * names; implementations only store, address and remove them.
+ */
+public interface ImageStorage {
+
+    /**
+     * Stores {@code image} as {@code folder/name} and returns the URL it is served from.
+     *
+     * @param overwrite whether an existing image with the same name is replaced
+     */
+    String store(byte[] image, String folder, String name, boolean overwrite) throws IOException;
+
+    /**
+     * Removes the image served from {@code url}.
+     *
+     * @return {@code false} when the URL does not point into this storage, so nothing was removed
+     */
+    boolean delete(String url) throws IOException;
+}
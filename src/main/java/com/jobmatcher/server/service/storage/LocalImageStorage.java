@@ -0,0 +1,65 @@
+package com.jobmatcher.server.service.storage;
+
+import com.jobmatcher.server.config.ImageStorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Keeps images on the local filesystem under {@code image.storage.local-directory} and
+ * addresses them by {@code file:} URL, for local development and tests
+ * ({@code image.storage.provider=local}).
+ */
+@Component
+@ConditionalOnProperty(name = "image.storage.provider", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+
+    public LocalImageStorage(ImageStorageProperties properties) {
+        this.root = properties.localDirectory().toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String store(byte[] image, String folder, String name, boolean overwrite) throws IOException {
+        Path target = resolve(folder + "/" + name);
+        Files.createDirectories(target.getParent());
+        // Write next to the target and move into place so readers never see a partial file
+        Path partial = Files.createTempFile(target.getParent(), name, ".part");
+        try {
+            Files.write(partial, image);
+            if (overwrite) {
+                Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.move(partial, target);
+            }
+        } catch (FileAlreadyExistsException e) {
+            throw new IOException("Image already exists: " + folder + "/" + name, e);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        return target.toUri().toString();
+    }
+
+    @Override
+    public boolean delete(String url) throws IOException {
+        String rootUrl = root.toUri().toString();
+        if (url == null || !url.startsWith(rootUrl)) {
+            return false;
+        }
+        return Files.deleteIfExists(resolve(url.substring(rootUrl.length())));
+    }
+
+    private Path resolve(String relative) throws IOException {
+        Path path = root.resolve(relative).normalize();
+        if (!path.startsWith(root)) {
+            throw new IOException("Image path escapes storage directory: " + relative);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,124 @@
+package com.jobmatcher.server.service.storage;
+
+import com.jobmatcher.server.domain.StoredImage;
+import com.jobmatcher.server.repository.StoredImageRepository;
+import com.jobmatcher.server.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Reference counts for images in storage, so an upload whose content was processed before
+ * reuses the stored image instead of being optimized and uploaded again.
+ * <p>
+ * Each owner of an image URL (a user picture, a portfolio entry) holds one reference, taken
+ * with {@link #reference} or {@link #register} and given back with {@link #releaseImage}. Rows
+ * are locked while their count changes, so an image whose last reference is being released is
+ * never handed out again.
+ */
+@Slf4j
+@Transactional(rollbackFor = Exception.class)
+@Service
+public class StoredImageService {
+
+    private final StoredImageRepository repository;
+    private final ImageStorage imageStorage;
+
+    public StoredImageService(StoredImageRepository repository, ImageStorage imageStorage) {
+        this.repository = repository;
+        this.imageStorage = imageStorage;
+    }
+
+    /**
+     * Takes a reference to the image already stored for this content, if any.
+     */
+    public Optional<String> reference(String contentHash, String variant) {
+        return repository.lockByContent(contentHash, variant).map(image -> {
+            image.setReferenceCount(image.getReferenceCount() + 1);
+            return image.getUrl();
+        });
+    }
+
+    /**
+     * Records a newly stored image with one reference. If a concurrent upload of the same
+     * content registered first, the reference goes to that image instead and its URL is
+     * returned; the caller then removes its own copy from storage.
+     */
+    public String register(String contentHash, String variant, String url) {
+        return repository.insertOrReference(contentHash, variant, url);
+    }
+
+    /**
+     * Gives back one reference to {@code url}.
+     *
+     * @return {@code true} when nothing references the image any more and the caller should
+     *         remove it from storage; also for images stored before reference counting
+     */
+    public boolean release(String url) {
+        Optional<StoredImage> stored = repository.lockByUrl(url);
+        if (stored.isEmpty()) {
+            return true;
+        }
+        StoredImage image = stored.get();
+        if (image.getReferenceCount() > 1) {
+            image.setReferenceCount(image.getReferenceCount() - 1);
+            return false;
+        }
+        repository.delete(image);
+        return true;
+    }
+
+    /**
+     * Gives back one reference to {@code url} and, when it was the last, removes the image
+     * from storage once the surrounding transaction commits. A rollback restores the reference,
+     * so the file must still be there.
+     */
+    public void releaseImage(String url) {
+        if (release(url)) {
+            TransactionCallbacks.afterCommit(() -> deleteFromStorage(url));
+        }
+    }
+
+    /**
+     * Removes a file nothing references from storage right away. Failures are logged; an
+     * orphaned file is preferable to failing the request that dropped it.
+     */
+    public void deleteFromStorage(String url) {
+        try {
+            if (!imageStorage.delete(url)) {
+                log.warn("Image URL does not point into storage: {}", url);
+            }
+        } catch (Exception e) {
+            log.error("Storage deletion failed for {}", url, e);
+        }
+    }
+
+    /**
+     * SHA-256 of the raw upload, read as a stream so the file is never held in memory whole.
+     */
+    public static String contentHash(InputStreamSource source) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(source.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
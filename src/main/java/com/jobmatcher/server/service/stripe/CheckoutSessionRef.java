@@ -0,0 +1,9 @@
+package com.jobmatcher.server.service.stripe;
+
+/**
+ * The parts of a Stripe Checkout Session the webhook inbox needs.
+ */
+public record CheckoutSessionRef(
+        String id,
+        String clientReferenceId
+) {}
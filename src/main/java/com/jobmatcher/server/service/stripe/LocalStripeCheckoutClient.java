@@ -0,0 +1,32 @@
+package com.jobmatcher.server.service.stripe;
+
+import com.stripe.exception.InvalidRequestException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves sessions registered with {@link #register} instead of calling Stripe, for local
+ * development and tests ({@code stripe.checkout-client=local}).
+ */
+@Component
+@ConditionalOnProperty(name = "stripe.checkout-client", havingValue = "local")
+public class LocalStripeCheckoutClient implements StripeCheckoutClient {
+
+    private final Map<String, CheckoutSessionRef> sessions = new ConcurrentHashMap<>();
+
+    public void register(String sessionId, String clientReferenceId) {
+        sessions.put(sessionId, new CheckoutSessionRef(sessionId, clientReferenceId));
+    }
+
+    @Override
+    public CheckoutSessionRef retrieveSession(String sessionId) throws InvalidRequestException {
+        CheckoutSessionRef session = sessions.get(sessionId);
+        if (session == null) {
+            throw new InvalidRequestException("No such checkout.session: " + sessionId, "id", null, null, 404, null);
+        }
+        return session;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobmatcher.server.service.stripe;
+
+import com.stripe.exception.StripeException;
+import com.stripe.model.checkout.Session;
+import com.stripe.net.RequestOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "stripe.checkout-client", havingValue = "api", matchIfMissing = true)
+public class StripeApiCheckoutClient implements StripeCheckoutClient {
+
+    private final RequestOptions requestOptions;
+
+    public StripeApiCheckoutClient(@Value("${stripe.api.key}") String apiKey) {
+        this.requestOptions = RequestOptions.builder().setApiKey(apiKey).build();
+    }
+
+    @Override
+    public CheckoutSessionRef retrieveSession(String sessionId) throws StripeException {
+        Session session = Session.retrieve(sessionId, requestOptions);
+        return new CheckoutSessionRef(session.getId(), session.getClientReferenceId());
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobmatcher.server.service.stripe;
+
+import com.stripe.exception.StripeException;
+
+/**
+ * Reads Checkout Sessions from Stripe. The webhook inbox uses it when an event arrives
+ * without the session's {@code client_reference_id}.
+ */
+public interface StripeCheckoutClient {
+
+    CheckoutSessionRef retrieveSession(String sessionId) throws StripeException;
+}
@@ -0,0 +1,120 @@
+package com.jobmatcher.server.service.stripe;
+
+import com.jobmatcher.server.config.StripeWebhookInboxProperties;
+import com.jobmatcher.server.domain.StripeWebhookEvent;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the Stripe webhook inbox in batches. A batch is claimed in one short transaction
+ * (at most one open event per invoice, see the claim query) and its events are applied in
+ * parallel by up to {@code workers} at a time, each in its own transaction.
+ */
+@Slf4j
+@Component
+public class StripeWebhookDispatcher {
+
+    private final StripeWebhookInbox inbox;
+    private final StripeWebhookInboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore workers;
+    private final AtomicLong pending = new AtomicLong();
+
+    public StripeWebhookDispatcher(StripeWebhookInbox inbox,
+                                   StripeWebhookInboxProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.inbox = inbox;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.workers = new Semaphore(properties.workers());
+        Gauge.builder("stripe.webhook.inbox.pending", pending, AtomicLong::get)
+                .description("Stripe events waiting to be processed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${stripe.webhook.inbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<StripeWebhookEvent> batch = inbox.claimDue(properties.batchSize());
+        List<Future<?>> tasks = new ArrayList<>(batch.size());
+        for (StripeWebhookEvent event : batch) {
+            tasks.add(executor.submit(() -> apply(event.getId())));
+        }
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                log.error("Stripe webhook task failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        pending.set(inbox.countPending());
+    }
+
+    void apply(String eventId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String error = null;
+        boolean retryable = false;
+        workers.acquireUninterruptibly();
+        try {
+            inbox.process(eventId);
+        } catch (StripeException e) {
+            error = e.getMessage();
+            retryable = isRetryable(e);
+        } catch (ResourceNotFoundException e) {
+            error = e.getMessage();
+        } catch (RuntimeException e) {
+            error = e.toString();
+            retryable = true;
+        } finally {
+            workers.release();
+        }
+
+        String outcome;
+        if (error == null) {
+            outcome = "processed";
+        } else {
+            log.warn("Stripe event {} failed: {}", eventId, error);
+            outcome = inbox.markFailed(eventId, error, retryable) ? "retry" : "failed";
+        }
+        sample.stop(Timer.builder("stripe.webhook.inbox.process")
+                .description("Stripe webhook processing attempts")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Client errors other than rate limiting fail the same way on every attempt.
+     */
+    static boolean isRetryable(StripeException e) {
+        if (e instanceof ApiConnectionException) {
+            return true;
+        }
+        Integer status = e.getStatusCode();
+        return status == null || status == 0 || status == 429 || status >= 500;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,218 @@
+package com.jobmatcher.server.service.stripe;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.jobmatcher.server.config.StripeWebhookInboxProperties;
+import com.jobmatcher.server.domain.Invoice;
+import com.jobmatcher.server.domain.InvoiceStatus;
+import com.jobmatcher.server.domain.StripeWebhookEvent;
+import com.jobmatcher.server.domain.StripeWebhookStatus;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.repository.InvoiceRepository;
+import com.jobmatcher.server.repository.StripeWebhookEventRepository;
+import com.jobmatcher.server.service.IPaymentService;
+import com.jobmatcher.server.util.RetryBackoff;
+import com.stripe.exception.StripeException;
+import com.stripe.model.Event;
+import com.stripe.model.StripeObject;
+import com.stripe.model.checkout.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Persistent inbox for Stripe webhooks. {@link #receive} only stores the verified event, keyed
+ * by Stripe's event id so redeliveries are dropped, and the webhook is acknowledged right
+ * away. {@link StripeWebhookDispatcher} claims stored events in batches and applies each with
+ * {@link #process}, which marks the event processed in the same transaction that records the
+ * payment, so every event takes effect exactly once.
+ */
+@Slf4j
+@Transactional(rollbackFor = Exception.class)
+@Service
+public class StripeWebhookInbox {
+
+    static final String CHECKOUT_SESSION_COMPLETED = "checkout.session.completed";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final StripeWebhookEventRepository repository;
+    private final InvoiceRepository invoiceRepository;
+    private final IPaymentService paymentService;
+    private final StripeCheckoutClient checkoutClient;
+    private final StripeWebhookInboxProperties properties;
+    private final Gson gson = new Gson();
+
+    public StripeWebhookInbox(StripeWebhookEventRepository repository,
+                              InvoiceRepository invoiceRepository,
+                              IPaymentService paymentService,
+                              StripeCheckoutClient checkoutClient,
+                              StripeWebhookInboxProperties properties) {
+        this.repository = repository;
+        this.invoiceRepository = invoiceRepository;
+        this.paymentService = paymentService;
+        this.checkoutClient = checkoutClient;
+        this.properties = properties;
+    }
+
+    /**
+     * Stores a verified event for processing.
+     *
+     * @return {@code true} when stored; {@code false} for a redelivered event or an event
+     *         type that is not handled
+     */
+    public boolean receive(Event event, String payload) {
+        if (!CHECKOUT_SESSION_COMPLETED.equals(event.getType())) {
+            log.warn("Unhandled Stripe event type: {}", event.getType());
+            return false;
+        }
+        CheckoutSessionRef session = sessionOf(event);
+        UUID invoiceId = parseInvoiceId(session.clientReferenceId());
+        boolean stored = repository.insertIfAbsent(event.getId(), event.getType(), session.id(),
+                session.clientReferenceId(), invoiceId == null ? null : invoiceId.toString(), payload, now()) == 1;
+        if (!stored) {
+            log.info("Stripe event {} was already received", event.getId());
+        }
+        return stored;
+    }
+
+    /**
+     * Claims up to {@code limit} due events. Each claim counts as an attempt and holds a
+     * lease; if the worker dies before the outcome is recorded the event becomes due again
+     * when the lease expires.
+     */
+    public List<StripeWebhookEvent> claimDue(int limit) {
+        OffsetDateTime now = now();
+        List<StripeWebhookEvent> due = repository.lockDueEvents(now, limit);
+        for (StripeWebhookEvent event : due) {
+            event.setStatus(StripeWebhookStatus.PROCESSING);
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plus(properties.processingLease()));
+        }
+        return due;
+    }
+
+    /**
+     * Applies one event in the caller's transaction. Events that were already settled are
+     * skipped, and an invoice that is already paid is not charged twice. Failures propagate
+     * and roll everything back; the caller records them with {@link #markFailed}.
+     */
+    public void process(String eventId) throws StripeException {
+        StripeWebhookEvent event = repository.lockById(eventId).orElse(null);
+        if (event == null || isSettled(event.getStatus())) {
+            return;
+        }
+
+        String reference = event.getClientReferenceId();
+        if (isBlank(reference) && !isBlank(event.getSessionId())) {
+            reference = checkoutClient.retrieveSession(event.getSessionId()).clientReferenceId();
+            event.setClientReferenceId(reference);
+        }
+        if (isBlank(reference)) {
+            log.warn("Session {} missing client_reference_id, skipping", event.getSessionId());
+            settle(event, StripeWebhookStatus.IGNORED, "Missing client_reference_id");
+            return;
+        }
+        UUID invoiceId = parseInvoiceId(reference);
+        if (invoiceId == null) {
+            log.error("Invalid invoice ID in session {}: {}", event.getSessionId(), reference);
+            settle(event, StripeWebhookStatus.FAILED, "Invalid invoice ID: " + reference);
+            return;
+        }
+        event.setInvoiceId(invoiceId);
+
+        // Serializes events of the same invoice across dispatchers
+        Invoice invoice = invoiceRepository.lockById(invoiceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice not found"));
+        if (invoice.getStatus() == InvoiceStatus.PAID) {
+            log.info("Invoice {} is already PAID, nothing to apply for event {}", invoiceId, eventId);
+        } else {
+            log.info("Marking invoice {} as PAID", invoiceId);
+            paymentService.markInvoicePaid(invoiceId);
+        }
+        settle(event, StripeWebhookStatus.PROCESSED, null);
+    }
+
+    /**
+     * Records a failed attempt.
+     *
+     * @return {@code true} when another attempt was scheduled
+     */
+    public boolean markFailed(String eventId, String error, boolean retryable) {
+        StripeWebhookEvent event = repository.findById(eventId).orElse(null);
+        if (event == null || isSettled(event.getStatus())) {
+            return false;
+        }
+        event.setLastError(truncate(error));
+        if (retryable && event.getAttempts() < properties.maxAttempts()) {
+            event.setStatus(StripeWebhookStatus.PENDING);
+            event.setNextAttemptAt(now().plus(RetryBackoff.delay(event.getAttempts(),
+                    properties.initialBackoff(), properties.maxBackoff(), ThreadLocalRandom.current().nextDouble())));
+            return true;
+        }
+        event.setStatus(StripeWebhookStatus.FAILED);
+        log.error("Giving up on Stripe event {} after {} attempts: {}", eventId, event.getAttempts(), error);
+        return false;
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return repository.countByStatus(StripeWebhookStatus.PENDING);
+    }
+
+    private CheckoutSessionRef sessionOf(Event event) {
+        Optional<StripeObject> object = event.getDataObjectDeserializer().getObject();
+        if (object.isPresent() && object.get() instanceof Session session) {
+            return new CheckoutSessionRef(session.getId(), session.getClientReferenceId());
+        }
+        // Event API version differs from the library's; read the fields from the raw JSON
+        JsonObject json = gson.fromJson(event.getData().toJson(), JsonObject.class)
+                .getAsJsonObject("object");
+        return new CheckoutSessionRef(stringOrNull(json.get("id")), stringOrNull(json.get("client_reference_id")));
+    }
+
+    private static void settle(StripeWebhookEvent event, StripeWebhookStatus status, String error) {
+        event.setStatus(status);
+        event.setLastError(error);
+        event.setProcessedAt(now());
+    }
+
+    private static boolean isSettled(StripeWebhookStatus status) {
+        return status == StripeWebhookStatus.PROCESSED
+                || status == StripeWebhookStatus.IGNORED
+                || status == StripeWebhookStatus.FAILED;
+    }
+
+    private static UUID parseInvoiceId(String reference) {
+        if (isBlank(reference)) return null;
+        try {
+            return UUID.fromString(reference.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String stringOrNull(JsonElement element) {
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) return error;
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+}
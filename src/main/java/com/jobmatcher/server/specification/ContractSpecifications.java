@@ -43,4 +43,12 @@ public class ContractSpecifications {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    public static Specification<Contract> byId(UUID contractId) {
+        return (root, query, cb) -> cb.equal(root.get("id"), contractId);
+    }
+
+    public static Specification<Contract> byProject(UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
 }
@@ -0,0 +1,33 @@
+package com.jobmatcher.server.specification;
+
+import com.jobmatcher.server.util.KeysetCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public class KeysetSpecification {
+
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    /**
+     * Rows strictly after {@code cursor} in {@link #SORT} order; all rows when the cursor is null.
+     */
+    public static <T> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            var createdAt = root.<OffsetDateTime>get("createdAt");
+            var id = root.<UUID>get("id");
+            return cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(
+                            cb.equal(createdAt, cursor.createdAt()),
+                            cb.lessThan(id, cursor.id())
+                    )
+            );
+        };
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,7 +22,6 @@ public class ProjectSpecification {
             // Explicit joins for lazy associations
             var customerJoin = root.join("customer", JoinType.LEFT);
             var freelancerJoin = root.join("freelancer", JoinType.LEFT);
-            var subcategoriesJoin = root.joinSet("subcategories", JoinType.LEFT);
 
             // Role based filtering
             if(role == Role.STAFF){
@@ -40,8 +40,10 @@ public class ProjectSpecification {
                 predicates.add(cb.equal(root.get("category").get("id"), filter.getCategoryId()));
             }
 
-            // Subcategory filter
+            // Subcategory filter. Joined only here: the equality keeps one row per project,
+            // whereas an unfiltered collection join repeats each project per subcategory
             if (filter.getSubcategoryId() != null) {
+                var subcategoriesJoin = root.joinSet("subcategories", JoinType.LEFT);
                 predicates.add(cb.equal(subcategoriesJoin.get("id"), filter.getSubcategoryId()));
             }
 
@@ -57,4 +59,22 @@ public class ProjectSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    public static Specification<Project> byId(UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("id"), projectId);
+    }
+
+    public static Specification<Project> withIds(Collection<UUID> ids, ProjectStatus status) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(root.get("id").in(ids));
+
+            // Re-checked in SQL so a stale index entry can never leak a project
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 }
@@ -0,0 +1,55 @@
+package com.jobmatcher.server.util;
+
+import com.jobmatcher.server.model.PagedResponseDTO;
+import com.jobmatcher.server.repository.SummaryProjection;
+import com.jobmatcher.server.repository.SummaryQueryRepository;
+import com.jobmatcher.server.repository.SummaryQueryRepository.Positioned;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetPagination {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Cursor pages always follow {@code (createdAt DESC, id DESC)}; a client-supplied sort
+     * cannot be honoured, so it is rejected rather than silently ignored.
+     */
+    public static void rejectSort(List<String> sort) {
+        if (sort != null && !sort.isEmpty()) {
+            throw new IllegalArgumentException("Cursor pagination is ordered by creation date; sort is not supported");
+        }
+    }
+
+    /**
+     * Fetches one page after {@code cursor} ordered by {@code (createdAt DESC, id DESC)}.
+     * Reads {@code size + 1} rows of {@code projection} to detect a following page, so no
+     * count query is issued and the cost does not grow with the scroll depth. The page's rows
+     * are handed to {@code mapper} together, so it can load their collections in one query each.
+     */
+    public static <T, R, D> PagedResponseDTO<D> fetch(
+            SummaryQueryRepository repository,
+            SummaryProjection<T, R> projection,
+            Specification<T> spec,
+            String cursor,
+            int size,
+            Function<List<R>, List<D>> mapper
+    ) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<Positioned<R>> rows = repository.findAfter(projection, spec, after, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Positioned<R>> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? pageRows.get(pageSize - 1).position().encode() : null;
+
+        List<D> content = mapper.apply(pageRows.stream().map(Positioned::row).toList());
+        return PagedResponseDTO.ofCursor(content, pageSize, after == null, nextCursor);
+    }
+}
@@ -0,0 +1,20 @@
+package com.jobmatcher.server.util;
+
+import java.time.Duration;
+
+public class RetryBackoff {
+
+    private RetryBackoff() {
+    }
+
+    /**
+     * Exponential backoff with equal jitter: half of the capped delay is fixed, the other
+     * half is scaled by {@code random} in [0, 1), so retries after an outage spread out.
+     */
+    public static Duration delay(int attempts, Duration initial, Duration max, double random) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long cappedMillis = Math.min(max.toMillis(), initial.toMillis() << exponent);
+        long half = cappedMillis / 2;
+        return Duration.ofMillis(half + (long) (half * random));
+    }
+}
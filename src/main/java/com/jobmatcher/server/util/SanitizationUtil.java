@@ -6,8 +6,6 @@ import org.owasp.html.HtmlPolicyBuilder;
 import org.owasp.html.PolicyFactory;
 
 import java.text.Normalizer;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 public class SanitizationUtil {
@@ -21,6 +19,12 @@ public class SanitizationUtil {
 
     private static final int MAX_TEXT_LENGTH = 2000;
 
+    // ASCII characters the HTML policy passes through untouched, as bitmasks over 0-63 and 64-127.
+    // Anything outside (markup, quotes, '&', '+', '=', '@', '`', braces, controls, non-ASCII)
+    // is left to the policy. ASCII is already NFKC-normalized.
+    private static final long PLAIN_LOW = mask(" !#$%()*,-./0123456789:;?");
+    private static final long PLAIN_HIGH = mask("ABCDEFGHIJKLMNOPQRSTUVWXYZ[]^_abcdefghijklmnopqrstuvwxyz|~");
+
     public static String sanitizeUrl(String url) {
         if (url == null || url.isBlank()) return null;
 
@@ -35,15 +39,48 @@ public class SanitizationUtil {
     public static String sanitizeText(String text) {
         if (text == null || text.isBlank()) return null;
 
+        // Most titles, names and headlines are plain text the policy would return as is
+        String trimmed = text.trim();
+        if (trimmed.length() <= MAX_TEXT_LENGTH && isPlain(trimmed)) {
+            return trimmed;
+        }
+        return sanitizeWithPolicy(trimmed);
+    }
+
+    static String sanitizeWithPolicy(String trimmed) {
         // Normalize unicode (avoids invisible homoglyph tricks)
-        String normalized = Normalizer.normalize(text.trim(), Normalizer.Form.NFKC);
+        String normalized = Normalizer.normalize(trimmed, Normalizer.Form.NFKC);
 
         // Enforce length cap (business rule – 2000 chars for descriptions)
-        if (normalized.length() > 2000) {
-            normalized = normalized.substring(0, 2000);
+        if (normalized.length() > MAX_TEXT_LENGTH) {
+            normalized = normalized.substring(0, MAX_TEXT_LENGTH);
         }
 
         // Apply strict HTML policy (strip or allow only safe inline tags)
         return HTML_POLICY.sanitize(normalized);
     }
+
+    static boolean isPlain(String text) {
+        for (int i = 0, n = text.length(); i < n; i++) {
+            if (!isPlain(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isPlain(char c) {
+        if (c < 64) {
+            return (PLAIN_LOW & (1L << c)) != 0;
+        }
+        return c < 128 && (PLAIN_HIGH & (1L << (c - 64))) != 0;
+    }
+
+    private static long mask(String chars) {
+        long mask = 0;
+        for (char c : chars.toCharArray()) {
+            mask |= 1L << (c & 63);
+        }
+        return mask;
+    }
 }
@@ -0,0 +1,69 @@
+package com.jobmatcher.server.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class GatedDataSourceTest {
+
+    DataSource target;
+    GatedDataSource gated;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        gated = new GatedDataSource(target, 2, 50);
+    }
+
+    @Test
+    void closingConnectionReturnsPermitExactlyOnce() throws SQLException {
+        Connection connection = gated.getConnection();
+        assertThat(gated.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        assertThat(gated.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void waitersTimeOutWhenAllPermitsAreHeld() throws SQLException {
+        gated.getConnection();
+        gated.getConnection();
+
+        assertThatThrownBy(() -> gated.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    void failedBorrowReleasesPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(() -> gated.getConnection()).isInstanceOf(SQLException.class);
+
+        assertThat(gated.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void delegatesCallsToUnderlyingConnection() throws SQLException {
+        Connection delegate = mock(Connection.class);
+        when(target.getConnection()).thenReturn(delegate);
+
+        Connection connection = gated.getConnection();
+        connection.setAutoCommit(false);
+
+        verify(delegate).setAutoCommit(false);
+        assertThat(connection).isEqualTo(connection);
+        assertThat(connection).isNotEqualTo(delegate);
+    }
+}
@@ -1,12 +1,13 @@
 package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.domain.EmailOutboxStatus;
 import com.jobmatcher.server.domain.PasswordResetToken;
 import com.jobmatcher.server.domain.Role;
 import com.jobmatcher.server.domain.User;
+import com.jobmatcher.server.repository.EmailOutboxRepository;
 import com.jobmatcher.server.repository.PasswordResetTokenRepository;
 import com.jobmatcher.server.repository.UserRepository;
-import com.jobmatcher.server.service.GmailSender;
 import com.jobmatcher.server.service.IRefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,8 +15,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmatcher.server.model.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -25,6 +24,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -46,18 +46,8 @@ public class AuthControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private PasswordResetTokenRepository tokenRepository;
 
-    @TestConfiguration
-    static class NoOpEmailConfig {
-        @Bean
-        public GmailSender gmailSender() {
-            return new GmailSender(null) {
-                @Override
-                public void sendResetEmail(User user, String token) {
-                    // no-op, simulate success
-                }
-            };
-        }
-    }
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
 
     @BeforeEach
     void setUp() {
@@ -140,12 +130,15 @@ public class AuthControllerIntegrationTest extends AbstractIntegrationTest {
     void shouldRecoverPasswordSuccessfully() throws Exception {
         RecoverPasswordRequest request = new RecoverPasswordRequest();
         request.setEmail("user1@jobmatcher.com");
+        long queuedBefore = emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING);
 
         mockMvc.perform(post("/api/v0/auth/recover-password")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
+
+        assertThat(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING)).isEqualTo(queuedBefore + 1);
     }
 
     @Test
@@ -6,6 +6,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.controller.config.QueryBudget;
 import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.model.*;
 import com.jobmatcher.server.repository.*;
@@ -147,6 +148,17 @@ class ContractControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.content[?(@.id=='" + contractId + "')]").exists());
     }
 
+
+    @Test
+    void shouldLoadContractPageWithinQueryBudget() throws Throwable {
+        QueryBudget.assertAtMost(8, () -> mockMvc.perform(get(API_VERSION + "/contracts")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("page", "0")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray()));
+    }
+
     @Test
     void shouldGetContractById() throws Exception {
         mockMvc.perform(get(API_VERSION + "/contracts/{id}", contractId)
@@ -156,6 +168,16 @@ class ContractControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.title").value("Test Contract"));
     }
 
+    @Test
+    void shouldLoadContractDetailWithinQueryBudget() throws Throwable {
+        QueryBudget.assertAtMost(5, () -> mockMvc.perform(get(API_VERSION + "/contracts/{id}", contractId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerContact.email").value(user.getEmail()))
+                .andExpect(jsonPath("$.freelancerContact.email").exists())
+                .andExpect(jsonPath("$.invoices").isArray()));
+    }
+
     @Test
     void shouldGetContractByProjectId() throws Exception {
         mockMvc.perform(get(API_VERSION + "/contracts/project/{projectId}", projectId)
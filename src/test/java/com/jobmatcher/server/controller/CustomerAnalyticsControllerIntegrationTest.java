@@ -95,4 +95,18 @@ class CustomerAnalyticsControllerIntegrationTest extends AbstractIntegrationTest
                 .andExpect(jsonPath("$[0].freelancerName").exists())
                 .andExpect(jsonPath("$[0].totalEarned").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetSummary() throws Exception {
+        mockMvc.perform(get(API_VERSION + "/customers/{customerId}/analytics/summary", customerId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthlySpending[0].total").exists())
+                .andExpect(jsonPath("$.projectStats.completed").exists())
+                .andExpect(jsonPath("$.topFreelancers[0].freelancerName").exists())
+                .andExpect(jsonPath("$.timingsMicros.monthlySpending").exists())
+                .andExpect(jsonPath("$.timingsMicros.projectStats").exists())
+                .andExpect(jsonPath("$.timingsMicros.topFreelancers").exists());
+    }
+}
@@ -1,6 +1,7 @@
 package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.config.ImageStorageProperties;
 import com.jobmatcher.server.domain.User;
 import com.jobmatcher.server.model.AuthenticationRequest;
 import com.jobmatcher.server.repository.UserRepository;
@@ -50,8 +51,8 @@ class FileUploadControllerIntegrationTest extends AbstractIntegrationTest {
     static class TestConfig {
         @Bean
         @Primary
-        CloudinaryService testCloudinaryService() {
-            return new CloudinaryService(null, null, null, null, null) {
+        CloudinaryService testCloudinaryService(ImageStorageProperties imageStorageProperties) {
+            return new CloudinaryService(null, null, null, null, null, null, imageStorageProperties) {
                 @Override
                 public void uploadImage(UUID id, org.springframework.web.multipart.MultipartFile file) {
                     // mark that upload was called
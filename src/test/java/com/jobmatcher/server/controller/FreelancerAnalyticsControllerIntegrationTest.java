@@ -97,4 +97,17 @@ class FreelancerAnalyticsControllerIntegrationTest extends AbstractIntegrationTe
                 .andExpect(jsonPath("$[0].earnings").exists());
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldGetSummary() throws Exception {
+        mockMvc.perform(get(API_VERSION + "/freelancers/{freelancerId}/analytics/summary", freelancerId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthlyEarnings[0].total").exists())
+                .andExpect(jsonPath("$.jobCompletion.total").exists())
+                .andExpect(jsonPath("$.topClients[0].clientName").exists())
+                .andExpect(jsonPath("$.skillEarnings[0].skillName").exists())
+                .andExpect(jsonPath("$.timingsMicros.monthlyEarnings").exists())
+                .andExpect(jsonPath("$.timingsMicros.skillEarnings").exists());
+    }
+}
@@ -1,6 +1,10 @@
 package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.domain.Contract;
+import com.jobmatcher.server.domain.ContractStatus;
+import com.jobmatcher.server.domain.Invoice;
+import com.jobmatcher.server.domain.InvoiceStatus;
+import com.jobmatcher.server.domain.ProjectStatus;
 import com.jobmatcher.server.repository.ContractRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,10 +12,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.controller.config.QueryBudget;
 import com.jobmatcher.server.domain.User;
 import com.jobmatcher.server.model.*;
 import com.jobmatcher.server.repository.InvoiceRepository;
 import com.jobmatcher.server.repository.UserRepository;
+import com.jobmatcher.server.service.InvoiceWorkflow;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
@@ -19,6 +26,7 @@ import org.springframework.http.MediaType;
 import java.util.UUID;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +49,12 @@ class InvoiceControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private ContractRepository contractRepository;
 
+    @Autowired
+    private InvoiceWorkflow invoiceWorkflow;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private String jwtToken;
     private User user;
     private UUID existingInvoiceId;
@@ -98,6 +112,36 @@ class InvoiceControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+
+    @Test
+    void shouldLoadInvoicePageWithinQueryBudget() throws Throwable {
+        QueryBudget.assertAtMost(8, () -> mockMvc.perform(get(API_VERSION + "/invoices")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("page", "0")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray()));
+    }
+
+    @Test
+    void shouldApplyInvoiceStatusCascadeWithinQueryBudget() throws Throwable {
+        entityManager.flush();
+        entityManager.clear();
+
+        // One aggregate load, the project's search facets, and one flush of the changed rows
+        QueryBudget.assertAtMost(8, () -> {
+            invoiceWorkflow.transition(existingInvoiceId, InvoiceStatus.PAID);
+            entityManager.flush();
+            return null;
+        });
+
+        entityManager.clear();
+        Invoice invoice = invoiceRepository.findAggregateById(existingInvoiceId).orElseThrow();
+        assertEquals(InvoiceStatus.PAID, invoice.getStatus());
+        assertEquals(ContractStatus.COMPLETED, invoice.getContract().getStatus());
+        assertEquals(ProjectStatus.COMPLETED, invoice.getContract().getProject().getStatus());
+    }
+
     @Test
     void shouldGetAllPaidInvoices() throws Exception {
         mockMvc.perform(get(API_VERSION + "/invoices?status=PAID&contractId=&searchTerm=")
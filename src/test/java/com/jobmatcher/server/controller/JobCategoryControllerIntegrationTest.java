@@ -1,6 +1,7 @@
 package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.controller.config.QueryBudget;
 import com.jobmatcher.server.domain.JobCategory;
 import com.jobmatcher.server.repository.JobCategoryRepository;
 import com.jobmatcher.server.repository.JobSubcategoryRepository;
@@ -38,6 +39,21 @@ public class JobCategoryControllerIntegrationTest extends AbstractIntegrationTes
                 .andExpect(jsonPath("$[1].name").value(categories.get(1).getName()));
     }
 
+    @Test
+    @WithMockUser(username = "test", roles = {"STAFF"})
+    void shouldReturnNotModifiedForMatchingEtag() throws Throwable {
+        String etag = mockMvc.perform(get("/api/v0/job_categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$[0].subcategories").isArray())
+                .andReturn().getResponse().getHeader("ETag");
+
+        QueryBudget.assertAtMost(0, () -> mockMvc.perform(get("/api/v0/job_categories")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string("")));
+    }
+
     @Test
     @WithMockUser(username = "test", roles = {"STAFF"})
     void shouldReturnJobCategoryById() throws Exception {
@@ -11,6 +11,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -77,6 +78,27 @@ public class LanguageControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$[1].name").value(languages.get(1).getName()));
     }
 
+    @Test
+    @WithMockUser(username = "test", roles = {"STAFF"})
+    void shouldChangeLanguagesEtagWhenLanguageIsCreated() throws Exception {
+        String etag = mockMvc.perform(get("/api/v0/languages"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v0/languages").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v0/languages")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(LanguageDTO.builder().name("Esperanto").build())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v0/languages").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$[?(@.name=='Esperanto')]").exists());
+    }
+
     @Test
     @WithMockUser(username = "test", roles = {"STAFF"})
     void shouldReturnCreatedLanguage() throws Exception {
@@ -0,0 +1,118 @@
+package com.jobmatcher.server.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.model.AuthenticationRequest;
+import com.jobmatcher.server.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class MatchingControllerIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerProfileRepository customerProfileRepository;
+
+    @Autowired
+    private FreelancerProfileRepository freelancerProfileRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JobCategoryRepository jobCategoryRepository;
+
+    String jwtToken;
+    CustomerProfile customer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Seeded CUSTOMER user
+        String seededEmail = "user1@jobmatcher.com";
+
+        AuthenticationRequest loginRequest = new AuthenticationRequest();
+        loginRequest.setEmail(seededEmail);
+        loginRequest.setPassword("Password!23");
+
+        String responseBody = mockMvc.perform(post(API_VERSION + "/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        jwtToken = objectMapper.readTree(responseBody).get("token").asText();
+        User user = userRepository.findByEmail(seededEmail).orElseThrow();
+        customer = customerProfileRepository.findByUserId(user.getId()).orElseThrow();
+    }
+
+    private UUID saveProject(CustomerProfile owner) {
+        Project project = new Project();
+        project.setTitle("Matching Test Project");
+        project.setDescription("Project for matching integration test");
+        project.setCustomer(owner);
+        project.setStatus(ProjectStatus.OPEN);
+        project.setBudget(BigDecimal.valueOf(5000));
+        project.setPaymentType(PaymentType.UPON_COMPLETION);
+        project.setDeadline(LocalDate.now().plusMonths(1));
+        project.setCategory(jobCategoryRepository.findAll().getFirst());
+        project.setSubcategories(project.getCategory().getSubcategories().stream().limit(3).collect(Collectors.toSet()));
+        return projectRepository.save(project).getId();
+    }
+
+    @Test
+    void shouldListFreelancerMatchesForOwnProject() throws Exception {
+        UUID projectId = saveProject(customer);
+
+        mockMvc.perform(get(API_VERSION + "/matching/projects/{projectId}/freelancers", projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    void shouldForbidFreelancerMatchesForAnotherCustomersProject() throws Exception {
+        CustomerProfile otherCustomer = customerProfileRepository.findAll().stream()
+                .filter(profile -> !profile.getId().equals(customer.getId()))
+                .findFirst()
+                .orElseThrow();
+        UUID projectId = saveProject(otherCustomer);
+
+        mockMvc.perform(get(API_VERSION + "/matching/projects/{projectId}/freelancers", projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldForbidProjectMatchesForCustomers() throws Exception {
+        UUID freelancerId = freelancerProfileRepository.findAll().getFirst().getId();
+
+        mockMvc.perform(get(API_VERSION + "/matching/freelancers/{freelancerId}/projects", freelancerId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isForbidden());
+    }
+}
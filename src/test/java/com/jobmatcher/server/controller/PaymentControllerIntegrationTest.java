@@ -2,13 +2,20 @@ package com.jobmatcher.server.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.controller.config.QueryBudget;
 import com.jobmatcher.server.domain.Invoice;
 import com.jobmatcher.server.domain.InvoiceStatus;
+import com.jobmatcher.server.domain.StripeWebhookEvent;
+import com.jobmatcher.server.domain.StripeWebhookStatus;
 import com.jobmatcher.server.model.PaymentRequestDTO;
 import com.jobmatcher.server.repository.InvoiceRepository;
+import com.jobmatcher.server.repository.PaymentRepository;
+import com.jobmatcher.server.repository.StripeWebhookEventRepository;
+import com.jobmatcher.server.service.stripe.StripeWebhookInbox;
 import com.stripe.model.Event;
 import com.stripe.model.EventDataObjectDeserializer;
 import com.stripe.model.checkout.Session;
+import com.stripe.net.RequestOptions;
 import com.stripe.net.Webhook;
 import com.stripe.param.checkout.SessionCreateParams;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,8 +33,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +55,15 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private InvoiceRepository invoiceRepository;
 
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private StripeWebhookEventRepository webhookEventRepository;
+
+    @Autowired
+    private StripeWebhookInbox webhookInbox;
+
     String jwtToken;
     UUID unpaidInvoiceId;
     UUID paidInvoiceId;
@@ -152,6 +171,17 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.content[0].amount").exists());
     }
 
+
+    @Test
+    void shouldLoadPaymentPageWithinQueryBudget() throws Throwable {
+        QueryBudget.assertAtMost(8, () -> mockMvc.perform(get(API_VERSION + "/payments")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("page", "0")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray()));
+    }
+
     @Test
     void shouldGetPaymentByIdIntegration() throws Exception {
         UUID paymentId = invoiceRepository.findById(unpaidInvoiceId)
@@ -181,6 +211,7 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
 
         // Mock Event
         Event fakeEvent = mock(Event.class);
+        when(fakeEvent.getId()).thenReturn("evt_test_webhook");
         when(fakeEvent.getType()).thenReturn("checkout.session.completed");
         when(fakeEvent.getDataObjectDeserializer()).thenReturn(deserializer);
 
@@ -210,26 +241,65 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(content().string("Webhook handled"));
         }
 
+        // Acknowledged before processing
+        assertEquals(InvoiceStatus.PENDING, invoiceRepository.findById(unpaidInvoiceId).orElseThrow().getStatus());
+        assertEquals(StripeWebhookStatus.PENDING, webhookEventRepository.findById("evt_test_webhook").orElseThrow().getStatus());
+
+        webhookInbox.process("evt_test_webhook");
+
         // Reload invoice from DB
         Invoice updated = invoiceRepository.findById(unpaidInvoiceId).orElseThrow();
-        assert (updated.getStatus() == InvoiceStatus.PAID);
+        assertEquals(InvoiceStatus.PAID, updated.getStatus());
+        assertEquals(StripeWebhookStatus.PROCESSED, webhookEventRepository.findById("evt_test_webhook").orElseThrow().getStatus());
+    }
+
+    @Test
+    void shouldStoreRedeliveredWebhookOnceAndPayOnce() throws Exception {
+        Session fakeSession = mock(Session.class);
+        when(fakeSession.getClientReferenceId()).thenReturn(unpaidInvoiceId.toString());
+        when(fakeSession.getId()).thenReturn("cs_redelivered");
+        EventDataObjectDeserializer deserializer = mock(EventDataObjectDeserializer.class);
+        when(deserializer.getObject()).thenReturn(Optional.of(fakeSession));
+        Event fakeEvent = mock(Event.class);
+        when(fakeEvent.getId()).thenReturn("evt_redelivered");
+        when(fakeEvent.getType()).thenReturn("checkout.session.completed");
+        when(fakeEvent.getDataObjectDeserializer()).thenReturn(deserializer);
+
+        try (MockedStatic<Webhook> webhookMock = Mockito.mockStatic(Webhook.class)) {
+            webhookMock.when(() -> Webhook.constructEvent(anyString(), anyString(), anyString()))
+                    .thenReturn(fakeEvent);
+
+            for (int delivery = 0; delivery < 2; delivery++) {
+                mockMvc.perform(post(API_VERSION + "/payments/stripe/webhook")
+                                .content("{\"id\": \"evt_redelivered\"}")
+                                .header("Stripe-Signature", "t=123,v1=fakesignature"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string("Webhook handled"));
+            }
+        }
+
+        assertEquals(1, webhookEventRepository.countByStatus(StripeWebhookStatus.PENDING));
+        webhookInbox.process("evt_redelivered");
+        webhookInbox.process("evt_redelivered");
+
+        assertEquals(InvoiceStatus.PAID, invoiceRepository.findById(unpaidInvoiceId).orElseThrow().getStatus());
+        assertTrue(paymentRepository.existsByInvoiceId(unpaidInvoiceId));
     }
 
     @Test
     void shouldFallbackToJsonDeserializationInWebhook() throws Exception {
         String payload = """
                 {
-                  "id": "evt_test_webhook",
+                  "id": "evt_test_fallback",
                   "object": "event",
                   "type": "checkout.session.completed",
                   "data": {
                     "object": {
-                      "id": "cs_fallback_test",
-                      "client_reference_id": "%s"
+                      "id": "cs_fallback_test"
                     }
                   }
                 }
-                """.formatted(unpaidInvoiceId);
+                """;
 
         try (MockedStatic<Webhook> webhookMock = Mockito.mockStatic(Webhook.class);
              MockedStatic<Session> sessionMock = Mockito.mockStatic(Session.class)) {
@@ -238,26 +308,27 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
             Event fakeEvent = mock(Event.class);
             EventDataObjectDeserializer deserializer = mock(EventDataObjectDeserializer.class);
             when(deserializer.getObject()).thenReturn(Optional.empty());
+            when(fakeEvent.getId()).thenReturn("evt_test_fallback");
             when(fakeEvent.getDataObjectDeserializer()).thenReturn(deserializer);
             when(fakeEvent.getType()).thenReturn("checkout.session.completed");
 
-            // Stub getData().toJson() for JSON fallback
+            // Stub getData().toJson() for JSON fallback; the reference is only on the retrieved session
             com.stripe.model.Event.Data fakeData = mock(com.stripe.model.Event.Data.class);
             when(fakeEvent.getData()).thenReturn(fakeData);
             when(fakeData.toJson()).thenReturn("""
                     {
                       "object": {
-                        "id": "cs_fallback_test",
-                        "client_reference_id": "%s"
+                        "id": "cs_fallback_test"
                       }
                     }
-                    """.formatted(unpaidInvoiceId));
+                    """);
 
             // Stub Session.retrieve
             Session fakeSession = mock(Session.class);
             when(fakeSession.getId()).thenReturn("cs_fallback_test");
             when(fakeSession.getClientReferenceId()).thenReturn(unpaidInvoiceId.toString());
-            sessionMock.when(() -> Session.retrieve("cs_fallback_test")).thenReturn(fakeSession);
+            sessionMock.when(() -> Session.retrieve(eq("cs_fallback_test"), any(RequestOptions.class)))
+                    .thenReturn(fakeSession);
 
             // Stub webhook
             webhookMock.when(() -> Webhook.constructEvent(anyString(), anyString(), anyString()))
@@ -268,10 +339,12 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
                             .header("Stripe-Signature", "t=123,v1=fakesignature"))
                     .andExpect(status().isOk())
                     .andExpect(content().string("Webhook handled"));
+
+            webhookInbox.process("evt_test_fallback");
         }
 
         Invoice updated = invoiceRepository.findById(unpaidInvoiceId).orElseThrow();
-        assert (updated.getStatus() == InvoiceStatus.PAID);
+        assertEquals(InvoiceStatus.PAID, updated.getStatus());
     }
 
 
@@ -279,7 +352,7 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
     void shouldSkipWebhookIfClientReferenceIdMissing() throws Exception {
         String payload = """
                 {
-                  "id": "evt_test_webhook",
+                  "id": "evt_test_missing_ref",
                   "object": "event",
                   "type": "checkout.session.completed",
                   "data": {
@@ -295,6 +368,7 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
             Event fakeEvent = mock(Event.class);
             EventDataObjectDeserializer deserializer = mock(EventDataObjectDeserializer.class);
             when(deserializer.getObject()).thenReturn(Optional.of(mock(Session.class)));
+            when(fakeEvent.getId()).thenReturn("evt_test_missing_ref");
             when(fakeEvent.getDataObjectDeserializer()).thenReturn(deserializer);
             when(fakeEvent.getType()).thenReturn("checkout.session.completed");
 
@@ -307,13 +381,18 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(status().isOk())
                     .andExpect(content().string("Webhook handled"));
         }
+
+        webhookInbox.process("evt_test_missing_ref");
+
+        assertEquals(StripeWebhookStatus.IGNORED,
+                webhookEventRepository.findById("evt_test_missing_ref").orElseThrow().getStatus());
     }
 
     @Test
     void shouldFailWebhookForInvalidInvoiceUuid() throws Exception {
         String payload = """
                 {
-                  "id": "evt_test_webhook",
+                  "id": "evt_test_invalid_uuid",
                   "object": "event",
                   "type": "checkout.session.completed",
                   "data": {
@@ -333,6 +412,7 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
 
             EventDataObjectDeserializer deserializer = mock(EventDataObjectDeserializer.class);
             when(deserializer.getObject()).thenReturn(Optional.of(fakeSession));
+            when(fakeEvent.getId()).thenReturn("evt_test_invalid_uuid");
             when(fakeEvent.getDataObjectDeserializer()).thenReturn(deserializer);
             when(fakeEvent.getType()).thenReturn("checkout.session.completed");
 
@@ -342,9 +422,15 @@ class PaymentControllerIntegrationTest extends AbstractIntegrationTest {
             mockMvc.perform(post(API_VERSION + "/payments/stripe/webhook")
                             .content(payload)
                             .header("Stripe-Signature", "t=123,v1=fakesignature"))
-                    .andExpect(status().isInternalServerError())
-                    .andExpect(content().string(org.hamcrest.Matchers.containsString("Processing error")));
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("Webhook handled"));
         }
+
+        webhookInbox.process("evt_test_invalid_uuid");
+
+        StripeWebhookEvent stored = webhookEventRepository.findById("evt_test_invalid_uuid").orElseThrow();
+        assertEquals(StripeWebhookStatus.FAILED, stored.getStatus());
+        assertEquals("Invalid invoice ID: invalid-uuid", stored.getLastError());
     }
 
     @Test
@@ -2,8 +2,10 @@ package com.jobmatcher.server.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.config.ImageStorageProperties;
 import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.model.AuthenticationRequest;
+import com.jobmatcher.server.model.ImageUploadResponseDTO;
 import com.jobmatcher.server.repository.FreelancerProfileRepository;
 import com.jobmatcher.server.repository.JobCategoryRepository;
 import com.jobmatcher.server.repository.PortfolioItemRepository;
@@ -69,11 +71,12 @@ public class PortfolioItemControllerIntegrationTest extends AbstractIntegrationT
         private PortfolioItemRepository portfolioItemRepository;
 
         @Bean
-        public CloudinaryService cloudinaryService() {
-            return new CloudinaryService(null, null, null, null, portfolioItemRepository) {
+        public CloudinaryService cloudinaryService(ImageStorageProperties imageStorageProperties) {
+            return new CloudinaryService(null, null, null, null, null, portfolioItemRepository, imageStorageProperties) {
                 @Override
-                public void uploadMultipleImages(UUID portfolioItemId, UUID userId, List<MultipartFile> files) {
+                public ImageUploadResponseDTO uploadMultipleImages(UUID portfolioItemId, UUID userId, List<MultipartFile> files) {
                     // do nothing for testing
+                    return new ImageUploadResponseDTO(true, List.of());
                 }
             };
         }
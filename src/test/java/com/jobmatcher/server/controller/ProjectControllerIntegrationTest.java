@@ -2,6 +2,7 @@ package com.jobmatcher.server.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.controller.config.QueryBudget;
 import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.model.AuthenticationRequest;
 import com.jobmatcher.server.model.ProjectRequestDTO;
@@ -25,6 +26,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.jobmatcher.server.model.ApiConstants.API_VERSION;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -54,6 +56,7 @@ class ProjectControllerIntegrationTest extends AbstractIntegrationTest {
     User user;
     UUID customerProfileId;
     UUID projectId;
+    int subcategoryCount;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -96,6 +99,7 @@ class ProjectControllerIntegrationTest extends AbstractIntegrationTest {
 
         Set<JobSubcategory> subcategories = category.getSubcategories().stream().limit(3).collect(Collectors.toSet());
         project.setSubcategories(subcategories);
+        subcategoryCount = subcategories.size();
 
         project = projectRepository.save(project);
         projectId = project.getId();
@@ -111,6 +115,18 @@ class ProjectControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.content[?(@.id=='" + projectId + "')]").exists());
     }
 
+    @Test
+    void shouldListEachProjectOnceWithAllSubcategories() throws Exception {
+        mockMvc.perform(get(API_VERSION + "/projects")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("status", "OPEN")
+                        .param("sort", "createdAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.id=='" + projectId + "')]", hasSize(1)))
+                .andExpect(jsonPath("$.content[?(@.id=='" + projectId + "')].subcategories[*]", hasSize(subcategoryCount)))
+                .andExpect(jsonPath("$.content[?(@.id=='" + projectId + "')].category.name").exists());
+    }
+
     @Test
     void shouldGetProjectById() throws Exception {
         mockMvc.perform(get(API_VERSION + "/projects/{id}", projectId)
@@ -120,6 +136,15 @@ class ProjectControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.title").value("Test Project"));
     }
 
+    @Test
+    void shouldLoadProjectDetailWithinQueryBudget() throws Throwable {
+        QueryBudget.assertAtMost(6, () -> mockMvc.perform(get(API_VERSION + "/projects/{id}", projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customer.profileId").exists())
+                .andExpect(jsonPath("$.category").exists()));
+    }
+
     @Test
     void shouldCreateProject() throws Exception {
         ProjectRequestDTO request = ProjectRequestDTO.builder()
@@ -242,6 +267,47 @@ class ProjectControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.size").value(5));
     }
 
+
+    @Test
+    void shouldSortJobFeedByProposalStats() throws Exception {
+        mockMvc.perform(get(API_VERSION + "/projects/job-feed")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("sort", "proposalStats.total,desc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].proposalStats.total").isNumber())
+                .andExpect(jsonPath("$.content[0].proposalStats.pending").isNumber());
+    }
+
+    @Test
+    void shouldLoadJobFeedPageWithinQueryBudget() throws Throwable {
+        QueryBudget.assertAtMost(10, () -> mockMvc.perform(get(API_VERSION + "/projects/job-feed")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("page", "0")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].category").exists()));
+    }
+
+    @Test
+    void shouldFetchJobFeedFirstPageByCursor() throws Exception {
+        mockMvc.perform(get(API_VERSION + "/projects/job-feed/cursor")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.totalElements").value(-1));
+    }
+
+    @Test
+    void shouldReturn400ForSortOnJobFeedCursor() throws Exception {
+        mockMvc.perform(get(API_VERSION + "/projects/job-feed/cursor")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("sort", "proposalStats.total,desc"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturn400ForInvalidStatusOnAllProjects() throws Exception {
         mockMvc.perform(get("/api/v0/projects")
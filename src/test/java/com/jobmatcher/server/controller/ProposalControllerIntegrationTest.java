@@ -2,14 +2,18 @@ package com.jobmatcher.server.controller;
 
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.controller.config.QueryBudget;
 import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.model.AuthenticationRequest;
+import com.jobmatcher.server.model.ProposalDecision;
+import com.jobmatcher.server.model.ProposalDecisionRequestDTO;
 import com.jobmatcher.server.model.ProposalRequestDTO;
 import com.jobmatcher.server.model.ProposalStatusRequestDTO;
 import com.jobmatcher.server.repository.*;
@@ -20,6 +24,8 @@ import org.springframework.http.MediaType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -59,6 +65,9 @@ class ProposalControllerIntegrationTest  extends AbstractIntegrationTest {
     @Autowired
     private JobCategoryRepository jobCategoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     String jwtToken;
     UUID projectId;
     UUID freelancerProfileId;
@@ -272,6 +281,118 @@ class ProposalControllerIntegrationTest  extends AbstractIntegrationTest {
         assertThat(contractRepository.findById(proposal.getContract().getId())).isPresent();
     }
 
+    @Test
+    void shouldAcceptOneProposalAndRejectOtherPendingOnes() throws Exception {
+        UUID otherId = proposalRepository.save(pendingProposal("Competing proposal")).getId();
+        ProposalDecisionRequestDTO request = ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.ACCEPT)
+                .proposalId(proposalId)
+                .build();
+
+        mockMvc.perform(patch(API_VERSION + "/proposals/project/{projectId}/decision", projectId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contractId").isNotEmpty())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[?(@.id=='" + proposalId + "')].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.changes[?(@.id=='" + otherId + "')].status").value("REJECTED"));
+
+        assertThat(proposalRepository.findById(proposalId).orElseThrow().getStatus()).isEqualTo(ProposalStatus.ACCEPTED);
+        assertThat(proposalRepository.findById(otherId).orElseThrow().getStatus()).isEqualTo(ProposalStatus.REJECTED);
+        assertThat(projectRepository.findById(projectId).orElseThrow().getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void shouldRejectAllPendingProposalsWithinQueryBudget() throws Throwable {
+        List<Proposal> proposals = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            proposals.add(pendingProposal("Bulk proposal " + i));
+        }
+        proposalRepository.saveAll(proposals);
+        ProposalDecisionRequestDTO request = ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.REJECT_PENDING)
+                .build();
+
+        // Project lock, status read, one update and the project's counters, whatever the number of proposals
+        QueryBudget.assertAtMost(4, () -> mockMvc.perform(patch(API_VERSION + "/proposals/project/{projectId}/decision", projectId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(51)));
+
+        assertThat(proposalRepository.findById(proposalId).orElseThrow().getStatus()).isEqualTo(ProposalStatus.REJECTED);
+    }
+
+    private Proposal pendingProposal(String coverLetter) {
+        Proposal p = new Proposal();
+        p.setProject(projectRepository.findById(projectId).orElseThrow());
+        p.setFreelancer(freelancerProfileRepository.findById(freelancerProfileId).orElseThrow());
+        p.setCoverLetter(coverLetter);
+        p.setAmount(BigDecimal.valueOf(300));
+        p.setEstimatedDuration(10);
+        p.setStatus(ProposalStatus.PENDING);
+        return p;
+    }
+
+    @Test
+    void shouldMaintainProjectProposalStats() throws Exception {
+        Project project2 = new Project();
+        project2.setCustomer(customer);
+        project2.setTitle("Proposal stats project");
+        project2.setDescription("Project used to check proposal counters");
+        project2.setStatus(ProjectStatus.OPEN);
+        project2.setBudget(BigDecimal.valueOf(1500));
+        project2.setPaymentType(PaymentType.UPON_COMPLETION);
+        project2.setDeadline(LocalDate.now().plusDays(14));
+        JobCategory category = jobCategoryRepository.findAll().getFirst();
+        project2.setCategory(category);
+        project2.setSubcategories(category.getSubcategories().stream().limit(1).collect(java.util.stream.Collectors.toSet()));
+        UUID projectId2 = projectRepository.save(project2).getId();
+
+        ProposalRequestDTO request = ProposalRequestDTO.builder()
+                .projectId(projectId2)
+                .freelancerId(freelancerProfileId)
+                .coverLetter("Proposal counted in project stats")
+                .amount(BigDecimal.valueOf(750))
+                .penaltyAmount(BigDecimal.ZERO)
+                .bonusAmount(BigDecimal.ZERO)
+                .estimatedDuration(7)
+                .build();
+        String response = mockMvc.perform(post(API_VERSION + "/proposals")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID createdId = UUID.fromString(objectMapper.readTree(response).get("id").asText());
+
+        // The stats are written with SQL updates; drop the cached project to read them back
+        entityManager.flush();
+        entityManager.clear();
+        ProjectProposalStats stats = projectRepository.findById(projectId2).orElseThrow().getProposalStats();
+        assertThat(stats.getTotal()).isEqualTo(1);
+        assertThat(stats.getPending()).isEqualTo(1);
+        assertThat(stats.getMinAmount()).isEqualByComparingTo("750");
+        assertThat(stats.getMaxAmount()).isEqualByComparingTo("750");
+        assertThat(stats.getLastProposalAt()).isNotNull();
+
+        mockMvc.perform(delete(API_VERSION + "/proposals/{id}", createdId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNoContent());
+
+        entityManager.flush();
+        entityManager.clear();
+        stats = projectRepository.findById(projectId2).orElseThrow().getProposalStats();
+        assertThat(stats.getTotal()).isZero();
+        assertThat(stats.getPending()).isZero();
+        assertThat(stats.getMinAmount()).isNull();
+    }
+
     @Test
     void shouldDeleteProposal() throws Exception {
         // create a fresh proposal to delete (so it's guaranteed to have no contract)
@@ -1,6 +1,7 @@
 package com.jobmatcher.server.controller;
 
 import com.jobmatcher.server.controller.config.AbstractIntegrationTest;
+import com.jobmatcher.server.controller.config.QueryBudget;
 import com.jobmatcher.server.domain.Skill;
 import com.jobmatcher.server.repository.SkillRepository;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +35,32 @@ public class SkillControllerIntegrationTest extends AbstractIntegrationTest {
         mockMvc.perform(get("/api/v0/skills"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(skills.size()))
-                .andExpect(jsonPath("$[0].name").value(skills.getFirst().getName()));
+                .andExpect(jsonPath("$[?(@.name=='" + skills.getFirst().getName() + "')]").exists());
+    }
+
+    @Test
+    @WithMockUser(username = "test", roles = {"STAFF"})
+    void shouldReturnNotModifiedForMatchingEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/v0/skills"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v0/skills").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(username = "test", roles = {"STAFF"})
+    void shouldSuggestSkillsByPrefixWithoutQueryingTheDatabase() throws Throwable {
+        String name = skillRepository.findAll().getFirst().getName();
+        String prefix = name.substring(0, Math.min(2, name.length())).toUpperCase();
+
+        QueryBudget.assertAtMost(0, () -> mockMvc.perform(get("/api/v0/skills/suggest")
+                        .param("prefix", prefix)
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(lessThanOrEqualTo(5)))
+                .andExpect(jsonPath("$[*].name", everyItem(startsWithIgnoringCase(prefix)))));
     }
 }
@@ -11,7 +11,10 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "email.transport=log",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.jobmatcher.server.controller.config.QueryCountInspector"
+})
 @Import(TestServiceConfig.class)
 @ActiveProfiles("test")
 @Transactional
@@ -0,0 +1,32 @@
+package com.jobmatcher.server.controller.config;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.List;
+
+/**
+ * Fails a test when an action issues more SQL statements than its budget, the symptom of
+ * an association loaded row by row (N+1) instead of with the page.
+ * MockMvc runs requests on the test thread, so whole requests can be measured.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static <T> T assertAtMost(int maxStatements, ThrowingSupplier<T> action) throws Throwable {
+        QueryCountInspector.start();
+        T result;
+        List<String> statements;
+        try {
+            result = action.get();
+        } finally {
+            statements = QueryCountInspector.stop();
+        }
+        if (statements.size() > maxStatements) {
+            throw new AssertionError("Expected at most %d SQL statements but %d were executed:%n%s"
+                    .formatted(maxStatements, statements.size(), String.join(System.lineSeparator(), statements)));
+        }
+        return result;
+    }
+}
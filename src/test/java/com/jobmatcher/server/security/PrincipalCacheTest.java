@@ -0,0 +1,138 @@
+package com.jobmatcher.server.security;
+
+import com.jobmatcher.server.domain.CustomerProfile;
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.domain.User;
+import com.jobmatcher.server.exception.InvalidAuthException;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.repository.CustomerProfileRepository;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import com.jobmatcher.server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    UserRepository userRepository;
+    @Mock
+    CustomerProfileRepository customerProfileRepository;
+    @Mock
+    FreelancerProfileRepository freelancerProfileRepository;
+
+    PrincipalCache cache;
+    User customer;
+    CustomerProfile customerProfile;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PrincipalCache(userRepository, customerProfileRepository, freelancerProfileRepository,
+                Duration.ofMinutes(5), 3);
+
+        customer = new User();
+        customer.setId(UUID.randomUUID());
+        customer.setEmail("customer@example.com");
+        customer.setRole(Role.CUSTOMER);
+
+        customerProfile = new CustomerProfile();
+        customerProfile.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void get_resolvesUserAndProfileOnce() {
+        when(userRepository.findByEmail("customer@example.com")).thenReturn(Optional.of(customer));
+        when(customerProfileRepository.findByUserId(customer.getId())).thenReturn(Optional.of(customerProfile));
+
+        AuthPrincipal first = cache.get("customer@example.com");
+        AuthPrincipal second = cache.get("customer@example.com");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.userId()).isEqualTo(customer.getId());
+        assertThat(first.role()).isEqualTo(Role.CUSTOMER);
+        assertThat(first.requireProfileId()).isEqualTo(customerProfile.getId());
+        verify(userRepository, times(1)).findByEmail("customer@example.com");
+        verify(customerProfileRepository, times(1)).findByUserId(customer.getId());
+    }
+
+    @Test
+    void invalidate_forcesReload() {
+        when(userRepository.findByEmail("customer@example.com")).thenReturn(Optional.of(customer));
+        when(customerProfileRepository.findByUserId(customer.getId())).thenReturn(Optional.of(customerProfile));
+
+        cache.get("customer@example.com");
+        customer.setRole(Role.ADMIN);
+        cache.invalidate("customer@example.com");
+
+        AuthPrincipal reloaded = cache.get("customer@example.com");
+
+        assertThat(reloaded.role()).isEqualTo(Role.ADMIN);
+        assertThat(reloaded.profileId()).isNull();
+        verify(userRepository, times(2)).findByEmail("customer@example.com");
+    }
+
+    @Test
+    void get_missingProfile_isResolvedAgainUntilCreated() {
+        when(userRepository.findByEmail("customer@example.com")).thenReturn(Optional.of(customer));
+        when(customerProfileRepository.findByUserId(customer.getId()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(customerProfile));
+
+        AuthPrincipal withoutProfile = cache.get("customer@example.com");
+        AuthPrincipal withProfile = cache.get("customer@example.com");
+
+        assertThatThrownBy(withoutProfile::requireProfileId)
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Customer profile not found");
+        assertThat(withProfile.profileId()).isEqualTo(customerProfile.getId());
+    }
+
+    @Test
+    void get_unknownUser_throwsInvalidAuth() {
+        when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> cache.get("ghost@example.com"))
+                .isInstanceOf(InvalidAuthException.class);
+    }
+
+    @Test
+    void get_boundsTheNumberOfEntries() {
+        when(userRepository.findByEmail(anyString())).thenAnswer(invocation -> {
+            User admin = new User();
+            admin.setId(UUID.randomUUID());
+            admin.setEmail(invocation.getArgument(0));
+            admin.setRole(Role.ADMIN);
+            return Optional.of(admin);
+        });
+
+        for (int i = 0; i < 10; i++) {
+            cache.get("admin" + i + "@example.com");
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void zeroTtl_disablesCaching() {
+        PrincipalCache uncached = new PrincipalCache(userRepository, customerProfileRepository,
+                freelancerProfileRepository, Duration.ZERO, 100);
+        customer.setRole(Role.ADMIN);
+        when(userRepository.findByEmail("customer@example.com")).thenReturn(Optional.of(customer));
+
+        uncached.get("customer@example.com");
+        uncached.get("customer@example.com");
+
+        verify(userRepository, times(2)).findByEmail("customer@example.com");
+        assertThat(uncached.size()).isZero();
+    }
+}
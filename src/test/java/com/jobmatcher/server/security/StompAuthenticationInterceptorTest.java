@@ -0,0 +1,113 @@
+package com.jobmatcher.server.security;
+
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.exception.InvalidAuthException;
+import com.jobmatcher.server.service.JwtService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthenticationInterceptorTest {
+
+    @Mock
+    JwtService jwtService;
+    @Mock
+    PrincipalCache principalCache;
+    @Mock
+    MessageChannel channel;
+
+    @InjectMocks
+    StompAuthenticationInterceptor interceptor;
+
+    @Test
+    void connect_withValidToken_setsProfileScopedUser() {
+        UUID profileId = UUID.randomUUID();
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn("freelancer@example.com");
+        when(jwtService.parseVerifiedClaims("token")).thenReturn(claims);
+        when(principalCache.get("freelancer@example.com")).thenReturn(
+                new AuthPrincipal(UUID.randomUUID(), "freelancer@example.com", Role.STAFF, profileId));
+        Message<byte[]> message = frame(StompCommand.CONNECT, null, "Bearer token");
+
+        Message<?> result = interceptor.preSend(message, channel);
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class);
+        assertThat(accessor.getUser()).isInstanceOf(StompPrincipal.class);
+        assertThat(accessor.getUser().getName()).isEqualTo(profileId.toString());
+    }
+
+    @Test
+    void connect_withoutToken_isRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, null), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(jwtService, principalCache);
+    }
+
+    @Test
+    void connect_withInvalidToken_isRejected() {
+        when(jwtService.parseVerifiedClaims("expired")).thenThrow(new InvalidAuthException("Token expired"));
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, "Bearer expired"), channel))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("Token expired");
+    }
+
+    @Test
+    void subscribe_toOwnQueue_isAllowed() {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null);
+        StompHeaderAccessor.getAccessor(message, StompHeaderAccessor.class).setUser(
+                new StompPrincipal(new AuthPrincipal(UUID.randomUUID(), "a@example.com", Role.CUSTOMER, UUID.randomUUID())));
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    void subscribe_toSharedDestination_isRejected() {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/queue/notifications", null);
+        StompHeaderAccessor.getAccessor(message, StompHeaderAccessor.class).setUser(
+                new StompPrincipal(new AuthPrincipal(UUID.randomUUID(), "a@example.com", Role.CUSTOMER, UUID.randomUUID())));
+
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void subscribe_withoutConnect_isRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void send_isRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/queue/anything", null), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
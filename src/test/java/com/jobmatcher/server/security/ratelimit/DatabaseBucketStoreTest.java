@@ -0,0 +1,62 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import com.jobmatcher.server.repository.RateLimitBucketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseBucketStoreTest {
+
+    @Mock
+    RateLimitBucketRepository repository;
+
+    @InjectMocks
+    DatabaseBucketStore store;
+
+    @Test
+    void allowsWhileTheUpsertReturnsTheRemainingTokens() {
+        when(repository.consume("k", 60, 60 / 60_000.0)).thenReturn(Optional.of(59.0));
+
+        assertThat(store.tryConsume("k", RateLimitBudget.perMinute(60))).isTrue();
+    }
+
+    @Test
+    void rejectsWhenTheBucketIsEmpty() {
+        when(repository.consume("k", 60, 60 / 60_000.0)).thenReturn(Optional.empty());
+
+        assertThat(store.tryConsume("k", RateLimitBudget.perMinute(60))).isFalse();
+    }
+
+    @Test
+    void allowsWhenTheDatabaseIsUnavailable() {
+        when(repository.consume("k", 60, 60 / 60_000.0)).thenThrow(new DataAccessResourceFailureException("down"));
+        assertThat(store.tryConsume("k", RateLimitBudget.perMinute(60))).isTrue();
+
+        when(repository.consume("k", 60, 60 / 60_000.0)).thenThrow(new CannotCreateTransactionException("down"));
+        assertThat(store.tryConsume("k", RateLimitBudget.perMinute(60))).isTrue();
+    }
+
+    @Test
+    void evictsBucketsIdleForTheGivenPeriod() {
+        long before = System.currentTimeMillis();
+
+        store.evictIdle(Duration.ofMinutes(10));
+
+        verify(repository).deleteUpdatedBefore(longThat(
+                cutoff -> cutoff >= before - Duration.ofMinutes(10).toMillis()
+                        && cutoff <= System.currentTimeMillis() - Duration.ofMinutes(10).toMillis()));
+    }
+}
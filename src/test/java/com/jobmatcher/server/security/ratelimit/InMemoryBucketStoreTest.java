@@ -0,0 +1,110 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryBucketStoreTest {
+
+    AtomicLong clock;
+    InMemoryBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000L);
+        store = new InMemoryBucketStore(clock::get);
+    }
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        RateLimitBudget budget = RateLimitBudget.perMinute(3);
+
+        assertThat(store.tryConsume("k", budget)).isTrue();
+        assertThat(store.tryConsume("k", budget)).isTrue();
+        assertThat(store.tryConsume("k", budget)).isTrue();
+        assertThat(store.tryConsume("k", budget)).isFalse();
+    }
+
+    @Test
+    void refillsProportionallyToElapsedTime() {
+        RateLimitBudget budget = RateLimitBudget.perMinute(6); // one token every 10 s
+        for (int i = 0; i < 6; i++) store.tryConsume("k", budget);
+        assertThat(store.tryConsume("k", budget)).isFalse();
+
+        clock.addAndGet(9_999);
+        assertThat(store.tryConsume("k", budget)).isFalse();
+
+        clock.addAndGet(1);
+        assertThat(store.tryConsume("k", budget)).isTrue();
+        assertThat(store.tryConsume("k", budget)).isFalse();
+    }
+
+    @Test
+    void frequentRejectedCallsDoNotLoseRefill() {
+        RateLimitBudget budget = RateLimitBudget.perMinute(1);
+        assertThat(store.tryConsume("k", budget)).isTrue();
+
+        for (int i = 0; i < 600; i++) {
+            clock.addAndGet(100);
+            if (i < 599) assertThat(store.tryConsume("k", budget)).isFalse();
+        }
+        assertThat(store.tryConsume("k", budget)).isTrue();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        RateLimitBudget budget = RateLimitBudget.perMinute(1);
+
+        assertThat(store.tryConsume("a", budget)).isTrue();
+        assertThat(store.tryConsume("a", budget)).isFalse();
+        assertThat(store.tryConsume("b", budget)).isTrue();
+    }
+
+    @Test
+    void evictIdle_removesOnlyBucketsUntouchedForIdleTime() {
+        RateLimitBudget budget = RateLimitBudget.perMinute(5);
+        store.tryConsume("old", budget);
+        clock.addAndGet(Duration.ofMinutes(11).toMillis());
+        store.tryConsume("recent", budget);
+
+        store.evictIdle(Duration.ofMinutes(10));
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.tryConsume("recent", budget)).isTrue();
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedCapacity() throws Exception {
+        RateLimitBudget budget = new RateLimitBudget(500, Duration.ofHours(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        try {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        if (store.tryConsume("shared", budget)) allowed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(allowed.get()).isEqualTo(500);
+    }
+}
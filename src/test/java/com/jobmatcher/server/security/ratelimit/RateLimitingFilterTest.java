@@ -0,0 +1,101 @@
+package com.jobmatcher.server.security.ratelimit;
+
+import com.jobmatcher.server.config.RateLimitProperties;
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.security.AuthPrincipal;
+import com.jobmatcher.server.security.RateLimitingFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitingFilterTest {
+
+    SimpleMeterRegistry meterRegistry;
+    RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitProperties properties = new RateLimitProperties(true, Duration.ofMinutes(10), Map.of(
+                RateLimitRoute.LOGIN, RateLimitBudget.perMinute(2),
+                RateLimitRoute.DEFAULT, RateLimitBudget.perMinute(1)));
+        filter = new RateLimitingFilter(new InMemoryBucketStore(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsWith429OnceRouteBudgetIsSpent() throws Exception {
+        assertThat(send("/api/v0/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("/api/v0/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("/api/v0/auth/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(count("login", "allowed")).isEqualTo(2);
+        assertThat(count("login", "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void routesHaveSeparateBudgets() throws Exception {
+        assertThat(send("/api/v0/contracts", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("/api/v0/contracts", "10.0.0.1").getStatus()).isEqualTo(429);
+
+        assertThat(send("/api/v0/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void authenticatedRequestsAreKeyedByUserNotAddress() throws Exception {
+        authenticate(UUID.randomUUID());
+        assertThat(send("/api/v0/contracts", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("/api/v0/contracts", "10.0.0.2").getStatus()).isEqualTo(429);
+
+        authenticate(UUID.randomUUID());
+        assertThat(send("/api/v0/contracts", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void resolvesRouteGroups() {
+        assertThat(RateLimitRoute.resolve("/api/v0/projects/job-feed")).isEqualTo(RateLimitRoute.JOB_FEED);
+        assertThat(RateLimitRoute.resolve("/api/v0/projects/job-feed/cursor")).isEqualTo(RateLimitRoute.JOB_FEED);
+        assertThat(RateLimitRoute.resolve("/api/v0/users/" + UUID.randomUUID() + "/profile_picture")).isEqualTo(RateLimitRoute.UPLOAD);
+        assertThat(RateLimitRoute.resolve("/api/v0/portfolio-items/images/upload/42")).isEqualTo(RateLimitRoute.UPLOAD);
+        assertThat(RateLimitRoute.resolve("/api/v0/payments/stripe/webhook")).isEqualTo(RateLimitRoute.WEBHOOK);
+        assertThat(RateLimitRoute.resolve("/api/v0/projects")).isEqualTo(RateLimitRoute.DEFAULT);
+    }
+
+    private MockHttpServletResponse send(String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticate(UUID userId) {
+        AuthPrincipal principal = new AuthPrincipal(userId, "user@example.com", Role.ADMIN, null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private double count(String route, String outcome) {
+        return meterRegistry.get("ratelimit.requests").tag("route", route).tag("outcome", outcome).counter().count();
+    }
+}
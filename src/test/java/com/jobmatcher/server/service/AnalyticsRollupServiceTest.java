@@ -0,0 +1,123 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.repository.AnalyticsRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsRollupServiceTest {
+
+    @Mock
+    AnalyticsRollupRepository rollupRepository;
+
+    @InjectMocks
+    AnalyticsRollupService service;
+
+    @Test
+    void recordPayment_creditsBothPartiesInPaymentMonthUtc() {
+        FreelancerProfile freelancer = new FreelancerProfile();
+        freelancer.setId(UUID.randomUUID());
+        freelancer.setUsername("freelancer1");
+        CustomerProfile customer = new CustomerProfile();
+        customer.setId(UUID.randomUUID());
+        customer.setUsername("customer1");
+        Contract contract = new Contract();
+        contract.setFreelancer(freelancer);
+        contract.setCustomer(customer);
+        Invoice invoice = new Invoice();
+        invoice.setContract(contract);
+        Payment payment = new Payment();
+        payment.setInvoice(invoice);
+        payment.setAmount(BigDecimal.valueOf(250));
+        // 1 March 01:30 in +03:00 is still February in UTC
+        payment.setPaidAt(OffsetDateTime.of(2025, 3, 1, 1, 30, 0, 0, ZoneOffset.ofHours(3)));
+
+        service.recordPayment(payment);
+
+        BigDecimal amount = BigDecimal.valueOf(250);
+        verify(rollupRepository).addProfileTotals(freelancer.getId(), amount, 0, 0);
+        verify(rollupRepository).addMonthlyTotal(freelancer.getId(), 2025, 2, amount);
+        verify(rollupRepository).addCounterpartyTotal(freelancer.getId(), customer.getId(), "customer1", amount);
+        verify(rollupRepository).addProfileTotals(customer.getId(), amount, 0, 0);
+        verify(rollupRepository).addMonthlyTotal(customer.getId(), 2025, 2, amount);
+        verify(rollupRepository).addCounterpartyTotal(customer.getId(), freelancer.getId(), "freelancer1", amount);
+    }
+
+    @Test
+    void recordPayment_withoutContract_isSkipped() {
+        Payment payment = new Payment();
+        payment.setInvoice(new Invoice());
+        payment.setAmount(BigDecimal.TEN);
+
+        service.recordPayment(payment);
+
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void recordProposalCreated_countsProposal() {
+        Proposal proposal = proposalOf(UUID.randomUUID(), ProposalStatus.PENDING);
+
+        service.recordProposalCreated(proposal);
+
+        verify(rollupRepository).addProfileTotals(proposal.getFreelancer().getId(), BigDecimal.ZERO, 1, 0);
+    }
+
+    @Test
+    void recordProposalStatusChange_onlyTracksAcceptedTransitions() {
+        UUID freelancerId = UUID.randomUUID();
+
+        service.recordProposalStatusChange(proposalOf(freelancerId, ProposalStatus.ACCEPTED), ProposalStatus.PENDING);
+        service.recordProposalStatusChange(proposalOf(freelancerId, ProposalStatus.PENDING), ProposalStatus.ACCEPTED);
+        service.recordProposalStatusChange(proposalOf(freelancerId, ProposalStatus.REJECTED), ProposalStatus.PENDING);
+
+        verify(rollupRepository).addProfileTotals(freelancerId, BigDecimal.ZERO, 0, 1);
+        verify(rollupRepository).addProfileTotals(freelancerId, BigDecimal.ZERO, 0, -1);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void recordProposalDeleted_removesProposalAndAcceptance() {
+        Proposal proposal = proposalOf(UUID.randomUUID(), ProposalStatus.ACCEPTED);
+
+        service.recordProposalDeleted(proposal);
+
+        verify(rollupRepository).addProfileTotals(proposal.getFreelancer().getId(), BigDecimal.ZERO, -1, -1);
+    }
+
+    @Test
+    void reconcile_clearsThenRebuildsAllRollups() {
+        service.reconcile();
+
+        InOrder inOrder = inOrder(rollupRepository);
+        inOrder.verify(rollupRepository).deleteAllProfileTotals();
+        inOrder.verify(rollupRepository).deleteAllMonthlyTotals();
+        inOrder.verify(rollupRepository).deleteAllCounterpartyTotals();
+        inOrder.verify(rollupRepository).rebuildProfileTotals();
+        inOrder.verify(rollupRepository).rebuildMonthlyTotals();
+        inOrder.verify(rollupRepository).rebuildCounterpartyTotals();
+        verify(rollupRepository, never()).addProfileTotals(any(), any(), anyLong(), anyLong());
+    }
+
+    private static Proposal proposalOf(UUID freelancerId, ProposalStatus status) {
+        FreelancerProfile freelancer = new FreelancerProfile();
+        freelancer.setId(freelancerId);
+        Proposal proposal = new Proposal();
+        proposal.setFreelancer(freelancer);
+        proposal.setStatus(status);
+        return proposal;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.model.analytics.customer.CustomerAnalyticsSummaryDTO;
+import com.jobmatcher.server.model.analytics.customer.MonthlySpendingDTO;
+import com.jobmatcher.server.model.analytics.customer.ProjectStatsDTO;
+import com.jobmatcher.server.model.analytics.customer.TopFreelancerDTO;
+import com.jobmatcher.server.model.analytics.freelancer.*;
+import com.jobmatcher.server.repository.CustomerAnalyticsRepository;
+import com.jobmatcher.server.repository.FreelancerAnalyticsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceImplTest {
+
+    @Mock
+    FreelancerAnalyticsRepository freelancerAnalyticsRepository;
+    @Mock
+    CustomerAnalyticsRepository customerAnalyticsRepository;
+
+    @InjectMocks
+    AnalyticsServiceImpl service;
+
+    @Test
+    void getFreelancerSummary_combinesAllSectionsWithTimings() {
+        UUID freelancerId = UUID.randomUUID();
+        var earnings = List.of(new MonthlyEarningsDTO(2025, 1, BigDecimal.TEN));
+        var completion = new JobCompletionDTO(1L, 2L, BigDecimal.valueOf(50));
+        var clients = List.of(new TopClientDTO("client", BigDecimal.TEN));
+        var skills = List.of(new SkillEarningsDTO("Java", BigDecimal.TEN));
+        when(freelancerAnalyticsRepository.findMonthlyEarnings(freelancerId)).thenReturn(earnings);
+        when(freelancerAnalyticsRepository.findJobCompletionRate(freelancerId)).thenReturn(completion);
+        when(freelancerAnalyticsRepository.findTopClients(freelancerId)).thenReturn(clients);
+        when(freelancerAnalyticsRepository.findSkillEarnings(freelancerId)).thenReturn(skills);
+
+        FreelancerAnalyticsSummaryDTO summary = service.getFreelancerSummary(freelancerId);
+
+        assertThat(summary.monthlyEarnings()).isEqualTo(earnings);
+        assertThat(summary.jobCompletion()).isEqualTo(completion);
+        assertThat(summary.topClients()).isEqualTo(clients);
+        assertThat(summary.skillEarnings()).isEqualTo(skills);
+        assertThat(summary.timingsMicros())
+                .containsOnlyKeys("monthlyEarnings", "jobCompletion", "topClients", "skillEarnings");
+    }
+
+    @Test
+    void getCustomerSummary_combinesAllSectionsWithTimings() {
+        UUID customerId = UUID.randomUUID();
+        var spending = List.of(new MonthlySpendingDTO(2025, 1, BigDecimal.TEN));
+        var stats = new ProjectStatsDTO(3L, 1L);
+        var freelancers = List.of(new TopFreelancerDTO("freelancer", BigDecimal.TEN));
+        when(customerAnalyticsRepository.findMonthlySpending(customerId)).thenReturn(spending);
+        when(customerAnalyticsRepository.findProjectStats(customerId)).thenReturn(stats);
+        when(customerAnalyticsRepository.findTopFreelancers(customerId)).thenReturn(freelancers);
+
+        CustomerAnalyticsSummaryDTO summary = service.getCustomerSummary(customerId);
+
+        assertThat(summary.monthlySpending()).isEqualTo(spending);
+        assertThat(summary.projectStats()).isEqualTo(stats);
+        assertThat(summary.topFreelancers()).isEqualTo(freelancers);
+        assertThat(summary.timingsMicros()).containsOnlyKeys("monthlySpending", "projectStats", "topFreelancers");
+    }
+}
@@ -1,25 +1,36 @@
 package com.jobmatcher.server.service;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.Uploader;
-import com.cloudinary.utils.ObjectUtils;
+import com.jobmatcher.server.config.ImageStorageProperties;
 import com.jobmatcher.server.domain.PortfolioItem;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.exception.UploadFileException;
+import com.jobmatcher.server.model.ImageUploadResponseDTO;
+import com.jobmatcher.server.model.ImageUploadResultDTO;
 import com.jobmatcher.server.model.UserResponseDTO;
 import com.jobmatcher.server.repository.PortfolioItemRepository;
+import com.jobmatcher.server.service.storage.ImageStorage;
+import com.jobmatcher.server.service.storage.LocalImageStorage;
+import com.jobmatcher.server.service.storage.StoredImageService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,20 +38,43 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CloudinaryServiceTest {
 
-    @Mock private Cloudinary cloudinary;
+    @Mock private ImageStorage imageStorage;
+    @Mock private StoredImageService storedImageService;
     @Mock private IUserService userService;
     @Mock private ImageOptimizer imageOptimizer;
     @Mock private IPortfolioItemService portfolioItemService;
     @Mock private PortfolioItemRepository portfolioItemRepository;
-    @InjectMocks private CloudinaryService service;
     @Mock private MultipartFile multipartFile;
-    @Mock private Uploader uploader;
+    private CloudinaryService service;
 
     private UUID userId;
 
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
+        service = service(imageStorage, 2);
+
+        // By default nothing was stored before and every URL is new to the portfolio item
+        lenient().when(imageOptimizer.variant()).thenReturn("w640-q85");
+        lenient().when(storedImageService.reference(anyString(), anyString())).thenReturn(Optional.empty());
+        lenient().when(storedImageService.register(anyString(), anyString(), anyString()))
+                .thenAnswer(i -> i.getArgument(2));
+        lenient().when(portfolioItemService.uploadPortfolioItemImages(any(), anyList()))
+                .thenAnswer(i -> new HashSet<String>(i.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private CloudinaryService service(ImageStorage storage, int perRequestConcurrency) {
+        return new CloudinaryService(storage, storedImageService, userService, imageOptimizer, portfolioItemService,
+                portfolioItemRepository, new ImageStorageProperties("local", perRequestConcurrency, 8, Path.of("unused")));
+    }
+
+    private static void givenContent(MultipartFile file, byte... content) throws IOException {
+        when(file.getInputStream()).thenAnswer(i -> new ByteArrayInputStream(content));
     }
 
     // ---------- uploadImage tests ----------
@@ -50,28 +84,78 @@ class CloudinaryServiceTest {
         // Stub content type for validation
         when(multipartFile.getContentType()).thenReturn("image/png");
         when(multipartFile.getSize()).thenReturn(1024L); // small file
+        givenContent(multipartFile, (byte) 9);
 
-        File optimizedFile = mock(File.class);
-        when(cloudinary.uploader()).thenReturn(uploader);
-        when(imageOptimizer.compressAndConvertToWebP(multipartFile)).thenReturn(optimizedFile);
-        when(optimizedFile.exists()).thenReturn(true);
-        when(optimizedFile.delete()).thenReturn(true);
+        byte[] optimizedImage = {1, 2, 3};
+        when(imageOptimizer.optimize(multipartFile)).thenReturn(optimizedImage);
 
         UserResponseDTO userResponse = UserResponseDTO.builder()
                 .pictureUrl(null)
                 .build();
         when(userService.getUserById(userId)).thenReturn(userResponse);
 
-        Map<String, Object> uploadResult = new HashMap<>();
-        uploadResult.put("secure_url", "https://cloudinary.com/test.webp");
-        when(uploader.upload(eq(optimizedFile), anyMap())).thenReturn(uploadResult);
+        when(imageStorage.store(eq(optimizedImage), eq("jobmatcher/users/" + userId), startsWith("profile_"), eq(false)))
+                .thenReturn("https://cloudinary.com/test.webp");
+
+        service.uploadImage(userId, multipartFile);
+
+        verify(imageOptimizer).optimize(multipartFile);
+        verify(storedImageService).register(StoredImageService.contentHash(multipartFile), "w640-q85",
+                "https://cloudinary.com/test.webp");
+        verify(imageStorage, never()).delete(anyString());
+        verify(userService).updateUserById(eq(userId), argThat(request ->
+                "https://cloudinary.com/test.webp".equals(request.getPictureUrl())));
+    }
+
+    @Test
+    void uploadImage_sameContentStoredBefore_skipsOptimizationAndUpload() throws Exception {
+        when(multipartFile.getContentType()).thenReturn("image/png");
+        when(multipartFile.getSize()).thenReturn(1024L);
+        givenContent(multipartFile, (byte) 9);
+        String contentHash = StoredImageService.contentHash(multipartFile);
+        when(storedImageService.reference(contentHash, "w640-q85")).thenReturn(Optional.of("https://cdn/shared.webp"));
+        when(userService.getUserById(userId)).thenReturn(UserResponseDTO.builder().build());
+
+        service.uploadImage(userId, multipartFile);
+
+        verify(imageOptimizer, never()).optimize(any());
+        verifyNoInteractions(imageStorage);
+        verify(userService).updateUserById(eq(userId), argThat(request ->
+                "https://cdn/shared.webp".equals(request.getPictureUrl())));
+    }
+
+    @Test
+    void uploadImage_oldPictureStillReferenced_keepsItInStorage() throws Exception {
+        when(multipartFile.getContentType()).thenReturn("image/png");
+        when(multipartFile.getSize()).thenReturn(1024L);
+        givenContent(multipartFile, (byte) 9);
+        when(imageOptimizer.optimize(multipartFile)).thenReturn(new byte[]{1});
+        when(imageStorage.store(any(byte[].class), anyString(), anyString(), eq(false))).thenReturn("https://cdn/new.webp");
+        when(userService.getUserById(userId))
+                .thenReturn(UserResponseDTO.builder().pictureUrl("https://cdn/old.webp").build());
+
+        service.uploadImage(userId, multipartFile);
+
+        // Whether the file goes is up to the reference count, after commit
+        verify(storedImageService).releaseImage("https://cdn/old.webp");
+        verify(imageStorage, never()).delete(anyString());
+    }
+
+    @Test
+    void uploadImage_concurrentUploadRegisteredFirst_dropsOwnCopy() throws Exception {
+        when(multipartFile.getContentType()).thenReturn("image/png");
+        when(multipartFile.getSize()).thenReturn(1024L);
+        givenContent(multipartFile, (byte) 9);
+        when(imageOptimizer.optimize(multipartFile)).thenReturn(new byte[]{1});
+        when(imageStorage.store(any(byte[].class), anyString(), anyString(), eq(false))).thenReturn("https://cdn/mine.webp");
+        when(storedImageService.register(anyString(), anyString(), eq("https://cdn/mine.webp"))).thenReturn("https://cdn/theirs.webp");
+        when(userService.getUserById(userId)).thenReturn(UserResponseDTO.builder().build());
 
         service.uploadImage(userId, multipartFile);
 
-        verify(imageOptimizer).compressAndConvertToWebP(multipartFile);
-        verify(uploader).upload(eq(optimizedFile), anyMap());
-        verify(userService).updateUserById(eq(userId), any());
-        verify(optimizedFile).delete();
+        verify(storedImageService).deleteFromStorage("https://cdn/mine.webp");
+        verify(userService).updateUserById(eq(userId), argThat(request ->
+                "https://cdn/theirs.webp".equals(request.getPictureUrl())));
     }
 
 
@@ -97,22 +181,150 @@ class CloudinaryServiceTest {
         MultipartFile file1 = mock(MultipartFile.class);
         when(file1.getContentType()).thenReturn("image/png");
         when(file1.getSize()).thenReturn(1024L);
+        when(file1.getOriginalFilename()).thenReturn("one.png");
+        givenContent(file1, (byte) 1);
+
+        byte[] optimizedImage = {1, 2, 3};
+        when(imageOptimizer.optimize(file1)).thenReturn(optimizedImage);
+        when(imageStorage.store(eq(optimizedImage), eq("jobmatcher/users/" + userId + "/portfolio"),
+                startsWith("image_"), eq(false))).thenReturn("https://cloudinary.com/test.webp");
+
+        ImageUploadResponseDTO response = service.uploadMultipleImages(UUID.randomUUID(), userId, List.of(file1));
+
+        assertTrue(response.success());
+        assertEquals(List.of(new ImageUploadResultDTO("one.png", "https://cloudinary.com/test.webp", null)),
+                response.files());
+        verify(portfolioItemService).uploadPortfolioItemImages(any(UUID.class), eq(List.of("https://cloudinary.com/test.webp")));
+    }
+
+    @Test
+    void uploadMultipleImages_someFilesFail_reportsPerFileAndSavesTheRestOnce() throws Exception {
+        UUID portfolioItemId = UUID.randomUUID();
+        MockMultipartFile good = new MockMultipartFile("files", "good.png", "image/png", new byte[]{1});
+        MockMultipartFile pdf = new MockMultipartFile("files", "doc.pdf", "application/pdf", new byte[]{2});
+        MockMultipartFile corrupt = new MockMultipartFile("files", "corrupt.png", "image/png", new byte[]{3});
+        MockMultipartFile other = new MockMultipartFile("files", "other.png", "image/png", new byte[]{4});
+
+        when(imageOptimizer.optimize(good)).thenReturn(new byte[]{10});
+        when(imageOptimizer.optimize(corrupt)).thenThrow(new IOException("Unsupported or corrupt image"));
+        when(imageOptimizer.optimize(other)).thenReturn(new byte[]{40});
+        when(imageStorage.store(eq(new byte[]{10}), anyString(), anyString(), eq(false))).thenReturn("https://cdn/good.webp");
+        when(imageStorage.store(eq(new byte[]{40}), anyString(), anyString(), eq(false))).thenReturn("https://cdn/other.webp");
+
+        ImageUploadResponseDTO response =
+                service.uploadMultipleImages(portfolioItemId, userId, List.of(good, pdf, corrupt, other));
+
+        assertFalse(response.success());
+        List<ImageUploadResultDTO> results = response.files();
+        assertEquals(List.of("good.png", "doc.pdf", "corrupt.png", "other.png"),
+                results.stream().map(ImageUploadResultDTO::fileName).toList());
+        assertEquals("https://cdn/good.webp", results.get(0).url());
+        assertNull(results.get(1).url());
+        assertTrue(results.get(1).error().startsWith("415"));
+        assertEquals("Unsupported or corrupt image", results.get(2).error());
+        assertEquals("https://cdn/other.webp", results.get(3).url());
+
+        ArgumentCaptor<List<String>> urls = ArgumentCaptor.captor();
+        verify(portfolioItemService, times(1)).uploadPortfolioItemImages(eq(portfolioItemId), urls.capture());
+        assertEquals(Set.of("https://cdn/good.webp", "https://cdn/other.webp"), new HashSet<>(urls.getValue()));
+        verify(storedImageService, never()).releaseImage(anyString());
+    }
+
+    @Test
+    void uploadMultipleImages_repeatedContent_keepsOneReferencePerItem() throws Exception {
+        UUID portfolioItemId = UUID.randomUUID();
+        MockMultipartFile first = new MockMultipartFile("files", "a.png", "image/png", new byte[]{5});
+        MockMultipartFile again = new MockMultipartFile("files", "a-copy.png", "image/png", new byte[]{5});
+        when(storedImageService.reference(StoredImageService.contentHash(first), "w640-q85"))
+                .thenReturn(Optional.of("https://cdn/shared.webp"));
+
+        ImageUploadResponseDTO response = service.uploadMultipleImages(portfolioItemId, userId, List.of(first, again));
+
+        assertTrue(response.success());
+        verify(imageOptimizer, never()).optimize(any());
+        verify(portfolioItemService).uploadPortfolioItemImages(portfolioItemId, List.of("https://cdn/shared.webp"));
+        // Two references were taken for one entry on the item
+        verify(storedImageService, times(1)).releaseImage("https://cdn/shared.webp");
+        verify(imageStorage, never()).delete(anyString());
+    }
+
+    @Test
+    void uploadMultipleImages_portfolioUpdateFails_releasesReferences() throws Exception {
+        UUID portfolioItemId = UUID.randomUUID();
+        MockMultipartFile file = new MockMultipartFile("files", "a.png", "image/png", new byte[]{1});
+        when(imageOptimizer.optimize(file)).thenReturn(new byte[]{10});
+        when(imageStorage.store(any(byte[].class), anyString(), anyString(), eq(false))).thenReturn("https://cdn/a.webp");
+        when(portfolioItemService.uploadPortfolioItemImages(eq(portfolioItemId), anyList()))
+                .thenThrow(new ResourceNotFoundException("Portfolio item not found."));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.uploadMultipleImages(portfolioItemId, userId, List.of(file)));
 
-        File optimizedFile = mock(File.class);
-        when(imageOptimizer.compressAndConvertToWebP(file1)).thenReturn(optimizedFile);
-        when(optimizedFile.exists()).thenReturn(true);
-        when(optimizedFile.delete()).thenReturn(true);
+        verify(storedImageService).releaseImage("https://cdn/a.webp");
+    }
+
+    @Test
+    void uploadMultipleImages_overlapsOptimizationWithUploads() throws Exception {
+        MockMultipartFile first = new MockMultipartFile("files", "first.png", "image/png", new byte[]{1});
+        MockMultipartFile second = new MockMultipartFile("files", "second.png", "image/png", new byte[]{2});
+        CountDownLatch secondOptimized = new CountDownLatch(1);
+
+        when(imageOptimizer.optimize(first)).thenReturn(new byte[]{10});
+        when(imageOptimizer.optimize(second)).thenAnswer(i -> {
+            secondOptimized.countDown();
+            return new byte[]{20};
+        });
+        // The first upload only completes once the second file has been optimized meanwhile
+        when(imageStorage.store(eq(new byte[]{10}), anyString(), anyString(), eq(false))).thenAnswer(i -> {
+            assertTrue(secondOptimized.await(5, TimeUnit.SECONDS));
+            return "https://cdn/first.webp";
+        });
+        when(imageStorage.store(eq(new byte[]{20}), anyString(), anyString(), eq(false))).thenReturn("https://cdn/second.webp");
+
+        ImageUploadResponseDTO response = service.uploadMultipleImages(UUID.randomUUID(), userId, List.of(first, second));
 
-        when(cloudinary.uploader()).thenReturn(uploader);
+        assertTrue(response.success());
+    }
+
+    @Test
+    void uploadMultipleImages_limitsFilesInFlightPerRequest() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            files.add(new MockMultipartFile("files", "f" + i + ".png", "image/png", new byte[]{(byte) i}));
+        }
+        when(imageOptimizer.optimize(any())).thenAnswer(i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            return new byte[]{1};
+        });
+        when(imageStorage.store(any(), anyString(), anyString(), eq(false))).thenAnswer(i -> {
+            inFlight.decrementAndGet();
+            return "https://cdn/" + i.getArgument(2) + ".webp";
+        });
 
-        Map<String, Object> uploadResult = new HashMap<>();
-        uploadResult.put("secure_url", "https://cloudinary.com/test.webp");
-        when(uploader.upload(eq(optimizedFile), anyMap())).thenReturn(uploadResult);
+        ImageUploadResponseDTO response = service.uploadMultipleImages(UUID.randomUUID(), userId, files);
 
-        service.uploadMultipleImages(UUID.randomUUID(), userId, List.of(file1));
+        assertTrue(response.success());
+        assertTrue(maxInFlight.get() <= 2, "at most 2 files in flight, saw " + maxInFlight.get());
+    }
 
-        verify(portfolioItemService).uploadPortfolioItemImages(any(UUID.class), anyList());
-        verify(optimizedFile).delete();
+    @Test
+    void uploadMultipleImages_localStorage_writesFilesAndSavesFileUrls(@TempDir Path directory) throws Exception {
+        service.shutdown();
+        service = service(new LocalImageStorage(
+                new ImageStorageProperties("local", 2, 8, directory)), 2);
+        UUID portfolioItemId = UUID.randomUUID();
+        MockMultipartFile file = new MockMultipartFile("files", "a.png", "image/png", new byte[]{1});
+        when(imageOptimizer.optimize(file)).thenReturn(new byte[]{7, 7, 7});
+
+        ImageUploadResponseDTO response = service.uploadMultipleImages(portfolioItemId, userId, List.of(file));
+
+        String url = response.files().getFirst().url();
+        assertArrayEquals(new byte[]{7, 7, 7}, Files.readAllBytes(Path.of(URI.create(url))));
+        assertTrue(url.contains("jobmatcher/users/" + userId + "/portfolio/image_"));
+        verify(portfolioItemService).uploadPortfolioItemImages(portfolioItemId, List.of(url));
     }
 
     @Test
@@ -126,40 +338,35 @@ class CloudinaryServiceTest {
         MultipartFile file1 = mock(MultipartFile.class);
         when(file1.getContentType()).thenReturn("image/png");
         when(file1.getSize()).thenReturn(1024L);
+        givenContent(file1, (byte) 1);
 
-        File optimizedFile = mock(File.class);
-        when(imageOptimizer.compressAndConvertToWebP(file1)).thenReturn(optimizedFile);
-        when(optimizedFile.exists()).thenReturn(true);
-        when(optimizedFile.delete()).thenReturn(true);
-
-        when(cloudinary.uploader()).thenReturn(uploader);
+        byte[] optimizedImage = {1, 2, 3};
+        when(imageOptimizer.optimize(file1)).thenReturn(optimizedImage);
 
-        Map<String, Object> uploadResult = new HashMap<>();
-        uploadResult.put("secure_url", "  "); // blank URL
-        when(uploader.upload(eq(optimizedFile), anyMap())).thenReturn(uploadResult);
+        // blank URL
+        when(imageStorage.store(eq(optimizedImage), anyString(), anyString(), eq(false))).thenReturn("  ");
 
         assertThrows(UploadFileException.class,
                 () -> service.uploadMultipleImages(UUID.randomUUID(), userId, List.of(file1)));
 
-        verify(optimizedFile).delete();
     }
 
     // ---------- deletePortfolioItemImage tests ----------
 
     @Test
-    void deletePortfolioItemImage_existingImage_shouldCallCloudinaryDestroy() throws Exception {
+    void deletePortfolioItemImage_existingImage_releasesItsReference() {
         UUID itemId = UUID.randomUUID();
         PortfolioItem item = new PortfolioItem();
         item.setImageUrls(new HashSet<>(List.of("https://cloudinary.com/upload/v123/test.webp")));
 
         when(portfolioItemRepository.findByIdWithImages(itemId)).thenReturn(Optional.of(item));
-        when(cloudinary.uploader()).thenReturn(uploader);
-        when(uploader.destroy(anyString(), anyMap())).thenReturn(null);
 
         service.deletePortfolioItemImage(itemId, "https://cloudinary.com/upload/v123/test.webp");
 
         verify(portfolioItemRepository).save(item);
-        verify(uploader).destroy(anyString(), anyMap());
+        verify(storedImageService).releaseImage("https://cloudinary.com/upload/v123/test.webp");
+        // Storage is only touched after commit, by StoredImageService
+        verifyNoInteractions(imageStorage);
     }
 
     @Test
@@ -182,35 +389,30 @@ class CloudinaryServiceTest {
         service.deletePortfolioItemImage(itemId, "missing_url");
 
         verify(portfolioItemRepository, never()).save(item);
-        verifyNoInteractions(uploader);
+        verifyNoInteractions(imageStorage);
     }
 
     // ------------------ uploadImage: old picture exists ------------------
     @Test
-    void uploadImage_oldPictureExists_callsDestroy() throws Exception {
+    void uploadImage_oldPictureExists_deletesIt() throws Exception {
         when(multipartFile.getContentType()).thenReturn("image/png");
         when(multipartFile.getSize()).thenReturn(1024L);
+        givenContent(multipartFile, (byte) 9);
 
-        File optimizedFile = mock(File.class);
-        when(imageOptimizer.compressAndConvertToWebP(multipartFile)).thenReturn(optimizedFile);
-        when(optimizedFile.exists()).thenReturn(true);
-        when(optimizedFile.delete()).thenReturn(true);
-
-        when(cloudinary.uploader()).thenReturn(uploader);
+        byte[] optimizedImage = {1, 2, 3};
+        when(imageOptimizer.optimize(multipartFile)).thenReturn(optimizedImage);
 
         UserResponseDTO userResponse = UserResponseDTO.builder()
                 .pictureUrl("https://res.cloudinary.com/demo/upload/v123/old_image.webp")
                 .build();
         when(userService.getUserById(userId)).thenReturn(userResponse);
 
-        Map<String, Object> uploadResult = new HashMap<>();
-        uploadResult.put("secure_url", "https://res.cloudinary.com/demo/upload/v123/new_image.webp");
-        when(uploader.upload(any(File.class), anyMap())).thenReturn(uploadResult);
-        when(uploader.destroy(anyString(), anyMap())).thenReturn(null);
+        when(imageStorage.store(any(byte[].class), anyString(), anyString(), eq(false)))
+                .thenReturn("https://res.cloudinary.com/demo/upload/v123/new_image.webp");
 
         service.uploadImage(userId, multipartFile);
 
-        verify(uploader).destroy("old_image", ObjectUtils.emptyMap());
+        verify(storedImageService).releaseImage("https://res.cloudinary.com/demo/upload/v123/old_image.webp");
     }
 
     // ------------------ uploadImage: IOException ------------------
@@ -218,7 +420,8 @@ class CloudinaryServiceTest {
     void uploadImage_ioException_throwsUploadFileException() throws Exception {
         when(multipartFile.getContentType()).thenReturn("image/png");
         when(multipartFile.getSize()).thenReturn(1024L);
-        when(imageOptimizer.compressAndConvertToWebP(multipartFile)).thenThrow(new IOException("fail"));
+        givenContent(multipartFile, (byte) 9);
+        when(imageOptimizer.optimize(multipartFile)).thenThrow(new IOException("fail"));
 
         UploadFileException ex = assertThrows(UploadFileException.class,
                 () -> service.uploadImage(userId, multipartFile));
@@ -230,7 +433,8 @@ class CloudinaryServiceTest {
     void uploadImage_interruptedException_throwsRuntimeException() throws Exception {
         when(multipartFile.getContentType()).thenReturn("image/png");
         when(multipartFile.getSize()).thenReturn(1024L);
-        when(imageOptimizer.compressAndConvertToWebP(multipartFile))
+        givenContent(multipartFile, (byte) 9);
+        when(imageOptimizer.optimize(multipartFile))
                 .thenThrow(new InterruptedException("interrupted"));
 
         RuntimeException ex = assertThrows(RuntimeException.class,
@@ -244,7 +448,8 @@ class CloudinaryServiceTest {
         MultipartFile file = mock(MultipartFile.class);
         when(file.getContentType()).thenReturn("image/png");
         when(file.getSize()).thenReturn(1024L);
-        when(imageOptimizer.compressAndConvertToWebP(file)).thenThrow(new IOException("fail"));
+        givenContent(file, (byte) 1);
+        when(imageOptimizer.optimize(file)).thenThrow(new IOException("fail"));
 
         UploadFileException ex = assertThrows(UploadFileException.class,
                 () -> service.uploadMultipleImages(UUID.randomUUID(), userId, List.of(file)));
@@ -257,74 +462,11 @@ class CloudinaryServiceTest {
         MultipartFile file = mock(MultipartFile.class);
         when(file.getContentType()).thenReturn("image/png");
         when(file.getSize()).thenReturn(1024L);
-        when(imageOptimizer.compressAndConvertToWebP(file)).thenThrow(new InterruptedException("interrupted"));
+        givenContent(file, (byte) 1);
+        when(imageOptimizer.optimize(file)).thenThrow(new InterruptedException("interrupted"));
 
         RuntimeException ex = assertThrows(RuntimeException.class,
                 () -> service.uploadMultipleImages(UUID.randomUUID(), userId, List.of(file)));
         assertEquals("interrupted", ex.getCause().getMessage());
     }
-
-    // ------------------ deletePortfolioItemImage: Cloudinary destroy fails ------------------
-    @Test
-    void deletePortfolioItemImage_cloudinaryDestroyException_logsError() throws IOException {
-        UUID itemId = UUID.randomUUID();
-        String url = "https://res.cloudinary.com/demo/upload/v123/image.webp";
-
-        PortfolioItem item = new PortfolioItem();
-        item.setImageUrls(new HashSet<>(List.of(url)));
-        when(portfolioItemRepository.findByIdWithImages(itemId)).thenReturn(Optional.of(item));
-        when(cloudinary.uploader()).thenReturn(uploader);
-        doThrow(new RuntimeException("fail")).when(uploader).destroy(anyString(), anyMap());
-
-        // just ensure no exception propagates
-        assertDoesNotThrow(() -> service.deletePortfolioItemImage(itemId, url));
-        verify(portfolioItemRepository).save(item);
-    }
-
-    // ------------------ extractPublicId: exception ------------------
-    @Test
-    void uploadImage_oldPictureWithBadUrl_shouldSkipDestroy() throws Exception {
-        when(multipartFile.getContentType()).thenReturn("image/png");
-        when(multipartFile.getSize()).thenReturn(1024L);
-
-        File optimizedFile = mock(File.class);
-        when(imageOptimizer.compressAndConvertToWebP(multipartFile)).thenReturn(optimizedFile);
-        when(optimizedFile.exists()).thenReturn(true);
-        when(optimizedFile.delete()).thenReturn(true);
-
-        when(cloudinary.uploader()).thenReturn(uploader);
-
-        // Provide a malformed URL that will make extractPublicId fail
-        UserResponseDTO userResponse = UserResponseDTO.builder()
-                .pictureUrl("malformed_url_without_upload_segment")
-                .build();
-        when(userService.getUserById(userId)).thenReturn(userResponse);
-
-        Map<String, Object> uploadResult = new HashMap<>();
-        uploadResult.put("secure_url", "https://cloudinary.com/test.webp");
-        when(uploader.upload(eq(optimizedFile), anyMap())).thenReturn(uploadResult);
-
-        // Should succeed without throwing, extractPublicId returns null internally
-        assertDoesNotThrow(() -> service.uploadImage(userId, multipartFile));
-
-        // Verify uploader.destroy is never called
-        verify(uploader, never()).destroy(anyString(), anyMap());
-    }
-
-
-    // ------------------ cleanupTempFile: file exists but delete fails ------------------
-    @Test
-    void cleanupTempFile_deleteFails_logsWarning() {
-        File file = mock(File.class);
-        when(file.exists()).thenReturn(true);
-        when(file.delete()).thenReturn(false);
-
-        // invoke private method via reflection
-        assertDoesNotThrow(() -> {
-            var method = CloudinaryService.class.getDeclaredMethod("cleanupTempFile", File.class);
-            method.setAccessible(true);
-            method.invoke(service, file);
-        });
-    }
-
 }
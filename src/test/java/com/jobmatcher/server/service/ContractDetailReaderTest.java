@@ -0,0 +1,145 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.mapper.AddressMapper;
+import com.jobmatcher.server.mapper.ContractMapper;
+import com.jobmatcher.server.mapper.InvoiceMapper;
+import com.jobmatcher.server.mapper.MilestoneMapper;
+import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.repository.ContractRepository;
+import com.jobmatcher.server.repository.InvoiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContractDetailReaderTest {
+
+    @Mock ContractRepository contractRepository;
+    @Mock InvoiceRepository invoiceRepository;
+    @Mock ContractMapper contractMapper;
+    @Mock InvoiceMapper invoiceMapper;
+    @Mock MilestoneMapper milestoneMapper;
+    @Mock AddressMapper addressMapper;
+
+    @InjectMocks
+    ContractDetailReader reader;
+
+    UUID contractId;
+    Contract contract;
+    Milestone milestone;
+    Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        contractId = UUID.randomUUID();
+
+        User customerUser = new User();
+        customerUser.setEmail("customer@test.com");
+        customerUser.setPhone("123");
+        CustomerProfile customer = new CustomerProfile();
+        customer.setId(UUID.randomUUID());
+        customer.setUser(customerUser);
+
+        User freelancerUser = new User();
+        freelancerUser.setEmail("freelancer@test.com");
+        freelancerUser.setPhone("456");
+        FreelancerProfile freelancer = new FreelancerProfile();
+        freelancer.setId(UUID.randomUUID());
+        freelancer.setUser(freelancerUser);
+
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setPaymentType(PaymentType.MILESTONE);
+
+        milestone = new Milestone();
+        milestone.setId(UUID.randomUUID());
+
+        invoice = new Invoice();
+        invoice.setId(UUID.randomUUID());
+        invoice.setMilestone(milestone);
+
+        contract = new Contract();
+        contract.setId(contractId);
+        contract.setProject(project);
+        contract.setCustomer(customer);
+        contract.setFreelancer(freelancer);
+        contract.setMilestones(Set.of(milestone));
+    }
+
+    @Test
+    void getById_mapsContactsMilestonesAndInvoices() {
+        when(contractRepository.findBy(any(Specification.class), any())).thenReturn(Optional.of(contract));
+        when(invoiceRepository.findAllByContractIdWithMilestone(contractId)).thenReturn(List.of(invoice));
+        when(milestoneMapper.toDto(milestone))
+                .thenReturn(MilestoneResponseDTO.builder().id(milestone.getId()).build());
+        when(contractMapper.toSummaryDto(contract)).thenReturn(ContractSummaryDTO.builder().id(contractId).build());
+        when(invoiceMapper.toSummaryDto(eq(invoice), any(ContractSummaryDTO.class), any(MilestoneResponseDTO.class)))
+                .thenReturn(InvoiceSummaryDTO.builder().id(invoice.getId()).build());
+        when(contractMapper.toDetailDto(eq(contract), any(), any(), anySet(), anySet(), any()))
+                .thenAnswer(i -> ContractDetailDTO.builder()
+                        .id(contractId)
+                        .customerContact(i.getArgument(1))
+                        .freelancerContact(i.getArgument(2))
+                        .invoices(i.getArgument(3))
+                        .milestones(i.getArgument(4))
+                        .paymentType(i.getArgument(5))
+                        .build());
+
+        ContractDetailDTO dto = reader.getById(contractId);
+
+        assertEquals(contractId, dto.getId());
+        assertEquals("customer@test.com", dto.getCustomerContact().getEmail());
+        assertEquals("456", dto.getFreelancerContact().getPhone());
+        assertEquals(1, dto.getMilestones().size());
+        assertEquals(milestone.getId(), dto.getMilestones().iterator().next().getId());
+        assertEquals(1, dto.getInvoices().size());
+        assertEquals(invoice.getId(), dto.getInvoices().iterator().next().getId());
+        assertEquals(PaymentType.MILESTONE, dto.getPaymentType());
+        verify(contractRepository, never()).findById(any());
+    }
+
+    @Test
+    void getById_notFound_throws() {
+        when(contractRepository.findBy(any(Specification.class), any())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> reader.getById(contractId));
+        verifyNoInteractions(invoiceRepository);
+    }
+
+    @Test
+    void getByProjectId_loadsThroughDetailPlan() {
+        UUID projectId = contract.getProject().getId();
+        contract.setMilestones(Set.of());
+        when(contractRepository.findBy(any(Specification.class), any())).thenReturn(Optional.of(contract));
+        when(invoiceRepository.findAllByContractIdWithMilestone(contractId)).thenReturn(List.of());
+        when(contractMapper.toDetailDto(eq(contract), any(), any(), eq(Set.of()), eq(Set.of()), eq(PaymentType.MILESTONE)))
+                .thenReturn(ContractDetailDTO.builder().id(contractId).build());
+
+        ContractDetailDTO dto = reader.getByProjectId(projectId);
+
+        assertEquals(contractId, dto.getId());
+    }
+
+    @Test
+    void getByProjectId_notFound_throws() {
+        UUID projectId = UUID.randomUUID();
+        when(contractRepository.findBy(any(Specification.class), any())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> reader.getByProjectId(projectId));
+    }
+}
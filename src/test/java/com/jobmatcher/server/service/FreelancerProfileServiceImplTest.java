@@ -7,6 +7,8 @@ import com.jobmatcher.server.mapper.FreelancerProfileMapper;
 import com.jobmatcher.server.model.FreelancerDetailDTO;
 import com.jobmatcher.server.model.FreelancerProfileRequestDTO;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import com.jobmatcher.server.service.search.SkillDictionary;
 import com.jobmatcher.server.util.SanitizationUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,12 @@ class FreelancerProfileServiceImplTest {
     @Mock
     private LanguageRepository languageRepository;
 
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @Mock
+    private SkillDictionary skillDictionary;
+
     @InjectMocks
     private FreelancerProfileServiceImpl service;
 
@@ -120,8 +128,7 @@ class FreelancerProfileServiceImplTest {
 
         Skill javaSkill = new Skill("Java");
         Skill springSkill = new Skill("Spring");
-        when(skillService.findOrCreateByName("Java")).thenReturn(javaSkill);
-        when(skillService.findOrCreateByName("Spring")).thenReturn(springSkill);
+        when(skillService.resolveOrCreateByNames(Set.of("Java", "Spring"))).thenReturn(Set.of(javaSkill, springSkill));
 
         when(profileMapper.toEntity(any(), eq(user), any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(profile);
         when(profileRepository.save(profile)).thenReturn(profile);
@@ -147,8 +154,7 @@ class FreelancerProfileServiceImplTest {
 
         Skill javaSkill = new Skill("Java");
         Skill springSkill = new Skill("Spring");
-        when(skillService.findOrCreateByName("Java")).thenReturn(javaSkill);
-        when(skillService.findOrCreateByName("Spring")).thenReturn(springSkill);
+        when(skillService.resolveOrCreateByNames(Set.of("Java", "Spring"))).thenReturn(Set.of(javaSkill, springSkill));
 
         when(profileRepository.save(profile)).thenReturn(profile);
         when(profileMapper.toFreelancerDetailDto(profile)).thenReturn(detailDTO);
@@ -185,9 +191,8 @@ class FreelancerProfileServiceImplTest {
 
         // Skills: one exists, one doesn't
         Skill existingSkill = new Skill("java");
-        when(skillService.findOrCreateByName("java")).thenReturn(existingSkill);
-        when(skillService.findOrCreateByName("spring"))
-                .thenAnswer(invocation -> new Skill("spring"));
+        when(skillService.resolveOrCreateByNames(Set.of("java", "spring")))
+                .thenAnswer(invocation -> Set.of(existingSkill, new Skill("spring")));
 
 
         // Languages
@@ -213,8 +218,8 @@ class FreelancerProfileServiceImplTest {
         FreelancerDetailDTO result = service.saveFreelancerProfile(dto);
 
         assertNotNull(result);
-        verify(skillService).findOrCreateByName("java");
-        verify(skillService).findOrCreateByName("spring");
+        verify(skillService).resolveOrCreateByNames(Set.of("java", "spring"));
+        verify(skillDictionary).profileSkillsChangedAfterCommit(eq(Set.of()), argThat(skills -> skills.size() == 2));
     }
 
     @Test
@@ -232,7 +237,7 @@ class FreelancerProfileServiceImplTest {
     @Test
     void saveFreelancerProfile_missingLanguages_throws() {
         // Mark this stubbing as lenient because it's not hit before the exception
-        lenient().when(skillService.findOrCreateByName("java")).thenReturn(new Skill("java"));
+        lenient().when(skillService.resolveOrCreateByNames(Set.of("Java"))).thenReturn(Set.of(new Skill("Java")));
 
         FreelancerProfileRequestDTO dto = FreelancerProfileRequestDTO.builder()
                 .userId(UUID.randomUUID())
@@ -302,8 +307,7 @@ class FreelancerProfileServiceImplTest {
 
         Skill javaSkill = new Skill("Java");
         Skill springSkill = new Skill("Spring");
-        when(skillService.findOrCreateByName("Java")).thenReturn(javaSkill);
-        when(skillService.findOrCreateByName("Spring")).thenReturn(springSkill);
+        when(skillService.resolveOrCreateByNames(Set.of("Java", "Spring"))).thenReturn(Set.of(javaSkill, springSkill));
 
         when(profileRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
         when(profileMapper.toFreelancerDetailDto(any())).thenReturn(detailDTO);
@@ -338,7 +342,7 @@ class FreelancerProfileServiceImplTest {
         when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
         when(subcategoryRepository.findAllById(anySet())).thenReturn(List.of(new JobSubcategory("code", "name", new JobCategory("catCode", "catName"))));
         when(languageRepository.findAllById(anySet())).thenReturn(List.of(new Language(1, "English")));
-        when(skillService.findOrCreateByName("Java")).thenReturn(new Skill("Java"));
+        when(skillService.resolveOrCreateByNames(Set.of("Java"))).thenReturn(Set.of(new Skill("Java")));
 
         // Malicious-looking URL input (XSS attempt)
         Set<String> socialMediaInput = Set.of(
@@ -394,7 +398,7 @@ class FreelancerProfileServiceImplTest {
         // Stub skill service
         Skill javaSkill = new Skill();
         javaSkill.setName("Java");
-        when(skillService.findOrCreateByName("Java")).thenReturn(javaSkill);
+        when(skillService.resolveOrCreateByNames(skills)).thenReturn(Set.of(javaSkill));
 
         // Stub repo results
         User user = new User();
@@ -411,7 +415,7 @@ class FreelancerProfileServiceImplTest {
         assertThat(result.getSocialMedia()).containsExactly("https://github.com/test");
 
         // Validate skill handling
-        verify(skillService, times(1)).findOrCreateByName("Java");
+        verify(skillService, times(1)).resolveOrCreateByNames(skills);
     }
 
     @Test
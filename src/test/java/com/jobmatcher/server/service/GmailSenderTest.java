@@ -3,9 +3,9 @@ package com.jobmatcher.server.service;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.services.gmail.Gmail;
 import com.google.api.services.gmail.model.Message;
-import com.jobmatcher.server.domain.User;
 import com.jobmatcher.server.exception.EmailSendException;
 import com.jobmatcher.server.exception.GmailApiException;
+import com.jobmatcher.server.service.email.OutboundEmail;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,82 +33,60 @@ class GmailSenderTest {
     @InjectMocks
     GmailSender gmailSender;
 
-    final String userEmail = "user@example.com";
-    final String resetToken = "token123";
-
-    User sampleUser;
+    final OutboundEmail email = new OutboundEmail("user@example.com", "Subject", "<p>Body</p>");
 
     @BeforeEach
     void setup() throws Exception {
-        // Inject the private fields using reflection helper (TestUtils assumed available)
-        TestUtils.setField(gmailSender, "FRONTEND_BASE_URL", "http://frontend.test");
-        TestUtils.setField(gmailSender, "MAX_RETRIES", 2);
-
         when(gmail.users()).thenReturn(users);
         when(users.messages()).thenReturn(messages);
         when(messages.send(eq("me"), any(Message.class))).thenReturn(send);
-
-        sampleUser = new User();
-        sampleUser.setEmail(userEmail);
     }
 
     @Test
-    void sendResetEmail_success() throws Exception {
+    void send_success() throws Exception {
         when(send.execute()).thenReturn(new Message());
 
-        gmailSender.sendResetEmail(sampleUser, resetToken);
+        gmailSender.send(email);
 
         verify(send).execute();
     }
 
     @Test
-    void sendResetEmail_retriesOnRetryableGmailApiException() throws Exception {
+    void send_throwsRetryable_onRateLimitWithoutRetryingInline() throws Exception {
         GoogleJsonResponseException retryableException = createGoogleJsonResponseException(429, "Rate Limit");
 
-        when(send.execute())
-                .thenThrow(retryableException)
-                .thenReturn(new Message());
+        when(send.execute()).thenThrow(retryableException);
 
-        gmailSender.sendResetEmail(sampleUser, resetToken);
+        assertThatThrownBy(() -> gmailSender.send(email))
+                .isInstanceOf(EmailSendException.class)
+                .hasCauseInstanceOf(GmailApiException.class)
+                .satisfies(e -> assertThat(((EmailSendException) e).isRetryable()).isTrue());
 
-        verify(send, times(2)).execute();
+        verify(send).execute();
     }
 
     @Test
-    void sendResetEmail_throwsGmailApiException_whenNonRetryable() throws Exception {
+    void send_throwsNonRetryable_onClientError() throws Exception {
         GoogleJsonResponseException nonRetryableException = createGoogleJsonResponseException(400, "Bad Request");
 
         when(send.execute()).thenThrow(nonRetryableException);
 
-        assertThatThrownBy(() -> gmailSender.sendResetEmail(sampleUser, resetToken))
-                .isInstanceOf(GmailApiException.class)
-                .hasMessageContaining("Bad Request");
+        assertThatThrownBy(() -> gmailSender.send(email))
+                .isInstanceOf(EmailSendException.class)
+                .hasMessageContaining("Bad Request")
+                .satisfies(e -> assertThat(((EmailSendException) e).isRetryable()).isFalse());
 
         verify(send).execute();
     }
 
     @Test
-    void sendResetEmail_throwsOnInterruptedDuringRetry() throws Exception {
-        GoogleJsonResponseException retryableException = createGoogleJsonResponseException(429, "Rate Limit");
-
-        when(send.execute())
-                .thenThrow(retryableException)
-                .thenAnswer(invocation -> {
-                    throw new InterruptedException("Interrupted for test");
-                });
-
-        assertThatThrownBy(() -> gmailSender.sendResetEmail(sampleUser, resetToken))
-                .isInstanceOf(EmailSendException.class)
-                .hasMessageContaining("Unexpected failure when sending email.");
-    }
-
-    @Test
-    void sendResetEmail_throwsOnUnexpectedException() throws Exception {
+    void send_throwsRetryable_onUnexpectedException() throws Exception {
         when(send.execute()).thenThrow(new RuntimeException("Boom"));
 
-        assertThatThrownBy(() -> gmailSender.sendResetEmail(sampleUser, resetToken))
+        assertThatThrownBy(() -> gmailSender.send(email))
                 .isInstanceOf(EmailSendException.class)
-                .hasMessageContaining("Unexpected failure");
+                .hasMessageContaining("Unexpected failure")
+                .satisfies(e -> assertThat(((EmailSendException) e).isRetryable()).isTrue());
     }
 
     // Helper method to mock GoogleJsonResponseException with code and message
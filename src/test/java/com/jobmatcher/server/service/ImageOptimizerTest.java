@@ -1,123 +1,232 @@
 package com.jobmatcher.server.service;
 
-import net.coobird.thumbnailator.Thumbnails;
+import com.jobmatcher.server.config.ImagePipelineProperties;
+import com.jobmatcher.server.exception.ImageProcessingBusyException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mock.web.MockMultipartFile;
+
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.*;
 
 class ImageOptimizerTest {
 
-    private final ImageOptimizer imageOptimizer = new ImageOptimizer();
+    private ImageOptimizer imageOptimizer = optimizer(2, 4, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        imageOptimizer.shutdown();
+    }
 
     @Test
-    void compressAndConvertToWebP_invalidImage_throwsIOException() {
+    void optimize_invalidImage_throwsIOException() {
         MockMultipartFile multipartFile = new MockMultipartFile(
                 "file", "corrupt.png", "image/png", new byte[]{0, 1, 2}
         );
 
-        // Mock ImageIO.read to throw IOException
-        try (MockedStatic<ImageIO> imageIOMock = Mockito.mockStatic(ImageIO.class)) {
-            imageIOMock.when(() -> ImageIO.read(any(InputStream.class))).thenThrow(new IOException("bad image"));
+        IOException ex = assertThrows(IOException.class, () -> imageOptimizer.optimize(multipartFile));
 
-            IOException ex = assertThrows(IOException.class, () ->
-                    imageOptimizer.compressAndConvertToWebP(multipartFile));
+        assertEquals("Unsupported or corrupt image", ex.getMessage());
+    }
 
-            assertEquals("bad image", ex.getMessage());
-        }
+    @Test
+    void optimize_largeOpaqueImage_fitsIntoBoxAsJpeg() throws Exception {
+        MockMultipartFile multipartFile = new MockMultipartFile(
+                "file", "large.png", "image/png", encode(image(3000, 1500, BufferedImage.TYPE_INT_RGB), "png")
+        );
+
+        byte[] result = imageOptimizer.optimize(multipartFile);
+
+        assertEquals("jpeg", formatOf(result));
+        BufferedImage optimized = ImageIO.read(new ByteArrayInputStream(result));
+        assertEquals(640, optimized.getWidth());
+        assertEquals(320, optimized.getHeight());
     }
 
     @Test
-    void compressAndConvertToWebP_cwebpFails_throwsIOException() throws Exception {
-        BufferedImage dummyImage = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+    void optimize_transparentImage_keepsAlphaAsPng() throws Exception {
         MockMultipartFile multipartFile = new MockMultipartFile(
-                "file", "fail.png", "image/png", new byte[]{1,2,3}
+                "file", "logo.png", "image/png", encode(image(800, 800, BufferedImage.TYPE_INT_ARGB), "png")
         );
 
-        // Mock ImageIO.read
-        try (MockedStatic<ImageIO> imageIOMock = mockStatic(ImageIO.class)) {
-            imageIOMock.when(() -> ImageIO.read(any(InputStream.class))).thenReturn(dummyImage);
-
-            // Mock Thumbnails builder chain
-            Thumbnails.Builder<BufferedImage> builderMock = mock(Thumbnails.Builder.class, RETURNS_SELF);
-            try (MockedStatic<Thumbnails> thumbnailsMock = mockStatic(Thumbnails.class)) {
-                thumbnailsMock.when(() -> Thumbnails.of(dummyImage)).thenReturn(builderMock);
-                when(builderMock.size(anyInt(), anyInt())).thenReturn(builderMock);
-                when(builderMock.outputFormat(anyString())).thenReturn(builderMock);
-                when(builderMock.outputQuality(anyDouble())).thenReturn(builderMock);
-                doAnswer(invocation -> {
-                    File arg = invocation.getArgument(0);
-                    arg.createNewFile();
-                    return null;
-                }).when(builderMock).toFile(any(File.class));
-
-                // Mock ProcessBuilder construction
-                try (var pbMock = mockConstruction(ProcessBuilder.class, (mock, context) -> {
-                    Process processMock = mock(Process.class);
-                    when(processMock.waitFor()).thenReturn(255); // simulate failure
-                    when(mock.start()).thenReturn(processMock);
-                })) {
-
-                    ImageOptimizer optimizer = new ImageOptimizer();
-                    IOException ex = assertThrows(IOException.class,
-                            () -> optimizer.compressAndConvertToWebP(multipartFile));
-                    assertTrue(ex.getMessage().contains("cwebp conversion failed"));
-                }
-            }
-        }
+        byte[] result = imageOptimizer.optimize(multipartFile);
+
+        assertEquals("png", formatOf(result));
+        BufferedImage optimized = ImageIO.read(new ByteArrayInputStream(result));
+        assertTrue(optimized.getColorModel().hasAlpha());
+        assertEquals(640, optimized.getWidth());
     }
 
     @Test
-    void compressAndConvertToWebP_success_returnsWebPFile() throws Exception {
-        BufferedImage dummyImage = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+    void optimize_gif_decodesFirstFrame() throws Exception {
         MockMultipartFile multipartFile = new MockMultipartFile(
-                "file", "test.png", "image/png", new byte[]{1,2,3}
+                "file", "anim.gif", "image/gif", encode(image(400, 200, BufferedImage.TYPE_INT_RGB), "gif")
         );
 
-        ImageOptimizer optimizer = new ImageOptimizer();
-
-        // 1️⃣ Mock ImageIO.read
-        try (MockedStatic<ImageIO> imageIOMock = mockStatic(ImageIO.class)) {
-            imageIOMock.when(() -> ImageIO.read(any(InputStream.class))).thenReturn(dummyImage);
-
-            // 2️⃣ Mock Thumbnails builder chain
-            Thumbnails.Builder<BufferedImage> builderMock = mock(Thumbnails.Builder.class, RETURNS_SELF);
-            try (MockedStatic<Thumbnails> thumbnailsMock = mockStatic(Thumbnails.class)) {
-                thumbnailsMock.when(() -> Thumbnails.of(dummyImage)).thenReturn(builderMock);
-                when(builderMock.size(anyInt(), anyInt())).thenReturn(builderMock);
-                when(builderMock.outputFormat(anyString())).thenReturn(builderMock);
-                when(builderMock.outputQuality(anyDouble())).thenReturn(builderMock);
-
-                doAnswer(invocation -> {
-                    File arg = invocation.getArgument(0);
-                    arg.createNewFile(); // simulate writing file
-                    return null;
-                }).when(builderMock).toFile(any(File.class));
-
-                // 3️⃣ Mock ProcessBuilder construction
-                try (var pbMock = mockConstruction(ProcessBuilder.class, (mock, context) -> {
-                    Process processMock = mock(Process.class);
-                    when(processMock.waitFor()).thenReturn(0); // success exit code
-                    when(mock.start()).thenReturn(processMock);
-                })) {
-                    // Run method
-                    File result = optimizer.compressAndConvertToWebP(multipartFile);
-                    assertNotNull(result);
-                    assertTrue(result.getName().endsWith(".webp"));
-
-                    // Clean up
-                    result.delete();
-                }
+        byte[] result = imageOptimizer.optimize(multipartFile);
+
+        BufferedImage optimized = ImageIO.read(new ByteArrayInputStream(result));
+        assertNotNull(optimized);
+        assertEquals(640, optimized.getWidth());
+    }
+
+    @Test
+    void optimize_reusesWorkerBufferAcrossImages() throws Exception {
+        imageOptimizer.shutdown();
+        imageOptimizer = optimizer(1, 0, Duration.ofSeconds(5));
+        MockMultipartFile first = new MockMultipartFile(
+                "file", "a.png", "image/png", encode(image(1200, 900, BufferedImage.TYPE_INT_RGB), "png"));
+        MockMultipartFile second = new MockMultipartFile(
+                "file", "b.png", "image/png", encode(image(300, 300, BufferedImage.TYPE_INT_RGB), "png"));
+
+        byte[] firstResult = imageOptimizer.optimize(first);
+        byte[] secondResult = imageOptimizer.optimize(second);
+
+        // The second, smaller result must not carry bytes left over from the first
+        assertEquals(640, ImageIO.read(new ByteArrayInputStream(firstResult)).getWidth());
+        assertEquals(640, ImageIO.read(new ByteArrayInputStream(secondResult)).getHeight());
+        assertEquals((byte) 0xD9, secondResult[secondResult.length - 1]);
+    }
+
+    @Test
+    void optimize_allSlotsTaken_rejectsWithBusy() throws Exception {
+        imageOptimizer.shutdown();
+        imageOptimizer = optimizer(1, 0, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        byte[] png = encode(image(100, 100, BufferedImage.TYPE_INT_RGB), "png");
+        InputStreamSource blocking = () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return new ByteArrayInputStream(png);
+        };
+
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<byte[]> inFlight = caller.submit(() -> imageOptimizer.optimize(blocking));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            MockMultipartFile next = new MockMultipartFile("file", "next.png", "image/png", png);
+            assertThrows(ImageProcessingBusyException.class, () -> imageOptimizer.optimize(next));
+
+            release.countDown();
+            assertNotNull(inFlight.get(5, TimeUnit.SECONDS));
+            assertNotNull(imageOptimizer.optimize(next));
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void optimize_interruptedCaller_keepsSlotUntilWorkerFinishes() throws Exception {
+        imageOptimizer.shutdown();
+        imageOptimizer = optimizer(1, 0, Duration.ofMillis(200));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        byte[] png = encode(image(100, 100, BufferedImage.TYPE_INT_RGB), "png");
+        InputStreamSource stubborn = () -> {
+            started.countDown();
+            awaitIgnoringInterrupts(release);
+            return new ByteArrayInputStream(png);
+        };
+
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<byte[]> inFlight = caller.submit(() -> imageOptimizer.optimize(stubborn));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            inFlight.cancel(true);
+
+            // The worker is still decoding, so its slot must not have been handed back yet
+            MockMultipartFile next = new MockMultipartFile("file", "next.png", "image/png", png);
+            assertThrows(ImageProcessingBusyException.class, () -> imageOptimizer.optimize(next));
+
+            release.countDown();
+            assertNotNull(imageOptimizer.optimize(next));
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void subsamplingStep_keepsTwiceTheTargetResolution() {
+        assertEquals(1, ImageOptimizer.subsamplingStep(640, 480, 640));
+        assertEquals(1, ImageOptimizer.subsamplingStep(2000, 1000, 640));
+        assertEquals(3, ImageOptimizer.subsamplingStep(4000, 3000, 640));
+        assertEquals(6, ImageOptimizer.subsamplingStep(3000, 8000, 640));
+    }
+
+    @Test
+    void variant_reflectsOutputSettings() {
+        assertEquals("w640-q85", imageOptimizer.variant());
+    }
+
+    private static ImageOptimizer optimizer(int workers, int queueCapacity, Duration acquireTimeout) {
+        return new ImageOptimizer(new ImagePipelineProperties(workers, queueCapacity, acquireTimeout, 640, 0.85f));
+    }
+
+    private static BufferedImage image(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(30, 120, 200, type == BufferedImage.TYPE_INT_ARGB ? 128 : 255));
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.ORANGE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(ImageIO.write(image, format, out));
+        return out.toByteArray();
+    }
+
+    private static String formatOf(byte[] bytes) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            ImageReader reader = ImageIO.getImageReaders(in).next();
+            return reader.getFormatName().toLowerCase();
+        }
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        boolean interrupted = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (latch.getCount() > 0 && System.nanoTime() < deadline) {
+            try {
+                latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
             }
         }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
     }
 
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
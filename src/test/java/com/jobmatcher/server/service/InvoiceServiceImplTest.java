@@ -7,20 +7,22 @@ import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.mapper.*;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.ContractSummaryRow;
+import com.jobmatcher.server.model.summary.InvoiceSummaryRow;
+import com.jobmatcher.server.model.summary.MilestoneSummaryRow;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,23 +37,15 @@ class InvoiceServiceImplTest {
     @Mock
     private MilestoneMapper milestoneMapper;
     @Mock
-    private JwtService jwtService;
-    @Mock
     private ContractRepository contractRepository;
     @Mock
     private MilestoneRepository milestoneRepository;
     @Mock
-    private IContractService contractService;
-    @Mock
-    private IMilestoneService milestoneService;
-    @Mock
-    private IUserService userService;
+    private InvoiceWorkflow invoiceWorkflow;
     @Mock
-    private FreelancerProfileRepository freelancerProfileRepository;
+    private ContractDetailReader contractDetailReader;
     @Mock
-    private CustomerProfileRepository customerProfileRepository;
-    @Mock
-    private AddressMapper addressMapper;
+    private SummaryQueryRepository summaryQueryRepository;
 
 
     @InjectMocks
@@ -139,137 +133,93 @@ class InvoiceServiceImplTest {
 
     @Test
     void getAllInvoices_customerRole_shouldReturnMappedPage() {
-        String token = "jwt.token";
         Pageable pageable = PageRequest.of(0, 10);
         InvoiceFilterDTO filter = InvoiceFilterDTO.builder().build();
-
-        User user = new User();
-        user.setId(customerUserId);
-        user.setRole(Role.CUSTOMER);
-
-        CustomerProfile profile = new CustomerProfile();
-        profile.setId(UUID.randomUUID());
-
-        Invoice invoice1 = new Invoice();
-        invoice1.setId(UUID.randomUUID());
-        Invoice invoice2 = new Invoice();
-        invoice2.setId(UUID.randomUUID());
-
-        Page<Invoice> entityPage = new PageImpl<>(List.of(invoice1, invoice2));
-
-        when(jwtService.extractUsername(token)).thenReturn("customer@test.com");
-        when(userService.getUserByEmail("customer@test.com")).thenReturn(user);
-        when(customerProfileRepository.findByUserId(customerUserId)).thenReturn(Optional.of(profile));
-        when(invoiceRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(entityPage);
-
-        when(contractMapper.toSummaryDto(any())).thenReturn(ContractSummaryDTO.builder().id(UUID.randomUUID()).build());
-        when(invoiceMapper.toSummaryDto(any(), any(), any()))
+        AuthPrincipal principal = new AuthPrincipal(customerUserId, "customer@test.com", Role.CUSTOMER, UUID.randomUUID());
+
+        InvoiceSummaryRow row1 = invoiceRow(UUID.randomUUID());
+        InvoiceSummaryRow row2 = invoiceRow(UUID.randomUUID());
+        MilestoneSummaryRow milestoneRow = new MilestoneSummaryRow(milestoneId, contractId, row1.id(), null,
+                "Milestone", null, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, 5, MilestoneStatus.PENDING,
+                null, null, null, null, null, Priority.LOW);
+        ContractSummaryDTO contractDto = ContractSummaryDTO.builder().id(contractId).build();
+        MilestoneResponseDTO milestoneDto = MilestoneResponseDTO.builder().id(milestoneId).build();
+
+        when(summaryQueryRepository.findPage(eq(SummaryProjection.INVOICE), any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(row1, row2)));
+        when(milestoneRepository.findSummaryRowsByInvoiceIds(List.of(row1.id(), row2.id()))).thenReturn(List.of(milestoneRow));
+        when(milestoneMapper.fromRow(milestoneRow)).thenReturn(milestoneDto);
+        when(contractMapper.fromRow(any())).thenReturn(contractDto);
+        when(invoiceMapper.fromRow(any(), any(), any()))
                 .thenReturn(InvoiceSummaryDTO.builder().id(UUID.randomUUID()).build());
 
-        Page<InvoiceSummaryDTO> result = invoiceService.getAllInvoices(token, pageable, filter);
+        Page<InvoiceSummaryDTO> result = invoiceService.getAllInvoices(principal, pageable, filter);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
-        verify(customerProfileRepository).findByUserId(customerUserId);
-        verify(invoiceRepository).findAll(any(Specification.class), eq(pageable));
+        verify(invoiceMapper).fromRow(row1, contractDto, milestoneDto);
+        verify(invoiceMapper).fromRow(row2, contractDto, null);
+        verifyNoInteractions(invoiceRepository);
     }
 
     @Test
     void getAllInvoices_staffRole_shouldReturnMappedPage() {
-        String token = "jwt.token";
         Pageable pageable = PageRequest.of(0, 10);
         InvoiceFilterDTO filter = InvoiceFilterDTO.builder().build();
+        AuthPrincipal principal = new AuthPrincipal(freelancerUserId, "freelancer@test.com", Role.STAFF, UUID.randomUUID());
 
-        User user = new User();
-        user.setId(freelancerUserId);
-        user.setRole(Role.STAFF);
+        when(summaryQueryRepository.findPage(eq(SummaryProjection.INVOICE), any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(invoiceRow(invoiceId))));
 
-        FreelancerProfile profile = new FreelancerProfile();
-        profile.setId(UUID.randomUUID());
-
-        Page<Invoice> entityPage = new PageImpl<>(List.of(invoice));
-
-        when(jwtService.extractUsername(token)).thenReturn("freelancer@test.com");
-        when(userService.getUserByEmail("freelancer@test.com")).thenReturn(user);
-        when(freelancerProfileRepository.findByUserId(freelancerUserId)).thenReturn(Optional.of(profile));
-        when(invoiceRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(entityPage);
-
-        when(contractMapper.toSummaryDto(any())).thenReturn(ContractSummaryDTO.builder().id(UUID.randomUUID()).build());
-        when(invoiceMapper.toSummaryDto(any(), any(), any()))
+        when(contractMapper.fromRow(any())).thenReturn(ContractSummaryDTO.builder().id(UUID.randomUUID()).build());
+        when(invoiceMapper.fromRow(any(), any(), any()))
                 .thenReturn(InvoiceSummaryDTO.builder().id(UUID.randomUUID()).build());
 
-        Page<InvoiceSummaryDTO> result = invoiceService.getAllInvoices(token, pageable, filter);
+        Page<InvoiceSummaryDTO> result = invoiceService.getAllInvoices(principal, pageable, filter);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(freelancerProfileRepository).findByUserId(freelancerUserId);
-        verify(invoiceRepository).findAll(any(Specification.class), eq(pageable));
+        verify(milestoneRepository).findSummaryRowsByInvoiceIds(List.of(invoiceId));
     }
 
     @Test
     void getAllInvoices_otherRole_shouldUseNullProfileId() {
-        String token = "jwt.token";
         Pageable pageable = PageRequest.of(0, 10);
         InvoiceFilterDTO filter = InvoiceFilterDTO.builder().build();
+        // not CUSTOMER or STAFF
+        AuthPrincipal principal = new AuthPrincipal(UUID.randomUUID(), "admin@test.com", Role.ADMIN, null);
 
-        User user = new User();
-        user.setId(UUID.randomUUID());
-        user.setRole(Role.ADMIN); // not CUSTOMER or STAFF
-
-        Invoice invoice = new Invoice();
-        invoice.setId(UUID.randomUUID());
-        Page<Invoice> entityPage = new PageImpl<>(List.of(invoice));
-
-        when(jwtService.extractUsername(token)).thenReturn("admin@test.com");
-        when(userService.getUserByEmail("admin@test.com")).thenReturn(user);
-        when(invoiceRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(entityPage);
+        when(summaryQueryRepository.findPage(eq(SummaryProjection.INVOICE), any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(invoiceRow(UUID.randomUUID()))));
 
-        when(contractMapper.toSummaryDto(any())).thenReturn(ContractSummaryDTO.builder().id(UUID.randomUUID()).build());
-        when(invoiceMapper.toSummaryDto(any(), any(), any()))
+        when(contractMapper.fromRow(any())).thenReturn(ContractSummaryDTO.builder().id(UUID.randomUUID()).build());
+        when(invoiceMapper.fromRow(any(), any(), any()))
                 .thenReturn(InvoiceSummaryDTO.builder().id(UUID.randomUUID()).build());
 
-        Page<InvoiceSummaryDTO> result = invoiceService.getAllInvoices(token, pageable, filter);
+        Page<InvoiceSummaryDTO> result = invoiceService.getAllInvoices(principal, pageable, filter);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(invoiceRepository).findAll(any(Specification.class), eq(pageable));
-        verifyNoInteractions(customerProfileRepository, freelancerProfileRepository);
     }
 
     @Test
     void getAllInvoices_customerProfileNotFound_shouldThrow() {
-        String token = "jwt.token";
         Pageable pageable = PageRequest.of(0, 10);
         InvoiceFilterDTO filter = InvoiceFilterDTO.builder().build();
+        AuthPrincipal principal = new AuthPrincipal(customerUserId, "customer@test.com", Role.CUSTOMER, null);
 
-        User user = new User();
-        user.setId(customerUserId);
-        user.setRole(Role.CUSTOMER);
-
-        when(jwtService.extractUsername(token)).thenReturn("customer@test.com");
-        when(userService.getUserByEmail("customer@test.com")).thenReturn(user);
-        when(customerProfileRepository.findByUserId(customerUserId)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> invoiceService.getAllInvoices(token, pageable, filter))
+        assertThatThrownBy(() -> invoiceService.getAllInvoices(principal, pageable, filter))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Customer profile not found");
     }
 
     @Test
     void getAllInvoices_freelancerProfileNotFound_shouldThrow() {
-        String token = "jwt.token";
         Pageable pageable = PageRequest.of(0, 10);
         InvoiceFilterDTO filter = InvoiceFilterDTO.builder().build();
+        AuthPrincipal principal = new AuthPrincipal(freelancerUserId, "freelancer@test.com", Role.STAFF, null);
 
-        User user = new User();
-        user.setId(freelancerUserId);
-        user.setRole(Role.STAFF);
-
-        when(jwtService.extractUsername(token)).thenReturn("freelancer@test.com");
-        when(userService.getUserByEmail("freelancer@test.com")).thenReturn(user);
-        when(freelancerProfileRepository.findByUserId(freelancerUserId)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> invoiceService.getAllInvoices(token, pageable, filter))
+        assertThatThrownBy(() -> invoiceService.getAllInvoices(principal, pageable, filter))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Freelancer profile not found");
     }
@@ -279,8 +229,7 @@ class InvoiceServiceImplTest {
     void getInvoiceById_found_shouldReturnDetail() {
         when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
 
-        when(contractMapper.toDetailDto(
-                any(), any(), any(), any(), any(), any()))
+        when(contractDetailReader.getById(contractId))
                 .thenReturn(ContractDetailDTO.builder().id(UUID.randomUUID()).build());
 
         when(milestoneMapper.toDto(milestone))
@@ -315,7 +264,7 @@ class InvoiceServiceImplTest {
         when(milestoneMapper.toDto(milestone))
                 .thenReturn(MilestoneResponseDTO.builder().id(UUID.randomUUID()).build());
 
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
+        when(contractDetailReader.getById(contractId))
                 .thenReturn(ContractDetailDTO.builder().id(UUID.randomUUID()).build());
 
         when(invoiceMapper.toDetailDto(any(), any(), any()))
@@ -336,7 +285,7 @@ class InvoiceServiceImplTest {
         when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
         when(invoiceRepository.save(any())).thenReturn(invoice);
 
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
+        when(contractDetailReader.getById(contractId))
                 .thenReturn(ContractDetailDTO.builder().id(UUID.randomUUID()).build());
 
         when(invoiceMapper.toDetailDto(any(), any(), any()))
@@ -411,7 +360,7 @@ class InvoiceServiceImplTest {
         when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
         when(invoiceRepository.save(invoice)).thenReturn(invoice);
 
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
+        when(contractDetailReader.getById(contractId))
                 .thenReturn(ContractDetailDTO.builder().id(UUID.randomUUID()).build());
 
         when(invoiceMapper.toDetailDto(any(), any(), any()))
@@ -433,7 +382,7 @@ class InvoiceServiceImplTest {
         when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
         when(invoiceRepository.save(invoice)).thenReturn(invoice);
 
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
+        when(contractDetailReader.getById(contractId))
                 .thenReturn(ContractDetailDTO.builder().id(UUID.randomUUID()).build());
 
         when(invoiceMapper.toDetailDto(any(), any(), any()))
@@ -446,287 +395,91 @@ class InvoiceServiceImplTest {
     }
 
     @Test
-    void updateInvoiceStatusById_paid_milestone() {
-        InvoiceStatusRequestDTO request = InvoiceStatusRequestDTO.builder()
-                .status(InvoiceStatus.PAID)
-                .build();
-
-        invoice.setMilestone(milestone);
-
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
-        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-
-        when(milestoneService.updateMilestoneStatusById(any(UUID.class), any()))
-                .thenReturn(MilestoneResponseDTO.builder().id(UUID.randomUUID()).build());
-
-        when(invoiceRepository.save(invoice)).thenReturn(invoice);
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
-                .thenReturn(ContractDetailDTO.builder().id(UUID.randomUUID()).build());
-
-        when(invoiceMapper.toDetailDto(any(), any(), any()))
-                .thenReturn(InvoiceDetailDTO.builder().id(UUID.randomUUID()).build());
-
-        InvoiceDetailDTO result = invoiceService.updateInvoiceStatusById(invoiceId, request);
-
-        assertThat(result).isNotNull();
-        verify(milestoneService).updateMilestoneStatusById(eq(milestone.getId()), any());
-    }
-
-    @Test
-    void updateInvoiceStatusById_paid_noMilestone() {
-        invoice.setMilestone(null);
-
+    void updateInvoiceStatusById_appliesTransitionAndMapsOnce() {
         InvoiceStatusRequestDTO request = InvoiceStatusRequestDTO.builder()
                 .status(InvoiceStatus.PAID)
                 .build();
-
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
-        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-
-        when(contractService.updateContractStatusById(eq(contractId), any())).thenReturn(null);
-
-        when(invoiceRepository.save(invoice)).thenReturn(invoice);
-
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
-                .thenReturn(ContractDetailDTO.builder().id(UUID.randomUUID()).build());
-
-        when(invoiceMapper.toDetailDto(any(), any(), any()))
-                .thenReturn(InvoiceDetailDTO.builder().id(UUID.randomUUID()).build());
+        MilestoneResponseDTO milestoneDto = MilestoneResponseDTO.builder().id(milestoneId).build();
+        ContractDetailDTO contractDto = ContractDetailDTO.builder().id(contractId).build();
+
+        when(invoiceWorkflow.transition(invoiceId, InvoiceStatus.PAID)).thenAnswer(i -> {
+            invoice.setStatus(InvoiceStatus.PAID);
+            return invoice;
+        });
+        when(contractDetailReader.getById(contractId)).thenReturn(contractDto);
+        when(milestoneMapper.toDto(milestone)).thenReturn(milestoneDto);
+        when(invoiceMapper.toDetailDto(invoice, contractDto, milestoneDto))
+                .thenAnswer(i -> InvoiceDetailDTO.builder()
+                        .id(invoice.getId())
+                        .status(invoice.getStatus())
+                        .build());
 
         InvoiceDetailDTO result = invoiceService.updateInvoiceStatusById(invoiceId, request);
 
-        assertThat(result).isNotNull();
-        verify(contractService).updateContractStatusById(eq(contractId), any());
-    }
-
-    @Test
-    void updateInvoiceStatusById_cancelled_withMilestone() {
-        InvoiceStatusRequestDTO request = InvoiceStatusRequestDTO.builder()
-                .status(InvoiceStatus.CANCELLED)
-                .build();
-        invoice.setMilestone(milestone);
-
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
-        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-        when(invoiceRepository.save(invoice)).thenReturn(invoice);
-        when(milestoneService.updateMilestoneStatusById(any(), any())).thenReturn(
-                MilestoneResponseDTO.builder().id(UUID.randomUUID()).build()
-        );
-
-        invoiceService.updateInvoiceStatusById(invoiceId, request);
-
-        verify(milestoneService).updateMilestoneStatusById(eq(milestoneId), any());
-    }
-
-    @Test
-    void updateInvoiceStatusById_pending_noMilestone() {
-        InvoiceStatusRequestDTO request = InvoiceStatusRequestDTO.builder()
-                .status(InvoiceStatus.PENDING)
-                .build();
-        invoice.setMilestone(null);
-
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
-        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-        when(invoiceRepository.save(invoice)).thenReturn(invoice);
-        when(contractService.updateContractStatusById(eq(contractId), any())).thenReturn(null);
-
-        invoiceService.updateInvoiceStatusById(invoiceId, request);
-
-        verify(contractService).updateContractStatusById(eq(contractId), any());
+        assertEquals(InvoiceStatus.PAID, result.getStatus());
+        verify(contractDetailReader, times(1)).getById(contractId);
+        verify(invoiceRepository, never()).save(any());
+        verifyNoInteractions(contractRepository, milestoneRepository);
     }
 
     @Test
-    void updateInvoiceStatus_invoiceWithoutMilestone_shouldUpdateContractStatus() {
-        UUID invoiceId = UUID.randomUUID();
-
-        Invoice invoice = new Invoice();
-        invoice.setId(invoiceId);
-        invoice.setStatus(InvoiceStatus.PENDING);
-        invoice.setContract(contract);
+    void updateInvoiceStatusById_noMilestone_mapsWithoutMilestone() {
         invoice.setMilestone(null);
-
         InvoiceStatusRequestDTO request = InvoiceStatusRequestDTO.builder()
                 .status(InvoiceStatus.CANCELLED)
                 .build();
 
-        given(invoiceRepository.findById(invoiceId)).willReturn(Optional.of(invoice));
-        given(contractRepository.findById(invoice.getContract().getId())).willReturn(Optional.of(invoice.getContract()));
-        given(invoiceRepository.save(any(Invoice.class))).willAnswer(i -> i.getArgument(0));
-
-        ContractDetailDTO contractDto = ContractDetailDTO.builder().id(contract.getId()).build();
-        when(contractService.updateContractStatusById(eq(contract.getId()), any()))
-                .thenReturn(contractDto);
-
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
-                .thenReturn(contractDto);
-        when(milestoneMapper.toDto(any()))
-                .thenReturn(MilestoneResponseDTO.builder().id(UUID.randomUUID()).build());
-        when(invoiceMapper.toDetailDto(any(), any(), any()))
-                .thenAnswer(invocation -> {
-                    Invoice inv = invocation.getArgument(0);
-                    return InvoiceDetailDTO.builder()
-                            .id(inv.getId())
-                            .status(inv.getStatus())
-                            .build();
-                });
+        when(invoiceWorkflow.transition(invoiceId, InvoiceStatus.CANCELLED)).thenReturn(invoice);
+        when(contractDetailReader.getById(contractId))
+                .thenReturn(ContractDetailDTO.builder().id(contractId).build());
+        when(invoiceMapper.toDetailDto(eq(invoice), any(), isNull()))
+                .thenReturn(InvoiceDetailDTO.builder().id(invoiceId).build());
 
         InvoiceDetailDTO result = invoiceService.updateInvoiceStatusById(invoiceId, request);
 
-        verify(contractService).updateContractStatusById(
-                eq(invoice.getContract().getId()),
-                argThat(dto -> dto.getStatus() == ContractStatus.ACTIVE)
-        );
-
         assertNotNull(result);
-        assertEquals(InvoiceStatus.CANCELLED, result.getStatus());
+        verifyNoInteractions(milestoneMapper);
     }
 
     @Test
-    void updateInvoiceStatus_invoiceWithMilestone_shouldUpdateMilestoneStatus() {
+    void updateInvoiceStatusById_notFound_shouldThrow() {
         InvoiceStatusRequestDTO request = InvoiceStatusRequestDTO.builder()
-                .status(InvoiceStatus.CANCELLED)
+                .status(InvoiceStatus.PAID)
                 .build();
+        when(invoiceWorkflow.transition(invoiceId, InvoiceStatus.PAID))
+                .thenThrow(new ResourceNotFoundException("Invoice not found."));
 
-        invoice.setMilestone(milestone);
-
-        given(invoiceRepository.findById(invoiceId)).willReturn(Optional.of(invoice));
-        given(contractRepository.findById(invoice.getContract().getId())).willReturn(Optional.of(invoice.getContract()));
-        given(invoiceRepository.save(any(Invoice.class))).willAnswer(i -> i.getArgument(0));
-
-        MilestoneResponseDTO milestoneDto = MilestoneResponseDTO.builder().id(milestone.getId()).build();
-        when(milestoneService.updateMilestoneStatusById(eq(milestone.getId()), any()))
-                .thenReturn(milestoneDto);
-
-        when(contractMapper.toDetailDto(any(), any(), any(), any(), any(), any()))
-                .thenReturn(ContractDetailDTO.builder().id(contract.getId()).build());
-        when(milestoneMapper.toDto(any()))
-                .thenReturn(milestoneDto);
-        when(invoiceMapper.toDetailDto(any(), any(), any()))
-                .thenAnswer(invocation -> {
-                    Invoice inv = invocation.getArgument(0);
-                    return InvoiceDetailDTO.builder()
-                            .id(inv.getId())
-                            .status(inv.getStatus())
-                            .build();
-                });
-
-        InvoiceDetailDTO result = invoiceService.updateInvoiceStatusById(invoiceId, request);
-
-        verify(milestoneService).updateMilestoneStatusById(
-                eq(milestone.getId()),
-                argThat(dto -> dto.getStatus() == MilestoneStatus.PENDING)
-        );
-
-        assertNotNull(result);
-        assertEquals(InvoiceStatus.CANCELLED, result.getStatus());
+        assertThatThrownBy(() -> invoiceService.updateInvoiceStatusById(invoiceId, request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Invoice not found.");
+        verifyNoInteractions(contractDetailReader);
     }
 
     @Test
     void deleteInvoice_paid_shouldThrow() {
         invoice.setPayment(new Payment());
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
+        when(invoiceWorkflow.load(invoiceId)).thenReturn(invoice);
 
         assertThatThrownBy(() -> invoiceService.deleteInvoice(invoiceId))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Cannot delete an invoice that has been paid.");
+        verify(invoiceWorkflow, never()).reopen(any());
     }
 
     @Test
-    void deleteInvoice_milestone_shouldUpdateMilestone() {
-        invoice.setMilestone(milestone);
-
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
-        doNothing().when(invoiceRepository).delete(invoice);
-
-        when(milestoneService.updateMilestoneStatusById(any(), any()))
-                .thenReturn(MilestoneResponseDTO.builder().id(UUID.randomUUID()).build());
-
-        invoiceService.deleteInvoice(invoiceId);
-
-        verify(milestoneService).updateMilestoneStatusById(any(), any());
-    }
-
-    @Test
-    void deleteInvoice_noMilestone_shouldUpdateContract() {
-        invoice.setMilestone(null);
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
-        doNothing().when(invoiceRepository).delete(invoice);
-        when(contractService.updateContractStatusById(eq(contractId), any())).thenReturn(null);
+    void deleteInvoice_unpaid_deletesAndReopensWork() {
+        when(invoiceWorkflow.load(invoiceId)).thenReturn(invoice);
 
         invoiceService.deleteInvoice(invoiceId);
 
-        verify(contractService).updateContractStatusById(eq(contractId), any());
-    }
-
-    @Test
-    void getFreelancerId_nullUserId_shouldThrow() throws Exception {
-        InvoiceServiceImpl service = new InvoiceServiceImpl(
-                invoiceRepository, invoiceMapper, contractMapper, milestoneMapper, jwtService,
-                contractRepository, milestoneRepository, contractService, milestoneService,
-                addressMapper, userService, freelancerProfileRepository, customerProfileRepository
-        );
-
-        var method = InvoiceServiceImpl.class.getDeclaredMethod("getFreelancerId", UUID.class);
-        method.setAccessible(true);
-
-        Throwable thrown = catchThrowable(() -> method.invoke(service, new Object[]{null}));
-
-        assertThat(thrown)
-                .isInstanceOf(InvocationTargetException.class)
-                .hasCauseInstanceOf(IllegalArgumentException.class);
-
-        assertThat(thrown.getCause())
-                .hasMessageContaining("User ID cannot be null");
-    }
-
-    @Test
-    void updateInvoiceStatus_invoiceWithMilestone_pending_shouldCallMilestoneService() {
-        Invoice invoice = new Invoice();
-        invoice.setId(UUID.randomUUID());
-        invoice.setStatus(InvoiceStatus.PENDING);
-        invoice.setContract(contract);
-        invoice.setMilestone(milestone);
-
-        given(invoiceRepository.findById(invoice.getId())).willReturn(Optional.of(invoice));
-        given(contractRepository.findById(contract.getId())).willReturn(Optional.of(contract));
-        given(invoiceRepository.save(any())).willAnswer(i -> i.getArgument(0));
-        when(milestoneMapper.toDto(any())).thenReturn(MilestoneResponseDTO.builder().id(milestone.getId()).build());
-        when(invoiceMapper.toDetailDto(any(), any(), any()))
-                .thenAnswer(invocation -> InvoiceDetailDTO.builder()
-                        .id(invoice.getId())
-                        .status(invoice.getStatus())
-                        .build());
-
-        InvoiceStatusRequestDTO request = InvoiceStatusRequestDTO.builder()
-                .status(InvoiceStatus.PENDING)
-                .build();
-
-        InvoiceDetailDTO result = invoiceService.updateInvoiceStatusById(invoice.getId(), request);
-
-        verify(milestoneService).updateMilestoneStatusById(
-                eq(milestone.getId()),
-                argThat(dto -> dto.getStatus() == MilestoneStatus.PENDING)
-        );
-        assertNotNull(result);
+        InOrder inOrder = inOrder(invoiceRepository, invoiceWorkflow);
+        inOrder.verify(invoiceRepository).delete(invoice);
+        inOrder.verify(invoiceWorkflow).reopen(invoice);
     }
 
-    @Test
-    void getCustomerId_nullUserId_shouldThrow() throws Exception {
-        InvoiceServiceImpl service = new InvoiceServiceImpl(
-                invoiceRepository, invoiceMapper, contractMapper, milestoneMapper, jwtService,
-                contractRepository, milestoneRepository, contractService, milestoneService,
-                addressMapper, userService, freelancerProfileRepository, customerProfileRepository
-        );
-
-        var method = InvoiceServiceImpl.class.getDeclaredMethod("getCustomerId", UUID.class);
-        method.setAccessible(true);
-
-        Throwable thrown = catchThrowable(() -> method.invoke(service, new Object[]{null}));
-
-        assertThat(thrown).isInstanceOf(InvocationTargetException.class);
-
-        assertThat(thrown.getCause())
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("User ID cannot be null");
+    private InvoiceSummaryRow invoiceRow(UUID id) {
+        ContractSummaryRow contractRow = new ContractSummaryRow(contractId, "Customer", "User", "Freelancer", "User",
+                ContractStatus.ACTIVE, "Contract", BigDecimal.valueOf(100), null, null);
+        return new InvoiceSummaryRow(id, BigDecimal.valueOf(100), null, null, InvoiceStatus.PENDING, contractRow);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.repository.InvoiceRepository;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import com.jobmatcher.server.service.notification.NotificationPublisher;
+import com.jobmatcher.server.service.search.ProjectSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvoiceWorkflowTest {
+
+    @Mock InvoiceRepository invoiceRepository;
+    @Mock ProjectSearchIndex projectSearchIndex;
+    @Mock MatchingEngine matchingEngine;
+    @Mock NotificationPublisher notificationPublisher;
+
+    @InjectMocks
+    InvoiceWorkflow workflow;
+
+    Project project;
+    Contract contract;
+    Milestone milestone;
+    Milestone otherMilestone;
+    Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+
+        contract = new Contract();
+        contract.setId(UUID.randomUUID());
+        contract.setStatus(ContractStatus.ACTIVE);
+        contract.setProject(project);
+        contract.setMilestones(new HashSet<>());
+
+        milestone = milestone(MilestoneStatus.COMPLETED);
+        otherMilestone = milestone(MilestoneStatus.COMPLETED);
+
+        invoice = new Invoice();
+        invoice.setId(UUID.randomUUID());
+        invoice.setStatus(InvoiceStatus.PENDING);
+        invoice.setContract(contract);
+        invoice.setMilestone(milestone);
+    }
+
+    @Test
+    void transition_paidLastMilestone_completesContractAndProject() {
+        when(invoiceRepository.findAggregateById(invoice.getId())).thenReturn(Optional.of(invoice));
+
+        Invoice result = workflow.transition(invoice.getId(), InvoiceStatus.PAID);
+
+        assertThat(result).isSameAs(invoice);
+        assertThat(invoice.getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(milestone.getStatus()).isEqualTo(MilestoneStatus.PAID);
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.COMPLETED);
+        assertThat(project.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+        verify(projectSearchIndex).indexAfterCommit(project);
+        verify(matchingEngine).refreshProjectAfterCommit(project);
+        verify(invoiceRepository, never()).save(any());
+        verify(notificationPublisher).invoiceStatusChanged(invoice);
+        verify(notificationPublisher).contractStatusChanged(contract);
+    }
+
+    @Test
+    void apply_paidWithOpenMilestones_keepsContractActive() {
+        otherMilestone.setStatus(MilestoneStatus.IN_PROGRESS);
+
+        workflow.apply(invoice, InvoiceStatus.PAID);
+
+        assertThat(milestone.getStatus()).isEqualTo(MilestoneStatus.PAID);
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.ACTIVE);
+        assertThat(project.getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+        verifyNoInteractions(projectSearchIndex, matchingEngine);
+    }
+
+    @Test
+    void apply_paidWithoutMilestone_completesContract() {
+        invoice.setMilestone(null);
+
+        workflow.apply(invoice, InvoiceStatus.PAID);
+
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.COMPLETED);
+        assertThat(project.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+    }
+
+    @Test
+    void apply_cancelled_reopensMilestoneAndContract() {
+        milestone.setStatus(MilestoneStatus.PAID);
+        contract.setStatus(ContractStatus.COMPLETED);
+        project.setStatus(ProjectStatus.COMPLETED);
+
+        workflow.apply(invoice, InvoiceStatus.CANCELLED);
+
+        assertThat(invoice.getStatus()).isEqualTo(InvoiceStatus.CANCELLED);
+        assertThat(milestone.getStatus()).isEqualTo(MilestoneStatus.PENDING);
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.ACTIVE);
+        assertThat(project.getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+        verify(projectSearchIndex).indexAfterCommit(project);
+    }
+
+    @Test
+    void apply_pendingWhileProjectInProgress_doesNotReindex() {
+        workflow.apply(invoice, InvoiceStatus.PENDING);
+
+        assertThat(milestone.getStatus()).isEqualTo(MilestoneStatus.PENDING);
+        assertThat(contract.getStatus()).isEqualTo(ContractStatus.ACTIVE);
+        verifyNoInteractions(projectSearchIndex, matchingEngine);
+        verify(notificationPublisher).invoiceStatusChanged(invoice);
+        verify(notificationPublisher, never()).contractStatusChanged(any());
+    }
+
+    @Test
+    void load_notFound_throws() {
+        UUID invoiceId = UUID.randomUUID();
+        when(invoiceRepository.findAggregateById(invoiceId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> workflow.transition(invoiceId, InvoiceStatus.PAID))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Invoice not found.");
+    }
+
+    private Milestone milestone(MilestoneStatus status) {
+        Milestone milestone = new Milestone();
+        milestone.setId(UUID.randomUUID());
+        milestone.setStatus(status);
+        milestone.setContract(contract);
+        contract.getMilestones().add(milestone);
+        return milestone;
+    }
+}
@@ -36,6 +36,7 @@ class JwtServiceTest {
         var expField = JwtService.class.getDeclaredField("jwtTokenExpiration");
         expField.setAccessible(true);
         expField.set(jwtService, jwtExpirationMs);
+        jwtService.init();
     }
 
     @Test
@@ -94,6 +95,7 @@ class JwtServiceTest {
         expField.setAccessible(true);
         // Set expiration to -1 ms to expire immediately
         expField.set(jwtService, -1L);
+        jwtService.init();
 
         User user = new User();
         user.setEmail("expired@example.com");
@@ -153,4 +155,46 @@ class JwtServiceTest {
 
         assertThat(result).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseVerifiedClaims_returnsAllClaimsFromOneParse() {
+        User user = new User();
+        user.setEmail("claims@example.com");
+        user.setRole(Role.STAFF);
+
+        String token = jwtService.generateToken(user);
+        Claims claims = jwtService.parseVerifiedClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("claims@example.com");
+        assertThat(claims.get("role", String.class)).isEqualTo("STAFF");
+        assertThat(claims.getExpiration()).isAfter(new Date());
+    }
+
+    @Test
+    void testParseVerifiedClaims_withTokenSignedByOtherKey_throwsInvalidAuthException() throws Exception {
+        JwtService otherService = new JwtService();
+        var secretField = JwtService.class.getDeclaredField("secretKey");
+        secretField.setAccessible(true);
+        secretField.set(otherService, Base64.getEncoder().encodeToString("abcdefghijabcdefghijabcdefghij12".getBytes()));
+        var expField = JwtService.class.getDeclaredField("jwtTokenExpiration");
+        expField.setAccessible(true);
+        expField.set(otherService, jwtExpirationMs);
+        otherService.init();
+
+        User user = new User();
+        user.setEmail("forged@example.com");
+        user.setRole(Role.ADMIN);
+        String forged = otherService.generateToken(user);
+
+        assertThatThrownBy(() -> jwtService.parseVerifiedClaims(forged))
+                .isInstanceOf(InvalidAuthException.class)
+                .hasMessageContaining("JWT token is invalid");
+    }
+
+    @Test
+    void testParseVerifiedClaims_withBlankToken_throwsInvalidAuthException() {
+        assertThatThrownBy(() -> jwtService.parseVerifiedClaims(""))
+                .isInstanceOf(InvalidAuthException.class)
+                .hasMessageContaining("JWT token is invalid");
+    }
+}
@@ -5,6 +5,8 @@ import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.mapper.LanguageMapper;
 import com.jobmatcher.server.model.LanguageDTO;
 import com.jobmatcher.server.repository.LanguageRepository;
+import com.jobmatcher.server.service.reference.ReferenceDataCache;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,7 +18,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class LanguageServiceImplTest {
@@ -27,6 +29,9 @@ class LanguageServiceImplTest {
     @Mock
     private LanguageMapper languageMapper;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private LanguageServiceImpl languageService;
 
@@ -80,21 +85,26 @@ class LanguageServiceImplTest {
 
     @Test
     void getAllLanguages_returnsList() {
-        Language lang1 = new Language("English");
-        lang1.setId(1);
-        Language lang2 = new Language("Spanish");
-        lang2.setId(2);
         LanguageDTO dto1 = LanguageDTO.builder().id(1).name("English").build();
         LanguageDTO dto2 = LanguageDTO.builder().id(2).name("Spanish").build();
 
-        when(languageRepository.findAll()).thenReturn(List.of(lang1, lang2));
-        when(languageMapper.toDto(lang1)).thenReturn(dto1);
-        when(languageMapper.toDto(lang2)).thenReturn(dto2);
+        when(referenceDataCache.languages())
+                .thenReturn(new ReferenceSnapshot<>(List.of(dto1, dto2), new byte[0], "\"v1\""));
 
         List<LanguageDTO> list = languageService.getAllLanguages();
 
         assertThat(list).hasSize(2);
-        assertThat(list).extracting("name").containsExactlyInAnyOrder("English", "Spanish");
+        assertThat(list).extracting("name").containsExactly("English", "Spanish");
+        verifyNoInteractions(languageRepository);
+    }
+
+    @Test
+    void getAllLanguages_empty_throws() {
+        when(referenceDataCache.languages()).thenReturn(new ReferenceSnapshot<>(List.of(), new byte[0], "\"v0\""));
+
+        assertThatThrownBy(() -> languageService.getAllLanguages())
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("No languages found");
     }
 
     @Test
@@ -109,6 +119,7 @@ class LanguageServiceImplTest {
         LanguageDTO saved = languageService.saveLanguage(dto);
 
         assertThat(saved.getName()).isEqualTo("German");
+        verify(referenceDataCache).invalidateLanguages();
     }
 
 
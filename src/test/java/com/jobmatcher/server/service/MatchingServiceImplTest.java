@@ -0,0 +1,175 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.FreelancerProfile;
+import com.jobmatcher.server.domain.Project;
+import com.jobmatcher.server.domain.Role;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.exception.RoleAccessDeniedException;
+import com.jobmatcher.server.mapper.FreelancerProfileMapper;
+import com.jobmatcher.server.mapper.ProjectMapper;
+import com.jobmatcher.server.model.FreelancerSummaryDTO;
+import com.jobmatcher.server.model.ProjectSummaryDTO;
+import com.jobmatcher.server.model.matching.FreelancerMatchDTO;
+import com.jobmatcher.server.model.matching.ProjectMatchDTO;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import com.jobmatcher.server.repository.ProjectRepository;
+import com.jobmatcher.server.security.AuthPrincipal;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingServiceImplTest {
+
+    @Mock
+    private MatchingEngine matchingEngine;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private FreelancerProfileRepository freelancerProfileRepository;
+    @Mock
+    private ProjectMapper projectMapper;
+    @Mock
+    private FreelancerProfileMapper freelancerProfileMapper;
+
+    @InjectMocks
+    private MatchingServiceImpl matchingService;
+
+    private static AuthPrincipal principal(Role role, UUID profileId) {
+        return new AuthPrincipal(UUID.randomUUID(), "user@jobmatcher.com", role, profileId);
+    }
+
+    // ───────────────────────────────────────────────
+    // getTopProjectsForFreelancer
+    // ───────────────────────────────────────────────
+    @Test
+    void getTopProjectsForFreelancer_shouldKeepEngineOrder() {
+        UUID freelancerId = UUID.randomUUID();
+        Project first = new Project();
+        first.setId(UUID.randomUUID());
+        Project second = new Project();
+        second.setId(UUID.randomUUID());
+        ProjectSummaryDTO firstDto = ProjectSummaryDTO.builder().id(first.getId()).build();
+        ProjectSummaryDTO secondDto = ProjectSummaryDTO.builder().id(second.getId()).build();
+
+        when(freelancerProfileRepository.existsById(freelancerId)).thenReturn(true);
+        when(matchingEngine.topProjectsForFreelancer(freelancerId, 10)).thenReturn(List.of(
+                new MatchingEngine.Match(first.getId(), 0.9f),
+                new MatchingEngine.Match(second.getId(), 0.4f)));
+        when(projectRepository.findAllById(List.of(first.getId(), second.getId()))).thenReturn(List.of(second, first));
+        when(projectMapper.toSummaryDto(first)).thenReturn(firstDto);
+        when(projectMapper.toSummaryDto(second)).thenReturn(secondDto);
+
+        List<ProjectMatchDTO> result =
+                matchingService.getTopProjectsForFreelancer(principal(Role.STAFF, freelancerId), freelancerId, 10);
+
+        assertThat(result).extracting(ProjectMatchDTO::project).containsExactly(firstDto, secondDto);
+        assertThat(result.getFirst().score()).isCloseTo(0.9, within(1e-6));
+    }
+
+    @Test
+    void getTopProjectsForFreelancer_shouldClampLimit() {
+        UUID freelancerId = UUID.randomUUID();
+        when(freelancerProfileRepository.existsById(freelancerId)).thenReturn(true);
+        when(matchingEngine.topProjectsForFreelancer(freelancerId, MatchingServiceImpl.MAX_LIMIT)).thenReturn(List.of());
+
+        assertThat(matchingService.getTopProjectsForFreelancer(principal(Role.STAFF, freelancerId), freelancerId, 1000))
+                .isEmpty();
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void getTopProjectsForFreelancer_shouldThrow_whenFreelancerMissing() {
+        UUID freelancerId = UUID.randomUUID();
+        when(freelancerProfileRepository.existsById(freelancerId)).thenReturn(false);
+
+        assertThatThrownBy(() -> matchingService.getTopProjectsForFreelancer(
+                principal(Role.STAFF, freelancerId), freelancerId, 10))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(matchingEngine, never()).topProjectsForFreelancer(any(), anyInt());
+    }
+
+    @Test
+    void getTopProjectsForFreelancer_shouldDeny_whenFreelancerAsksForAnotherProfile() {
+        UUID freelancerId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> matchingService.getTopProjectsForFreelancer(
+                principal(Role.STAFF, UUID.randomUUID()), freelancerId, 10))
+                .isInstanceOf(RoleAccessDeniedException.class);
+        verifyNoInteractions(freelancerProfileRepository, matchingEngine);
+    }
+
+    @Test
+    void getTopProjectsForFreelancer_shouldDeny_forCustomers() {
+        UUID freelancerId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> matchingService.getTopProjectsForFreelancer(
+                principal(Role.CUSTOMER, UUID.randomUUID()), freelancerId, 10))
+                .isInstanceOf(RoleAccessDeniedException.class);
+        verifyNoInteractions(freelancerProfileRepository, matchingEngine);
+    }
+
+    // ───────────────────────────────────────────────
+    // getTopFreelancersForProject
+    // ───────────────────────────────────────────────
+    @Test
+    void getTopFreelancersForProject_shouldMapProfiles() {
+        UUID projectId = UUID.randomUUID();
+        FreelancerProfile profile = new FreelancerProfile();
+        profile.setId(UUID.randomUUID());
+        FreelancerSummaryDTO dto = FreelancerSummaryDTO.builder().build();
+
+        UUID customerId = UUID.randomUUID();
+        when(projectRepository.findCustomerIdById(projectId)).thenReturn(Optional.of(customerId));
+        when(matchingEngine.topFreelancersForProject(projectId, 5))
+                .thenReturn(List.of(new MatchingEngine.Match(profile.getId(), 0.7f)));
+        when(freelancerProfileRepository.findAllById(List.of(profile.getId()))).thenReturn(List.of(profile));
+        when(freelancerProfileMapper.toFreelancerSummaryDto(profile)).thenReturn(dto);
+
+        List<FreelancerMatchDTO> result =
+                matchingService.getTopFreelancersForProject(principal(Role.CUSTOMER, customerId), projectId, 5);
+
+        assertThat(result).extracting(FreelancerMatchDTO::freelancer).containsExactly(dto);
+    }
+
+    @Test
+    void getTopFreelancersForProject_shouldThrow_whenProjectMissing() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.findCustomerIdById(projectId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> matchingService.getTopFreelancersForProject(principal(Role.ADMIN, null), projectId, 5))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getTopFreelancersForProject_shouldDeny_whenCustomerDoesNotOwnProject() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.findCustomerIdById(projectId)).thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThatThrownBy(() -> matchingService.getTopFreelancersForProject(
+                principal(Role.CUSTOMER, UUID.randomUUID()), projectId, 5))
+                .isInstanceOf(RoleAccessDeniedException.class);
+        verifyNoInteractions(matchingEngine);
+    }
+
+    @Test
+    void getTopFreelancersForProject_shouldDeny_forFreelancers() {
+        assertThatThrownBy(() -> matchingService.getTopFreelancersForProject(
+                principal(Role.STAFF, UUID.randomUUID()), UUID.randomUUID(), 5))
+                .isInstanceOf(RoleAccessDeniedException.class);
+        verifyNoInteractions(projectRepository, matchingEngine);
+    }
+}
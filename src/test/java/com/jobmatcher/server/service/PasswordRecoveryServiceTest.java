@@ -3,16 +3,17 @@ package com.jobmatcher.server.service;
 import com.jobmatcher.server.domain.PasswordResetToken;
 import com.jobmatcher.server.domain.Role;
 import com.jobmatcher.server.domain.User;
-import com.jobmatcher.server.exception.EmailSendException;
-import com.jobmatcher.server.exception.GmailApiException;
 import com.jobmatcher.server.exception.PasswordResetException;
 import com.jobmatcher.server.model.RecoverPasswordRequest;
 import com.jobmatcher.server.model.ResetPasswordRequest;
 import com.jobmatcher.server.repository.PasswordResetTokenRepository;
 import com.jobmatcher.server.repository.UserRepository;
+import com.jobmatcher.server.service.email.EmailOutboxService;
+import com.jobmatcher.server.service.email.OutboundEmail;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -42,7 +43,7 @@ class PasswordRecoveryServiceTest {
     PasswordEncoder passwordEncoder;
 
     @Mock
-    GmailSender gmailSender;
+    EmailOutboxService emailOutbox;
 
     @InjectMocks
     PasswordRecoveryService service;
@@ -52,6 +53,8 @@ class PasswordRecoveryServiceTest {
 
     @BeforeEach
     void setup(){
+        TestUtils.setField(service, "FRONTEND_BASE_URL", "http://frontend.test");
+
         user = new User();
         user.setId(UUID.randomUUID());
         user.setEmail("user@example.com");
@@ -72,59 +75,25 @@ class PasswordRecoveryServiceTest {
         boolean result = service.recoverPassword(recoverRequest);
         assertThat(result).isFalse();
         verify(tokenRepo, never()).deleteAllByUser(any());
-        verify(gmailSender, never()).sendResetEmail(any(), anyString());
+        verify(emailOutbox, never()).enqueue(any());
     }
 
     @Test
-    void recoverPassword_sendsEmailSuccessfully() {
+    void recoverPassword_queuesResetEmail() {
         when(userRepository.lockUserByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        doNothing().when(gmailSender).sendResetEmail(any(), anyString());
         when(tokenRepo.save(any())).thenReturn(new PasswordResetToken());
 
         boolean result = service.recoverPassword(recoverRequest);
 
         assertThat(result).isTrue();
         verify(tokenRepo).deleteAllByUser(user);
-        verify(gmailSender).sendResetEmail(eq(user), anyString());
-    }
-
-    @Test
-    void recoverPassword_throwsEmailSendException_whenGmailApiException() {
-        when(userRepository.lockUserByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        doThrow(new GmailApiException("Gmail failure", 500)).when(gmailSender).sendResetEmail(any(), anyString());
-        when(tokenRepo.save(any())).thenReturn(new PasswordResetToken());
-
-        assertThatThrownBy(() -> service.recoverPassword(recoverRequest))
-                .isInstanceOf(EmailSendException.class)
-                .hasMessageContaining("Gmail API error");
-
-        verify(tokenRepo).deleteAllByUser(user);
-    }
-
-    @Test
-    void recoverPassword_throwsEmailSendException_whenEmailSendException() {
-        when(userRepository.lockUserByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        doThrow(new EmailSendException("Email failure", null)).when(gmailSender).sendResetEmail(any(), anyString());
-        when(tokenRepo.save(any())).thenReturn(new PasswordResetToken());
-
-        assertThatThrownBy(() -> service.recoverPassword(recoverRequest))
-                .isInstanceOf(EmailSendException.class)
-                .hasMessageContaining("Email failure");
-
-        verify(tokenRepo).deleteAllByUser(user);
-    }
-
-    @Test
-    void recoverPassword_throwsEmailSendException_whenOtherException() {
-        when(userRepository.lockUserByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        doThrow(new RuntimeException("Other failure")).when(gmailSender).sendResetEmail(any(), anyString());
-        when(tokenRepo.save(any())).thenReturn(new PasswordResetToken());
-
-        assertThatThrownBy(() -> service.recoverPassword(recoverRequest))
-                .isInstanceOf(EmailSendException.class)
-                .hasMessageContaining("Unexpected error");
-
-        verify(tokenRepo).deleteAllByUser(user);
+        ArgumentCaptor<PasswordResetToken> savedToken = ArgumentCaptor.forClass(PasswordResetToken.class);
+        verify(tokenRepo).save(savedToken.capture());
+        ArgumentCaptor<OutboundEmail> email = ArgumentCaptor.forClass(OutboundEmail.class);
+        verify(emailOutbox).enqueue(email.capture());
+        assertThat(email.getValue().to()).isEqualTo(user.getEmail());
+        assertThat(email.getValue().htmlBody())
+                .contains("http://frontend.test/reset-password?token=" + savedToken.getValue().getToken());
     }
 
     // resetPassword() tests
@@ -11,7 +11,12 @@ import com.jobmatcher.server.mapper.InvoiceMapper;
 import com.jobmatcher.server.mapper.MilestoneMapper;
 import com.jobmatcher.server.mapper.PaymentMapper;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.summary.ContractSummaryRow;
+import com.jobmatcher.server.model.summary.InvoiceSummaryRow;
+import com.jobmatcher.server.model.summary.MilestoneSummaryRow;
+import com.jobmatcher.server.model.summary.PaymentSummaryRow;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.security.AuthPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -37,13 +42,10 @@ class PaymentServiceImplTest {
     @Mock private ContractMapper contractMapper;
     @Mock private MilestoneMapper milestoneMapper;
     @Mock private InvoiceMapper invoiceMapper;
-    @Mock private IInvoiceService invoiceService;
-    @Mock private JwtService jwtService;
-    @Mock private IUserService userService;
-    @Mock private FreelancerProfileRepository freelancerProfileRepository;
-    @Mock private CustomerProfileRepository customerProfileRepository;
-    @Mock private ContractRepository contractRepository;
+    @Mock private InvoiceWorkflow invoiceWorkflow;
     @Mock private MilestoneRepository milestoneRepository;
+    @Mock private AnalyticsRollupService analyticsRollupService;
+    @Mock private SummaryQueryRepository summaryQueryRepository;
 
     private User customerUser;
     private User staffUser;
@@ -67,75 +69,68 @@ class PaymentServiceImplTest {
     @Test
     @SuppressWarnings("unchecked")
     void getAllPayments_customerRole_returnsMappedPayments() {
-        String token = "token";
-        CustomerProfile customerProfile = new CustomerProfile();
-        customerProfile.setId(UUID.randomUUID());
+        AuthPrincipal principal = new AuthPrincipal(customerUser.getId(), "user@example.com", Role.CUSTOMER, UUID.randomUUID());
 
-        Invoice invoice = new Invoice();
-        invoice.setId(UUID.randomUUID());
-        Contract contract = new Contract();
-        invoice.setContract(contract);
-        Milestone milestone = new Milestone();
-        invoice.setMilestone(milestone);
-
-        Payment payment = new Payment();
-        payment.setId(UUID.randomUUID());
-        payment.setInvoice(invoice);
-
-        Page<Payment> paymentPage = new PageImpl<>(List.of(payment));
-
-        when(jwtService.extractUsername(token)).thenReturn("user@example.com");
-        when(userService.getUserByEmail("user@example.com")).thenReturn(customerUser);
-        when(customerProfileRepository.findByUserId(customerUser.getId())).thenReturn(Optional.of(customerProfile));
-        when(paymentRepository.findAll(any(Specification.class), eq(unpaged))).thenReturn(paymentPage);
-        when(contractMapper.toSummaryDto(contract)).thenReturn(ContractSummaryDTO.builder().id(UUID.randomUUID()).build());
-        when(milestoneMapper.toDto(milestone)).thenReturn(MilestoneResponseDTO.builder().id(UUID.randomUUID()).build());
-        when(invoiceMapper.toSummaryDto(any(), any(), any())).thenReturn(InvoiceSummaryDTO.builder().id(UUID.randomUUID()).build());
-        when(paymentMapper.toSummaryDto(any(), any(), any(), any())).thenReturn(PaymentSummaryDTO.builder().id(UUID.randomUUID()).build());
-
-        Page<PaymentSummaryDTO> result = paymentService.getAllPayments(token, unpaged, paymentFilter);
+        UUID invoiceId = UUID.randomUUID();
+        ContractSummaryRow contractRow = new ContractSummaryRow(UUID.randomUUID(), "Customer", "User", "Freelancer", "User",
+                ContractStatus.ACTIVE, "Contract", BigDecimal.TEN, null, null);
+        InvoiceSummaryRow invoiceRow = new InvoiceSummaryRow(invoiceId, BigDecimal.TEN, null, null, InvoiceStatus.PAID, contractRow);
+        PaymentSummaryRow paymentRow = new PaymentSummaryRow(UUID.randomUUID(), BigDecimal.TEN, PaymentStatus.PAID, null, invoiceRow);
+        MilestoneSummaryRow milestoneRow = new MilestoneSummaryRow(UUID.randomUUID(), contractRow.id(), invoiceId, paymentRow.id(),
+                "Milestone", null, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, 5, MilestoneStatus.COMPLETED,
+                null, null, null, null, null, Priority.LOW);
+        ContractSummaryDTO contractDto = ContractSummaryDTO.builder().id(contractRow.id()).build();
+        MilestoneResponseDTO milestoneDto = MilestoneResponseDTO.builder().id(milestoneRow.id()).build();
+        InvoiceSummaryDTO invoiceDto = InvoiceSummaryDTO.builder().id(invoiceId).build();
+
+        when(summaryQueryRepository.findPage(eq(SummaryProjection.PAYMENT), any(Specification.class), eq(unpaged)))
+                .thenReturn(new PageImpl<>(List.of(paymentRow)));
+        when(milestoneRepository.findSummaryRowsByInvoiceIds(List.of(invoiceId))).thenReturn(List.of(milestoneRow));
+        when(milestoneMapper.fromRow(milestoneRow)).thenReturn(milestoneDto);
+        when(contractMapper.fromRow(contractRow)).thenReturn(contractDto);
+        when(invoiceMapper.fromRow(invoiceRow, contractDto, milestoneDto)).thenReturn(invoiceDto);
+        when(paymentMapper.fromRow(paymentRow, contractDto, milestoneDto, invoiceDto))
+                .thenReturn(PaymentSummaryDTO.builder().id(paymentRow.id()).build());
+
+        Page<PaymentSummaryDTO> result = paymentService.getAllPayments(principal, unpaged, paymentFilter);
 
         assertNotNull(result);
         assertFalse(result.isEmpty());
-        verify(paymentMapper).toSummaryDto(any(), any(), any(), any());
+        verify(paymentMapper).fromRow(paymentRow, contractDto, milestoneDto, invoiceDto);
+        verifyNoInteractions(paymentRepository);
     }
 
     @Test
     void getAllPayments_staffRole_returnsMappedPayments() {
-        FreelancerProfile freelancer = new FreelancerProfile();
-        freelancer.setId(UUID.randomUUID());
+        AuthPrincipal principal = new AuthPrincipal(staffUser.getId(), "staff@example.com", Role.STAFF, UUID.randomUUID());
 
-        when(jwtService.extractUsername(anyString())).thenReturn("staff@example.com");
-        when(userService.getUserByEmail(anyString())).thenReturn(staffUser);
-        when(freelancerProfileRepository.findByUserId(staffUser.getId())).thenReturn(Optional.of(freelancer));
+        Page<PaymentSummaryRow> emptyPage = new PageImpl<>(Collections.emptyList());
+        when(summaryQueryRepository.findPage(eq(SummaryProjection.PAYMENT), ArgumentMatchers.<Specification<Payment>>any(), any()))
+                .thenReturn(emptyPage);
 
-        Page<Payment> emptyPage = new PageImpl<>(Collections.emptyList());
-        when(paymentRepository.findAll(ArgumentMatchers.<Specification<Payment>>any(), any(Pageable.class))).thenReturn(emptyPage);
-
-        Page<PaymentSummaryDTO> result = paymentService.getAllPayments("token", unpaged, paymentFilter);
+        Page<PaymentSummaryDTO> result = paymentService.getAllPayments(principal, unpaged, paymentFilter);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
+        verifyNoInteractions(milestoneRepository);
     }
 
     @Test
     void getAllPayments_customerProfileNotFound_throwsException() {
-        when(jwtService.extractUsername(anyString())).thenReturn("user@example.com");
-        when(userService.getUserByEmail(anyString())).thenReturn(customerUser);
-        when(customerProfileRepository.findByUserId(customerUser.getId())).thenReturn(Optional.empty());
+        AuthPrincipal principal = new AuthPrincipal(customerUser.getId(), "user@example.com", Role.CUSTOMER, null);
 
         assertThrows(ResourceNotFoundException.class,
-                () -> paymentService.getAllPayments("token", unpaged, paymentFilter));
+                () -> paymentService.getAllPayments(principal, unpaged, paymentFilter));
+        verifyNoInteractions(paymentRepository);
     }
 
     @Test
     void getAllPayments_freelancerProfileNotFound_throwsException() {
-        when(jwtService.extractUsername(anyString())).thenReturn("staff@example.com");
-        when(userService.getUserByEmail(anyString())).thenReturn(staffUser);
-        when(freelancerProfileRepository.findByUserId(staffUser.getId())).thenReturn(Optional.empty());
+        AuthPrincipal principal = new AuthPrincipal(staffUser.getId(), "staff@example.com", Role.STAFF, null);
 
         assertThrows(ResourceNotFoundException.class,
-                () -> paymentService.getAllPayments("token", unpaged, paymentFilter));
+                () -> paymentService.getAllPayments(principal, unpaged, paymentFilter));
+        verifyNoInteractions(paymentRepository);
     }
 
     @Test
@@ -214,6 +209,7 @@ class PaymentServiceImplTest {
 
         assertNotNull(result);
         assertEquals(invoice, result.getInvoice());
+        verify(analyticsRollupService).recordPayment(result);
     }
 
     @Test
@@ -294,7 +290,7 @@ class PaymentServiceImplTest {
         Payment payment = new Payment();
         payment.setId(paymentId);
 
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
+        when(invoiceRepository.findAggregateById(invoiceId)).thenReturn(Optional.of(invoice));
         when(paymentRepository.existsByInvoiceId(invoiceId)).thenReturn(false);
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> {
             Payment p = i.getArgument(0);
@@ -302,21 +298,17 @@ class PaymentServiceImplTest {
             return p;
         });
 
-        when(milestoneRepository.save(any(Milestone.class))).thenAnswer(i -> i.getArgument(0));
-        when(contractRepository.save(any(Contract.class))).thenAnswer(i -> i.getArgument(0));
 
-        when(invoiceService.updateInvoice(eq(invoiceId), any(InvoiceRequestDTO.class)))
-                .thenReturn(InvoiceDetailDTO.builder().id(invoice.getId()).build());
-
-        when(invoiceService.updateInvoiceStatusById(eq(invoiceId), any(InvoiceStatusRequestDTO.class)))
-                .thenAnswer(invocation -> {
-                    InvoiceStatusRequestDTO dto = invocation.getArgument(1);
-                    invoice.setStatus(dto.getStatus());
-                    return InvoiceDetailDTO.builder().id(invoice.getId()).build();
-                });
+        doAnswer(invocation -> {
+            invoice.setStatus(invocation.getArgument(1));
+            return null;
+        }).when(invoiceWorkflow).apply(invoice, InvoiceStatus.PAID);
 
         paymentService.markInvoicePaid(invoiceId);
 
+        assertSame(invoice.getPayment(), invoice.getMilestone().getPayment(), "Invoice and milestone share the payment");
+        verifyNoInteractions(milestoneRepository);
+
         assertNotNull(invoice.getMilestone().getPayment(), "Milestone should have payment");
         assertNull(invoice.getContract().getPayment(), "Contract should NOT have payment when milestones exist");
         assertEquals(InvoiceStatus.PAID, invoice.getStatus(), "Invoice should be marked as PAID");
@@ -324,38 +316,12 @@ class PaymentServiceImplTest {
         assertEquals(BigDecimal.ZERO, contract.getRemainingBalance(), "Contract remainingBalance should update");
     }
 
-    @Test
-    void getAllPayments_nullUserIdForFreelancer_throwsIllegalArgumentException() {
-        String token = "dummy-token";
-        User user = new User();
-        user.setRole(Role.STAFF);
-        user.setId(null);
 
-        when(jwtService.extractUsername(token)).thenReturn("test@example.com");
-        when(userService.getUserByEmail("test@example.com")).thenReturn(user);
-
-        assertThrows(IllegalArgumentException.class, () ->
-                paymentService.getAllPayments(token, Pageable.unpaged(), new PaymentFilterDTO()));
-    }
-
-    @Test
-    void getAllPayments_nullUserIdForCustomer_throwsIllegalArgumentException() {
-        String token = "dummy-token";
-        User user = new User();
-        user.setRole(Role.CUSTOMER);
-        user.setId(null);
-
-        when(jwtService.extractUsername(token)).thenReturn("test@example.com");
-        when(userService.getUserByEmail("test@example.com")).thenReturn(user);
-
-        assertThrows(IllegalArgumentException.class, () ->
-                paymentService.getAllPayments(token, Pageable.unpaged(), new PaymentFilterDTO()));
-    }
 
     @Test
     void markInvoicePaid_invoiceNotFound_throwsResourceNotFoundException() {
         UUID invoiceId = UUID.randomUUID();
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.empty());
+        when(invoiceRepository.findAggregateById(invoiceId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> paymentService.markInvoicePaid(invoiceId));
     }
@@ -370,7 +336,7 @@ class PaymentServiceImplTest {
         invoice.setStatus(InvoiceStatus.PENDING);
         invoice.setContract(null);
 
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
+        when(invoiceRepository.findAggregateById(invoiceId)).thenReturn(Optional.of(invoice));
         when(paymentRepository.existsByInvoiceId(invoiceId)).thenReturn(false);
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -395,10 +361,9 @@ class PaymentServiceImplTest {
         invoice.setStatus(InvoiceStatus.PENDING);
         invoice.setMilestone(null);
 
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
+        when(invoiceRepository.findAggregateById(invoiceId)).thenReturn(Optional.of(invoice));
         when(paymentRepository.existsByInvoiceId(invoiceId)).thenReturn(false);
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
-        when(contractRepository.save(any(Contract.class))).thenAnswer(i -> i.getArgument(0));
 
         paymentService.markInvoicePaid(invoiceId);
 
@@ -425,7 +390,7 @@ class PaymentServiceImplTest {
         invoice.setAmount(BigDecimal.valueOf(200));
         invoice.setStatus(InvoiceStatus.PENDING);
 
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
+        when(invoiceRepository.findAggregateById(invoiceId)).thenReturn(Optional.of(invoice));
         when(paymentRepository.existsByInvoiceId(invoiceId)).thenReturn(false);
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> {
             Payment p = i.getArgument(0);
@@ -433,12 +398,10 @@ class PaymentServiceImplTest {
             return p;
         });
 
-        when(invoiceService.updateInvoice(eq(invoiceId), any())).thenReturn(null);
-        when(invoiceService.updateInvoiceStatusById(eq(invoiceId), any())).thenAnswer(invocation -> {
-            InvoiceStatusRequestDTO dto = invocation.getArgument(1);
-            invoice.setStatus(dto.getStatus());
+        doAnswer(invocation -> {
+            invoice.setStatus(invocation.getArgument(1));
             return null;
-        });
+        }).when(invoiceWorkflow).apply(invoice, InvoiceStatus.PAID);
 
         paymentService.markInvoicePaid(invoiceId);
 
@@ -466,7 +429,7 @@ class PaymentServiceImplTest {
         invoice.setStatus(InvoiceStatus.PENDING);
         invoice.setMilestone(null);
 
-        when(invoiceRepository.findById(invoiceId)).thenReturn(Optional.of(invoice));
+        when(invoiceRepository.findAggregateById(invoiceId)).thenReturn(Optional.of(invoice));
         when(paymentRepository.existsByInvoiceId(invoiceId)).thenReturn(false);
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
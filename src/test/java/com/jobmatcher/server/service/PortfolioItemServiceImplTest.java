@@ -11,6 +11,7 @@ import com.jobmatcher.server.exception.UploadFileException;
 import com.jobmatcher.server.mapper.PortfolioItemMapper;
 import com.jobmatcher.server.model.*;
 import com.jobmatcher.server.repository.*;
+import com.jobmatcher.server.service.storage.StoredImageService;
 import com.jobmatcher.server.util.SanitizationUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,7 @@ class PortfolioItemServiceImplTest {
     @Mock private JobCategoryRepository jobCategoryRepository;
     @Mock private JobSubcategoryRepository jobSubcategoryRepository;
     @Mock private FreelancerProfileRepository freelancerProfileRepository;
+    @Mock private StoredImageService storedImageService;
 
     @InjectMocks private PortfolioItemServiceImpl service;
 
@@ -220,6 +222,20 @@ class PortfolioItemServiceImplTest {
         when(repository.findById(portfolioItemId)).thenReturn(Optional.of(existing));
         service.deletePortfolioItem(portfolioItemId);
         verify(repository).delete(existing);
+        verifyNoInteractions(storedImageService);
+    }
+
+    @Test
+    void deletePortfolioItem_releasesEveryImageReference() {
+        PortfolioItem existing = new PortfolioItem();
+        existing.setImageUrls(new HashSet<>(Set.of("http://img/own.jpg", "http://img/shared.jpg")));
+        when(repository.findById(portfolioItemId)).thenReturn(Optional.of(existing));
+
+        service.deletePortfolioItem(portfolioItemId);
+
+        verify(repository).delete(existing);
+        verify(storedImageService).releaseImage("http://img/own.jpg");
+        verify(storedImageService).releaseImage("http://img/shared.jpg");
     }
 
     @Test
@@ -236,6 +252,21 @@ class PortfolioItemServiceImplTest {
         }
     }
 
+    @Test
+    void uploadPortfolioItemImages_returnsOnlyUrlsNotOnItemYet() {
+        PortfolioItem item = new PortfolioItem();
+        item.setImageUrls(new HashSet<>(Set.of("http://img1.com")));
+        when(repository.findById(portfolioItemId)).thenReturn(Optional.of(item));
+        try (MockedStatic<SanitizationUtil> util = mockStatic(SanitizationUtil.class)) {
+            util.when(() -> SanitizationUtil.sanitizeUrl(any())).thenAnswer(i -> i.getArgument(0));
+
+            Set<String> added = service.uploadPortfolioItemImages(portfolioItemId, List.of("http://img1.com", "http://img2.com"));
+
+            assertEquals(Set.of("http://img2.com"), added);
+            assertEquals(Set.of("http://img1.com", "http://img2.com"), item.getImageUrls());
+        }
+    }
+
     @Test
     void deletePortfolioItemImage_existingUrl_removesAndSaves() {
         PortfolioItem item = new PortfolioItem();
@@ -340,7 +371,7 @@ class PortfolioItemServiceImplTest {
         when(profileRepo.save(any())).thenReturn(profile);
 
         PortfolioItemServiceImpl service = new PortfolioItemServiceImpl(
-                repo, mapper, jobCatRepo, jobSubRepo, profileRepo
+                repo, mapper, jobCatRepo, jobSubRepo, profileRepo, storedImageService
         );
 
         // Mock the static SanitizationUtil.sanitizeUrl to return null
@@ -0,0 +1,105 @@
+package com.jobmatcher.server.service;
+
+import com.jobmatcher.server.domain.Project;
+import com.jobmatcher.server.domain.Proposal;
+import com.jobmatcher.server.domain.ProposalStatus;
+import com.jobmatcher.server.model.ProposalStatusChangeDTO;
+import com.jobmatcher.server.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectProposalStatsServiceTest {
+
+    @Mock
+    ProjectRepository projectRepository;
+
+    @InjectMocks
+    ProjectProposalStatsService service;
+
+    UUID projectId;
+    Proposal proposal;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+        Project project = new Project();
+        project.setId(projectId);
+        proposal = new Proposal();
+        proposal.setProject(project);
+        proposal.setAmount(BigDecimal.valueOf(400));
+        proposal.setCreatedAt(OffsetDateTime.parse("2025-05-01T10:00:00Z"));
+    }
+
+    @Test
+    void recordProposalCreated_countsStatusAndAmount() {
+        service.recordProposalCreated(proposal);
+
+        verify(projectRepository).addProposalStats(projectId, 1, 0, 0, 0,
+                BigDecimal.valueOf(400), OffsetDateTime.parse("2025-05-01T10:00:00Z"));
+    }
+
+    @Test
+    void recordProposalStatusChange_movesOneBetweenCounters() {
+        proposal.setStatus(ProposalStatus.WITHDRAWN);
+
+        service.recordProposalStatusChange(proposal, ProposalStatus.PENDING);
+
+        verify(projectRepository).adjustProposalCounts(projectId, 0, -1, 0, 0, 1);
+    }
+
+    @Test
+    void recordProposalStatusChange_unchangedStatus_writesNothing() {
+        service.recordProposalStatusChange(proposal, ProposalStatus.PENDING);
+
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void recordStatusChanges_talliesBulkChangesIntoOneUpdate() {
+        List<ProposalStatusChangeDTO> changes = List.of(
+                change(ProposalStatus.PENDING, ProposalStatus.ACCEPTED),
+                change(ProposalStatus.PENDING, ProposalStatus.REJECTED),
+                change(ProposalStatus.PENDING, ProposalStatus.REJECTED));
+
+        service.recordStatusChanges(projectId, changes);
+
+        verify(projectRepository).adjustProposalCounts(projectId, 0, -3, 1, 2, 0);
+    }
+
+    @Test
+    void recordProposalDeleted_decrementsThenRecomputesBidRange() {
+        proposal.setStatus(ProposalStatus.REJECTED);
+
+        service.recordProposalDeleted(proposal);
+
+        InOrder inOrder = inOrder(projectRepository);
+        inOrder.verify(projectRepository).adjustProposalCounts(projectId, -1, 0, 0, -1, 0);
+        inOrder.verify(projectRepository).recomputeProposalAmounts(projectId);
+    }
+
+    @Test
+    void recordProposalCreated_withoutProject_isSkipped() {
+        proposal.setProject(null);
+
+        service.recordProposalCreated(proposal);
+
+        verifyNoInteractions(projectRepository);
+    }
+
+    private static ProposalStatusChangeDTO change(ProposalStatus from, ProposalStatus to) {
+        return ProposalStatusChangeDTO.builder().id(UUID.randomUUID()).previousStatus(from).status(to).build();
+    }
+}
@@ -7,16 +7,29 @@ import com.jobmatcher.server.domain.*;
 import com.jobmatcher.server.exception.ResourceNotFoundException;
 import com.jobmatcher.server.mapper.ProposalMapper;
 import com.jobmatcher.server.model.*;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
+import com.jobmatcher.server.model.summary.FreelancerSummaryRow;
+import com.jobmatcher.server.model.summary.ProposalStatusRow;
+import com.jobmatcher.server.model.summary.ProposalSummaryRow;
+import com.jobmatcher.server.model.summary.SubcategoryRow;
 import com.jobmatcher.server.repository.ContractRepository;
 import com.jobmatcher.server.repository.FreelancerProfileRepository;
 import com.jobmatcher.server.repository.ProjectRepository;
 import com.jobmatcher.server.repository.ProposalRepository;
+import com.jobmatcher.server.repository.SummaryProjection;
+import com.jobmatcher.server.repository.SummaryQueryRepository;
+import com.jobmatcher.server.repository.SummaryQueryRepository.Positioned;
+import com.jobmatcher.server.service.matching.MatchingEngine;
+import com.jobmatcher.server.service.notification.NotificationPublisher;
+import com.jobmatcher.server.service.search.ProjectSearchIndex;
+import com.jobmatcher.server.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -40,6 +53,18 @@ class ProposalServiceImplTest {
     ContractRepository contractRepository;
     @Mock
     IProjectService projectService;
+    @Mock
+    ProjectSearchIndex projectSearchIndex;
+    @Mock
+    MatchingEngine matchingEngine;
+    @Mock
+    AnalyticsRollupService analyticsRollupService;
+    @Mock
+    SummaryQueryRepository summaryQueryRepository;
+    @Mock
+    ProjectProposalStatsService projectProposalStatsService;
+    @Mock
+    NotificationPublisher notificationPublisher;
 
     @InjectMocks
     ProposalServiceImpl service;
@@ -116,6 +141,7 @@ class ProposalServiceImplTest {
 
         ProposalSummaryDTO result = service.createProposal(requestDTO);
         assertSame(summaryDTO, result);
+        verify(projectProposalStatsService).recordProposalCreated(savedProposal);
     }
 
     @Test
@@ -241,6 +267,222 @@ class ProposalServiceImplTest {
         assertEquals(project.getContract(), savedContract);
         assertEquals(project.getFreelancer(), freelancer);
         assertTrue(freelancer.getContracts().contains(savedContract));
+        verify(analyticsRollupService).recordProposalStatusChange(proposal, ProposalStatus.PENDING);
+        verify(proposalRepository).rejectOtherPendingProposals(
+                eq(project.getId()), eq(proposalId), eq(ProposalStatus.REJECTED), any(OffsetDateTime.class));
+        verify(notificationPublisher).proposalStatusChanged(proposal);
+    }
+
+    @Test
+    void updateProposalStatusById_accept_notifiesFreelancersOfRejectedOthers() {
+        Project project = acceptableProject();
+        Proposal proposal = acceptableProposal(project);
+        UUID otherId = UUID.randomUUID();
+        UUID otherFreelancerId = UUID.randomUUID();
+        Contract savedContract = new Contract();
+        savedContract.setId(UUID.randomUUID());
+
+        when(proposalRepository.findById(proposalId)).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findStatusRowsByProjectId(projectId)).thenReturn(List.of(
+                new ProposalStatusRow(proposalId, freelancerId, ProposalStatus.PENDING),
+                new ProposalStatusRow(otherId, otherFreelancerId, ProposalStatus.PENDING),
+                new ProposalStatusRow(UUID.randomUUID(), UUID.randomUUID(), ProposalStatus.WITHDRAWN)));
+        when(contractRepository.save(any(Contract.class))).thenReturn(savedContract);
+        when(proposalRepository.save(any(Proposal.class))).thenReturn(proposal);
+
+        service.updateProposalStatusById(proposalId, ProposalStatusRequestDTO.builder()
+                .status(ProposalStatus.ACCEPTED)
+                .build());
+
+        verify(proposalRepository, times(1)).findStatusRowsByProjectId(projectId);
+        verify(notificationPublisher).proposalStatusChanged(proposal);
+        verify(notificationPublisher).proposalStatusesChanged(projectId, List.of(
+                new ProposalStatusRow(otherId, otherFreelancerId, ProposalStatus.REJECTED)));
+        verify(projectProposalStatsService).recordStatusChanges(eq(projectId), argThat(changes -> changes.size() == 1
+                && changes.iterator().next().getId().equals(otherId)
+                && changes.iterator().next().getStatus() == ProposalStatus.REJECTED));
+        verify(analyticsRollupService).recordProposalStatusChange(otherFreelancerId, ProposalStatus.REJECTED, ProposalStatus.PENDING);
+    }
+
+    @Test
+    void decideProposals_accept_acceptsOneAndRejectsOtherPending() {
+        Project project = acceptableProject();
+        Proposal proposal = acceptableProposal(project);
+        UUID otherId = UUID.randomUUID();
+        UUID withdrawnId = UUID.randomUUID();
+        Contract savedContract = new Contract();
+        savedContract.setId(UUID.randomUUID());
+
+        when(projectRepository.lockById(projectId)).thenReturn(Optional.of(project));
+        when(proposalRepository.findStatusRowsByProjectId(projectId)).thenReturn(List.of(
+                new ProposalStatusRow(proposalId, freelancerId, ProposalStatus.PENDING),
+                new ProposalStatusRow(otherId, UUID.randomUUID(), ProposalStatus.PENDING),
+                new ProposalStatusRow(withdrawnId, UUID.randomUUID(), ProposalStatus.WITHDRAWN)));
+        when(proposalRepository.findById(proposalId)).thenReturn(Optional.of(proposal));
+        when(contractRepository.save(any(Contract.class))).thenReturn(savedContract);
+
+        ProposalDecisionResultDTO result = service.decideProposals(projectId, ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.ACCEPT)
+                .proposalId(proposalId)
+                .build());
+
+        assertEquals(savedContract.getId(), result.getContractId());
+        assertEquals(2, result.getChanges().size());
+        assertEquals(ProposalStatus.ACCEPTED, result.getChanges().get(0).getStatus());
+        assertEquals(otherId, result.getChanges().get(1).getId());
+        assertEquals(ProposalStatus.REJECTED, result.getChanges().get(1).getStatus());
+        assertEquals(ProjectStatus.IN_PROGRESS, project.getStatus());
+        verify(proposalRepository).rejectOtherPendingProposals(
+                eq(projectId), eq(proposalId), eq(ProposalStatus.REJECTED), any(OffsetDateTime.class));
+        verify(analyticsRollupService).recordProposalStatusChange(freelancerId, ProposalStatus.ACCEPTED, ProposalStatus.PENDING);
+        verify(proposalMapper, never()).toDetailDto(any());
+    }
+
+    @Test
+    void decideProposals_acceptWhenAlreadyAccepted_throws() {
+        Project project = acceptableProject();
+        project.setAcceptedProposal(new Proposal());
+        when(projectRepository.lockById(projectId)).thenReturn(Optional.of(project));
+        ProposalDecisionRequestDTO request = ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.ACCEPT)
+                .proposalId(proposalId)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> service.decideProposals(projectId, request));
+        verify(contractRepository, never()).save(any());
+    }
+
+    @Test
+    void decideProposals_acceptProposalOfAnotherProject_throwsNotFound() {
+        Project project = acceptableProject();
+        Project otherProject = new Project();
+        otherProject.setId(UUID.randomUUID());
+        when(projectRepository.lockById(projectId)).thenReturn(Optional.of(project));
+        when(proposalRepository.findById(proposalId)).thenReturn(Optional.of(acceptableProposal(otherProject)));
+        ProposalDecisionRequestDTO request = ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.ACCEPT)
+                .proposalId(proposalId)
+                .build();
+
+        assertThrows(ResourceNotFoundException.class, () -> service.decideProposals(projectId, request));
+    }
+
+    @Test
+    void decideProposals_rejectPending_singleUpdate() {
+        UUID pendingId = UUID.randomUUID();
+        when(projectRepository.lockById(projectId)).thenReturn(Optional.of(acceptableProject()));
+        when(proposalRepository.findStatusRowsByProjectId(projectId)).thenReturn(List.of(
+                new ProposalStatusRow(pendingId, freelancerId, ProposalStatus.PENDING),
+                new ProposalStatusRow(UUID.randomUUID(), freelancerId, ProposalStatus.WITHDRAWN)));
+
+        ProposalDecisionResultDTO result = service.decideProposals(projectId, ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.REJECT_PENDING)
+                .build());
+
+        assertEquals(1, result.getChanges().size());
+        assertEquals(pendingId, result.getChanges().getFirst().getId());
+        assertEquals(ProposalStatus.PENDING, result.getChanges().getFirst().getPreviousStatus());
+        verify(proposalRepository).updateStatusByProjectId(
+                eq(projectId), eq(Set.of(ProposalStatus.PENDING)), eq(ProposalStatus.REJECTED), any(OffsetDateTime.class));
+        verify(proposalRepository, never()).save(any());
+        verify(projectProposalStatsService).recordStatusChanges(projectId, result.getChanges());
+        verify(notificationPublisher).proposalStatusesChanged(projectId, List.of(
+                new ProposalStatusRow(pendingId, freelancerId, ProposalStatus.REJECTED)));
+    }
+
+    @Test
+    void decideProposals_reopenWithContract_throws() {
+        Project project = acceptableProject();
+        project.setContract(new Contract());
+        when(projectRepository.lockById(projectId)).thenReturn(Optional.of(project));
+        ProposalDecisionRequestDTO request = ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.REOPEN)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> service.decideProposals(projectId, request));
+        verify(proposalRepository, never()).updateStatusByProjectId(any(), any(), any(), any());
+    }
+
+    @Test
+    void reopenProposals_movesAcceptedAndRejectedBackToPending() {
+        UUID acceptedId = UUID.randomUUID();
+        when(proposalRepository.findStatusRowsByProjectId(projectId)).thenReturn(List.of(
+                new ProposalStatusRow(acceptedId, freelancerId, ProposalStatus.ACCEPTED),
+                new ProposalStatusRow(UUID.randomUUID(), freelancerId, ProposalStatus.REJECTED),
+                new ProposalStatusRow(UUID.randomUUID(), freelancerId, ProposalStatus.WITHDRAWN)));
+
+        List<ProposalStatusChangeDTO> changes = service.reopenProposals(projectId, null);
+
+        assertEquals(2, changes.size());
+        assertTrue(changes.stream().allMatch(c -> c.getStatus() == ProposalStatus.PENDING));
+        verify(proposalRepository).updateStatusByProjectId(eq(projectId),
+                eq(Set.of(ProposalStatus.ACCEPTED, ProposalStatus.REJECTED)), eq(ProposalStatus.PENDING), any(OffsetDateTime.class));
+        verify(analyticsRollupService).recordProposalStatusChange(freelancerId, ProposalStatus.PENDING, ProposalStatus.ACCEPTED);
+    }
+
+    @Test
+    void reopenProposals_contractProposal_isRejectedInTheSameUpdate() {
+        UUID contractProposalId = UUID.randomUUID();
+        UUID rejectedId = UUID.randomUUID();
+        UUID rejectedFreelancerId = UUID.randomUUID();
+        when(proposalRepository.findStatusRowsByProjectId(projectId)).thenReturn(List.of(
+                new ProposalStatusRow(contractProposalId, freelancerId, ProposalStatus.ACCEPTED),
+                new ProposalStatusRow(rejectedId, rejectedFreelancerId, ProposalStatus.REJECTED)));
+
+        List<ProposalStatusChangeDTO> changes = service.reopenProposals(projectId, contractProposalId);
+
+        assertEquals(2, changes.size());
+        assertEquals(ProposalStatus.ACCEPTED, changes.get(0).getPreviousStatus());
+        assertEquals(ProposalStatus.REJECTED, changes.get(0).getStatus());
+        assertEquals(ProposalStatus.PENDING, changes.get(1).getStatus());
+        verify(proposalRepository).reopenByProjectIdRejecting(eq(projectId),
+                eq(Set.of(ProposalStatus.ACCEPTED, ProposalStatus.REJECTED)), eq(contractProposalId), any(OffsetDateTime.class));
+        verify(proposalRepository, never()).updateStatusByProjectId(any(), any(), any(), any());
+        verify(projectProposalStatsService).recordStatusChanges(projectId, changes);
+        // The contract proposal's freelancer is told its final status, not the intermediate PENDING
+        verify(notificationPublisher).proposalStatusesChanged(projectId, List.of(
+                new ProposalStatusRow(contractProposalId, freelancerId, ProposalStatus.REJECTED),
+                new ProposalStatusRow(rejectedId, rejectedFreelancerId, ProposalStatus.PENDING)));
+    }
+
+    @Test
+    void decideProposals_projectNotFound_throws() {
+        when(projectRepository.lockById(projectId)).thenReturn(Optional.empty());
+        ProposalDecisionRequestDTO request = ProposalDecisionRequestDTO.builder()
+                .decision(ProposalDecision.REJECT_PENDING)
+                .build();
+
+        assertThrows(ResourceNotFoundException.class, () -> service.decideProposals(projectId, request));
+    }
+
+    private Project acceptableProject() {
+        User customerUser = new User();
+        customerUser.setFirstName("Jane");
+        customerUser.setLastName("Doe");
+        CustomerProfile customer = new CustomerProfile();
+        customer.setUser(customerUser);
+        Project project = new Project();
+        project.setId(projectId);
+        project.setTitle("Title");
+        project.setCustomer(customer);
+        return project;
+    }
+
+    private Proposal acceptableProposal(Project project) {
+        User freelancerUser = new User();
+        freelancerUser.setFirstName("John");
+        freelancerUser.setLastName("Doe");
+        FreelancerProfile freelancer = new FreelancerProfile();
+        freelancer.setId(freelancerId);
+        freelancer.setUser(freelancerUser);
+        Proposal proposal = new Proposal();
+        proposal.setId(proposalId);
+        proposal.setProject(project);
+        proposal.setFreelancer(freelancer);
+        proposal.setAmount(BigDecimal.valueOf(100));
+        proposal.setPlannedStartDate(OffsetDateTime.now());
+        proposal.setPlannedEndDate(OffsetDateTime.now().plusDays(10));
+        return proposal;
     }
 
     @Test
@@ -305,6 +547,21 @@ class ProposalServiceImplTest {
         assertEquals(OffsetDateTime.of(2025, 10, 15, 0, 0, 0, 0, ZoneOffset.UTC), existent.getPlannedEndDate());
         assertEquals(OffsetDateTime.of(2025, 10, 2, 0, 0, 0, 0, ZoneOffset.UTC), existent.getActualStartDate());
         assertEquals(OffsetDateTime.of(2025, 10, 16, 0, 0, 0, 0, ZoneOffset.UTC), existent.getActualEndDate());
+        verify(projectProposalStatsService).recordAmountChanged(updated);
+    }
+
+    @Test
+    void updateProposalById_sameAmount_keepsBidRange() {
+        Proposal existent = new Proposal();
+        existent.setAmount(new BigDecimal("10.00"));
+        ProposalRequestDTO dto = ProposalRequestDTO.builder().amount(BigDecimal.TEN).build();
+        when(proposalRepository.findById(proposalId)).thenReturn(Optional.of(existent));
+        when(proposalRepository.save(existent)).thenReturn(existent);
+        when(proposalMapper.toDetailDto(existent)).thenReturn(detailDTO);
+
+        service.updateProposalById(proposalId, dto);
+
+        verify(projectProposalStatsService, never()).recordAmountChanged(any());
     }
 
     @Test
@@ -314,6 +571,8 @@ class ProposalServiceImplTest {
 
         service.deleteProposalById(proposalId);
         verify(proposalRepository).delete(proposal);
+        verify(analyticsRollupService).recordProposalDeleted(proposal);
+        verify(projectProposalStatsService).recordProposalDeleted(proposal);
     }
 
     @Test
@@ -332,34 +591,92 @@ class ProposalServiceImplTest {
 
     // Paging methods can be tested minimally to ensure mapper coverage
     @Test
-    void getProposalsByProjectId_withStatus() {
-        Proposal proposal = new Proposal();
-        Page<Proposal> page = new PageImpl<>(List.of(proposal));
-        when(proposalRepository.findByProjectIdAndStatus(eq(projectId), any(Pageable.class), eq(ProposalStatus.PENDING)))
-                .thenReturn(page);
-        when(proposalMapper.toSummaryDto(proposal)).thenReturn(summaryDTO);
+    void getProposalsByProjectId_loadsFreelancerCollectionsOncePerPage() {
+        ProposalSummaryRow first = proposalRow(freelancerId);
+        ProposalSummaryRow second = proposalRow(freelancerId);
+        SubcategoryRow subcategory = new SubcategoryRow(freelancerId, 7L, "Web", null);
+        ProfileSkillRow skill = new ProfileSkillRow(freelancerId, "Java");
+        when(summaryQueryRepository.findPage(eq(SummaryProjection.PROPOSAL), any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(first, second)));
+        when(freelancerRepository.findSubcategorySummaryRows(List.of(freelancerId))).thenReturn(List.of(subcategory));
+        when(freelancerRepository.findSkillRows(List.of(freelancerId))).thenReturn(List.of(skill));
+        when(freelancerRepository.findLanguageRows(List.of(freelancerId))).thenReturn(List.of());
+        when(proposalMapper.fromRow(any(ProposalSummaryRow.class), eq(List.of(subcategory)), eq(List.of(skill)), eq(List.of())))
+                .thenReturn(summaryDTO);
 
         Page<ProposalSummaryDTO> result = service.getProposalsByProjectId(projectId, Pageable.unpaged(), ProposalStatus.PENDING);
-        assertEquals(1, result.getTotalElements());
+
+        assertEquals(2, result.getTotalElements());
+        assertSame(summaryDTO, result.getContent().get(0));
     }
 
     @Test
-    void getProposalsByProjectId_noStatus() {
-        Proposal proposal = new Proposal();
-        Page<Proposal> page = new PageImpl<>(List.of(proposal));
-        when(proposalRepository.findByProjectId(eq(projectId), any(Pageable.class))).thenReturn(page);
-        when(proposalMapper.toSummaryDto(proposal)).thenReturn(summaryDTO);
+    void getProposalsByProjectId_withoutFreelancers_skipsCollectionQueries() {
+        ProposalSummaryRow row = proposalRow(null);
+        when(summaryQueryRepository.findPage(eq(SummaryProjection.PROPOSAL), any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(row)));
+        when(proposalMapper.fromRow(row, List.of(), List.of(), List.of())).thenReturn(summaryDTO);
 
         Page<ProposalSummaryDTO> result = service.getProposalsByProjectId(projectId, Pageable.unpaged(), null);
+
         assertEquals(1, result.getTotalElements());
+        verifyNoInteractions(freelancerRepository);
+    }
+
+    @Test
+    void getProposalsByProjectIdAndCursor_moreRows_returnsNextCursorWithoutCount() {
+        OffsetDateTime now = OffsetDateTime.of(2025, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        List<Positioned<ProposalSummaryRow>> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ProposalSummaryRow row = proposalRow(null);
+            rows.add(new Positioned<>(row, new KeysetCursor(now.minusMinutes(i), row.id())));
+        }
+        when(summaryQueryRepository.findAfter(eq(SummaryProjection.PROPOSAL), any(Specification.class), isNull(), eq(3)))
+                .thenReturn(rows);
+        when(proposalMapper.fromRow(any(ProposalSummaryRow.class), eq(List.of()), eq(List.of()), eq(List.of())))
+                .thenReturn(summaryDTO);
+
+        PagedResponseDTO<ProposalSummaryDTO> result = service.getProposalsByProjectIdAndCursor(projectId, null, 2, null);
+
+        assertEquals(2, result.content().size());
+        assertTrue(result.first());
+        assertFalse(result.last());
+        assertEquals(-1, result.totalElements());
+        assertEquals(rows.get(1).position(), KeysetCursor.decode(result.nextCursor()));
+        verify(summaryQueryRepository, never()).findPage(any(), any(Specification.class), any(Pageable.class));
+        verifyNoInteractions(freelancerRepository);
+    }
+
+    @Test
+    void getProposalsByProjectIdAndCursor_lastPage_hasNoNextCursor() {
+        ProposalSummaryRow row = proposalRow(null);
+        KeysetCursor after = new KeysetCursor(OffsetDateTime.now(ZoneOffset.UTC), UUID.randomUUID());
+        when(summaryQueryRepository.findAfter(eq(SummaryProjection.PROPOSAL), any(Specification.class), eq(after), eq(3)))
+                .thenReturn(List.of(new Positioned<>(row, new KeysetCursor(after.createdAt().minusMinutes(1), row.id()))));
+        when(proposalMapper.fromRow(row, List.of(), List.of(), List.of())).thenReturn(summaryDTO);
+        String cursor = after.encode();
+
+        PagedResponseDTO<ProposalSummaryDTO> result =
+                service.getProposalsByProjectIdAndCursor(projectId, cursor, 2, ProposalStatus.PENDING);
+
+        assertEquals(List.of(summaryDTO), result.content());
+        assertFalse(result.first());
+        assertTrue(result.last());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getProposalsByProjectIdAndCursor_malformedCursor_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getProposalsByProjectIdAndCursor(projectId, "not-a-cursor", 10, null));
+        verifyNoInteractions(summaryQueryRepository);
     }
 
     @Test
     void getProposalsByFreelancerId_withStatus() {
         Proposal proposal = new Proposal();
         Page<Proposal> page = new PageImpl<>(List.of(proposal));
-        when(proposalRepository.findByFreelancerIdAndStatus(eq(freelancerId), any(Pageable.class), eq(ProposalStatus.PENDING)))
-                .thenReturn(page);
+        when(proposalRepository.findBy(any(Specification.class), any())).thenReturn(page);
         when(proposalMapper.toSummaryDto(proposal)).thenReturn(summaryDTO);
 
         Page<ProposalSummaryDTO> result = service.getProposalsByFreelancerId(freelancerId, Pageable.unpaged(), ProposalStatus.PENDING);
@@ -370,11 +687,17 @@ class ProposalServiceImplTest {
     void getProposalsByFreelancerId_noStatus() {
         Proposal proposal = new Proposal();
         Page<Proposal> page = new PageImpl<>(List.of(proposal));
-        when(proposalRepository.findByFreelancerId(eq(freelancerId), any(Pageable.class))).thenReturn(page);
+        when(proposalRepository.findBy(any(Specification.class), any())).thenReturn(page);
         when(proposalMapper.toSummaryDto(proposal)).thenReturn(summaryDTO);
 
         Page<ProposalSummaryDTO> result = service.getProposalsByFreelancerId(freelancerId, Pageable.unpaged(), null);
         assertEquals(1, result.getTotalElements());
     }
 
-}
\ No newline at end of file
+    private ProposalSummaryRow proposalRow(UUID freelancerProfileId) {
+        FreelancerSummaryRow freelancer = freelancerProfileId == null ? null : new FreelancerSummaryRow(
+                freelancerProfileId, UUID.randomUUID(), "freelancer", null, null, null, true, null, 0.0);
+        return new ProposalSummaryRow(UUID.randomUUID(), projectId, "cover", BigDecimal.TEN, BigDecimal.ZERO,
+                BigDecimal.ZERO, 5, ProposalStatus.PENDING, null, null, null, null, null, null, null, freelancer);
+    }
+}
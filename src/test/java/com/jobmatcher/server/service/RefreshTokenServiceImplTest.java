@@ -7,6 +7,7 @@ import com.jobmatcher.server.mapper.UserMapper;
 import com.jobmatcher.server.model.AuthResponse;
 import com.jobmatcher.server.model.AuthUserDTO;
 import com.jobmatcher.server.repository.RefreshTokenRepository;
+import com.jobmatcher.server.security.PrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +36,9 @@ class RefreshTokenServiceImplTest {
     @Mock
     UserMapper userMapper;
 
+    @Mock
+    PrincipalCache principalCache;
+
     @InjectMocks
     RefreshTokenServiceImpl refreshTokenService;
 
@@ -176,11 +180,13 @@ class RefreshTokenServiceImplTest {
     void deleteByUser_callsRepository() {
         User user = new User();
         user.setId(UUID.randomUUID());
+        user.setEmail("user@example.com");
 
         doNothing().when(refreshTokenRepository).deleteByUserId(user.getId());
 
         refreshTokenService.deleteByUser(user);
 
         verify(refreshTokenRepository).deleteByUserId(user.getId());
+        verify(principalCache).invalidateAfterCommit("user@example.com");
     }
 }
\ No newline at end of file
@@ -1,22 +1,29 @@
 package com.jobmatcher.server.service;
 
 import com.jobmatcher.server.domain.Skill;
-import com.jobmatcher.server.mapper.SkillMapper;
 import com.jobmatcher.server.model.SkillDTO;
 import com.jobmatcher.server.repository.SkillRepository;
+import com.jobmatcher.server.service.reference.ReferenceDataCache;
+import com.jobmatcher.server.service.reference.ReferenceSnapshot;
+import com.jobmatcher.server.service.search.SkillDictionary;
+import com.jobmatcher.server.service.search.SkillTrie;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SkillServiceImplTest {
@@ -25,33 +32,98 @@ class SkillServiceImplTest {
     private SkillRepository skillRepository;
 
     @Mock
-    private SkillMapper skillMapper;
+    private SkillDictionary skillDictionary;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private SkillServiceImpl skillService;
 
     @Test
     void findOrCreateByName_existingSkill() {
-        Skill skill = new Skill("ReactJS");
+        Skill skill = new Skill(UUID.randomUUID(), "ReactJS");
 
-        when(skillRepository.findByNameIgnoreCase("ReactJS")).thenReturn(Optional.of(skill));
+        when(skillDictionary.find("reactjs")).thenReturn(Optional.of(new SkillTrie.Entry(skill.getId(), "ReactJS", 3)));
+        when(skillRepository.findAllById(Set.of(skill.getId()))).thenReturn(List.of(skill));
 
         Skill result = skillService.findOrCreateByName("ReactJS");
 
         assertThat(result.getName()).isEqualTo("ReactJS");
+        verify(skillRepository, never()).findAllByLowerNameIn(any());
+        verifyNoInteractions(referenceDataCache);
     }
 
     @Test
     void findOrCreateByName_newSkill() {
         String input = "  ReactJS  ";
-        Skill newSkill = new Skill("ReactJS");
+        Skill newSkill = new Skill(UUID.randomUUID(), "ReactJS");
 
-        when(skillRepository.findByNameIgnoreCase("ReactJS")).thenReturn(Optional.empty());
-        when(skillRepository.save(any(Skill.class))).thenReturn(newSkill);
+        when(skillRepository.findAllByLowerNameIn(Set.of("reactjs"))).thenReturn(List.of());
+        when(skillRepository.saveAll(anyList())).thenReturn(List.of(newSkill));
 
         Skill result = skillService.findOrCreateByName(input);
 
         assertThat(result.getName()).isEqualTo("ReactJS");
+        verify(skillDictionary).addAfterCommit(List.of(newSkill));
+        verify(referenceDataCache).invalidateSkills();
+    }
+
+    @Test
+    void resolveOrCreateByNames_batchesLookupsAndCreates() {
+        Skill java = new Skill(UUID.randomUUID(), "Java");
+        Skill spring = new Skill(UUID.randomUUID(), "Spring");
+        Skill docker = new Skill(UUID.randomUUID(), "Docker");
+
+        when(skillDictionary.find("java")).thenReturn(Optional.of(new SkillTrie.Entry(java.getId(), "Java", 10)));
+        when(skillRepository.findAllById(Set.of(java.getId()))).thenReturn(List.of(java));
+        when(skillRepository.findAllByLowerNameIn(Set.of("spring", "docker"))).thenReturn(List.of(spring));
+        when(skillRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Skill> toCreate = invocation.getArgument(0);
+            assertThat(toCreate).extracting(Skill::getName).containsExactly("Docker");
+            return List.of(docker);
+        });
+
+        Set<Skill> result = skillService.resolveOrCreateByNames(
+                Arrays.asList("Java", "JAVA ", "spring", "Docker", "  ", null));
+
+        assertThat(result).containsExactlyInAnyOrder(java, spring, docker);
+        verify(skillRepository, times(1)).findAllByLowerNameIn(any());
+        verify(skillRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void resolveOrCreateByNames_allKnown_skipsDatabaseNameLookups() {
+        Skill java = new Skill(UUID.randomUUID(), "Java");
+        when(skillDictionary.find("java")).thenReturn(Optional.of(new SkillTrie.Entry(java.getId(), "Java", 10)));
+        when(skillRepository.findAllById(Set.of(java.getId()))).thenReturn(List.of(java));
+
+        assertThat(skillService.resolveOrCreateByNames(List.of("java"))).containsExactly(java);
+        verify(skillRepository, never()).findAllByLowerNameIn(any());
+        verify(skillRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void suggest_readsFromDictionaryWhenReady() {
+        when(skillDictionary.isReady()).thenReturn(true);
+        when(skillDictionary.suggest("re", 5)).thenReturn(List.of(
+                new SkillTrie.Entry(UUID.randomUUID(), "React", 12),
+                new SkillTrie.Entry(UUID.randomUUID(), "Redux", 4)));
+
+        List<SkillDTO> result = skillService.suggest(" Re", 5);
+
+        assertThat(result).extracting(SkillDTO::getName).containsExactly("React", "Redux");
+        verifyNoInteractions(skillRepository);
+    }
+
+    @Test
+    void suggest_fallsBackToDatabaseUntilDictionaryIsReady() {
+        when(skillRepository.findTop10ByNameStartingWithIgnoreCaseOrderByNameAsc("re"))
+                .thenReturn(List.of(new Skill("React"), new Skill("Redux")));
+
+        List<SkillDTO> result = skillService.suggest("RE", 1);
+
+        assertThat(result).extracting(SkillDTO::getName).containsExactly("React");
     }
 
     @Test
@@ -84,18 +156,15 @@ class SkillServiceImplTest {
 
     @Test
     void getAllSkills_returnsList() {
-        Skill skill1 = new Skill("Java");
-        Skill skill2 = new Skill("Python");
         SkillDTO dto1 = SkillDTO.builder().name("Java").build();
         SkillDTO dto2 = SkillDTO.builder().name("Python").build();
 
-        when(skillRepository.findAll()).thenReturn(List.of(skill1, skill2));
-        when(skillMapper.toDto(skill1)).thenReturn(dto1);
-        when(skillMapper.toDto(skill2)).thenReturn(dto2);
+        when(referenceDataCache.skills()).thenReturn(new ReferenceSnapshot<>(List.of(dto1, dto2), new byte[0], "\"v1\""));
 
         List<SkillDTO> skills = skillService.getAllSkills();
 
         assertThat(skills).hasSize(2);
-        assertThat(skills).extracting("name").containsExactlyInAnyOrder("Java", "Python");
+        assertThat(skills).extracting("name").containsExactly("Java", "Python");
+        verifyNoInteractions(skillRepository);
     }
 }
\ No newline at end of file
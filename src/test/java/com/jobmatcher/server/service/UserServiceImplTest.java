@@ -9,6 +9,7 @@ import com.jobmatcher.server.model.UserRequestDTO;
 import com.jobmatcher.server.model.UserResponseDTO;
 import com.jobmatcher.server.repository.AddressRepository;
 import com.jobmatcher.server.repository.UserRepository;
+import com.jobmatcher.server.security.PrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +38,9 @@ class UserServiceImplTest {
     @Mock
     UserMapper userMapper;
 
+    @Mock
+    PrincipalCache principalCache;
+
     @InjectMocks
     UserServiceImpl userService;
 
@@ -145,6 +149,7 @@ class UserServiceImplTest {
         verify(userRepository).findById(userId);
         verify(userRepository).save(sampleUser);
         verify(userMapper).toUserResponseDto(updatedUser);
+        verify(principalCache).invalidateAfterCommit("test@example.com");
     }
 
     @Test
@@ -0,0 +1,123 @@
+package com.jobmatcher.server.service.email;
+
+import com.jobmatcher.server.config.EmailOutboxProperties;
+import com.jobmatcher.server.domain.EmailOutboxMessage;
+import com.jobmatcher.server.exception.EmailSendException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    EmailOutboxService outboxService;
+
+    StubTransport transport;
+    SimpleMeterRegistry meterRegistry;
+    EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        transport = new StubTransport();
+        meterRegistry = new SimpleMeterRegistry();
+        EmailOutboxProperties properties = new EmailOutboxProperties(50, 8, Duration.ofSeconds(5),
+                Duration.ofMinutes(30), Duration.ofMinutes(5), Duration.ofDays(7), Map.of("stub", 2));
+        dispatcher = new EmailOutboxDispatcher(outboxService, transport, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_sendsClaimedBatchAndRecordsOutcomes() {
+        EmailOutboxMessage ok = message("ok@example.com");
+        EmailOutboxMessage throttled = message("throttled@example.com");
+        EmailOutboxMessage rejected = message("rejected@example.com");
+        when(outboxService.claimDue(50)).thenReturn(List.of(ok, throttled, rejected));
+        when(outboxService.markFailed(any(), anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(2));
+        when(outboxService.countPending()).thenReturn(1L);
+        transport.failures.put("throttled@example.com", new EmailSendException("429", null, true));
+        transport.failures.put("rejected@example.com", new EmailSendException("400", null, false));
+
+        dispatcher.dispatch();
+
+        verify(outboxService).markSent(ok.getId());
+        verify(outboxService).markFailed(throttled.getId(), "429", true);
+        verify(outboxService).markFailed(rejected.getId(), "400", false);
+        assertThat(transport.sent).containsExactly("ok@example.com");
+        assertThat(meterRegistry.get("email.outbox.send").tag("outcome", "retry").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("email.outbox.pending").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dispatch_limitsConcurrentSendsPerProvider() {
+        List<EmailOutboxMessage> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) batch.add(message("user" + i + "@example.com"));
+        when(outboxService.claimDue(50)).thenReturn(batch);
+        transport.delayMillis = 20;
+
+        dispatcher.dispatch();
+
+        assertThat(transport.sent).hasSize(10);
+        assertThat(transport.maxInFlight.get()).isLessThanOrEqualTo(2);
+        verify(outboxService, times(10)).markSent(any());
+    }
+
+    private static EmailOutboxMessage message(String recipient) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(UUID.randomUUID());
+        message.setRecipient(recipient);
+        message.setSubject("Subject");
+        message.setHtmlBody("<p>Body</p>");
+        message.setAttempts(1);
+        return message;
+    }
+
+    static class StubTransport implements EmailTransport {
+        final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        final Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        volatile long delayMillis;
+
+        @Override
+        public String provider() {
+            return "stub";
+        }
+
+        @Override
+        public void send(OutboundEmail email) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (delayMillis > 0) Thread.sleep(delayMillis);
+                RuntimeException failure = failures.get(email.to());
+                if (failure != null) throw failure;
+                sent.add(email.to());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobmatcher.server.service.email;
+
+import com.jobmatcher.server.config.EmailOutboxProperties;
+import com.jobmatcher.server.domain.EmailOutboxMessage;
+import com.jobmatcher.server.domain.EmailOutboxStatus;
+import com.jobmatcher.server.repository.EmailOutboxRepository;
+import com.jobmatcher.server.util.RetryBackoff;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @Mock
+    EmailOutboxRepository outboxRepository;
+
+    EmailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        EmailOutboxProperties properties = new EmailOutboxProperties(50, 3,
+                Duration.ofSeconds(5), Duration.ofMinutes(30), Duration.ofMinutes(5), Duration.ofDays(7), Map.of());
+        service = new EmailOutboxService(outboxRepository, properties);
+    }
+
+    @Test
+    void enqueue_savesPendingMessageDueNow() {
+        service.enqueue(new OutboundEmail("user@example.com", "Subject", "<p>Body</p>"));
+
+        ArgumentCaptor<EmailOutboxMessage> saved = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(saved.getValue().getRecipient()).isEqualTo("user@example.com");
+        assertThat(saved.getValue().getNextAttemptAt()).isBeforeOrEqualTo(OffsetDateTime.now());
+    }
+
+    @Test
+    void claimDue_leasesMessagesAndCountsAttempt() {
+        EmailOutboxMessage message = message(0);
+        when(outboxRepository.lockDueMessages(any(), anyInt())).thenReturn(List.of(message));
+
+        List<EmailOutboxMessage> claimed = service.claimDue(10);
+
+        assertThat(claimed).containsExactly(message);
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.SENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getNextAttemptAt()).isAfter(OffsetDateTime.now().plusMinutes(4));
+    }
+
+    @Test
+    void markFailed_retryable_reschedulesWithBackoff() {
+        EmailOutboxMessage message = message(1);
+        message.setStatus(EmailOutboxStatus.SENDING);
+        when(outboxRepository.findById(message.getId())).thenReturn(Optional.of(message));
+
+        boolean retrying = service.markFailed(message.getId(), "Gmail API error (503)", true);
+
+        assertThat(retrying).isTrue();
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(message.getLastError()).isEqualTo("Gmail API error (503)");
+        assertThat(message.getNextAttemptAt()).isAfter(OffsetDateTime.now().plusSeconds(2));
+    }
+
+    @Test
+    void markFailed_givesUpWhenAttemptsExhaustedOrNotRetryable() {
+        EmailOutboxMessage exhausted = message(3);
+        EmailOutboxMessage permanent = message(1);
+        when(outboxRepository.findById(exhausted.getId())).thenReturn(Optional.of(exhausted));
+        when(outboxRepository.findById(permanent.getId())).thenReturn(Optional.of(permanent));
+
+        assertThat(service.markFailed(exhausted.getId(), "timeout", true)).isFalse();
+        assertThat(service.markFailed(permanent.getId(), "bad address", false)).isFalse();
+
+        assertThat(exhausted.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(permanent.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+    }
+
+    @Test
+    void backoff_doublesPerAttemptWithJitterAndCap() {
+        Duration initial = Duration.ofSeconds(4);
+        Duration max = Duration.ofSeconds(60);
+
+        assertThat(RetryBackoff.delay(1, initial, max, 0.0)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(RetryBackoff.delay(1, initial, max, 0.999)).isLessThan(Duration.ofSeconds(4));
+        assertThat(RetryBackoff.delay(3, initial, max, 0.0)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(RetryBackoff.delay(20, initial, max, 0.0)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(RetryBackoff.delay(20, initial, max, 0.999)).isLessThan(max);
+    }
+
+    private static EmailOutboxMessage message(int attempts) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(UUID.randomUUID());
+        message.setRecipient("user@example.com");
+        message.setAttempts(attempts);
+        message.setNextAttemptAt(OffsetDateTime.now());
+        return message;
+    }
+}
@@ -0,0 +1,137 @@
+package com.jobmatcher.server.service.matching;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.model.matching.FreelancerFeatureRow;
+import com.jobmatcher.server.model.matching.ProfileSkillRow;
+import com.jobmatcher.server.model.matching.ProfileSubcategoryRow;
+import com.jobmatcher.server.model.matching.ProjectFeatureRow;
+import com.jobmatcher.server.model.search.ProjectSubcategoryRow;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import com.jobmatcher.server.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingEngineTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private FreelancerProfileRepository freelancerProfileRepository;
+
+    @InjectMocks
+    private MatchingEngine engine;
+
+    private final UUID backendProject = UUID.randomUUID();
+    private final UUID designProject = UUID.randomUUID();
+    private final UUID javaDev = UUID.randomUUID();
+    private final UUID designer = UUID.randomUUID();
+    private final UUID unavailable = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(projectRepository.findOpenFeatureRows(any(Pageable.class))).thenAnswer(inv -> new SliceImpl<>(List.of(
+                new ProjectFeatureRow(backendProject, 1L, BigDecimal.valueOf(8000),
+                        "Spring Boot REST API", "Java backend with PostgreSQL"),
+                new ProjectFeatureRow(designProject, 2L, BigDecimal.valueOf(500),
+                        "Logo design", "Figma mockups for a landing page")
+        ), inv.getArgument(0), false));
+        when(projectRepository.findSubcategoryRows(anyCollection())).thenReturn(List.of(
+                new ProjectSubcategoryRow(backendProject, 10L),
+                new ProjectSubcategoryRow(designProject, 20L)
+        ));
+        when(freelancerProfileRepository.findFeatureRows(any(Pageable.class))).thenAnswer(inv -> new SliceImpl<>(List.of(
+                new FreelancerFeatureRow(javaDev, 50.0, ExperienceLevel.SENIOR, true),
+                new FreelancerFeatureRow(designer, 30.0, ExperienceLevel.JUNIOR, null),
+                new FreelancerFeatureRow(unavailable, 40.0, ExperienceLevel.MID, false)
+        ), inv.getArgument(0), false));
+        when(freelancerProfileRepository.findSubcategoryRows(anyCollection())).thenReturn(List.of(
+                new ProfileSubcategoryRow(javaDev, 10L, 1L),
+                new ProfileSubcategoryRow(designer, 20L, 2L)
+        ));
+        when(freelancerProfileRepository.findSkillRows(anyCollection())).thenReturn(List.of(
+                new ProfileSkillRow(javaDev, "Java"),
+                new ProfileSkillRow(javaDev, "Spring Boot"),
+                new ProfileSkillRow(javaDev, "PostgreSQL"),
+                new ProfileSkillRow(designer, "Figma")
+        ));
+        engine.reload();
+    }
+
+    @Test
+    void topProjectsForFreelancer_shouldRankBestMatchFirst() {
+        List<MatchingEngine.Match> matches = engine.topProjectsForFreelancer(javaDev, 5);
+
+        assertThat(matches).isNotEmpty();
+        assertThat(matches.getFirst().id()).isEqualTo(backendProject);
+        assertThat(matches.getFirst().score()).isBetween(0f, 1f);
+    }
+
+    @Test
+    void topFreelancersForProject_shouldSkipUnavailableFreelancers() {
+        List<MatchingEngine.Match> matches = engine.topFreelancersForProject(designProject, 5);
+
+        assertThat(matches).extracting(MatchingEngine.Match::id).containsExactly(designer);
+    }
+
+    @Test
+    void topK_shouldRespectLimitAndOrder() {
+        List<MatchingEngine.Match> matches = engine.topProjectsForFreelancer(designer, 1);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.getFirst().id()).isEqualTo(designProject);
+    }
+
+    @Test
+    void unknownIds_shouldReturnEmpty() {
+        assertThat(engine.topProjectsForFreelancer(unavailable, 5)).isEmpty();
+        assertThat(engine.topFreelancersForProject(UUID.randomUUID(), 5)).isEmpty();
+    }
+
+    @Test
+    void refreshProjectAfterCommit_shouldDropProjectsThatAreNoLongerOpen() {
+        Project project = new Project();
+        project.setId(backendProject);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+
+        engine.refreshProjectAfterCommit(project);
+
+        assertThat(engine.topProjectsForFreelancer(javaDev, 5))
+                .extracting(MatchingEngine.Match::id)
+                .doesNotContain(backendProject);
+    }
+
+    @Test
+    void refreshFreelancerAfterCommit_shouldUseNewFeatures() {
+        JobCategory design = new JobCategory();
+        design.setId(2L);
+        JobSubcategory logos = new JobSubcategory();
+        logos.setId(20L);
+        logos.setCategory(design);
+        FreelancerProfile profile = new FreelancerProfile();
+        profile.setId(javaDev);
+        profile.setJobSubcategories(Set.of(logos));
+        profile.setSkills(Set.of(new Skill("Figma")));
+        profile.setHourlyRate(25.0);
+
+        engine.refreshFreelancerAfterCommit(profile);
+
+        assertThat(engine.topProjectsForFreelancer(javaDev, 1).getFirst().id()).isEqualTo(designProject);
+    }
+}
@@ -0,0 +1,180 @@
+package com.jobmatcher.server.service.notification;
+
+import com.jobmatcher.server.domain.*;
+import com.jobmatcher.server.model.NotificationDTO;
+import com.jobmatcher.server.model.NotificationType;
+import com.jobmatcher.server.model.summary.ProposalStatusRow;
+import com.jobmatcher.server.repository.FreelancerProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPublisherTest {
+
+    @Mock SimpMessagingTemplate messagingTemplate;
+    @Mock SimpUserRegistry userRegistry;
+    @Mock FreelancerProfileRepository freelancerProfileRepository;
+
+    SimpleMeterRegistry meterRegistry;
+    NotificationPublisher publisher;
+
+    CustomerProfile customer;
+    FreelancerProfile freelancer;
+    Project project;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new NotificationPublisher(messagingTemplate, userRegistry, freelancerProfileRepository, meterRegistry);
+
+        customer = new CustomerProfile();
+        customer.setId(UUID.randomUUID());
+        freelancer = new FreelancerProfile();
+        freelancer.setId(UUID.randomUUID());
+        project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setTitle("Landing page");
+        project.setCustomer(customer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void proposalStatusChanged_sendsOnlyToConnectedParties() {
+        Proposal proposal = new Proposal();
+        proposal.setId(UUID.randomUUID());
+        proposal.setProject(project);
+        proposal.setFreelancer(freelancer);
+        proposal.setStatus(ProposalStatus.ACCEPTED);
+        connect(freelancer.getId());
+
+        publisher.proposalStatusChanged(proposal);
+
+        ArgumentCaptor<NotificationDTO> sent = ArgumentCaptor.forClass(NotificationDTO.class);
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(freelancer.getId().toString()), eq(NotificationPublisher.DESTINATION), sent.capture());
+        verify(messagingTemplate, never()).convertAndSendToUser(eq(customer.getId().toString()), any(), any());
+        assertThat(sent.getValue().getType()).isEqualTo(NotificationType.PROPOSAL_STATUS);
+        assertThat(sent.getValue().getResourceId()).isEqualTo(proposal.getId());
+        assertThat(sent.getValue().getProjectId()).isEqualTo(project.getId());
+        assertThat(sent.getValue().getStatus()).isEqualTo("ACCEPTED");
+        assertThat(meterRegistry.counter("websocket.notifications.sent").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void contractStatusChanged_waitsForCommit() {
+        Contract contract = new Contract();
+        contract.setId(UUID.randomUUID());
+        contract.setStatus(ContractStatus.COMPLETED);
+        contract.setProject(project);
+        contract.setCustomer(customer);
+        contract.setFreelancer(freelancer);
+        connect(customer.getId());
+        connect(freelancer.getId());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.contractStatusChanged(contract);
+            verifyNoInteractions(messagingTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(customer.getId().toString()), eq(NotificationPublisher.DESTINATION), any(NotificationDTO.class));
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(freelancer.getId().toString()), eq(NotificationPublisher.DESTINATION), any(NotificationDTO.class));
+    }
+
+    @Test
+    void proposalStatusesChanged_noChanges_sendsNothing() {
+        publisher.proposalStatusesChanged(project.getId(), List.of());
+
+        verifyNoInteractions(userRegistry, messagingTemplate);
+    }
+
+    @Test
+    void proposalStatusesChanged_notifiesEachFreelancer() {
+        UUID otherFreelancerId = UUID.randomUUID();
+        connect(freelancer.getId());
+        connect(otherFreelancerId);
+
+        publisher.proposalStatusesChanged(project.getId(), List.of(
+                new ProposalStatusRow(UUID.randomUUID(), freelancer.getId(), ProposalStatus.REJECTED),
+                new ProposalStatusRow(UUID.randomUUID(), otherFreelancerId, ProposalStatus.REJECTED)));
+
+        verify(messagingTemplate, times(2)).convertAndSendToUser(anyString(), eq(NotificationPublisher.DESTINATION), any(NotificationDTO.class));
+    }
+
+    @Test
+    void fanOut_sendsToConnectedFreelancersInTheProjectsSubcategories() {
+        UUID customerSession = customer.getId();
+        Set<SimpUser> users = new LinkedHashSet<>();
+        users.add(user(freelancer.getId()));
+        users.add(user(customerSession));
+        SimpUser legacy = mock(SimpUser.class);
+        when(legacy.getName()).thenReturn("not-a-uuid");
+        users.add(legacy);
+        when(userRegistry.getUserCount()).thenReturn(users.size());
+        when(userRegistry.getUsers()).thenReturn(users);
+        when(freelancerProfileRepository.findIdsMatchingProjectSubcategories(
+                project.getId(), List.of(freelancer.getId(), customerSession)))
+                .thenReturn(List.of(freelancer.getId()));
+        connect(freelancer.getId());
+        NotificationDTO notification = NotificationDTO.builder()
+                .type(NotificationType.PROJECT_POSTED)
+                .projectId(project.getId())
+                .build();
+
+        publisher.fanOut(project.getId(), notification);
+
+        verify(messagingTemplate).convertAndSendToUser(
+                freelancer.getId().toString(), NotificationPublisher.DESTINATION, notification);
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    void projectOpened_fansOutOffTheCallingThread() {
+        when(userRegistry.getUsers()).thenReturn(Set.of());
+
+        publisher.projectOpened(project);
+
+        verify(userRegistry, timeout(1000)).getUsers();
+        verifyNoInteractions(freelancerProfileRepository, messagingTemplate);
+    }
+
+    private void connect(UUID profileId) {
+        when(userRegistry.getUser(profileId.toString())).thenReturn(mock(SimpUser.class));
+    }
+
+    private static SimpUser user(UUID profileId) {
+        SimpUser user = mock(SimpUser.class);
+        when(user.getName()).thenReturn(profileId.toString());
+        return user;
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobmatcher.server.service.notification;
+
+import com.jobmatcher.server.config.WebSocketProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SessionOutboundGuardTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    SimpleMeterRegistry meterRegistry;
+    SessionOutboundGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new SessionOutboundGuard(
+                new WebSocketProperties(1, 16, 2, Duration.ofSeconds(10), 1024), meterRegistry);
+        guard.onConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, "slow")));
+        guard.onConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, "fast")));
+    }
+
+    @Test
+    void preSend_fullSessionQueue_dropsOnlyThatSessionsMessages() {
+        assertThat(guard.preSend(message(SimpMessageType.MESSAGE, "slow"), channel)).isNotNull();
+        assertThat(guard.preSend(message(SimpMessageType.MESSAGE, "slow"), channel)).isNotNull();
+
+        assertThat(guard.preSend(message(SimpMessageType.MESSAGE, "slow"), channel)).isNull();
+        assertThat(guard.preSend(message(SimpMessageType.MESSAGE, "fast"), channel)).isNotNull();
+        assertThat(guard.queued("slow")).isEqualTo(2);
+        assertThat(meterRegistry.counter("websocket.messages.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void afterMessageHandled_freesASlot() {
+        Message<byte[]> first = message(SimpMessageType.MESSAGE, "slow");
+        guard.preSend(first, channel);
+        guard.preSend(message(SimpMessageType.MESSAGE, "slow"), channel);
+
+        guard.afterMessageHandled(first, channel, handler, null);
+
+        assertThat(guard.queued("slow")).isEqualTo(1);
+        assertThat(guard.preSend(message(SimpMessageType.MESSAGE, "slow"), channel)).isNotNull();
+    }
+
+    @Test
+    void afterSendCompletion_notHandedOver_freesASlot() {
+        Message<byte[]> rejected = message(SimpMessageType.MESSAGE, "slow");
+        guard.preSend(rejected, channel);
+
+        guard.afterSendCompletion(rejected, channel, false, new IllegalStateException("queue full"));
+
+        assertThat(guard.queued("slow")).isZero();
+    }
+
+    @Test
+    void preSend_controlFrames_areNeverDropped() {
+        guard.preSend(message(SimpMessageType.MESSAGE, "slow"), channel);
+        guard.preSend(message(SimpMessageType.MESSAGE, "slow"), channel);
+
+        assertThat(guard.preSend(message(SimpMessageType.DISCONNECT_ACK, "slow"), channel)).isNotNull();
+    }
+
+    @Test
+    void sessionGauge_tracksConnectAndDisconnect() {
+        assertThat(meterRegistry.get("websocket.sessions.active").gauge().value()).isEqualTo(2.0);
+
+        guard.onDisconnected(new SessionDisconnectEvent(this, message(SimpMessageType.DISCONNECT, "slow"),
+                "slow", CloseStatus.NORMAL));
+
+        assertThat(meterRegistry.get("websocket.sessions.active").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("websocket.sessions.opened").count()).isEqualTo(2.0);
+        assertThat(guard.queued("slow")).isZero();
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,159 @@
+package com.jobmatcher.server.service.reference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmatcher.server.domain.JobCategory;
+import com.jobmatcher.server.domain.JobSubcategory;
+import com.jobmatcher.server.domain.Language;
+import com.jobmatcher.server.domain.Skill;
+import com.jobmatcher.server.mapper.JobCategoryMapper;
+import com.jobmatcher.server.mapper.JobSubcategoryMapper;
+import com.jobmatcher.server.mapper.LanguageMapper;
+import com.jobmatcher.server.mapper.SkillMapper;
+import com.jobmatcher.server.model.JobCategoryDTO;
+import com.jobmatcher.server.model.JobSubcategoryDTO;
+import com.jobmatcher.server.model.LanguageDTO;
+import com.jobmatcher.server.model.SkillDTO;
+import com.jobmatcher.server.repository.JobCategoryRepository;
+import com.jobmatcher.server.repository.LanguageRepository;
+import com.jobmatcher.server.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    JobCategoryRepository categoryRepository;
+    @Mock
+    LanguageRepository languageRepository;
+    @Mock
+    SkillRepository skillRepository;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    ReferenceDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache();
+    }
+
+    private ReferenceDataCache newCache() {
+        return new ReferenceDataCache(objectMapper,
+                categoryRepository, new JobCategoryMapper(new JobSubcategoryMapper()),
+                languageRepository, new LanguageMapper(),
+                skillRepository, new SkillMapper());
+    }
+
+    @Test
+    void categories_loadOnceAndServeTheSameSnapshot() throws Exception {
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Digital")));
+
+        ReferenceSnapshot<JobCategoryDTO> first = cache.categories();
+        ReferenceSnapshot<JobCategoryDTO> second = cache.categories();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.json()).isEqualTo(objectMapper.writeValueAsBytes(first.items()));
+        assertThat(first.etag()).matches("\"[0-9a-f]{32}\"");
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void categories_areSortedSoTheEtagDoesNotDependOnLoadOrder() {
+        JobCategory digital = category(1L, "Digital");
+        JobCategory business = category(2L, "Business");
+        JobSubcategory web = subcategory(11L, "Web", digital);
+        JobSubcategory seo = subcategory(12L, "SEO", digital);
+        digital.setSubcategories(new LinkedHashSet<>(List.of(seo, web)));
+        when(categoryRepository.findAll()).thenReturn(List.of(business, digital));
+
+        ReferenceSnapshot<JobCategoryDTO> snapshot = cache.categories();
+
+        assertThat(snapshot.items()).extracting(JobCategoryDTO::getName).containsExactly("Digital", "Business");
+        assertThat(snapshot.items().getFirst().getSubcategories())
+                .extracting(JobSubcategoryDTO::getId)
+                .containsExactly(11L, 12L);
+
+        digital.setSubcategories(new LinkedHashSet<>(List.of(web, seo)));
+        when(categoryRepository.findAll()).thenReturn(List.of(digital, business));
+        // Categories are only seeded, so they reload on the next start
+        ReferenceDataCache restarted = newCache();
+
+        assertThat(restarted.categories().etag()).isEqualTo(snapshot.etag());
+    }
+
+    @Test
+    void invalidateSkills_reloadsWithANewEtag() {
+        when(skillRepository.findAll())
+                .thenReturn(List.of(new Skill("Java")))
+                .thenReturn(List.of(new Skill("Python"), new Skill("Java")));
+
+        ReferenceSnapshot<SkillDTO> before = cache.skills();
+        cache.invalidateSkills();
+        ReferenceSnapshot<SkillDTO> after = cache.skills();
+
+        assertThat(after.items()).extracting(SkillDTO::getName).containsExactly("Java", "Python");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(skillRepository, times(2)).findAll();
+    }
+
+    @Test
+    void invalidateLanguages_duringLoad_doesNotCacheTheStaleList() {
+        when(languageRepository.findAll())
+                .thenAnswer(invocation -> {
+                    cache.invalidateLanguages();
+                    return List.of(language(1, "English"));
+                })
+                .thenReturn(List.of(language(1, "English"), language(2, "German")));
+
+        ReferenceSnapshot<LanguageDTO> stale = cache.languages();
+        ReferenceSnapshot<LanguageDTO> fresh = cache.languages();
+
+        assertThat(stale.items()).hasSize(1);
+        assertThat(fresh.items()).extracting(LanguageDTO::getName).containsExactly("English", "German");
+        assertThat(cache.languages()).isSameAs(fresh);
+        verify(languageRepository, times(2)).findAll();
+    }
+
+    @Test
+    void onApplicationReady_warmsEveryList() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Digital")));
+        when(languageRepository.findAll()).thenReturn(List.of(language(1, "English")));
+        when(skillRepository.findAll()).thenReturn(List.of(new Skill("Java")));
+
+        cache.onApplicationReady();
+        cache.categories();
+        cache.languages();
+        cache.skills();
+
+        verify(categoryRepository, times(1)).findAll();
+        verify(languageRepository, times(1)).findAll();
+        verify(skillRepository, times(1)).findAll();
+    }
+
+    private static JobCategory category(Long id, String name) {
+        JobCategory category = new JobCategory(name, name + " work");
+        category.setId(id);
+        return category;
+    }
+
+    private static JobSubcategory subcategory(Long id, String name, JobCategory category) {
+        JobSubcategory subcategory = new JobSubcategory(name, name + " services", category);
+        subcategory.setId(id);
+        return subcategory;
+    }
+
+    private static Language language(Integer id, String name) {
+        Language language = new Language(name);
+        language.setId(id);
+        return language;
+    }
+}
@@ -0,0 +1,152 @@
+package com.jobmatcher.server.service.search;
+
+import com.jobmatcher.server.domain.JobCategory;
+import com.jobmatcher.server.domain.JobSubcategory;
+import com.jobmatcher.server.domain.Project;
+import com.jobmatcher.server.domain.ProjectStatus;
+import com.jobmatcher.server.model.search.ProjectSearchRow;
+import com.jobmatcher.server.model.search.ProjectSubcategoryRow;
+import com.jobmatcher.server.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSearchIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private ProjectSearchIndex searchIndex;
+
+    private final UUID reactProject = UUID.randomUUID();
+    private final UUID javaProject = UUID.randomUUID();
+    private final UUID closedProject = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        List<ProjectSearchRow> rows = List.of(
+                new ProjectSearchRow(reactProject, "React developer needed",
+                        "<p>Build a dashboard with React &amp; TypeScript.</p>", ProjectStatus.OPEN, 1L),
+                new ProjectSearchRow(javaProject, "Spring Boot backend",
+                        "Java developers wanted for REST services and testing.", ProjectStatus.OPEN, 2L),
+                new ProjectSearchRow(closedProject, "Old React migration",
+                        "Migrating legacy code.", ProjectStatus.COMPLETED, 1L)
+        );
+        when(projectRepository.findSearchRows(any(Pageable.class)))
+                .thenAnswer(inv -> new SliceImpl<>(rows, inv.getArgument(0), false));
+        when(projectRepository.findSubcategoryRows(anyCollection())).thenReturn(List.of(
+                new ProjectSubcategoryRow(reactProject, 10L),
+                new ProjectSubcategoryRow(javaProject, 20L),
+                new ProjectSubcategoryRow(closedProject, 10L)
+        ));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_shouldMarkIndexReady() {
+        assertThat(searchIndex.isReady()).isTrue();
+    }
+
+    @Test
+    void search_shouldMatchStemmedTerms() {
+        // "developer" (title) and "developers" (description) share a stem
+        List<UUID> result = searchIndex.search("developers ", null, null, null, 10).ids();
+
+        assertThat(result).containsExactlyInAnyOrder(reactProject, javaProject);
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesFirst() {
+        List<UUID> result = searchIndex.search("react ", null, null, null, 10).ids();
+
+        assertThat(result).hasSize(2);
+        assertThat(result.getFirst()).isEqualTo(reactProject);
+    }
+
+    @Test
+    void search_shouldExpandPrefixOfLastToken() {
+        List<UUID> result = searchIndex.search("dashb", ProjectStatus.OPEN, null, null, 10).ids();
+
+        assertThat(result).containsExactly(reactProject);
+    }
+
+    @Test
+    void search_shouldRequireEveryTerm() {
+        assertThat(searchIndex.search("react java ", null, null, null, 10).ids()).isEmpty();
+        assertThat(searchIndex.search("spring test", null, null, null, 10).ids()).containsExactly(javaProject);
+    }
+
+    @Test
+    void search_shouldApplyFacets() {
+        assertThat(searchIndex.search("react ", ProjectStatus.OPEN, null, null, 10).ids())
+                .containsExactly(reactProject);
+        assertThat(searchIndex.search("react ", null, 1L, 10L, 10).ids())
+                .containsExactlyInAnyOrder(reactProject, closedProject);
+        assertThat(searchIndex.search("react ", null, 2L, null, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void search_shouldIgnoreMarkupAndStopWords() {
+        assertThat(searchIndex.search("amp ", null, null, null, 10).ids()).isEmpty();
+        assertThat(searchIndex.search("the ", null, null, null, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void search_shouldNotExpandATrailingStopWord() {
+        // "the" would otherwise expand to every term starting with it
+        assertThat(searchIndex.search("react the", null, null, null, 10).ids())
+                .containsExactlyInAnyOrderElementsOf(searchIndex.search("react ", null, null, null, 10).ids());
+    }
+
+    @Test
+    void search_shouldCountEveryMatchBeyondTheLimit() {
+        ProjectSearchIndex.SearchResult result = searchIndex.search("react ", null, null, null, 1);
+
+        assertThat(result.ids()).containsExactly(reactProject);
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.isComplete()).isFalse();
+    }
+
+    @Test
+    void indexAfterCommit_shouldReplaceDocument_whenNoTransactionActive() {
+        Project project = new Project();
+        project.setId(javaProject);
+        project.setTitle("Kotlin backend");
+        project.setDescription("Ktor services.");
+        project.setStatus(ProjectStatus.OPEN);
+        JobCategory category = new JobCategory();
+        category.setId(2L);
+        project.setCategory(category);
+        JobSubcategory subcategory = new JobSubcategory();
+        subcategory.setId(20L);
+        project.setSubcategories(Set.of(subcategory));
+
+        searchIndex.indexAfterCommit(project);
+
+        assertThat(searchIndex.search("kotlin ", null, null, null, 10).ids()).containsExactly(javaProject);
+        assertThat(searchIndex.search("spring ", null, null, null, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void removeAfterCommit_shouldDropDocument() {
+        searchIndex.removeAfterCommit(reactProject);
+
+        assertThat(searchIndex.search("dashboard ", null, null, null, 10).ids()).isEmpty();
+    }
+}
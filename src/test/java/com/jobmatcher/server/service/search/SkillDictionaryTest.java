@@ -0,0 +1,120 @@
+package com.jobmatcher.server.service.search;
+
+import com.jobmatcher.server.domain.Skill;
+import com.jobmatcher.server.model.search.SkillPopularityRow;
+import com.jobmatcher.server.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SkillDictionaryTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @InjectMocks
+    private SkillDictionary dictionary;
+
+    private final Skill java = skill("Java");
+    private final Skill javascript = skill("JavaScript");
+    private final Skill jakarta = skill("Jakarta EE");
+    private final Skill python = skill("Python");
+
+    @BeforeEach
+    void setUp() {
+        when(skillRepository.findAll()).thenReturn(List.of(java, javascript, jakarta, python));
+        when(skillRepository.countProfilesPerSkill()).thenReturn(List.of(
+                new SkillPopularityRow(java.getId(), 5),
+                new SkillPopularityRow(javascript.getId(), 9),
+                new SkillPopularityRow(python.getId(), 7)
+        ));
+        dictionary.rebuild();
+    }
+
+    @Test
+    void rebuild_shouldMarkDictionaryReady() {
+        assertThat(dictionary.isReady()).isTrue();
+    }
+
+    @Test
+    void find_shouldIgnoreCaseAndSurroundingWhitespace() {
+        assertThat(dictionary.find("  jAvA ")).get()
+                .extracting(SkillTrie.Entry::id)
+                .isEqualTo(java.getId());
+        assertThat(dictionary.find("jav")).isEmpty();
+    }
+
+    @Test
+    void suggest_shouldRankByPopularity() {
+        List<SkillTrie.Entry> result = dictionary.suggest("JA", 10);
+
+        assertThat(result).extracting(SkillTrie.Entry::name)
+                .containsExactly("JavaScript", "Java", "Jakarta EE");
+    }
+
+    @Test
+    void suggest_emptyPrefix_returnsMostPopularOverall() {
+        assertThat(dictionary.suggest("", 2)).extracting(SkillTrie.Entry::name)
+                .containsExactly("JavaScript", "Python");
+    }
+
+    @Test
+    void suggest_unknownPrefix_returnsNothing() {
+        assertThat(dictionary.suggest("rust", 10)).isEmpty();
+    }
+
+    @Test
+    void profileSkillsChanged_shouldMovePopularity() {
+        // Outside a transaction the change applies immediately
+        for (int i = 0; i < 5; i++) {
+            dictionary.profileSkillsChangedAfterCommit(Set.of(javascript), Set.of(jakarta, javascript));
+            dictionary.profileSkillsChangedAfterCommit(Set.of(javascript), Set.of(jakarta));
+        }
+
+        assertThat(dictionary.suggest("ja", 10)).extracting(SkillTrie.Entry::name)
+                .containsExactly("Jakarta EE", "Java", "JavaScript");
+        assertThat(dictionary.find("javascript")).get()
+                .extracting(SkillTrie.Entry::popularity)
+                .isEqualTo(4);
+    }
+
+    @Test
+    void suggest_shouldKeepOnlyTheTopEntriesPerPrefix() {
+        List<Skill> many = new ArrayList<>();
+        for (int i = 0; i < SkillTrie.TOP_K + 5; i++) {
+            many.add(skill("Java Tool " + i));
+        }
+        dictionary.addAfterCommit(many);
+        dictionary.profileSkillsChangedAfterCommit(Set.of(), Set.of(many.getLast()));
+
+        List<SkillTrie.Entry> result = dictionary.suggest("java t", 100);
+
+        assertThat(result).hasSize(SkillTrie.TOP_K);
+        assertThat(result.getFirst().name()).isEqualTo(many.getLast().getName());
+    }
+
+    @Test
+    void addAfterCommit_shouldNotResetKnownSkills() {
+        dictionary.addAfterCommit(List.of(skill("java")));
+
+        assertThat(dictionary.find("Java")).get()
+                .extracting(SkillTrie.Entry::id, SkillTrie.Entry::popularity)
+                .containsExactly(java.getId(), 5);
+    }
+
+    private static Skill skill(String name) {
+        return new Skill(UUID.randomUUID(), name);
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobmatcher.server.service.storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import com.cloudinary.utils.ObjectUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CloudinaryImageStorageTest {
+
+    @Mock private Cloudinary cloudinary;
+    @Mock private Uploader uploader;
+    @InjectMocks private CloudinaryImageStorage storage;
+
+    @Test
+    void store_uploadsAsWebpAndReturnsSecureUrl() throws Exception {
+        byte[] image = {1, 2, 3};
+        when(cloudinary.uploader()).thenReturn(uploader);
+        when(uploader.upload(eq(image), anyMap())).thenReturn(Map.of("secure_url", "https://cloudinary.com/test.webp"));
+
+        String url = storage.store(image, "jobmatcher/users/u1/portfolio", "image_1", false);
+
+        assertEquals("https://cloudinary.com/test.webp", url);
+        verify(uploader).upload(eq(image), argThat(options ->
+                "webp".equals(options.get("format"))
+                        && "jobmatcher/users/u1/portfolio/image_1".equals(options.get("public_id"))
+                        && Boolean.FALSE.equals(options.get("overwrite"))));
+    }
+
+    @Test
+    void delete_destroysByPublicId() throws Exception {
+        when(cloudinary.uploader()).thenReturn(uploader);
+
+        assertTrue(storage.delete("https://res.cloudinary.com/demo/upload/v123/old_image.webp"));
+
+        verify(uploader).destroy("old_image", ObjectUtils.emptyMap());
+    }
+
+    @Test
+    void delete_urlWithoutUploadSegment_skipsDestroy() throws Exception {
+        assertFalse(storage.delete("malformed_url_without_upload_segment"));
+
+        verifyNoInteractions(cloudinary);
+    }
+
+    @Test
+    void extractPublicId_stripsVersionAndExtension() {
+        assertEquals("jobmatcher/users/u1/portfolio/image_1", CloudinaryImageStorage.extractPublicId(
+                "https://res.cloudinary.com/demo/image/upload/v1700000000/jobmatcher/users/u1/portfolio/image_1.webp"));
+        assertNull(CloudinaryImageStorage.extractPublicId(" "));
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobmatcher.server.service.storage;
+
+import com.jobmatcher.server.config.ImageStorageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalImageStorageTest {
+
+    @TempDir
+    Path directory;
+
+    private LocalImageStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalImageStorage(new ImageStorageProperties("local", 4, 16, directory));
+    }
+
+    @Test
+    void store_writesUnderFolderAndReturnsFileUrl() throws IOException {
+        String url = storage.store(new byte[]{1, 2, 3}, "jobmatcher/users/u1/portfolio", "image_1", false);
+
+        Path stored = Path.of(URI.create(url));
+        assertEquals(directory.resolve("jobmatcher/users/u1/portfolio/image_1").toAbsolutePath(), stored);
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(stored));
+        try (var files = Files.list(stored.getParent())) {
+            assertEquals(1, files.count(), "no partial files left behind");
+        }
+    }
+
+    @Test
+    void store_existingWithoutOverwrite_throws() throws IOException {
+        storage.store(new byte[]{1}, "folder", "image", false);
+
+        assertThrows(IOException.class, () -> storage.store(new byte[]{2}, "folder", "image", false));
+    }
+
+    @Test
+    void store_existingWithOverwrite_replaces() throws IOException {
+        storage.store(new byte[]{1}, "folder", "profile", true);
+        String url = storage.store(new byte[]{2}, "folder", "profile", true);
+
+        assertArrayEquals(new byte[]{2}, Files.readAllBytes(Path.of(URI.create(url))));
+    }
+
+    @Test
+    void store_pathOutsideDirectory_throws() {
+        assertThrows(IOException.class, () -> storage.store(new byte[]{1}, "../outside", "image", false));
+    }
+
+    @Test
+    void delete_removesStoredImage() throws IOException {
+        String url = storage.store(new byte[]{1}, "folder", "image", false);
+
+        assertTrue(storage.delete(url));
+        assertFalse(Files.exists(Path.of(URI.create(url))));
+    }
+
+    @Test
+    void delete_foreignUrl_returnsFalse() throws IOException {
+        assertFalse(storage.delete("https://res.cloudinary.com/demo/upload/v123/image.webp"));
+        assertFalse(storage.delete(null));
+    }
+}
@@ -0,0 +1,139 @@
+package com.jobmatcher.server.service.storage;
+
+import com.jobmatcher.server.domain.StoredImage;
+import com.jobmatcher.server.repository.StoredImageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoredImageServiceTest {
+
+    @Mock private StoredImageRepository repository;
+    @Mock private ImageStorage imageStorage;
+    @InjectMocks private StoredImageService service;
+
+    @Test
+    void reference_storedContent_addsReferenceAndReturnsUrl() {
+        StoredImage image = storedImage("https://cdn/a.webp", 1);
+        when(repository.lockByContent("hash", "w640-q85")).thenReturn(Optional.of(image));
+
+        assertEquals(Optional.of("https://cdn/a.webp"), service.reference("hash", "w640-q85"));
+        assertEquals(2, image.getReferenceCount());
+    }
+
+    @Test
+    void reference_unknownContent_returnsEmpty() {
+        when(repository.lockByContent("hash", "w640-q85")).thenReturn(Optional.empty());
+
+        assertTrue(service.reference("hash", "w640-q85").isEmpty());
+    }
+
+    @Test
+    void release_otherReferencesLeft_keepsImage() {
+        StoredImage image = storedImage("https://cdn/a.webp", 2);
+        when(repository.lockByUrl("https://cdn/a.webp")).thenReturn(Optional.of(image));
+
+        assertFalse(service.release("https://cdn/a.webp"));
+        assertEquals(1, image.getReferenceCount());
+        verify(repository, never()).delete(any());
+    }
+
+    @Test
+    void release_lastReference_deletesRecord() {
+        StoredImage image = storedImage("https://cdn/a.webp", 1);
+        when(repository.lockByUrl("https://cdn/a.webp")).thenReturn(Optional.of(image));
+
+        assertTrue(service.release("https://cdn/a.webp"));
+        verify(repository).delete(image);
+    }
+
+    @Test
+    void release_untrackedUrl_allowsDeletion() {
+        when(repository.lockByUrl("https://cdn/legacy.webp")).thenReturn(Optional.empty());
+
+        assertTrue(service.release("https://cdn/legacy.webp"));
+    }
+
+    @Test
+    void releaseImage_lastReference_deletesFromStorageAfterCommit() throws Exception {
+        StoredImage image = storedImage("https://cdn/a.webp", 1);
+        when(repository.lockByUrl("https://cdn/a.webp")).thenReturn(Optional.of(image));
+        when(imageStorage.delete("https://cdn/a.webp")).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.releaseImage("https://cdn/a.webp");
+            verifyNoInteractions(imageStorage);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(imageStorage).delete("https://cdn/a.webp");
+    }
+
+    @Test
+    void releaseImage_rolledBack_keepsFileInStorage() {
+        StoredImage image = storedImage("https://cdn/a.webp", 1);
+        when(repository.lockByUrl("https://cdn/a.webp")).thenReturn(Optional.of(image));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.releaseImage("https://cdn/a.webp");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // The row is back after the rollback, so the file it points at must be too
+        verifyNoInteractions(imageStorage);
+    }
+
+    @Test
+    void releaseImage_otherReferencesLeft_keepsFileInStorage() {
+        StoredImage image = storedImage("https://cdn/shared.webp", 2);
+        when(repository.lockByUrl("https://cdn/shared.webp")).thenReturn(Optional.of(image));
+
+        service.releaseImage("https://cdn/shared.webp");
+
+        verifyNoInteractions(imageStorage);
+    }
+
+    @Test
+    void deleteFromStorage_storageFails_doesNotPropagate() throws Exception {
+        doThrow(new IOException("fail")).when(imageStorage).delete("https://cdn/a.webp");
+
+        assertDoesNotThrow(() -> service.deleteFromStorage("https://cdn/a.webp"));
+    }
+
+    @Test
+    void contentHash_isSha256OfTheUpload() throws Exception {
+        ByteArrayResource upload = new ByteArrayResource("abc".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                StoredImageService.contentHash(upload));
+    }
+
+    private static StoredImage storedImage(String url, int references) {
+        StoredImage image = new StoredImage();
+        image.setUrl(url);
+        image.setReferenceCount(references);
+        return image;
+    }
+}
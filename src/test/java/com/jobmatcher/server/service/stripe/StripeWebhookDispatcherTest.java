@@ -0,0 +1,104 @@
+package com.jobmatcher.server.service.stripe;
+
+import com.jobmatcher.server.config.StripeWebhookInboxProperties;
+import com.jobmatcher.server.domain.StripeWebhookEvent;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StripeWebhookDispatcherTest {
+
+    @Mock
+    StripeWebhookInbox inbox;
+
+    SimpleMeterRegistry meterRegistry;
+    StripeWebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StripeWebhookInboxProperties properties = new StripeWebhookInboxProperties(50, 2, 8,
+                Duration.ofSeconds(5), Duration.ofMinutes(30), Duration.ofMinutes(5));
+        dispatcher = new StripeWebhookDispatcher(inbox, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_processesClaimedBatchAndRecordsFailures() throws Exception {
+        when(inbox.claimDue(50)).thenReturn(List.of(event("evt_ok"), event("evt_down"),
+                event("evt_bad_request"), event("evt_missing")));
+        when(inbox.markFailed(anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(2));
+        when(inbox.countPending()).thenReturn(1L);
+        doThrow(new ApiConnectionException("connection reset")).when(inbox).process("evt_down");
+        doThrow(new InvalidRequestException("No such checkout.session", null, null, null, 404, null))
+                .when(inbox).process("evt_bad_request");
+        doThrow(new ResourceNotFoundException("Invoice not found")).when(inbox).process("evt_missing");
+
+        dispatcher.dispatch();
+
+        verify(inbox).process("evt_ok");
+        verify(inbox, never()).markFailed(eq("evt_ok"), any(), anyBoolean());
+        verify(inbox).markFailed("evt_down", "connection reset", true);
+        verify(inbox).markFailed(eq("evt_bad_request"), anyString(), eq(false));
+        verify(inbox).markFailed("evt_missing", "Invoice not found", false);
+        assertThat(meterRegistry.get("stripe.webhook.inbox.process").tag("outcome", "retry").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("stripe.webhook.inbox.pending").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dispatch_limitsConcurrentWorkers() throws Exception {
+        List<StripeWebhookEvent> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) batch.add(event("evt_" + i));
+        when(inbox.claimDue(50)).thenReturn(batch);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(inbox).process(anyString());
+
+        dispatcher.dispatch();
+
+        verify(inbox, times(10)).process(anyString());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void isRetryable_onlyForServerErrorsRateLimitsAndNetwork() {
+        assertThat(StripeWebhookDispatcher.isRetryable(new ApiConnectionException("reset"))).isTrue();
+        assertThat(StripeWebhookDispatcher.isRetryable(
+                new InvalidRequestException("rate", null, null, null, 429, null))).isTrue();
+        assertThat(StripeWebhookDispatcher.isRetryable(
+                new InvalidRequestException("bad", null, null, null, 400, null))).isFalse();
+    }
+
+    private static StripeWebhookEvent event(String id) {
+        StripeWebhookEvent event = new StripeWebhookEvent();
+        event.setId(id);
+        event.setAttempts(1);
+        return event;
+    }
+}
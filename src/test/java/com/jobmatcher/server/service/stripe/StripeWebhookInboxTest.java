@@ -0,0 +1,236 @@
+package com.jobmatcher.server.service.stripe;
+
+import com.jobmatcher.server.config.StripeWebhookInboxProperties;
+import com.jobmatcher.server.domain.Invoice;
+import com.jobmatcher.server.domain.InvoiceStatus;
+import com.jobmatcher.server.domain.StripeWebhookEvent;
+import com.jobmatcher.server.domain.StripeWebhookStatus;
+import com.jobmatcher.server.exception.ResourceNotFoundException;
+import com.jobmatcher.server.repository.InvoiceRepository;
+import com.jobmatcher.server.repository.StripeWebhookEventRepository;
+import com.jobmatcher.server.service.IPaymentService;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.checkout.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StripeWebhookInboxTest {
+
+    @Mock
+    StripeWebhookEventRepository repository;
+
+    @Mock
+    InvoiceRepository invoiceRepository;
+
+    @Mock
+    IPaymentService paymentService;
+
+    LocalStripeCheckoutClient checkoutClient;
+    StripeWebhookInbox inbox;
+
+    @BeforeEach
+    void setUp() {
+        checkoutClient = new LocalStripeCheckoutClient();
+        StripeWebhookInboxProperties properties = new StripeWebhookInboxProperties(50, 4, 3,
+                Duration.ofSeconds(5), Duration.ofMinutes(30), Duration.ofMinutes(5));
+        inbox = new StripeWebhookInbox(repository, invoiceRepository, paymentService, checkoutClient, properties);
+    }
+
+    @Test
+    void receive_storesCheckoutEventKeyedByEventId() {
+        UUID invoiceId = UUID.randomUUID();
+        Event event = checkoutEvent("evt_1", "cs_1", invoiceId.toString());
+        when(repository.insertIfAbsent(eq("evt_1"), eq("checkout.session.completed"), eq("cs_1"),
+                eq(invoiceId.toString()), eq(invoiceId.toString()), eq("{}"), any())).thenReturn(1);
+
+        assertThat(inbox.receive(event, "{}")).isTrue();
+    }
+
+    @Test
+    void receive_redelivery_isNotStoredAgain() {
+        Event event = checkoutEvent("evt_1", "cs_1", UUID.randomUUID().toString());
+        when(repository.insertIfAbsent(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        assertThat(inbox.receive(event, "{}")).isFalse();
+    }
+
+    @Test
+    void receive_unhandledType_isNotStored() {
+        Event event = mock(Event.class);
+        when(event.getType()).thenReturn("invoice.created");
+
+        assertThat(inbox.receive(event, "{}")).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void claimDue_leasesEventsAndCountsAttempt() {
+        StripeWebhookEvent event = event("evt_1", "cs_1", null);
+        when(repository.lockDueEvents(any(), anyInt())).thenReturn(List.of(event));
+
+        List<StripeWebhookEvent> claimed = inbox.claimDue(10);
+
+        assertThat(claimed).containsExactly(event);
+        assertThat(event.getStatus()).isEqualTo(StripeWebhookStatus.PROCESSING);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(OffsetDateTime.now().plusMinutes(4));
+    }
+
+    @Test
+    void process_marksInvoicePaidAndEventProcessed() throws Exception {
+        UUID invoiceId = UUID.randomUUID();
+        StripeWebhookEvent event = event("evt_1", "cs_1", invoiceId.toString());
+        when(repository.lockById("evt_1")).thenReturn(Optional.of(event));
+        when(invoiceRepository.lockById(invoiceId)).thenReturn(Optional.of(invoice(InvoiceStatus.PENDING)));
+
+        inbox.process("evt_1");
+
+        verify(paymentService).markInvoicePaid(invoiceId);
+        assertThat(event.getStatus()).isEqualTo(StripeWebhookStatus.PROCESSED);
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void process_alreadyPaidInvoice_doesNotPayTwice() throws Exception {
+        UUID invoiceId = UUID.randomUUID();
+        StripeWebhookEvent event = event("evt_2", "cs_1", invoiceId.toString());
+        when(repository.lockById("evt_2")).thenReturn(Optional.of(event));
+        when(invoiceRepository.lockById(invoiceId)).thenReturn(Optional.of(invoice(InvoiceStatus.PAID)));
+
+        inbox.process("evt_2");
+
+        verifyNoInteractions(paymentService);
+        assertThat(event.getStatus()).isEqualTo(StripeWebhookStatus.PROCESSED);
+    }
+
+    @Test
+    void process_settledEvent_isSkipped() throws Exception {
+        StripeWebhookEvent event = event("evt_1", "cs_1", UUID.randomUUID().toString());
+        event.setStatus(StripeWebhookStatus.PROCESSED);
+        when(repository.lockById("evt_1")).thenReturn(Optional.of(event));
+
+        inbox.process("evt_1");
+
+        verifyNoInteractions(invoiceRepository, paymentService);
+    }
+
+    @Test
+    void process_missingReference_resolvesThroughCheckoutClient() throws Exception {
+        UUID invoiceId = UUID.randomUUID();
+        checkoutClient.register("cs_1", invoiceId.toString());
+        StripeWebhookEvent event = event("evt_1", "cs_1", null);
+        when(repository.lockById("evt_1")).thenReturn(Optional.of(event));
+        when(invoiceRepository.lockById(invoiceId)).thenReturn(Optional.of(invoice(InvoiceStatus.PENDING)));
+
+        inbox.process("evt_1");
+
+        verify(paymentService).markInvoicePaid(invoiceId);
+        assertThat(event.getInvoiceId()).isEqualTo(invoiceId);
+    }
+
+    @Test
+    void process_noReferenceAnywhere_isIgnored() throws Exception {
+        checkoutClient.register("cs_1", null);
+        StripeWebhookEvent event = event("evt_1", "cs_1", null);
+        when(repository.lockById("evt_1")).thenReturn(Optional.of(event));
+
+        inbox.process("evt_1");
+
+        assertThat(event.getStatus()).isEqualTo(StripeWebhookStatus.IGNORED);
+        verifyNoInteractions(paymentService);
+    }
+
+    @Test
+    void process_invalidReference_failsWithoutRetry() throws Exception {
+        StripeWebhookEvent event = event("evt_1", "cs_1", "not-a-uuid");
+        when(repository.lockById("evt_1")).thenReturn(Optional.of(event));
+
+        inbox.process("evt_1");
+
+        assertThat(event.getStatus()).isEqualTo(StripeWebhookStatus.FAILED);
+        assertThat(event.getLastError()).isEqualTo("Invalid invoice ID: not-a-uuid");
+    }
+
+    @Test
+    void process_unknownInvoice_throws() {
+        UUID invoiceId = UUID.randomUUID();
+        StripeWebhookEvent event = event("evt_1", "cs_1", invoiceId.toString());
+        when(repository.lockById("evt_1")).thenReturn(Optional.of(event));
+        when(invoiceRepository.lockById(invoiceId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> inbox.process("evt_1"));
+    }
+
+    @Test
+    void markFailed_retryable_reschedulesWithBackoff() {
+        StripeWebhookEvent event = event("evt_1", "cs_1", null);
+        event.setStatus(StripeWebhookStatus.PROCESSING);
+        event.setAttempts(1);
+        when(repository.findById("evt_1")).thenReturn(Optional.of(event));
+
+        boolean retried = inbox.markFailed("evt_1", "timeout", true);
+
+        assertThat(retried).isTrue();
+        assertThat(event.getStatus()).isEqualTo(StripeWebhookStatus.PENDING);
+        assertThat(event.getLastError()).isEqualTo("timeout");
+        assertThat(event.getNextAttemptAt()).isAfter(OffsetDateTime.now());
+    }
+
+    @Test
+    void markFailed_attemptsExhausted_givesUp() {
+        StripeWebhookEvent event = event("evt_1", "cs_1", null);
+        event.setStatus(StripeWebhookStatus.PROCESSING);
+        event.setAttempts(3);
+        when(repository.findById("evt_1")).thenReturn(Optional.of(event));
+
+        assertThat(inbox.markFailed("evt_1", "timeout", true)).isFalse();
+        assertThat(event.getStatus()).isEqualTo(StripeWebhookStatus.FAILED);
+    }
+
+    private static Event checkoutEvent(String id, String sessionId, String clientReferenceId) {
+        Session session = mock(Session.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.getClientReferenceId()).thenReturn(clientReferenceId);
+        EventDataObjectDeserializer deserializer = mock(EventDataObjectDeserializer.class);
+        when(deserializer.getObject()).thenReturn(Optional.of(session));
+        Event event = mock(Event.class);
+        when(event.getId()).thenReturn(id);
+        when(event.getType()).thenReturn("checkout.session.completed");
+        when(event.getDataObjectDeserializer()).thenReturn(deserializer);
+        return event;
+    }
+
+    private static StripeWebhookEvent event(String id, String sessionId, String clientReferenceId) {
+        StripeWebhookEvent event = new StripeWebhookEvent();
+        event.setId(id);
+        event.setType("checkout.session.completed");
+        event.setSessionId(sessionId);
+        event.setClientReferenceId(clientReferenceId);
+        event.setPayload("{}");
+        event.setReceivedAt(OffsetDateTime.now());
+        event.setNextAttemptAt(OffsetDateTime.now());
+        return event;
+    }
+
+    private static Invoice invoice(InvoiceStatus status) {
+        Invoice invoice = new Invoice();
+        invoice.setStatus(status);
+        return invoice;
+    }
+}
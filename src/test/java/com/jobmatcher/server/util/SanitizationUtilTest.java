@@ -0,0 +1,93 @@
+package com.jobmatcher.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SanitizationUtilTest {
+
+    // The fast path must return exactly what the full policy returns
+    private static void assertSameAsPolicy(String input) {
+        String expected = input == null || input.isBlank() ? null : SanitizationUtil.sanitizeWithPolicy(input.trim());
+        assertEquals(expected, SanitizationUtil.sanitizeText(input), () -> "Input: " + input);
+    }
+
+    @Test
+    void isPlain_everyAcceptedCharacterIsLeftAloneByPolicy() {
+        for (char c = 0; c < 128; c++) {
+            if (SanitizationUtil.isPlain(c)) {
+                String text = "a" + c + c + "b";
+                assertEquals(text, SanitizationUtil.sanitizeWithPolicy(text), "Character " + (int) c);
+            }
+        }
+    }
+
+    @Test
+    void isPlain_rejectsMarkupControlsAndNonAscii() {
+        for (char c : "<>&\"'=+@`{}\\\t\n\r\u0000\u007f\u00a0\u00e9\uff21\u200b".toCharArray()) {
+            assertFalse(SanitizationUtil.isPlain(c), "Character " + (int) c);
+        }
+    }
+
+    @Test
+    void sanitizeText_matchesPolicyOnCorpus() {
+        List<String> corpus = List.of(
+                "Senior Java Developer",
+                "  Build a REST API (Spring Boot 3.5) - 40h/week; remote!  ",
+                "React/Next.js [frontend] ~ 50% done, 100$ bonus #urgent",
+                "<b>Bold</b> and <i>italic</i>",
+                "<script>alert('x')</script>Hello",
+                "Tom & Jerry",
+                "a < b > c",
+                "email me at dev@example.com",
+                "1 + 1 = 2",
+                "\"quoted\" and 'single'",
+                "{{angular}} template",
+                "back`tick",
+                "line one\nline two\r\nline three\ttabbed",
+                "Caf\u00e9 cr\u00e8me",
+                "\uff21\uff22\uff23 full width",
+                "zero\u200bwidth",
+                "<a href=\"javascript:alert(1)\">link</a>",
+                "<p>Paragraph</p><ul><li>item</li></ul>",
+                "C:\\path\\to\\file",
+                "   ",
+                ""
+        );
+        corpus.forEach(SanitizationUtilTest::assertSameAsPolicy);
+        assertSameAsPolicy(null);
+    }
+
+    @Test
+    void sanitizeText_matchesPolicyOnRandomInput() {
+        char[] alphabet = ("abcXYZ019 !#$%()*,-./:;?[]^_|~<>&\"'=+@`{}\\\n\t\u00e9\uff21\u200b").toCharArray();
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            char[] text = new char[random.nextInt(40)];
+            for (int j = 0; j < text.length; j++) {
+                text[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            assertSameAsPolicy(new String(text));
+        }
+    }
+
+    @Test
+    void sanitizeText_plainTrimmedInput_returnsSameInstance() {
+        String title = "Mobile app for a bakery";
+
+        assertSame(title, SanitizationUtil.sanitizeText(title));
+    }
+
+    @Test
+    void sanitizeText_overLengthInput_isCapped() {
+        String plain = "word ".repeat(500);
+        String marked = "<b>x</b> " + plain;
+
+        assertSameAsPolicy(plain);
+        assertSameAsPolicy(marked);
+        assertEquals(2000, SanitizationUtil.sanitizeText(plain).length());
+    }
+}